@@ -22,6 +22,7 @@ import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 import java.util.Map;
+import java.util.Objects;
 import javax.lang.model.element.Modifier;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
@@ -59,6 +60,8 @@ public class EndpointParametersClassSpec implements ClassSpec {
         });
 
         b.addMethod(toBuilderMethod());
+        b.addMethod(equalsMethod());
+        b.addMethod(hashCodeMethod());
 
         return b.build();
     }
@@ -152,6 +155,47 @@ public class EndpointParametersClassSpec implements ClassSpec {
                          .build();
     }
 
+    private MethodSpec equalsMethod() {
+        MethodSpec.Builder b = MethodSpec.methodBuilder("equals")
+                                         .addAnnotation(Override.class)
+                                         .addModifiers(Modifier.PUBLIC)
+                                         .returns(boolean.class)
+                                         .addParameter(Object.class, "o");
+
+        b.beginControlFlow("if (this == o)");
+        b.addStatement("return true");
+        b.endControlFlow();
+        b.beginControlFlow("if (o == null || getClass() != o.getClass())");
+        b.addStatement("return false");
+        b.endControlFlow();
+
+        if (parameters().isEmpty()) {
+            return b.addStatement("return true").build();
+        }
+
+        b.addStatement("$1T that = ($1T) o", className());
+        CodeBlock memberEquals = parameters().keySet()
+                                             .stream()
+                                             .map(name -> CodeBlock.of("$1T.equals($2N, that.$2N)", Objects.class,
+                                                                       variableName(name)))
+                                             .collect(CodeBlock.joining("\n&& "));
+        return b.addStatement("return $L", memberEquals).build();
+    }
+
+    private MethodSpec hashCodeMethod() {
+        MethodSpec.Builder b = MethodSpec.methodBuilder("hashCode")
+                                         .addAnnotation(Override.class)
+                                         .addModifiers(Modifier.PUBLIC)
+                                         .returns(int.class)
+                                         .addStatement("int hashCode = 1");
+
+        parameters().keySet().forEach(name -> {
+            b.addStatement("hashCode = 31 * hashCode + $T.hashCode($N)", Objects.class, variableName(name));
+        });
+
+        return b.addStatement("return hashCode").build();
+    }
+
     private String variableName(String name) {
         return intermediateModel.getNamingStrategy().getVariableName(name);
     }
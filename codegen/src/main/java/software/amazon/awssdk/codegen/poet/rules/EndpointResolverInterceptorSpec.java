@@ -28,6 +28,8 @@ import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 import com.squareup.javapoet.TypeVariableName;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
@@ -37,6 +39,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletionException;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import javax.lang.model.element.Modifier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.auth.signer.Aws4Signer;
@@ -63,6 +66,7 @@ import software.amazon.awssdk.codegen.poet.PoetExtension;
 import software.amazon.awssdk.codegen.poet.PoetUtils;
 import software.amazon.awssdk.codegen.poet.auth.scheme.AuthSchemeSpecUtils;
 import software.amazon.awssdk.codegen.poet.auth.scheme.ModelAuthSchemeClassesKnowledgeIndex;
+import software.amazon.awssdk.codegen.poet.rules2.VariableReferencesVisitor;
 import software.amazon.awssdk.codegen.poet.waiters.JmesPathAcceptorGenerator;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.SelectedAuthScheme;
@@ -72,6 +76,7 @@ import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
 import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
+import software.amazon.awssdk.core.internal.endpoint.EndpointResolutionCache;
 import software.amazon.awssdk.core.metrics.CoreMetric;
 import software.amazon.awssdk.core.signer.Signer;
 import software.amazon.awssdk.endpoints.Endpoint;
@@ -84,6 +89,7 @@ import software.amazon.awssdk.http.auth.aws.signer.RegionSet;
 import software.amazon.awssdk.http.auth.spi.scheme.AuthSchemeOption;
 import software.amazon.awssdk.identity.spi.Identity;
 import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.HostnameValidator;
@@ -137,6 +143,7 @@ public class EndpointResolverInterceptorSpec implements ClassSpec {
         b.addMethod(modifyRequestMethod(endpointAuthSchemeStrategyFieldSpec.name));
         b.addMethod(modifyHttpRequestMethod());
         b.addMethod(ruleParams());
+        b.addMethod(endpointResolutionCacheKeyMethod());
 
         b.addMethod(setContextParams());
         addContextParamMethods(b);
@@ -198,12 +205,20 @@ public class EndpointResolverInterceptorSpec implements ClassSpec {
         b.addStatement("long resolveEndpointStart = $T.nanoTime()", System.class);
         b.addStatement("$T endpointParams = ruleParams(result, executionAttributes)",
                        endpointRulesSpecUtils.parametersClassName());
-        b.addStatement("$T endpoint = $N.resolveEndpoint(endpointParams).join()",
-                       Endpoint.class, providerVar);
-        b.addStatement("$1T resolveEndpointDuration = $1T.ofNanos($2T.nanoTime() - resolveEndpointStart)", Duration.class,
-                       System.class);
         b.addStatement("$T metricCollector = executionAttributes.getOptionalAttribute($T.API_CALL_METRIC_COLLECTOR)",
                        ParameterizedTypeName.get(Optional.class, MetricCollector.class), SdkExecutionAttribute.class);
+        b.addStatement("$T endpointResolutionCache = executionAttributes.getAttribute($T.ENDPOINT_RESOLUTION_CACHE)",
+                       EndpointResolutionCache.class, SdkInternalExecutionAttribute.class);
+        b.addStatement("$T endpoint", Endpoint.class);
+        b.beginControlFlow("if (endpointResolutionCache == null)");
+        b.addStatement("endpoint = $N.resolveEndpoint(endpointParams).join()", providerVar);
+        b.nextControlFlow("else");
+        b.addStatement("endpoint = endpointResolutionCache.resolve($1N, endpointResolutionCacheKey($1N, endpointParams), "
+                       + "endpointParams, p -> $1N.resolveEndpoint(p).join(), metricCollector.orElseGet($2T::create))",
+                       providerVar, NoOpMetricCollector.class);
+        b.endControlFlow();
+        b.addStatement("$1T resolveEndpointDuration = $1T.ofNanos($2T.nanoTime() - resolveEndpointStart)", Duration.class,
+                       System.class);
         b.addStatement("metricCollector.ifPresent(mc -> mc.reportMetric($T.ENDPOINT_RESOLVE_DURATION, resolveEndpointDuration))",
                        CoreMetric.class);
         b.beginControlFlow("if (!$T.disableHostPrefixInjection(executionAttributes))",
@@ -292,6 +307,41 @@ public class EndpointResolverInterceptorSpec implements ClassSpec {
         return b.build();
     }
 
+    /**
+     * The default endpoint provider only reads the parameters that its rule set references, plus the required parameters
+     * that it validates, so only those need to be part of the endpoint resolution cache key. Parameters such as the S3
+     * object key are set on almost every request but never read by the rules, and keeping them in the key would make every
+     * such request miss the cache. A custom provider may read any parameter, so it is keyed on all of them.
+     */
+    private MethodSpec endpointResolutionCacheKeyMethod() {
+        Set<String> referencedVariables =
+            VariableReferencesVisitor.referencedVariables(model.getEndpointRuleSetModel().getRules());
+        List<CodeBlock> keyParams =
+            endpointRulesSpecUtils.parameters()
+                                  .entrySet()
+                                  .stream()
+                                  .filter(e -> referencedVariables.contains(e.getKey())
+                                               || Boolean.TRUE.equals(e.getValue().isRequired()))
+                                  .map(e -> CodeBlock.of("params.$N()", endpointRulesSpecUtils.paramMethodName(e.getKey())))
+                                  .collect(Collectors.toList());
+
+        MethodSpec.Builder b = MethodSpec.methodBuilder("endpointResolutionCacheKey")
+                                         .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                                         .returns(Object.class)
+                                         .addParameter(endpointRulesSpecUtils.providerInterfaceName(), "provider")
+                                         .addParameter(endpointRulesSpecUtils.parametersClassName(), "params");
+
+        b.beginControlFlow("if (!(provider instanceof $T))", endpointRulesSpecUtils.providerDefaultImplName());
+        b.addStatement("return params");
+        b.endControlFlow();
+        if (keyParams.isEmpty()) {
+            b.addStatement("return $T.emptyList()", Collections.class);
+        } else {
+            b.addStatement("return $T.asList($L)", Arrays.class, CodeBlock.join(keyParams, ", "));
+        }
+        return b.build();
+    }
+
     private MethodSpec ruleParams() {
         MethodSpec.Builder b = MethodSpec.methodBuilder("ruleParams")
                                          .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
@@ -0,0 +1,49 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.poet.rules2;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import software.amazon.awssdk.codegen.model.rules.endpoints.RuleModel;
+
+/**
+ * Collects the names of all the variables referenced by a rule set, either with a {@code ref} or from within a string
+ * template.
+ */
+public final class VariableReferencesVisitor extends WalkRuleExpressionVisitor {
+    private final Set<String> references = new LinkedHashSet<>();
+
+    /**
+     * Returns the names of all the variables referenced by the given rules.
+     */
+    public static Set<String> referencedVariables(List<RuleModel> rules) {
+        RuleModel root = new RuleModel();
+        root.setRules(rules);
+        root.setType("tree");
+        root.setConditions(Collections.emptyList());
+        VariableReferencesVisitor visitor = new VariableReferencesVisitor();
+        ExpressionParser.parseRuleSetExpression(root).accept(visitor);
+        return Collections.unmodifiableSet(visitor.references);
+    }
+
+    @Override
+    public Void visitVariableReferenceExpression(VariableReferenceExpression e) {
+        references.add(e.variableName());
+        return null;
+    }
+}
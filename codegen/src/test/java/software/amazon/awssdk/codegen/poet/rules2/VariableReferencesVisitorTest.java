@@ -0,0 +1,62 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.poet.rules2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.codegen.internal.Jackson;
+import software.amazon.awssdk.codegen.model.service.EndpointRuleSetModel;
+
+class VariableReferencesVisitorTest {
+    private static final String RULE_SET =
+        "{\n"
+        + "  \"version\": \"1.0\",\n"
+        + "  \"parameters\": {\n"
+        + "    \"Region\": {\"type\": \"String\"},\n"
+        + "    \"Bucket\": {\"type\": \"String\"},\n"
+        + "    \"Endpoint\": {\"type\": \"String\"},\n"
+        + "    \"Key\": {\"type\": \"String\"}\n"
+        + "  },\n"
+        + "  \"rules\": [\n"
+        + "    {\n"
+        + "      \"type\": \"error\",\n"
+        + "      \"conditions\": [{\"fn\": \"isSet\", \"argv\": [{\"ref\": \"Endpoint\"}]}],\n"
+        + "      \"error\": \"Custom endpoint `{Endpoint}` is not supported\"\n"
+        + "    },\n"
+        + "    {\n"
+        + "      \"type\": \"endpoint\",\n"
+        + "      \"conditions\": [\n"
+        + "        {\"fn\": \"aws.partition\", \"argv\": [{\"ref\": \"Region\"}], \"assign\": \"partitionResult\"}\n"
+        + "      ],\n"
+        + "      \"endpoint\": {\n"
+        + "        \"url\": \"https://{Bucket}.s3.{partitionResult#dnsSuffix}\",\n"
+        + "        \"properties\": {},\n"
+        + "        \"headers\": {}\n"
+        + "      }\n"
+        + "    }\n"
+        + "  ]\n"
+        + "}";
+
+    @Test
+    public void referencedVariables_collectsRefsAndTemplateReferences() throws IOException {
+        EndpointRuleSetModel model = Jackson.load(EndpointRuleSetModel.class, RULE_SET);
+
+        assertThat(VariableReferencesVisitor.referencedVariables(model.getRules()))
+            .containsExactlyInAnyOrder("Endpoint", "Region", "Bucket", "partitionResult");
+    }
+}
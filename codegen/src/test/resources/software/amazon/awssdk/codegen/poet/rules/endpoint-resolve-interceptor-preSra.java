@@ -1,6 +1,7 @@
 package software.amazon.awssdk.services.query.endpoints.internal;
 
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletionException;
@@ -25,6 +26,7 @@ import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
 import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
+import software.amazon.awssdk.core.internal.endpoint.EndpointResolutionCache;
 import software.amazon.awssdk.core.metrics.CoreMetric;
 import software.amazon.awssdk.core.signer.Signer;
 import software.amazon.awssdk.core.useragent.BusinessMetricFeatureId;
@@ -37,6 +39,7 @@ import software.amazon.awssdk.http.auth.spi.scheme.AuthSchemeOption;
 import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
 import software.amazon.awssdk.identity.spi.Identity;
 import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
 import software.amazon.awssdk.services.query.endpoints.QueryClientContextParams;
 import software.amazon.awssdk.services.query.endpoints.QueryEndpointParams;
 import software.amazon.awssdk.services.query.endpoints.QueryEndpointProvider;
@@ -70,10 +73,19 @@ public final class QueryResolveEndpointInterceptor implements ExecutionIntercept
         try {
             long resolveEndpointStart = System.nanoTime();
             QueryEndpointParams endpointParams = ruleParams(result, executionAttributes);
-            Endpoint endpoint = provider.resolveEndpoint(endpointParams).join();
-            Duration resolveEndpointDuration = Duration.ofNanos(System.nanoTime() - resolveEndpointStart);
             Optional<MetricCollector> metricCollector = executionAttributes
                 .getOptionalAttribute(SdkExecutionAttribute.API_CALL_METRIC_COLLECTOR);
+            EndpointResolutionCache endpointResolutionCache = executionAttributes
+                .getAttribute(SdkInternalExecutionAttribute.ENDPOINT_RESOLUTION_CACHE);
+            Endpoint endpoint;
+            if (endpointResolutionCache == null) {
+                endpoint = provider.resolveEndpoint(endpointParams).join();
+            } else {
+                endpoint = endpointResolutionCache.resolve(provider, endpointResolutionCacheKey(provider, endpointParams),
+                                                           endpointParams, p -> provider.resolveEndpoint(p).join(),
+                                                           metricCollector.orElseGet(NoOpMetricCollector::create));
+            }
+            Duration resolveEndpointDuration = Duration.ofNanos(System.nanoTime() - resolveEndpointStart);
             metricCollector.ifPresent(mc -> mc.reportMetric(CoreMetric.ENDPOINT_RESOLVE_DURATION, resolveEndpointDuration));
             if (!AwsEndpointProviderUtils.disableHostPrefixInjection(executionAttributes)) {
                 Optional<String> hostPrefix = hostPrefix(executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME),
@@ -133,6 +145,14 @@ public final class QueryResolveEndpointInterceptor implements ExecutionIntercept
         return builder.build();
     }
 
+    private static Object endpointResolutionCacheKey(QueryEndpointProvider provider, QueryEndpointParams params) {
+        if (!(provider instanceof DefaultQueryEndpointProvider)) {
+            return params;
+        }
+        return Arrays.asList(params.region(), params.useDualStackEndpoint(), params.useFipsEndpoint(), params.endpointId(),
+                             params.arnList());
+    }
+
     private static void setContextParams(QueryEndpointParams.Builder params, String operationName, SdkRequest request) {
         switch (operationName) {
             case "OperationWithContextParam":
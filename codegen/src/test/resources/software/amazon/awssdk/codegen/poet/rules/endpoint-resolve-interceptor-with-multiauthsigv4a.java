@@ -1,6 +1,7 @@
 package software.amazon.awssdk.services.database.endpoints.internal;
 
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletionException;
@@ -19,6 +20,7 @@ import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
 import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
+import software.amazon.awssdk.core.internal.endpoint.EndpointResolutionCache;
 import software.amazon.awssdk.core.metrics.CoreMetric;
 import software.amazon.awssdk.endpoints.Endpoint;
 import software.amazon.awssdk.http.SdkHttpRequest;
@@ -29,6 +31,7 @@ import software.amazon.awssdk.http.auth.aws.signer.RegionSet;
 import software.amazon.awssdk.http.auth.spi.scheme.AuthSchemeOption;
 import software.amazon.awssdk.identity.spi.Identity;
 import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
 import software.amazon.awssdk.services.database.endpoints.DatabaseEndpointParams;
 import software.amazon.awssdk.services.database.endpoints.DatabaseEndpointProvider;
 import software.amazon.awssdk.utils.CollectionUtils;
@@ -47,10 +50,19 @@ public final class DatabaseResolveEndpointInterceptor implements ExecutionInterc
         try {
             long resolveEndpointStart = System.nanoTime();
             DatabaseEndpointParams endpointParams = ruleParams(result, executionAttributes);
-            Endpoint endpoint = provider.resolveEndpoint(endpointParams).join();
-            Duration resolveEndpointDuration = Duration.ofNanos(System.nanoTime() - resolveEndpointStart);
             Optional<MetricCollector> metricCollector = executionAttributes
                 .getOptionalAttribute(SdkExecutionAttribute.API_CALL_METRIC_COLLECTOR);
+            EndpointResolutionCache endpointResolutionCache = executionAttributes
+                .getAttribute(SdkInternalExecutionAttribute.ENDPOINT_RESOLUTION_CACHE);
+            Endpoint endpoint;
+            if (endpointResolutionCache == null) {
+                endpoint = provider.resolveEndpoint(endpointParams).join();
+            } else {
+                endpoint = endpointResolutionCache.resolve(provider, endpointResolutionCacheKey(provider, endpointParams),
+                                                           endpointParams, p -> provider.resolveEndpoint(p).join(),
+                                                           metricCollector.orElseGet(NoOpMetricCollector::create));
+            }
+            Duration resolveEndpointDuration = Duration.ofNanos(System.nanoTime() - resolveEndpointStart);
             metricCollector.ifPresent(mc -> mc.reportMetric(CoreMetric.ENDPOINT_RESOLVE_DURATION, resolveEndpointDuration));
             if (!AwsEndpointProviderUtils.disableHostPrefixInjection(executionAttributes)) {
                 Optional<String> hostPrefix = hostPrefix(executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME),
@@ -110,6 +122,13 @@ public final class DatabaseResolveEndpointInterceptor implements ExecutionInterc
         return builder.build();
     }
 
+    private static Object endpointResolutionCacheKey(DatabaseEndpointProvider provider, DatabaseEndpointParams params) {
+        if (!(provider instanceof DefaultDatabaseEndpointProvider)) {
+            return params;
+        }
+        return Arrays.asList(params.region(), params.endpoint());
+    }
+
     private static void setContextParams(DatabaseEndpointParams.Builder params, String operationName, SdkRequest request) {
     }
 
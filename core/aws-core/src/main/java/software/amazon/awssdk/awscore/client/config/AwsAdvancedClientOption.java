@@ -40,6 +40,14 @@ public final class AwsAdvancedClientOption<T> extends SdkAdvancedClientOption<T>
     public static final AwsAdvancedClientOption<Boolean> ENABLE_DEFAULT_REGION_DETECTION =
         new AwsAdvancedClientOption<>(Boolean.class);
 
+    /**
+     * Whether successful responses of XML based protocols (REST-XML, Query and EC2) should be unmarshalled by streaming the
+     * payload straight into the response object, instead of first parsing it into an intermediate document tree. This reduces
+     * allocations for large responses. This is disabled by default.
+     */
+    public static final AwsAdvancedClientOption<Boolean> ENABLE_STREAMING_XML_UNMARSHALLING =
+        new AwsAdvancedClientOption<>(Boolean.class);
+
     private AwsAdvancedClientOption(Class<T> valueClass) {
         super(valueClass);
     }
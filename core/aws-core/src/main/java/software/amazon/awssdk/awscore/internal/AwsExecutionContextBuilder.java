@@ -48,6 +48,7 @@ import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.internal.InternalCoreExecutionAttribute;
 import software.amazon.awssdk.core.internal.util.HttpChecksumResolver;
+import software.amazon.awssdk.core.internal.util.MetricUtils;
 import software.amazon.awssdk.core.signer.Signer;
 import software.amazon.awssdk.core.useragent.BusinessMetricCollection;
 import software.amazon.awssdk.endpoints.EndpointProvider;
@@ -74,7 +75,7 @@ public final class AwsExecutionContextBuilder {
         // Don't edit this without considering those
 
         SdkRequest originalRequest = executionParams.getInput();
-        MetricCollector metricCollector = resolveMetricCollector(executionParams);
+        MetricCollector metricCollector = resolveMetricCollector(executionParams, clientConfig);
 
         ExecutionAttributes executionAttributes = mergeExecutionAttributeOverrides(
             executionParams.executionAttributes(),
@@ -111,6 +112,8 @@ public final class AwsExecutionContextBuilder {
                           clientConfig.option(SdkClientOption.CLIENT_ENDPOINT_PROVIDER))
             .putAttribute(SdkInternalExecutionAttribute.ENDPOINT_PROVIDER,
                           resolveEndpointProvider(originalRequest, clientConfig))
+            .putAttribute(SdkInternalExecutionAttribute.ENDPOINT_RESOLUTION_CACHE,
+                          clientConfig.option(SdkClientOption.ENDPOINT_RESOLUTION_CACHE))
             .putAttribute(SdkInternalExecutionAttribute.CLIENT_CONTEXT_PARAMS,
                           clientConfig.option(SdkClientOption.CLIENT_CONTEXT_PARAMS))
             .putAttribute(SdkInternalExecutionAttribute.DISABLE_HOST_PREFIX_INJECTION,
@@ -268,10 +271,11 @@ public final class AwsExecutionContextBuilder {
         return executionAttributes;
     }
 
-    private static MetricCollector resolveMetricCollector(ClientExecutionParams<?, ?> params) {
+    private static MetricCollector resolveMetricCollector(ClientExecutionParams<?, ?> params,
+                                                          SdkClientConfiguration clientConfig) {
         MetricCollector metricCollector = params.getMetricCollector();
         if (metricCollector == null) {
-            metricCollector = MetricCollector.create("ApiCall");
+            metricCollector = MetricUtils.createApiCallMetricCollector(clientConfig);
         }
         return metricCollector;
     }
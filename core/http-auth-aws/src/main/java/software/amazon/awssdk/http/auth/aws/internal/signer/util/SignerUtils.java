@@ -22,6 +22,8 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
@@ -47,8 +49,13 @@ public final class SignerUtils {
 
     private static final Logger LOG = Logger.loggerFor(SignerUtils.class);
 
-    private static final FifoCache<SignerKey> SIGNER_CACHE =
-        new FifoCache<>(300);
+    private static final SigningKeyCache SIGNER_CACHE = new SigningKeyCache(300);
+
+    /**
+     * SHA-256 digests confined to the signing thread, so that hashing the in-memory parts of a request does not contend on a
+     * shared pool of digests.
+     */
+    private static final ThreadLocal<MessageDigest> SHA256_DIGEST = ThreadLocal.withInitial(SignerUtils::newSha256Digest);
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter
         .ofPattern("yyyyMMdd").withZone(ZoneId.of("UTC"));
@@ -94,8 +101,7 @@ public final class SignerUtils {
      * Get the signing key based on the given credentials and a credential-scope
      */
     public static byte[] deriveSigningKey(AwsCredentialsIdentity credentials, CredentialScope credentialScope) {
-        String cacheKey = createSigningCacheKeyName(credentials, credentialScope.getRegion(), credentialScope.getService());
-        SignerKey signerKey = SIGNER_CACHE.get(cacheKey);
+        SignerKey signerKey = SIGNER_CACHE.get(credentials, credentialScope.getRegion(), credentialScope.getService());
 
         if (signerKey != null && signerKey.isValidForDate(credentialScope.getInstant())) {
             return signerKey.getSigningKey();
@@ -107,16 +113,11 @@ public final class SignerUtils {
                                           credentialScope.getDate(),
                                           credentialScope.getRegion(),
                                           credentialScope.getService());
-        SIGNER_CACHE.add(cacheKey, new SignerKey(credentialScope.getInstant(), signingKey));
+        SIGNER_CACHE.put(credentials, credentialScope.getRegion(), credentialScope.getService(),
+                         new SignerKey(credentialScope.getInstant(), signingKey));
         return signingKey;
     }
 
-    private static String createSigningCacheKeyName(AwsCredentialsIdentity credentials,
-                                                    String regionName,
-                                                    String serviceName) {
-        return credentials.secretAccessKey() + "-" + regionName + "-" + serviceName;
-    }
-
     private static byte[] newSigningKey(AwsCredentialsIdentity credentials,
                                         String dateStamp, String regionName, String serviceName) {
         byte[] kSecret = ("AWS4" + credentials.secretAccessKey())
@@ -248,23 +249,15 @@ public final class SignerUtils {
     }
 
     public static byte[] hash(ByteBuffer input) {
-        try {
-            SdkChecksum md = sha256Checksum();
-            md.update(input);
-            return md.getChecksumBytes();
-        } catch (Exception e) {
-            throw new RuntimeException("Unable to compute hash while signing request: ", e);
-        }
+        MessageDigest md = SHA256_DIGEST.get();
+        md.update(input);
+        return md.digest();
     }
 
     public static byte[] hash(byte[] data) {
-        try {
-            SdkChecksum md = sha256Checksum();
-            md.update(data);
-            return md.getChecksumBytes();
-        } catch (Exception e) {
-            throw new RuntimeException("Unable to compute hash while signing request: ", e);
-        }
+        MessageDigest md = SHA256_DIGEST.get();
+        md.update(data);
+        return md.digest();
     }
 
     public static byte[] hash(String text) {
@@ -301,4 +294,12 @@ public final class SignerUtils {
     private static SdkChecksum sha256Checksum() {
         return SdkChecksum.forAlgorithm(() -> "SHA256");
     }
+
+    private static MessageDigest newSha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Unable to compute hash while signing request: ", e);
+        }
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.util;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A bounded cache of SigV4 signing keys, keyed by the credentials, region and service they were derived for. Each
+ * {@link SignerKey} records the date it was derived for, so a key for an earlier date is simply replaced.
+ * <p>
+ * Lookups do not take any lock, so that concurrent signing does not contend on the cache. When the cache is full, an arbitrary
+ * entry is evicted to make room for a new one; with the expected number of distinct keys far below the bound, this only
+ * happens when credentials are rotated frequently.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class SigningKeyCache {
+    private final int maxSize;
+    private final ConcurrentHashMap<CacheKey, SignerKey> cache;
+
+    /**
+     * @param maxSize the maximum number of entries of the cache
+     */
+    public SigningKeyCache(int maxSize) {
+        this.maxSize = Validate.isPositive(maxSize, "maxSize");
+        this.cache = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the signing key cached for the given credentials, region and service; or null if no such entry exists.
+     */
+    public SignerKey get(AwsCredentialsIdentity credentials, String region, String service) {
+        return cache.get(new CacheKey(credentials, region, service));
+    }
+
+    /**
+     * Caches the signing key for the given credentials, region and service, evicting an entry if necessary.
+     */
+    public void put(AwsCredentialsIdentity credentials, String region, String service, SignerKey signerKey) {
+        CacheKey key = new CacheKey(credentials, region, service);
+        if (!cache.containsKey(key)) {
+            while (cache.size() >= maxSize && evictOne()) {
+                // Evict until there is room, as concurrent writers may have evicted the same entry.
+            }
+        }
+        cache.put(key, signerKey);
+    }
+
+    /**
+     * Returns the current size of the cache.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    private boolean evictOne() {
+        Iterator<CacheKey> keys = cache.keySet().iterator();
+        if (!keys.hasNext()) {
+            return false;
+        }
+        keys.next();
+        keys.remove();
+        return true;
+    }
+
+    private static final class CacheKey {
+        private final String accessKeyId;
+        private final String secretAccessKey;
+        private final String region;
+        private final String service;
+        private final int hashCode;
+
+        private CacheKey(AwsCredentialsIdentity credentials, String region, String service) {
+            this.accessKeyId = credentials.accessKeyId();
+            this.secretAccessKey = credentials.secretAccessKey();
+            this.region = region;
+            this.service = service;
+            int result = Objects.hashCode(accessKeyId);
+            result = 31 * result + Objects.hashCode(secretAccessKey);
+            result = 31 * result + Objects.hashCode(region);
+            result = 31 * result + Objects.hashCode(service);
+            this.hashCode = result;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) o;
+            return hashCode == other.hashCode
+                   && Objects.equals(accessKeyId, other.accessKeyId)
+                   && Objects.equals(secretAccessKey, other.secretAccessKey)
+                   && Objects.equals(region, other.region)
+                   && Objects.equals(service, other.service);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
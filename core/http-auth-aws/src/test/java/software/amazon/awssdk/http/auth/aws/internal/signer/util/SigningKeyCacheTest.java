@@ -0,0 +1,108 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+
+public class SigningKeyCacheTest {
+    private static final AwsCredentialsIdentity CREDENTIALS = AwsCredentialsIdentity.create("akid", "skid");
+
+    @Test
+    public void test() {
+        SigningKeyCache cache = new SigningKeyCache(3);
+        SignerKey key1 = signerKey();
+        SignerKey key11 = signerKey();
+        SignerKey key2 = signerKey();
+        SignerKey key3 = signerKey();
+        assertEquals(0, cache.size());
+        cache.put(CREDENTIALS, "us-east-1", "s3", key1);
+        assertEquals(1, cache.size());
+        cache.put(CREDENTIALS, "us-east-1", "s3", key11);
+        assertEquals(1, cache.size());
+        cache.put(CREDENTIALS, "us-west-2", "s3", key2);
+        assertEquals(2, cache.size());
+        cache.put(CREDENTIALS, "us-east-1", "sqs", key3);
+        assertEquals(3, cache.size());
+        assertSame(key11, cache.get(CREDENTIALS, "us-east-1", "s3"));
+        assertSame(key2, cache.get(CREDENTIALS, "us-west-2", "s3"));
+        assertSame(key3, cache.get(CREDENTIALS, "us-east-1", "sqs"));
+        cache.put(CREDENTIALS, "eu-west-1", "s3", signerKey());
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void differentCredentials_areCachedSeparately() {
+        SigningKeyCache cache = new SigningKeyCache(10);
+        SignerKey key = signerKey();
+        cache.put(CREDENTIALS, "us-east-1", "s3", key);
+
+        assertSame(key, cache.get(AwsCredentialsIdentity.create("akid", "skid"), "us-east-1", "s3"));
+        assertNull(cache.get(AwsCredentialsIdentity.create("akid", "other"), "us-east-1", "s3"));
+        assertNull(cache.get(AwsCredentialsIdentity.create("other", "skid"), "us-east-1", "s3"));
+    }
+
+    @Test
+    public void testZeroSize() {
+        assertThrows(IllegalArgumentException.class, () -> new SigningKeyCache(0));
+    }
+
+    @Test
+    public void testSingleEntry() {
+        SigningKeyCache cache = new SigningKeyCache(1);
+        SignerKey key1 = signerKey();
+        SignerKey key2 = signerKey();
+        cache.put(CREDENTIALS, "us-east-1", "s3", key1);
+        assertEquals(1, cache.size());
+
+        cache.put(CREDENTIALS, "us-west-2", "s3", key2);
+        assertEquals(1, cache.size());
+        assertSame(key2, cache.get(CREDENTIALS, "us-west-2", "s3"));
+        assertNull(cache.get(CREDENTIALS, "us-east-1", "s3"));
+    }
+
+    @Test
+    public void concurrentPuts_stayNearBound() {
+        SigningKeyCache cache = new SigningKeyCache(10);
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < 8; thread++) {
+            int t = thread;
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    cache.put(CREDENTIALS, "region-" + t + "-" + i, "s3", signerKey());
+                }
+            }));
+        }
+        futures.forEach(CompletableFuture::join);
+
+        // Concurrent puts may each evict before inserting, so the bound is approximate by at most the number of writers.
+        assertTrue(cache.size() <= 10 + 8, () -> "Expected at most 18 entries but found " + cache.size());
+    }
+
+    private static SignerKey signerKey() {
+        return new SignerKey(Instant.now(), new byte[32]);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.metrics.internal.LockFreeMetricCollector;
+
+/**
+ * Creates the root {@link MetricCollector} of each API call made by an SDK client.
+ *
+ * @see #defaultFactory()
+ * @see #lockFree()
+ */
+@SdkPublicApi
+@ThreadSafe
+@FunctionalInterface
+public interface MetricCollectorFactory {
+    /**
+     * Create a new metric collector.
+     *
+     * @param name The name of the collector.
+     * @return The new collector.
+     */
+    MetricCollector create(String name);
+
+    /**
+     * @return A factory creating the collectors returned by {@link MetricCollector#create(String)}. This is the factory used by
+     * default.
+     */
+    static MetricCollectorFactory defaultFactory() {
+        return MetricCollector::create;
+    }
+
+    /**
+     * @return A factory creating collectors that never lock and allocate a single object per reported value, storing values
+     * in an array indexed by metric rather than in a map. This reduces contention and allocation when metrics are collected
+     * at a high request rate.
+     */
+    static MetricCollectorFactory lockFree() {
+        return LockFreeMetricCollector::create;
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link MetricCollector} that does not lock and allocates a single object per reported value.
+ * <p>
+ * Values are stored in a slot array indexed by {@link DefaultSdkMetric#index()}, sized for all the metrics declared when the
+ * collector is created. Each slot holds the most recently reported value, linked to the previously reported ones, and is updated
+ * with a compare-and-set, which never contends when a single thread reports at a time. Metrics declared after the creation of
+ * the collector, or that are not {@link DefaultSdkMetric}s, are stored in a map created on first use. The
+ * {@link MetricRecord}s themselves are only created by {@link #collect()}.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class LockFreeMetricCollector implements MetricCollector {
+    private static final Logger log = Logger.loggerFor(LockFreeMetricCollector.class);
+
+    private static final AtomicReferenceFieldUpdater<LockFreeMetricCollector, ChildNode> CHILDREN =
+        AtomicReferenceFieldUpdater.newUpdater(LockFreeMetricCollector.class, ChildNode.class, "children");
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<LockFreeMetricCollector, ConcurrentHashMap> OVERFLOW =
+        AtomicReferenceFieldUpdater.newUpdater(LockFreeMetricCollector.class, ConcurrentHashMap.class, "overflow");
+
+    private final String name;
+    private final AtomicReferenceArray<ValueNode> slots;
+    private volatile ConcurrentHashMap<SdkMetric<?>, ValueNode> overflow;
+    private volatile ChildNode children;
+
+    private LockFreeMetricCollector(String name) {
+        this.name = name;
+        this.slots = new AtomicReferenceArray<>(DefaultSdkMetric.indexCount());
+    }
+
+    public static MetricCollector create(String name) {
+        Validate.notEmpty(name, "name");
+        return new LockFreeMetricCollector(name);
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public <T> void reportMetric(SdkMetric<T> metric, T data) {
+        int index = metric instanceof DefaultSdkMetric ? ((DefaultSdkMetric<T>) metric).index() : -1;
+        if (index >= 0 && index < slots.length()) {
+            ValueNode previous;
+            do {
+                previous = slots.get(index);
+            } while (!slots.compareAndSet(index, previous, new ValueNode(metric, data, previous)));
+            return;
+        }
+        overflow().compute(metric, (m, previous) -> new ValueNode(metric, data, previous));
+    }
+
+    @Override
+    public MetricCollector createChild(String name) {
+        MetricCollector child = create(name);
+        ChildNode previous;
+        do {
+            previous = children;
+        } while (!CHILDREN.compareAndSet(this, previous, new ChildNode(child, previous)));
+        return child;
+    }
+
+    @Override
+    public MetricCollection collect() {
+        Map<SdkMetric<?>, List<MetricRecord<?>>> metrics = new LinkedHashMap<>();
+        for (int i = 0; i < slots.length(); i++) {
+            addRecords(metrics, slots.get(i));
+        }
+        ConcurrentHashMap<SdkMetric<?>, ValueNode> overflowValues = overflow;
+        if (overflowValues != null) {
+            overflowValues.values().forEach(node -> addRecords(metrics, node));
+        }
+
+        List<MetricCollection> collectedChildren = new ArrayList<>();
+        for (ChildNode node = children; node != null; node = node.previous) {
+            collectedChildren.add(node.collector.collect());
+        }
+        Collections.reverse(collectedChildren);
+
+        DefaultMetricCollection metricRecords = new DefaultMetricCollection(name, metrics, collectedChildren);
+
+        log.debug(() -> "Collected metrics records: " + metricRecords);
+        return metricRecords;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ConcurrentHashMap<SdkMetric<?>, ValueNode> overflow() {
+        ConcurrentHashMap<SdkMetric<?>, ValueNode> result = overflow;
+        if (result == null) {
+            OVERFLOW.compareAndSet(this, null, new ConcurrentHashMap<>());
+            result = overflow;
+        }
+        return result;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void addRecords(Map<SdkMetric<?>, List<MetricRecord<?>>> metrics, ValueNode node) {
+        if (node == null) {
+            return;
+        }
+        List<MetricRecord<?>> records = new ArrayList<>();
+        for (ValueNode n = node; n != null; n = n.previous) {
+            records.add(new DefaultMetricRecord(n.metric, n.value));
+        }
+        Collections.reverse(records);
+        metrics.put(node.metric, records);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("LockFreeMetricCollector")
+                       .add("name", name)
+                       .build();
+    }
+
+    private static final class ValueNode {
+        private final SdkMetric<?> metric;
+        private final Object value;
+        private final ValueNode previous;
+
+        private ValueNode(SdkMetric<?> metric, Object value, ValueNode previous) {
+            this.metric = metric;
+            this.value = value;
+            this.previous = previous;
+        }
+    }
+
+    private static final class ChildNode {
+        private final MetricCollector collector;
+        private final ChildNode previous;
+
+        private ChildNode(MetricCollector collector, ChildNode previous) {
+            this.collector = collector;
+            this.previous = previous;
+        }
+    }
+}
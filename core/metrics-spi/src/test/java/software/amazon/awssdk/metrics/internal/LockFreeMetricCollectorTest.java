@@ -0,0 +1,120 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+import org.junit.AfterClass;
+import org.junit.Test;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricCollectorFactory;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+public class LockFreeMetricCollectorTest {
+    private static final SdkMetric<Integer> M1 = SdkMetric.create("lockFreeM1", Integer.class, MetricLevel.INFO,
+                                                                  MetricCategory.CORE);
+    private static final SdkMetric<String> M2 = SdkMetric.create("lockFreeM2", String.class, MetricLevel.INFO,
+                                                                 MetricCategory.CORE);
+
+    @AfterClass
+    public static void teardown() {
+        DefaultSdkMetric.clearDeclaredMetrics();
+    }
+
+    @Test
+    public void testName_returnsName() {
+        MetricCollector collector = MetricCollectorFactory.lockFree().create("collector");
+        assertThat(collector.name()).isEqualTo("collector");
+    }
+
+    @Test
+    public void testCreateChild_returnsLockFreeChildWithCorrectName() {
+        MetricCollector parent = LockFreeMetricCollector.create("parent");
+        MetricCollector child = parent.createChild("child");
+
+        assertThat(child.name()).isEqualTo("child");
+        assertThat(child).isInstanceOf(LockFreeMetricCollector.class);
+    }
+
+    @Test
+    public void testCollect_allReportedMetricsInCollectionInReportOrder() {
+        MetricCollector collector = LockFreeMetricCollector.create("collector");
+        Integer[] values = {1, 2, 3};
+        Stream.of(values).forEach(v -> collector.reportMetric(M1, v));
+        collector.reportMetric(M2, "value");
+
+        MetricCollection collect = collector.collect();
+        assertThat(collect.metricValues(M1)).containsExactly(values);
+        assertThat(collect.metricValues(M2)).containsExactly("value");
+        assertThat(collect.stream().count()).isEqualTo(4);
+    }
+
+    @Test
+    public void testCollect_metricDeclaredAfterCollectorCreation_isCollected() {
+        MetricCollector collector = LockFreeMetricCollector.create("collector");
+        SdkMetric<Integer> lateMetric = SdkMetric.create("lockFreeLate", Integer.class, MetricLevel.INFO, MetricCategory.CORE);
+        collector.reportMetric(lateMetric, 1);
+        collector.reportMetric(lateMetric, 2);
+
+        assertThat(collector.collect().metricValues(lateMetric)).containsExactly(1, 2);
+    }
+
+    @Test
+    public void testCollect_returnedCollectionContainsAllChildrenInCreationOrder() {
+        MetricCollector parent = LockFreeMetricCollector.create("parent");
+        String[] childNames = {"c1", "c2", "c3" };
+        Stream.of(childNames).forEach(parent::createChild);
+        MetricCollection collected = parent.collect();
+        assertThat(collected.children().stream().map(MetricCollection::name)).containsExactly(childNames);
+    }
+
+    @Test
+    public void testReportMetric_concurrentReports_noValueLost() {
+        MetricCollector collector = LockFreeMetricCollector.create("collector");
+        int threads = 8;
+        int reportsPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<CompletableFuture<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    MetricCollector child = collector.createChild("child");
+                    for (int i = 0; i < reportsPerThread; i++) {
+                        collector.reportMetric(M1, i);
+                        child.reportMetric(M1, i);
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        MetricCollection collected = collector.collect();
+        assertThat(collected.metricValues(M1)).hasSize(threads * reportsPerThread);
+        assertThat(collected.children()).hasSize(threads)
+                                        .allSatisfy(c -> assertThat(c.metricValues(M1)).hasSize(reportsPerThread));
+    }
+}
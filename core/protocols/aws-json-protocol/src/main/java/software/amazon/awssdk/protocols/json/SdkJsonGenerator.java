@@ -15,7 +15,6 @@
 
 package software.amazon.awssdk.protocols.json;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -23,6 +22,7 @@ import java.nio.ByteBuffer;
 import java.time.Instant;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.protocols.json.internal.RecyclableChunkedOutputStream;
 import software.amazon.awssdk.thirdparty.jackson.core.JsonFactory;
 import software.amazon.awssdk.thirdparty.jackson.core.JsonGenerator;
 import software.amazon.awssdk.utils.BinaryUtils;
@@ -35,13 +35,12 @@ import software.amazon.awssdk.utils.DateUtils;
 public class SdkJsonGenerator implements StructuredJsonGenerator {
 
     /**
-     * Default buffer size for the BAOS. Chosen somewhat arbitrarily. Should be large enough to
-     * prevent frequent resizings but small enough to avoid wasted allocations for small requests.
+     * The stream the generator writes to. Its buffers are recycled once the content has been copied out of it.
      */
-    private static final int DEFAULT_BUFFER_SIZE = 1024;
-    private final ByteArrayOutputStream baos = new ByteArrayOutputStream(DEFAULT_BUFFER_SIZE);
+    private final RecyclableChunkedOutputStream out = RecyclableChunkedOutputStream.acquire();
     private final JsonGenerator generator;
     private final String contentType;
+    private byte[] content;
 
     public SdkJsonGenerator(JsonFactory factory, String contentType) {
         try {
@@ -49,7 +48,7 @@ public class SdkJsonGenerator implements StructuredJsonGenerator {
              * A {@link JsonGenerator} created is by default enabled with
              * UTF-8 encoding
              */
-            this.generator = factory.createGenerator(baos);
+            this.generator = factory.createGenerator(out);
             this.contentType = contentType;
         } catch (IOException e) {
             throw new JsonGenerationException(e);
@@ -273,8 +272,13 @@ public class SdkJsonGenerator implements StructuredJsonGenerator {
      */
     @Override
     public byte[] getBytes() {
-        close();
-        return baos.toByteArray();
+        if (content == null) {
+            close();
+            content = out.toByteArray();
+            out.release();
+            return content;
+        }
+        return content.clone();
     }
 
     @Override
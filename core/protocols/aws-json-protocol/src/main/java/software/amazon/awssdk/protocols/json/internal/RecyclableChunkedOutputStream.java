@@ -0,0 +1,140 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * An output stream that collects the marshalled body of a request in fixed-size chunks that are recycled between requests.
+ * <p>
+ * Marshalling into a {@link java.io.ByteArrayOutputStream} copies the body every time the array grows, and once more in
+ * {@code toByteArray()}. This stream never grows an array: it appends a chunk when the current one is full. Its chunks are
+ * retained by the thread that {@link #release() released} it, so marshalling a request allocates no buffers beyond the
+ * exactly sized body returned by {@link #toByteArray()}.
+ * <p>
+ * A stream must be {@link #acquire() acquired}, and must not be used after it is released. A stream that is never released
+ * is garbage collected as usual.
+ */
+@SdkInternalApi
+@NotThreadSafe
+public final class RecyclableChunkedOutputStream extends OutputStream {
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    /**
+     * The number of chunks kept by a released stream, which bounds the memory retained by each thread that marshalled a
+     * request.
+     */
+    private static final int MAX_RETAINED_CHUNKS = 8;
+
+    private static final ThreadLocal<RecyclableChunkedOutputStream> RELEASED = new ThreadLocal<>();
+
+    private final List<byte[]> chunks = new ArrayList<>();
+    private byte[] current;
+    private int currentIndex;
+    private int position;
+    private int size;
+
+    private RecyclableChunkedOutputStream() {
+    }
+
+    /**
+     * Return the stream last released by the current thread, or a new stream if there is none.
+     */
+    public static RecyclableChunkedOutputStream acquire() {
+        RecyclableChunkedOutputStream stream = RELEASED.get();
+        if (stream == null) {
+            return new RecyclableChunkedOutputStream();
+        }
+        RELEASED.remove();
+        return stream;
+    }
+
+    @Override
+    public void write(int b) {
+        ensureWritable();
+        current[position++] = (byte) b;
+        size++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        while (len > 0) {
+            ensureWritable();
+            int n = Math.min(len, current.length - position);
+            System.arraycopy(b, off, current, position, n);
+            position += n;
+            off += n;
+            len -= n;
+            size += n;
+        }
+    }
+
+    /**
+     * The number of bytes written.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Copy the written bytes into a new array of exactly their size.
+     */
+    public byte[] toByteArray() {
+        byte[] result = new byte[size];
+        int offset = 0;
+        for (int i = 0; offset < size; i++) {
+            byte[] chunk = chunks.get(i);
+            int n = Math.min(chunk.length, size - offset);
+            System.arraycopy(chunk, 0, result, offset, n);
+            offset += n;
+        }
+        return result;
+    }
+
+    /**
+     * Discard the written bytes and make this stream available to the next {@link #acquire()} on the current thread.
+     */
+    public void release() {
+        while (chunks.size() > MAX_RETAINED_CHUNKS) {
+            chunks.remove(chunks.size() - 1);
+        }
+        current = null;
+        currentIndex = 0;
+        position = 0;
+        size = 0;
+        RELEASED.set(this);
+    }
+
+    private void ensureWritable() {
+        if (current != null && position < current.length) {
+            return;
+        }
+        int nextIndex = current == null ? 0 : currentIndex + 1;
+        if (nextIndex == chunks.size()) {
+            chunks.add(new byte[CHUNK_SIZE]);
+        }
+        current = chunks.get(nextIndex);
+        currentIndex = nextIndex;
+        position = 0;
+    }
+}
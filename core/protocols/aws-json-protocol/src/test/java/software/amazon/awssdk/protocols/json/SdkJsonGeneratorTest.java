@@ -15,14 +15,17 @@
 
 package software.amazon.awssdk.protocols.json;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -171,6 +174,34 @@ public class SdkJsonGeneratorTest {
         assertTrue(j == 3);
     }
 
+    @Test
+    public void getBytes_calledTwice_returnsEqualCopies() {
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeFieldName("stringProp").writeValue("stringVal");
+        jsonGenerator.writeEndObject();
+
+        byte[] first = jsonGenerator.getBytes();
+        byte[] second = jsonGenerator.getBytes();
+
+        assertArrayEquals(first, second);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void getBytes_generatorsOnSameThread_doNotShareContent() {
+        StructuredJsonGenerator other = new SdkJsonGenerator(JsonFactory.builder().build(), "application/json");
+        jsonGenerator.writeStartObject().writeFieldName("first").writeValue(1).writeEndObject();
+        other.writeStartObject().writeFieldName("second").writeValue(2).writeEndObject();
+
+        byte[] firstContent = jsonGenerator.getBytes();
+        StructuredJsonGenerator recycled = new SdkJsonGenerator(JsonFactory.builder().build(), "application/json");
+        recycled.writeStartObject().writeFieldName("third").writeValue(3).writeEndObject();
+
+        assertEquals("{\"first\":1}", new String(firstContent, StandardCharsets.UTF_8));
+        assertEquals("{\"second\":2}", new String(other.getBytes(), StandardCharsets.UTF_8));
+        assertEquals("{\"third\":3}", new String(recycled.getBytes(), StandardCharsets.UTF_8));
+    }
+
     private JsonNode toJsonNode() throws IOException {
         return JsonNode.parser().parse(new ByteArrayInputStream(jsonGenerator.getBytes()));
     }
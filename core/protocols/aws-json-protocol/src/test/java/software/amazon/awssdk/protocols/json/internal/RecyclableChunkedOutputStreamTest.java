@@ -0,0 +1,77 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class RecyclableChunkedOutputStreamTest {
+
+    @Test
+    public void toByteArray_noWrites_returnsEmptyArray() {
+        RecyclableChunkedOutputStream out = RecyclableChunkedOutputStream.acquire();
+
+        assertThat(out.toByteArray()).isEmpty();
+        out.release();
+    }
+
+    @Test
+    public void toByteArray_writesSpanningChunks_returnsWrittenBytes() {
+        byte[] expected = randomBytes(50_000);
+        RecyclableChunkedOutputStream out = RecyclableChunkedOutputStream.acquire();
+
+        out.write(expected[0]);
+        out.write(expected, 1, 10_000);
+        out.write(expected, 10_001, expected.length - 10_001);
+
+        assertThat(out.size()).isEqualTo(expected.length);
+        assertThat(out.toByteArray()).isEqualTo(expected);
+        out.release();
+    }
+
+    @Test
+    public void acquire_afterRelease_reusesStreamWithoutOldContent() {
+        RecyclableChunkedOutputStream first = RecyclableChunkedOutputStream.acquire();
+        first.write(randomBytes(100_000), 0, 100_000);
+        first.release();
+
+        RecyclableChunkedOutputStream second = RecyclableChunkedOutputStream.acquire();
+        byte[] expected = randomBytes(20_000);
+        second.write(expected, 0, expected.length);
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.toByteArray()).isEqualTo(expected);
+        second.release();
+    }
+
+    @Test
+    public void acquire_whileAcquired_returnsDifferentStream() {
+        RecyclableChunkedOutputStream first = RecyclableChunkedOutputStream.acquire();
+        RecyclableChunkedOutputStream second = RecyclableChunkedOutputStream.acquire();
+
+        assertThat(second).isNotSameAs(first);
+        first.release();
+        second.release();
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
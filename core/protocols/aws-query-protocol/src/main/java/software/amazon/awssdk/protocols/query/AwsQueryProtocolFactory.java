@@ -24,6 +24,7 @@ import java.util.Optional;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.client.config.AwsAdvancedClientOption;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.ClientEndpointProvider;
 import software.amazon.awssdk.core.SdkPojo;
@@ -52,9 +53,13 @@ public class AwsQueryProtocolFactory {
     private final List<ExceptionMetadata> modeledExceptions;
     private final Supplier<SdkPojo> defaultServiceExceptionSupplier;
     private final MetricCollectingHttpResponseHandler<AwsServiceException> errorUnmarshaller;
+    private final boolean streamingUnmarshallingEnabled;
 
     AwsQueryProtocolFactory(Builder<?> builder) {
         this.clientConfiguration = builder.clientConfiguration;
+        this.streamingUnmarshallingEnabled =
+            clientConfiguration != null
+            && Boolean.TRUE.equals(clientConfiguration.option(AwsAdvancedClientOption.ENABLE_STREAMING_XML_UNMARSHALLING));
         this.modeledExceptions = unmodifiableList(builder.modeledExceptions);
         this.defaultServiceExceptionSupplier = builder.defaultServiceExceptionSupplier;
         this.errorUnmarshaller = timeUnmarshalling(AwsXmlErrorProtocolUnmarshaller
@@ -100,9 +105,11 @@ public class AwsQueryProtocolFactory {
      * @return New {@link HttpResponseHandler} for success responses.
      */
     public final <T extends AwsResponse> HttpResponseHandler<T> createResponseHandler(Supplier<SdkPojo> pojoSupplier) {
-        return timeUnmarshalling(new AwsQueryResponseHandler<>(QueryProtocolUnmarshaller.builder()
-                                                                                        .hasResultWrapper(!isEc2())
-                                                                                        .build(), r -> pojoSupplier.get()));
+        QueryProtocolUnmarshaller unmarshaller = QueryProtocolUnmarshaller.builder()
+                                                                          .hasResultWrapper(!isEc2())
+                                                                          .streamingUnmarshalling(streamingUnmarshallingEnabled)
+                                                                          .build();
+        return timeUnmarshalling(new AwsQueryResponseHandler<>(unmarshaller, r -> pojoSupplier.get()));
     }
 
     /**
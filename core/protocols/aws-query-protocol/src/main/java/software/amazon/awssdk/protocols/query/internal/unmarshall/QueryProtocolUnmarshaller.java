@@ -22,6 +22,7 @@ import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import javax.xml.stream.XMLStreamReader;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.SdkField;
@@ -35,6 +36,7 @@ import software.amazon.awssdk.protocols.core.StringToValueConverter;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlErrorUnmarshaller;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlUnmarshallingParser;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.Pair;
@@ -66,10 +68,28 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             context.protocolUnmarshaller().unmarshall(context, field.constructor().get(), content.get(0)))
         .build();
 
+    private static final XmlUnmarshallingParser STREAMING_PARSER = XmlUnmarshallingParser
+        .builder()
+        .converter(MarshallingType.STRING, StringToValueConverter.TO_STRING)
+        .converter(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER)
+        .converter(MarshallingType.LONG, StringToValueConverter.TO_LONG)
+        .converter(MarshallingType.SHORT, StringToValueConverter.TO_SHORT)
+        .converter(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT)
+        .converter(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE)
+        .converter(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN)
+        .converter(MarshallingType.INSTANT, StringToInstant.create(defaultTimestampFormats()))
+        .converter(MarshallingType.SDK_BYTES, StringToValueConverter.TO_SDK_BYTES)
+        .build();
+
+    private static final String RESPONSE_METADATA_ELEMENT_NAME = "ResponseMetadata";
+    private static final String REQUEST_ID_ELEMENT_NAME = "requestId";
+
     private final boolean hasResultWrapper;
+    private final boolean streamingUnmarshalling;
 
     private QueryProtocolUnmarshaller(Builder builder) {
         this.hasResultWrapper = builder.hasResultWrapper;
+        this.streamingUnmarshalling = builder.streamingUnmarshalling;
     }
 
     public <TypeT extends SdkPojo> Pair<TypeT, Map<String, String>> unmarshall(SdkPojo sdkPojo,
@@ -83,11 +103,66 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             return Pair.of(unmarshall(sdkPojo, document, response), new HashMap<>());
         }
 
+        if (streamingUnmarshalling) {
+            return streamingUnmarshall(sdkPojo, response);
+        }
+
         XmlElement document = response.content().map(XmlDomParser::parse).orElseGet(XmlElement::empty);
         XmlElement resultRoot = hasResultWrapper ? document.getFirstChild() : document;
         return Pair.of(unmarshall(sdkPojo, resultRoot, response), parseMetadata(document));
     }
 
+    /**
+     * Streams the result straight into the POJO, collecting the response metadata found next to it along the way.
+     */
+    private <TypeT extends SdkPojo> Pair<TypeT, Map<String, String>> streamingUnmarshall(SdkPojo sdkPojo,
+                                                                                        SdkHttpFullResponse response) {
+        Map<String, String> metadata = new HashMap<>();
+        XMLStreamReader reader = response.content().map(XmlUnmarshallingParser::createReader).orElse(null);
+        if (reader == null) {
+            return Pair.of((TypeT) ((Buildable) sdkPojo).build(), metadata);
+        }
+
+        try {
+            if (!hasResultWrapper) {
+                return Pair.of((TypeT) STREAMING_PARSER.parseElement(sdkPojo, reader, r -> parseMetadata(r, metadata)),
+                               metadata);
+            }
+
+            SdkPojo result = null;
+            while (XmlUnmarshallingParser.nextChildElement(reader)) {
+                if (result == null && !RESPONSE_METADATA_ELEMENT_NAME.equals(reader.getLocalName())) {
+                    result = STREAMING_PARSER.parseElement(sdkPojo, reader);
+                } else {
+                    parseMetadata(reader, metadata);
+                }
+            }
+            if (result == null) {
+                result = (SdkPojo) ((Buildable) sdkPojo).build();
+            }
+            return Pair.of((TypeT) result, metadata);
+        } finally {
+            XmlUnmarshallingParser.closeQuietly(reader);
+        }
+    }
+
+    /**
+     * Reads the current element into the metadata if it is response metadata, or skips it otherwise.
+     */
+    private void parseMetadata(XMLStreamReader reader, Map<String, String> metadata) {
+        String elementName = reader.getLocalName();
+        if (RESPONSE_METADATA_ELEMENT_NAME.equals(elementName)) {
+            while (XmlUnmarshallingParser.nextChildElement(reader)) {
+                String key = reader.getLocalName().equals("RequestId") ? AWS_REQUEST_ID : reader.getLocalName();
+                metadata.put(key, XmlUnmarshallingParser.readText(reader));
+            }
+        } else if (REQUEST_ID_ELEMENT_NAME.equals(elementName)) {
+            metadata.put(AWS_REQUEST_ID, XmlUnmarshallingParser.readText(reader));
+        } else {
+            XmlUnmarshallingParser.skipElement(reader);
+        }
+    }
+
     private boolean responsePayloadIsBlob(SdkPojo sdkPojo) {
         return sdkPojo.sdkFields().stream()
                       .anyMatch(field -> field.marshallingType() == MarshallingType.SDK_BYTES &&
@@ -110,12 +185,12 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
     }
 
     private Map<String, String> parseMetadata(XmlElement document) {
-        XmlElement responseMetadata = document.getElementByName("ResponseMetadata");
+        XmlElement responseMetadata = document.getElementByName(RESPONSE_METADATA_ELEMENT_NAME);
         Map<String, String> metadata = new HashMap<>();
         if (responseMetadata != null) {
             responseMetadata.children().forEach(c -> metadata.put(metadataKeyName(c), c.textContent()));
         }
-        XmlElement requestId = document.getElementByName("requestId");
+        XmlElement requestId = document.getElementByName(REQUEST_ID_ELEMENT_NAME);
         if (requestId != null) {
             metadata.put(AWS_REQUEST_ID, requestId.textContent());
         }
@@ -161,6 +236,7 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
     public static final class Builder {
 
         private boolean hasResultWrapper;
+        private boolean streamingUnmarshalling;
 
         private Builder() {
         }
@@ -210,6 +286,18 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             return this;
         }
 
+        /**
+         * Whether successful responses should be streamed straight into the response POJO instead of being parsed into an
+         * {@link XmlElement} tree first. Defaults to {@code false}.
+         *
+         * @param streamingUnmarshalling True to stream successful responses.
+         * @return This builder for method chaining.
+         */
+        public Builder streamingUnmarshalling(boolean streamingUnmarshalling) {
+            this.streamingUnmarshalling = streamingUnmarshalling;
+            return this;
+        }
+
         /**
          * @return New instance of {@link QueryProtocolUnmarshaller}.
          */
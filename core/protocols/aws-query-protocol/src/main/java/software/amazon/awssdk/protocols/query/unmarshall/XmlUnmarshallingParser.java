@@ -0,0 +1,578 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.unmarshall;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingKnownType;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.TraitType;
+import software.amazon.awssdk.core.traits.XmlAttributeTrait;
+import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.utils.Either;
+import software.amazon.awssdk.utils.LookaheadInputStream;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Unmarshalls an XML document straight into an {@link SdkPojo} from {@link XMLStreamReader} events, without building the
+ * intermediate {@link XmlElement} tree that {@link XmlDomParser} produces. The produced objects are the same as the ones
+ * produced by unmarshalling the result of {@link XmlDomParser#parse(InputStream)}.
+ */
+@SdkProtectedApi
+@ThreadSafe
+@SuppressWarnings("unchecked")
+public final class XmlUnmarshallingParser {
+
+    private static final ThreadLocal<XMLInputFactory> FACTORY =
+        ThreadLocal.withInitial(XmlDomParser::createXmlInputFactory);
+
+    private static final String MAP_ENTRY_ELEMENT_NAME = "entry";
+
+    private final Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> converters;
+    private final boolean unmarshallAttributes;
+    private final boolean matchListMemberNames;
+    private final Map<Class<?>, FieldIndex> fieldIndexCache = new ConcurrentHashMap<>();
+
+    private XmlUnmarshallingParser(Builder builder) {
+        this.converters = Collections.unmodifiableMap(new HashMap<>(builder.converters));
+        this.unmarshallAttributes = builder.unmarshallAttributes;
+        this.matchListMemberNames = builder.matchListMemberNames;
+    }
+
+    /**
+     * @return New {@link Builder} instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates a new {@link XMLStreamReader} positioned on the start of the root element of the given document.
+     *
+     * @param content Stream containing the XML document.
+     * @return The reader, or null if the stream is empty.
+     */
+    public static XMLStreamReader createReader(InputStream content) {
+        LookaheadInputStream stream = new LookaheadInputStream(content);
+        try {
+            if (stream.peek() == -1) {
+                return null;
+            }
+            XMLStreamReader reader = FACTORY.get().createXMLStreamReader(stream);
+            while (reader.getEventType() != XMLStreamConstants.START_ELEMENT) {
+                reader.next();
+            }
+            return reader;
+        } catch (IOException | XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+    }
+
+    /**
+     * Closes the given reader, ignoring any failure to do so. The underlying stream is not closed.
+     *
+     * @param reader The reader to close.
+     */
+    public static void closeQuietly(XMLStreamReader reader) {
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            // Closing the reader does not close the underlying stream, there is nothing left to release.
+        }
+    }
+
+    /**
+     * Parses the given XML document into the given POJO and builds it. An empty document results in an empty POJO.
+     *
+     * @param pojo Builder of the POJO to fill.
+     * @param content Stream containing the XML document.
+     * @return The built POJO.
+     */
+    public SdkPojo parse(SdkPojo pojo, InputStream content) {
+        XMLStreamReader reader = createReader(content);
+        if (reader == null) {
+            return build(pojo);
+        }
+        try {
+            return parseElement(pojo, reader);
+        } finally {
+            closeQuietly(reader);
+        }
+    }
+
+    /**
+     * Parses the given XML document into the given POJO and builds it, unless the root element of the document is named
+     * {@code errorRootElementName}. In that case the POJO is left untouched and the root element is returned as an
+     * {@link XmlElement} instead, so that it can be unmarshalled as an error. An empty document results in an empty POJO.
+     *
+     * @param pojo Builder of the POJO to fill.
+     * @param content Stream containing the XML document.
+     * @param errorRootElementName Name of the root element of error documents.
+     * @return Either the built POJO, or the error root element.
+     */
+    public Either<SdkPojo, XmlElement> parse(SdkPojo pojo, InputStream content, String errorRootElementName) {
+        XMLStreamReader reader = createReader(content);
+        if (reader == null) {
+            return Either.left(build(pojo));
+        }
+        try {
+            if (errorRootElementName.equals(reader.getLocalName())) {
+                return Either.right(readElement(reader));
+            }
+            return Either.left(parseElement(pojo, reader));
+        } finally {
+            closeQuietly(reader);
+        }
+    }
+
+    /**
+     * Parses the element the reader is positioned on into the given POJO and builds it. The reader is left positioned on the
+     * end of the element.
+     *
+     * @param pojo Builder of the POJO to fill.
+     * @param reader Reader positioned on a start element.
+     * @return The built POJO.
+     */
+    public SdkPojo parseElement(SdkPojo pojo, XMLStreamReader reader) {
+        return parseElement(pojo, reader, null);
+    }
+
+    /**
+     * Parses the element the reader is positioned on into the given POJO and builds it. Children of the element that are not
+     * bound to any member of the POJO are handed to {@code unboundChildHandler}, which must consume the whole child element.
+     * The reader is left positioned on the end of the element.
+     *
+     * @param pojo Builder of the POJO to fill.
+     * @param reader Reader positioned on a start element.
+     * @param unboundChildHandler Handler for children not bound to a member, or null to skip them.
+     * @return The built POJO.
+     */
+    public SdkPojo parseElement(SdkPojo pojo, XMLStreamReader reader, Consumer<XMLStreamReader> unboundChildHandler) {
+        try {
+            fillPojo(pojo, reader, unboundChildHandler);
+            return build(pojo);
+        } catch (XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+    }
+
+    /**
+     * Reads the element the reader is positioned on into an {@link XmlElement}, the same way {@link XmlDomParser} does. This
+     * is used when the element turns out not to be a modeled result, like an error returned with a successful status code.
+     * The reader is left positioned on the end of the element.
+     */
+    public static XmlElement readElement(XMLStreamReader reader) {
+        try {
+            return readElementInternal(reader);
+        } catch (XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+    }
+
+    /**
+     * Advances the reader to the start of the next child of the current element.
+     *
+     * @return True if the reader is positioned on a child start element, false if the end of the current element was reached.
+     */
+    public static boolean nextChildElement(XMLStreamReader reader) {
+        try {
+            return nextChild(reader);
+        } catch (XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+    }
+
+    /**
+     * Reads all the character data of the element the reader is positioned on. The reader is left positioned on the end of
+     * the element.
+     */
+    public static String readText(XMLStreamReader reader) {
+        try {
+            return readTextInternal(reader);
+        } catch (XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+    }
+
+    /**
+     * Skips the element the reader is positioned on, including all of its children. The reader is left positioned on the end
+     * of the element.
+     */
+    public static void skipElement(XMLStreamReader reader) {
+        try {
+            skip(reader);
+        } catch (XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+    }
+
+    /**
+     * Fills the payload fields of the given POJO from the children (and optionally attributes) of the current element.
+     * Repeated elements of a non-flattened member keep the first occurrence, matching {@link XmlElement#getElementByName}.
+     */
+    private void fillPojo(SdkPojo pojo, XMLStreamReader reader, Consumer<XMLStreamReader> unboundChildHandler)
+            throws XMLStreamException {
+        FieldIndex index = fieldIndex(pojo);
+
+        if (unmarshallAttributes && !index.attributes.isEmpty()) {
+            fillAttributes(pojo, reader, index);
+        }
+
+        boolean[] seen = null;
+        Object[] flattened = null;
+
+        while (nextChild(reader)) {
+            Integer position = index.elements.get(reader.getLocalName());
+            if (position == null) {
+                if (unboundChildHandler != null) {
+                    unboundChildHandler.accept(reader);
+                } else {
+                    skip(reader);
+                }
+                continue;
+            }
+
+            SdkField<Object> field = (SdkField<Object>) index.fields.get(position);
+            MarshallingKnownType knownType = field.marshallingType().getKnownType();
+
+            if (knownType == MarshallingKnownType.LIST && isFlattenedList(field)) {
+                flattened = flattened == null ? new Object[index.fields.size()] : flattened;
+                if (flattened[position] == null) {
+                    flattened[position] = new ArrayList<>();
+                }
+                SdkField<Object> member = (SdkField<Object>) field.getTrait(ListTrait.class, TraitType.LIST_TRAIT)
+                                                                  .memberFieldInfo();
+                ((List<Object>) flattened[position]).add(valueFor(member, reader));
+                continue;
+            }
+
+            if (knownType == MarshallingKnownType.MAP && isFlattenedMap(field)) {
+                flattened = flattened == null ? new Object[index.fields.size()] : flattened;
+                if (flattened[position] == null) {
+                    flattened[position] = new HashMap<>();
+                }
+                readMapEntry(field.getTrait(MapTrait.class, TraitType.MAP_TRAIT), reader,
+                             (Map<String, Object>) flattened[position]);
+                continue;
+            }
+
+            seen = seen == null ? new boolean[index.fields.size()] : seen;
+            if (seen[position]) {
+                skip(reader);
+                continue;
+            }
+            seen[position] = true;
+            field.set(pojo, valueFor(field, reader));
+        }
+
+        if (flattened != null) {
+            for (int i = 0; i < flattened.length; i++) {
+                if (flattened[i] != null) {
+                    ((SdkField<Object>) index.fields.get(i)).set(pojo, flattened[i]);
+                }
+            }
+        }
+    }
+
+    private void fillAttributes(SdkPojo pojo, XMLStreamReader reader, FieldIndex index) {
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String prefix = reader.getAttributePrefix(i);
+            String name = (prefix == null ? "" : prefix) + ":" + reader.getAttributeLocalName(i);
+            SdkField<Object> field = (SdkField<Object>) index.attributes.get(name);
+            if (field != null) {
+                field.set(pojo, reader.getAttributeValue(i));
+            }
+        }
+    }
+
+    /**
+     * Returns the value of the element the reader is positioned on for the given field, and leaves the reader positioned
+     * on the end of the element.
+     */
+    private Object valueFor(SdkField<?> field, XMLStreamReader reader) throws XMLStreamException {
+        MarshallingType<?> type = field.marshallingType();
+        switch (type.getKnownType()) {
+            case SDK_POJO:
+                SdkPojo pojo = field.constructor().get();
+                fillPojo(pojo, reader, null);
+                return build(pojo);
+            case LIST:
+                return readList(field.getTrait(ListTrait.class, TraitType.LIST_TRAIT), reader);
+            case MAP:
+                return readMap(field.getTrait(MapTrait.class, TraitType.MAP_TRAIT), reader);
+            case NULL:
+                skip(reader);
+                return null;
+            default:
+                StringToValueConverter.StringToValue<Object> converter =
+                    (StringToValueConverter.StringToValue<Object>) converters.get(type);
+                if (converter == null) {
+                    throw SdkClientException.create("No unmarshaller registered for type " + type);
+                }
+                return converter.convert(readTextInternal(reader), (SdkField<Object>) field);
+        }
+    }
+
+    private List<Object> readList(ListTrait listTrait, XMLStreamReader reader) throws XMLStreamException {
+        SdkField<?> member = listTrait.memberFieldInfo();
+        String memberName = listTrait.memberLocationName() != null ? listTrait.memberLocationName()
+                                                                   : member.locationName();
+        List<Object> list = new ArrayList<>();
+        while (nextChild(reader)) {
+            if (matchListMemberNames && !reader.getLocalName().equals(memberName)) {
+                skip(reader);
+                continue;
+            }
+            list.add(valueFor(member, reader));
+        }
+        return list;
+    }
+
+    private Map<String, Object> readMap(MapTrait mapTrait, XMLStreamReader reader) throws XMLStreamException {
+        Map<String, Object> map = new HashMap<>();
+        while (nextChild(reader)) {
+            if (!MAP_ENTRY_ELEMENT_NAME.equals(reader.getLocalName())) {
+                skip(reader);
+                continue;
+            }
+            readMapEntry(mapTrait, reader, map);
+        }
+        return map;
+    }
+
+    private void readMapEntry(MapTrait mapTrait, XMLStreamReader reader, Map<String, Object> map) throws XMLStreamException {
+        String key = null;
+        Object value = null;
+        boolean hasKey = false;
+        boolean hasValue = false;
+        while (nextChild(reader)) {
+            String name = reader.getLocalName();
+            if (!hasKey && name.equals(mapTrait.keyLocationName())) {
+                key = readTextInternal(reader);
+                hasKey = true;
+            } else if (!hasValue && name.equals(mapTrait.valueLocationName())) {
+                value = valueFor(mapTrait.valueFieldInfo(), reader);
+                hasValue = true;
+            } else {
+                skip(reader);
+            }
+        }
+        map.put(key, value);
+    }
+
+    private static XmlElement readElementInternal(XMLStreamReader reader) throws XMLStreamException {
+        XmlElement.Builder element = XmlElement.builder().elementName(reader.getLocalName());
+
+        if (reader.getAttributeCount() > 0) {
+            Map<String, String> attributes = new HashMap<>();
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                String prefix = reader.getAttributePrefix(i);
+                attributes.put((prefix == null ? "" : prefix) + ":" + reader.getAttributeLocalName(i),
+                               reader.getAttributeValue(i));
+            }
+            element.attributes(attributes);
+        }
+
+        StringBuilder text = null;
+        int event = reader.next();
+        while (event != XMLStreamConstants.END_ELEMENT) {
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                if (text != null) {
+                    element.textContent(text.toString());
+                    text = null;
+                }
+                element.addChildElement(readElementInternal(reader));
+            } else if (isText(event)) {
+                text = text == null ? new StringBuilder() : text;
+                text.append(reader.getText());
+            }
+            event = reader.next();
+        }
+        if (text != null) {
+            element.textContent(text.toString());
+        }
+        return element.build();
+    }
+
+    private static boolean nextChild(XMLStreamReader reader) throws XMLStreamException {
+        while (true) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            }
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Character data interleaved with child elements is discarded except for the last run, like {@link XmlDomParser} does.
+     */
+    private static String readTextInternal(XMLStreamReader reader) throws XMLStreamException {
+        String firstChunk = null;
+        StringBuilder text = null;
+        boolean restart = false;
+        int event = reader.next();
+        while (event != XMLStreamConstants.END_ELEMENT) {
+            if (isText(event)) {
+                if (firstChunk == null || restart) {
+                    firstChunk = reader.getText();
+                    text = null;
+                    restart = false;
+                } else {
+                    text = text == null ? new StringBuilder(firstChunk) : text;
+                    text.append(reader.getText());
+                }
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                skip(reader);
+                restart = true;
+            }
+            event = reader.next();
+        }
+        if (text != null) {
+            return text.toString();
+        }
+        return firstChunk == null ? "" : firstChunk;
+    }
+
+    private static void skip(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static boolean isText(int event) {
+        return event == XMLStreamConstants.CHARACTERS
+               || event == XMLStreamConstants.CDATA
+               || event == XMLStreamConstants.SPACE;
+    }
+
+    private static boolean isFlattenedList(SdkField<?> field) {
+        ListTrait trait = field.getTrait(ListTrait.class, TraitType.LIST_TRAIT);
+        return trait != null && trait.isFlattened();
+    }
+
+    private static boolean isFlattenedMap(SdkField<?> field) {
+        MapTrait trait = field.getTrait(MapTrait.class, TraitType.MAP_TRAIT);
+        return trait != null && trait.isFlattened();
+    }
+
+    private static SdkPojo build(SdkPojo pojo) {
+        if (!(pojo instanceof Buildable)) {
+            throw new RuntimeException("The sdkPojo passed to the unmarshaller is not buildable (must implement "
+                                       + "Buildable)");
+        }
+        return (SdkPojo) ((Buildable) pojo).build();
+    }
+
+    private FieldIndex fieldIndex(SdkPojo pojo) {
+        return fieldIndexCache.computeIfAbsent(pojo.getClass(), c -> new FieldIndex(pojo.sdkFields(), unmarshallAttributes));
+    }
+
+    /**
+     * Lookup of the payload fields of a POJO by the name of the element (or attribute) they are unmarshalled from.
+     */
+    private static final class FieldIndex {
+        private final List<SdkField<?>> fields;
+        private final Map<String, Integer> elements = new HashMap<>();
+        private final Map<String, SdkField<?>> attributes = new HashMap<>();
+
+        private FieldIndex(List<SdkField<?>> fields, boolean indexAttributes) {
+            this.fields = fields;
+            for (int i = 0; i < fields.size(); i++) {
+                SdkField<?> field = fields.get(i);
+                if (field.location() != MarshallLocation.PAYLOAD) {
+                    continue;
+                }
+                if (indexAttributes && field.containsTrait(XmlAttributeTrait.class, TraitType.XML_ATTRIBUTE_TRAIT)) {
+                    attributes.put(field.unmarshallLocationName(), field);
+                    continue;
+                }
+                elements.putIfAbsent(field.unmarshallLocationName(), i);
+            }
+        }
+    }
+
+    /**
+     * Builder for {@link XmlUnmarshallingParser}.
+     */
+    public static final class Builder {
+        private final Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> converters = new HashMap<>();
+        private boolean unmarshallAttributes;
+        private boolean matchListMemberNames;
+
+        private Builder() {
+        }
+
+        /**
+         * Registers the converter used for the text content of elements of the given scalar type.
+         */
+        public <T> Builder converter(MarshallingType<T> marshallingType, StringToValueConverter.StringToValue<T> converter) {
+            converters.put(marshallingType, converter);
+            return this;
+        }
+
+        /**
+         * Whether members bound to XML attributes should be unmarshalled. Defaults to {@code false}.
+         */
+        public Builder unmarshallAttributes(boolean unmarshallAttributes) {
+            this.unmarshallAttributes = unmarshallAttributes;
+            return this;
+        }
+
+        /**
+         * Whether only the children of a non-flattened list whose name matches the modeled member name are unmarshalled.
+         * When {@code false}, all the direct children are treated as list members. Defaults to {@code false}.
+         */
+        public Builder matchListMemberNames(boolean matchListMemberNames) {
+            this.matchListMemberNames = matchListMemberNames;
+            return this;
+        }
+
+        /**
+         * @return New instance of {@link XmlUnmarshallingParser}.
+         */
+        public XmlUnmarshallingParser build() {
+            return new XmlUnmarshallingParser(this);
+        }
+    }
+}
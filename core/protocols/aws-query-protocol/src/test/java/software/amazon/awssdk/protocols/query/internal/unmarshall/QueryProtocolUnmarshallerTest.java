@@ -0,0 +1,90 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.internal.unmarshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.awscore.util.AwsHeader.AWS_REQUEST_ID;
+
+import java.util.Map;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.query.unmarshall.TestStructure;
+import software.amazon.awssdk.utils.Pair;
+import software.amazon.awssdk.utils.StringInputStream;
+
+public class QueryProtocolUnmarshallerTest {
+
+    private static final String QUERY_RESPONSE =
+        "<TestOperationResponse>"
+        + "  <TestOperationResult>"
+        + "    <stringMember>value</stringMember>"
+        + "    <listMember><member>a</member><member>b</member></listMember>"
+        + "    <flattenedMember>c</flattenedMember>"
+        + "    <flattenedMember>d</flattenedMember>"
+        + "    <mapMember><entry><key>k</key><value>v</value></entry></mapMember>"
+        + "    <nestedMember><integerMember>7</integerMember></nestedMember>"
+        + "  </TestOperationResult>"
+        + "  <ResponseMetadata>"
+        + "    <RequestId>request-id</RequestId>"
+        + "  </ResponseMetadata>"
+        + "</TestOperationResponse>";
+
+    private static final String EC2_RESPONSE =
+        "<TestOperationResponse>"
+        + "  <requestId>request-id</requestId>"
+        + "  <stringMember>value</stringMember>"
+        + "  <listMember><item>a</item><item>b</item></listMember>"
+        + "</TestOperationResponse>";
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void queryResponse_streamingMatchesDom(boolean hasResultWrapper) {
+        String body = hasResultWrapper ? QUERY_RESPONSE : EC2_RESPONSE;
+
+        Pair<TestStructure, Map<String, String>> dom = unmarshall(body, hasResultWrapper, false);
+        Pair<TestStructure, Map<String, String>> streamed = unmarshall(body, hasResultWrapper, true);
+
+        assertThat(streamed.left()).isEqualTo(dom.left());
+        assertThat(streamed.right()).isEqualTo(dom.right());
+        assertThat(streamed.left().get("stringMember")).isEqualTo("value");
+        assertThat(streamed.right()).containsEntry(AWS_REQUEST_ID, "request-id");
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void emptyResponse_streamingMatchesDom(boolean hasResultWrapper) {
+        Pair<TestStructure, Map<String, String>> dom = unmarshall("", hasResultWrapper, false);
+        Pair<TestStructure, Map<String, String>> streamed = unmarshall("", hasResultWrapper, true);
+
+        assertThat(streamed.left()).isEqualTo(dom.left());
+        assertThat(streamed.right()).isEqualTo(dom.right());
+    }
+
+    private static Pair<TestStructure, Map<String, String>> unmarshall(String body, boolean hasResultWrapper,
+                                                                        boolean streaming) {
+        SdkHttpFullResponse response = SdkHttpFullResponse.builder()
+                                                          .statusCode(200)
+                                                          .content(AbortableInputStream.create(new StringInputStream(body)))
+                                                          .build();
+        return QueryProtocolUnmarshaller.builder()
+                                        .hasResultWrapper(hasResultWrapper)
+                                        .streamingUnmarshalling(streaming)
+                                        .build()
+                                        .unmarshall(TestStructure.builder(), response);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.unmarshall;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.Trait;
+import software.amazon.awssdk.core.traits.XmlAttributeTrait;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * A minimal map backed POJO covering the shapes the XML unmarshallers support.
+ */
+public final class TestStructure implements SdkPojo {
+    private static final SdkField<String> STRING_MEMBER = field(MarshallingType.STRING, "stringMember");
+
+    private static final SdkField<Integer> INTEGER_MEMBER = field(MarshallingType.INTEGER, "integerMember");
+
+    private static final SdkField<Instant> TIMESTAMP_MEMBER = field(MarshallingType.INSTANT, "timestampMember");
+
+    private static final SdkField<String> ATTRIBUTE_MEMBER = field(MarshallingType.STRING, "xsi:type",
+                                                                   XmlAttributeTrait.create());
+
+    private static final SdkField<List<String>> LIST_MEMBER =
+        field(MarshallingType.LIST, "listMember",
+              ListTrait.builder()
+                       .memberLocationName("item")
+                       .memberFieldInfo(field(MarshallingType.STRING, "item"))
+                       .build());
+
+    private static final SdkField<List<String>> FLATTENED_LIST_MEMBER =
+        field(MarshallingType.LIST, "flattenedMember",
+              ListTrait.builder()
+                       .memberFieldInfo(field(MarshallingType.STRING, "flattenedMember"))
+                       .isFlattened(true)
+                       .build());
+
+    private static final SdkField<Map<String, String>> MAP_MEMBER =
+        field(MarshallingType.MAP, "mapMember",
+              MapTrait.builder()
+                      .keyLocationName("key")
+                      .valueLocationName("value")
+                      .valueFieldInfo(field(MarshallingType.STRING, "value"))
+                      .build());
+
+    private static final SdkField<TestStructure> NESTED_MEMBER =
+        SdkField.<TestStructure>builder(MarshallingType.SDK_POJO)
+                .memberName("nestedMember")
+                .constructor(TestStructure::builder)
+                .getter(getter("nestedMember"))
+                .setter(setter("nestedMember"))
+                .traits(LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName("nestedMember").build())
+                .build();
+
+    private static final List<SdkField<?>> SDK_FIELDS = Collections.unmodifiableList(
+        Arrays.asList(STRING_MEMBER, INTEGER_MEMBER, TIMESTAMP_MEMBER, ATTRIBUTE_MEMBER, LIST_MEMBER, FLATTENED_LIST_MEMBER,
+                      MAP_MEMBER, NESTED_MEMBER));
+
+    private final Map<String, Object> values;
+
+    private TestStructure(Builder builder) {
+        this.values = Collections.unmodifiableMap(new HashMap<>(builder.values));
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Object get(String memberName) {
+        return values.get(memberName);
+    }
+
+    @Override
+    public List<SdkField<?>> sdkFields() {
+        return SDK_FIELDS;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof TestStructure && values.equals(((TestStructure) o).values);
+    }
+
+    @Override
+    public int hashCode() {
+        return values.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("TestStructure").add("values", values).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> SdkField<T> field(MarshallingType<? super T> type, String locationName, Trait... extraTraits) {
+        Trait[] traits = Arrays.copyOf(extraTraits, extraTraits.length + 1);
+        traits[extraTraits.length] = LocationTrait.builder()
+                                                  .location(MarshallLocation.PAYLOAD)
+                                                  .locationName(locationName)
+                                                  .build();
+        return SdkField.<T>builder((MarshallingType<T>) type)
+                       .memberName(locationName)
+                       .getter(getter(locationName))
+                       .setter(setter(locationName))
+                       .traits(traits)
+                       .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Function<Object, T> getter(String memberName) {
+        return o -> (T) ((TestStructure) o).values.get(memberName);
+    }
+
+    private static <T> BiConsumer<Object, T> setter(String memberName) {
+        return (o, v) -> ((Builder) o).values.put(memberName, v);
+    }
+
+    public static final class Builder implements SdkPojo, Buildable {
+        private final Map<String, Object> values = new HashMap<>();
+
+        private Builder() {
+        }
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return SDK_FIELDS;
+        }
+
+        @Override
+        public TestStructure build() {
+            return new TestStructure(this);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.unmarshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import javax.xml.stream.XMLStreamReader;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.TimestampFormatTrait;
+import software.amazon.awssdk.protocols.core.StringToInstant;
+import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.utils.StringInputStream;
+
+public class XmlUnmarshallingParserTest {
+
+    private static final XmlUnmarshallingParser XML_PARSER = parserBuilder().unmarshallAttributes(true)
+                                                                             .matchListMemberNames(true)
+                                                                             .build();
+
+    private static final XmlUnmarshallingParser QUERY_PARSER = parserBuilder().build();
+
+    @Test
+    public void scalarMembers_ParsedCorrectly() {
+        TestStructure result = parse(XML_PARSER, "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                                                 + "<Struct>"
+                                                 + "  <stringMember>a &amp; <![CDATA[<b>]]></stringMember>"
+                                                 + "  <integerMember>42</integerMember>"
+                                                 + "  <timestampMember>2020-01-01T00:00:00Z</timestampMember>"
+                                                 + "  <unknownMember><stringMember>ignored</stringMember></unknownMember>"
+                                                 + "</Struct>");
+
+        assertThat(result.get("stringMember")).isEqualTo("a & <b>");
+        assertThat(result.get("integerMember")).isEqualTo(42);
+        assertThat(result.get("timestampMember")).isEqualTo(Instant.parse("2020-01-01T00:00:00Z"));
+    }
+
+    @Test
+    public void emptyElement_ParsedAsEmptyString() {
+        TestStructure result = parse(XML_PARSER, "<Struct><stringMember/></Struct>");
+        assertThat(result.get("stringMember")).isEqualTo("");
+    }
+
+    @Test
+    public void repeatedNonFlattenedMember_FirstOccurrenceWins() {
+        TestStructure result = parse(XML_PARSER, "<Struct>"
+                                                 + "<stringMember>first</stringMember>"
+                                                 + "<stringMember>second</stringMember>"
+                                                 + "</Struct>");
+        assertThat(result.get("stringMember")).isEqualTo("first");
+    }
+
+    @Test
+    public void listMembers_OnlyMatchingMemberNamesParsed_WhenMatchingEnabled() {
+        String xml = "<Struct>"
+                     + "<listMember><item>a</item><other>b</other><item>c</item></listMember>"
+                     + "</Struct>";
+
+        assertThat(parse(XML_PARSER, xml).get("listMember")).isEqualTo(Arrays.asList("a", "c"));
+        assertThat(parse(QUERY_PARSER, xml).get("listMember")).isEqualTo(Arrays.asList("a", "b", "c"));
+    }
+
+    @Test
+    public void flattenedListMembers_CollectedFromSiblings() {
+        TestStructure result = parse(XML_PARSER, "<Struct>"
+                                                 + "<flattenedMember>a</flattenedMember>"
+                                                 + "<stringMember>s</stringMember>"
+                                                 + "<flattenedMember>b</flattenedMember>"
+                                                 + "</Struct>");
+        assertThat(result.get("flattenedMember")).isEqualTo(Arrays.asList("a", "b"));
+        assertThat(result.get("stringMember")).isEqualTo("s");
+    }
+
+    @Test
+    public void mapMembers_ParsedCorrectly() {
+        TestStructure result = parse(XML_PARSER, "<Struct><mapMember>"
+                                                 + "<entry><key>k1</key><value>v1</value></entry>"
+                                                 + "<entry><value>v2</value><key>k2</key></entry>"
+                                                 + "</mapMember></Struct>");
+        Map<String, String> expected = new HashMap<>();
+        expected.put("k1", "v1");
+        expected.put("k2", "v2");
+        assertThat(result.get("mapMember")).isEqualTo(expected);
+    }
+
+    @Test
+    public void nestedStructureAndAttributes_ParsedCorrectly() {
+        String xml = "<Struct xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:type=\"outer\">"
+                     + "<nestedMember xsi:type=\"inner\"><stringMember>nested</stringMember></nestedMember>"
+                     + "</Struct>";
+
+        TestStructure result = parse(XML_PARSER, xml);
+        assertThat(result.get("xsi:type")).isEqualTo("outer");
+        TestStructure nested = (TestStructure) result.get("nestedMember");
+        assertThat(nested.get("xsi:type")).isEqualTo("inner");
+        assertThat(nested.get("stringMember")).isEqualTo("nested");
+
+        assertThat(parse(QUERY_PARSER, xml).get("xsi:type")).isNull();
+    }
+
+    @Test
+    public void emptyDocument_ReturnsEmptyPojo() {
+        assertThat(parse(XML_PARSER, "")).isEqualTo(TestStructure.builder().build());
+    }
+
+    @Test
+    public void malformedDocument_ThrowsSdkClientException() {
+        assertThatThrownBy(() -> parse(XML_PARSER, "<Struct><stringMember>value</Struct>"))
+            .isInstanceOf(SdkClientException.class);
+    }
+
+    @Test
+    public void readElement_MatchesDomParser() {
+        String xml = "<Error><Code>NoSuchKey</Code><Message>The key does not exist</Message></Error>";
+        XMLStreamReader reader = XmlUnmarshallingParser.createReader(new StringInputStream(xml));
+
+        XmlElement streamed = XmlUnmarshallingParser.readElement(reader);
+        XmlElement dom = XmlDomParser.parse(new StringInputStream(xml));
+
+        assertThat(streamed.elementName()).isEqualTo(dom.elementName());
+        assertThat(streamed.children()).hasSameSizeAs(dom.children());
+        assertThat(streamed.getElementByName("Code").textContent()).isEqualTo("NoSuchKey");
+        assertThat(streamed.getElementByName("Message").textContent())
+            .isEqualTo(dom.getElementByName("Message").textContent());
+    }
+
+    @Test
+    public void unboundChildren_HandedToHandler() {
+        XMLStreamReader reader = XmlUnmarshallingParser.createReader(
+            new StringInputStream("<Struct><requestId>1234</requestId><stringMember>s</stringMember></Struct>"));
+        StringBuilder requestId = new StringBuilder();
+
+        TestStructure result = (TestStructure) QUERY_PARSER.parseElement(
+            TestStructure.builder(), reader, r -> requestId.append(XmlUnmarshallingParser.readText(r)));
+
+        assertThat(requestId.toString()).isEqualTo("1234");
+        assertThat(result.get("stringMember")).isEqualTo("s");
+    }
+
+    private static TestStructure parse(XmlUnmarshallingParser parser, String xml) {
+        return (TestStructure) parser.parse(TestStructure.builder(), new StringInputStream(xml));
+    }
+
+    private static XmlUnmarshallingParser.Builder parserBuilder() {
+        return XmlUnmarshallingParser.builder()
+                                     .converter(MarshallingType.STRING, StringToValueConverter.TO_STRING)
+                                     .converter(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER)
+                                     .converter(MarshallingType.INSTANT, StringToInstant.create(
+                                         Collections.singletonMap(MarshallLocation.PAYLOAD,
+                                                                  TimestampFormatTrait.Format.ISO_8601)));
+    }
+}
@@ -25,6 +25,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.client.config.AwsAdvancedClientOption;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.ClientEndpointProvider;
 import software.amazon.awssdk.core.Response;
@@ -75,16 +76,22 @@ public class AwsXmlProtocolFactory {
         new OperationMetadataAttribute<>(String.class);
 
     private static final XmlProtocolUnmarshaller XML_PROTOCOL_UNMARSHALLER = XmlProtocolUnmarshaller.create();
+    private static final XmlProtocolUnmarshaller STREAMING_XML_PROTOCOL_UNMARSHALLER =
+        XmlProtocolUnmarshaller.createStreaming();
 
     private final List<ExceptionMetadata> modeledExceptions;
     private final Supplier<SdkPojo> defaultServiceExceptionSupplier;
     private final HttpResponseHandler<AwsServiceException> errorUnmarshaller;
     private final SdkClientConfiguration clientConfiguration;
+    private final boolean streamingUnmarshallingEnabled;
 
     AwsXmlProtocolFactory(Builder<?> builder) {
         this.modeledExceptions = unmodifiableList(builder.modeledExceptions);
         this.defaultServiceExceptionSupplier = builder.defaultServiceExceptionSupplier;
         this.clientConfiguration = builder.clientConfiguration;
+        this.streamingUnmarshallingEnabled =
+            clientConfiguration != null
+            && Boolean.TRUE.equals(clientConfiguration.option(AwsAdvancedClientOption.ENABLE_STREAMING_XML_UNMARSHALLING));
 
         this.errorUnmarshaller = timeUnmarshalling(
             AwsXmlErrorProtocolUnmarshaller.builder()
@@ -128,7 +135,7 @@ public class AwsXmlProtocolFactory {
         return timeUnmarshalling(
             new AwsXmlResponseHandler<>(
                 new XmlResponseHandler<>(
-                    XML_PROTOCOL_UNMARSHALLER, pojoSupplier,
+                    successResponseUnmarshaller(), pojoSupplier,
                     staxOperationMetadata.isHasStreamingSuccessResponse())));
     }
 
@@ -139,6 +146,18 @@ public class AwsXmlProtocolFactory {
             XML_PROTOCOL_UNMARSHALLER, r -> pojoSupplier.get());
     }
 
+    /**
+     * @return The unmarshaller to stream successful responses with, or null if streaming unmarshalling is not enabled via
+     * {@link AwsAdvancedClientOption#ENABLE_STREAMING_XML_UNMARSHALLING}.
+     */
+    XmlProtocolUnmarshaller streamingUnmarshaller() {
+        return streamingUnmarshallingEnabled ? STREAMING_XML_PROTOCOL_UNMARSHALLER : null;
+    }
+
+    private XmlProtocolUnmarshaller successResponseUnmarshaller() {
+        return streamingUnmarshallingEnabled ? STREAMING_XML_PROTOCOL_UNMARSHALLER : XML_PROTOCOL_UNMARSHALLER;
+    }
+
     protected Function<AwsXmlUnmarshallingContext, AwsServiceException> createErrorTransformer() {
         return AwsXmlErrorTransformer.builder()
                                      .defaultExceptionSupplier(defaultServiceExceptionSupplier)
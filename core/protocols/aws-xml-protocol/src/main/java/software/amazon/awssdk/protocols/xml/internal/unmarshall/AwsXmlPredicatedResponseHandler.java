@@ -29,6 +29,7 @@ import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.utils.Either;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.Logger;
 
@@ -48,6 +49,7 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
     private final Function<AwsXmlUnmarshallingContext, ? extends SdkException> errorResponseTransformer;
     private final Function<AwsXmlUnmarshallingContext, AwsXmlUnmarshallingContext> decorateContextWithError;
     private final boolean needsConnectionLeftOpen;
+    private final XmlProtocolUnmarshaller streamingUnmarshaller;
 
     /**
      * Standard constructor
@@ -63,12 +65,30 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
         Function<AwsXmlUnmarshallingContext, ? extends SdkException> errorResponseTransformer,
         Function<AwsXmlUnmarshallingContext, AwsXmlUnmarshallingContext> decorateContextWithError,
         boolean needsConnectionLeftOpen) {
+        this(pojoSupplier, successResponseTransformer, errorResponseTransformer, decorateContextWithError,
+             needsConnectionLeftOpen, null);
+    }
+
+    /**
+     * Constructor that additionally streams the body of successful responses into the response POJO instead of parsing it
+     * into an {@link XmlElement} tree first, when the response shape allows it.
+     * @param streamingUnmarshaller An unmarshaller created with {@link XmlProtocolUnmarshaller#createStreaming()}, or null to
+     *                              always parse the body into an {@link XmlElement} tree
+     */
+    public AwsXmlPredicatedResponseHandler(
+        Function<SdkHttpFullResponse, SdkPojo> pojoSupplier,
+        Function<AwsXmlUnmarshallingContext, OutputT> successResponseTransformer,
+        Function<AwsXmlUnmarshallingContext, ? extends SdkException> errorResponseTransformer,
+        Function<AwsXmlUnmarshallingContext, AwsXmlUnmarshallingContext> decorateContextWithError,
+        boolean needsConnectionLeftOpen,
+        XmlProtocolUnmarshaller streamingUnmarshaller) {
 
         this.pojoSupplier = pojoSupplier;
         this.successResponseTransformer = successResponseTransformer;
         this.errorResponseTransformer = errorResponseTransformer;
         this.decorateContextWithError = decorateContextWithError;
         this.needsConnectionLeftOpen = needsConnectionLeftOpen;
+        this.streamingUnmarshaller = streamingUnmarshaller;
     }
 
     /**
@@ -112,13 +132,32 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
 
     private AwsXmlUnmarshallingContext parseResponse(SdkHttpFullResponse httpFullResponse,
                                                      ExecutionAttributes executionAttributes) {
-        XmlElement document = XmlResponseParserUtils.parse(pojoSupplier.apply(httpFullResponse), httpFullResponse);
+        SdkPojo sdkPojo = pojoSupplier.apply(httpFullResponse);
+        AwsXmlUnmarshallingContext.Builder context = AwsXmlUnmarshallingContext.builder()
+                                                                               .executionAttributes(executionAttributes)
+                                                                               .sdkHttpFullResponse(httpFullResponse);
+
+        if (streamingUnmarshaller != null && httpFullResponse.isSuccessful()
+            && streamingUnmarshaller.supportsStreamingUnmarshalling(sdkPojo)) {
+            Either<SdkPojo, XmlElement> result = streamingUnmarshall(sdkPojo, httpFullResponse);
+            return result.map(response -> context.unmarshalledResponse(response).build(),
+                              error -> context.parsedXml(error).build());
+        }
+
+        XmlElement document = XmlResponseParserUtils.parse(sdkPojo, httpFullResponse);
+        return context.parsedXml(document).build();
+    }
 
-        return AwsXmlUnmarshallingContext.builder()
-                                         .parsedXml(document)
-                                         .executionAttributes(executionAttributes)
-                                         .sdkHttpFullResponse(httpFullResponse)
-                                         .build();
+    private Either<SdkPojo, XmlElement> streamingUnmarshall(SdkPojo sdkPojo, SdkHttpFullResponse httpFullResponse) {
+        try {
+            return streamingUnmarshaller.streamingUnmarshall(sdkPojo, httpFullResponse,
+                                                             DecorateErrorFromResponseBodyUnmarshaller
+                                                                 .ERROR_IN_SUCCESS_BODY_ELEMENT_NAME);
+        } catch (RetryableException e) {
+            throw e;
+        } catch (Exception e) {
+            throw unmarshallingFailure(e, httpFullResponse);
+        }
     }
 
     /**
@@ -133,18 +172,22 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
         } catch (RetryableException e) {
             throw e;
         } catch (Exception e) {
-            if (e instanceof SdkException && ((SdkException) e).retryable()) {
-                throw (SdkException) e;
-            }
-
-            String errorMessage =
-                    "Unable to unmarshall response (" + e.getMessage() + "). Response Code: "
-                    + parsedResponse.sdkHttpFullResponse().statusCode() + ", Response Text: "
-                    + parsedResponse.sdkHttpFullResponse().statusText().orElse(null);
-            throw SdkClientException.builder().message(errorMessage).cause(e).build();
+            throw unmarshallingFailure(e, parsedResponse.sdkHttpFullResponse());
         }
     }
 
+    private static SdkException unmarshallingFailure(Exception e, SdkHttpFullResponse httpResponse) {
+        if (e instanceof SdkException && ((SdkException) e).retryable()) {
+            return (SdkException) e;
+        }
+
+        String errorMessage =
+                "Unable to unmarshall response (" + e.getMessage() + "). Response Code: "
+                + httpResponse.statusCode() + ", Response Text: "
+                + httpResponse.statusText().orElse(null);
+        return SdkClientException.builder().message(errorMessage).cause(e).build();
+    }
+
     /**
      * Responsible for handling an error response, including unmarshalling the error response
      * into the most specific exception type possible, and throwing the exception.
@@ -50,15 +50,23 @@ public final class AwsXmlResponseTransformer<T extends AwsResponse>
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public T apply(AwsXmlUnmarshallingContext context) {
+        if (context.unmarshalledResponse() != null) {
+            return withResponseMetadata(context.sdkHttpFullResponse(), (T) context.unmarshalledResponse());
+        }
         return unmarshallResponse(context.sdkHttpFullResponse(), context.parsedRootXml());
     }
 
-    @SuppressWarnings("unchecked")
     private T unmarshallResponse(SdkHttpFullResponse response, XmlElement parsedXml) {
         SdkStandardLogger.REQUEST_LOGGER.trace(() -> "Unmarshalling parsed service response XML.");
         T result = unmarshaller.unmarshall(pojoSupplier.apply(response), parsedXml, response);
         SdkStandardLogger.REQUEST_LOGGER.trace(() -> "Done unmarshalling parsed service response.");
+        return withResponseMetadata(response, result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T withResponseMetadata(SdkHttpFullResponse response, T result) {
         AwsResponseMetadata responseMetadata = generateResponseMetadata(response);
         return (T) result.toBuilder().responseMetadata(responseMetadata).build();
     }
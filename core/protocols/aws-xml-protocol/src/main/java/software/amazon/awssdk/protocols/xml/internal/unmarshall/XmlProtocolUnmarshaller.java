@@ -40,7 +40,9 @@ import software.amazon.awssdk.protocols.core.StringToValueConverter;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlErrorUnmarshaller;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlUnmarshallingParser;
 import software.amazon.awssdk.utils.CollectionUtils;
+import software.amazon.awssdk.utils.Either;
 import software.amazon.awssdk.utils.builder.Buildable;
 
 @SdkInternalApi
@@ -50,18 +52,89 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
         = StringToInstant.create(getDefaultTimestampFormats());
     private static final XmlUnmarshallerRegistry REGISTRY = createUnmarshallerRegistry();
 
-    private XmlProtocolUnmarshaller() {
+    private final XmlUnmarshallingParser streamingParser;
+
+    private XmlProtocolUnmarshaller(XmlUnmarshallingParser streamingParser) {
+        this.streamingParser = streamingParser;
     }
 
     public static XmlProtocolUnmarshaller create() {
-        return new XmlProtocolUnmarshaller();
+        return new XmlProtocolUnmarshaller(null);
+    }
+
+    /**
+     * Creates an unmarshaller that, whenever the response shape allows it, streams the payload straight into the response
+     * POJO instead of parsing it into an {@link XmlElement} tree first.
+     */
+    public static XmlProtocolUnmarshaller createStreaming() {
+        return new XmlProtocolUnmarshaller(createStreamingParser());
     }
 
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo, SdkHttpFullResponse response) {
+        if (supportsStreamingUnmarshalling(sdkPojo)) {
+            return streamingUnmarshall(sdkPojo, response);
+        }
         XmlElement document = hasXmlPayload(sdkPojo, response) ? XmlResponseParserUtils.parse(sdkPojo, response) : null;
         return unmarshall(sdkPojo, document, response);
     }
 
+    /**
+     * @return True if this unmarshaller streams the payload of the given response shape. Shapes with an explicit payload
+     * member are always parsed into an {@link XmlElement} tree first.
+     */
+    public boolean supportsStreamingUnmarshalling(SdkPojo sdkPojo) {
+        return streamingParser != null && sdkPojo.sdkFields().stream().noneMatch(this::isExplicitPayloadMember);
+    }
+
+    /**
+     * Unmarshalls a successful response by streaming its payload straight into the POJO. If the root element of the payload
+     * is named {@code errorRootElementName}, as S3 returns for some errors with a successful status code, the POJO is left
+     * untouched and the parsed root element is returned instead so that it can be unmarshalled as an error.
+     *
+     * <p>Must only be called if {@link #supportsStreamingUnmarshalling(SdkPojo)} returns true for the given POJO.
+     */
+    public <TypeT extends SdkPojo> Either<TypeT, XmlElement> streamingUnmarshall(SdkPojo sdkPojo,
+                                                                                 SdkHttpFullResponse response,
+                                                                                 String errorRootElementName) {
+        unmarshallNonPayloadFields(sdkPojo, response);
+        if (!hasXmlPayload(sdkPojo, response)) {
+            return Either.left(build(sdkPojo));
+        }
+
+        return streamingParser.parse(sdkPojo, response.content().get(), errorRootElementName)
+                              .mapLeft(result -> (TypeT) result);
+    }
+
+    private <TypeT extends SdkPojo> TypeT streamingUnmarshall(SdkPojo sdkPojo, SdkHttpFullResponse response) {
+        unmarshallNonPayloadFields(sdkPojo, response);
+        if (!hasXmlPayload(sdkPojo, response)) {
+            return build(sdkPojo);
+        }
+
+        try {
+            return (TypeT) streamingParser.parse(sdkPojo, response.content().get());
+        } catch (RuntimeException e) {
+            if (response.isSuccessful()) {
+                throw e;
+            }
+            return build(sdkPojo);
+        }
+    }
+
+    private void unmarshallNonPayloadFields(SdkPojo sdkPojo, SdkHttpFullResponse response) {
+        XmlUnmarshallerContext context = XmlUnmarshallerContext.builder()
+                                                               .response(response)
+                                                               .registry(REGISTRY)
+                                                               .protocolUnmarshaller(this)
+                                                               .build();
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (field.location() != MarshallLocation.PAYLOAD) {
+                XmlUnmarshaller<Object> unmarshaller = REGISTRY.getUnmarshaller(field.location(), field.marshallingType());
+                field.set(sdkPojo, unmarshaller.unmarshall(context, null, (SdkField<Object>) field));
+            }
+        }
+    }
+
     /**
      * This method is also used to unmarshall exceptions. We use this since we've already parsed the XML
      * and the result root is in a different location depending on the protocol/service.
@@ -130,11 +203,15 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
             }
         }
 
+        return build(sdkPojo);
+    }
+
+    private static <TypeT extends SdkPojo> TypeT build(SdkPojo sdkPojo) {
         if (!(sdkPojo instanceof Buildable)) {
             throw new RuntimeException("The sdkPojo passed to the unmarshaller is not buildable (must implement "
                                        + "Buildable)");
         }
-        return (SdkPojo) ((Buildable) sdkPojo).build();
+        return (TypeT) ((Buildable) sdkPojo).build();
     }
 
     private void setExplicitStringPayload(XmlUnmarshaller<Object> unmarshaller, XmlUnmarshallerContext context,
@@ -213,6 +290,24 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
         return Collections.unmodifiableMap(formats);
     }
 
+    private static XmlUnmarshallingParser createStreamingParser() {
+        return XmlUnmarshallingParser
+            .builder()
+            .unmarshallAttributes(true)
+            .matchListMemberNames(true)
+            .converter(MarshallingType.STRING, StringToValueConverter.TO_STRING)
+            .converter(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER)
+            .converter(MarshallingType.LONG, StringToValueConverter.TO_LONG)
+            .converter(MarshallingType.SHORT, StringToValueConverter.TO_SHORT)
+            .converter(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT)
+            .converter(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE)
+            .converter(MarshallingType.BIG_DECIMAL, StringToValueConverter.TO_BIG_DECIMAL)
+            .converter(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN)
+            .converter(MarshallingType.INSTANT, INSTANT_STRING_TO_VALUE)
+            .converter(MarshallingType.SDK_BYTES, StringToValueConverter.TO_SDK_BYTES)
+            .build();
+    }
+
     private static XmlUnmarshallerRegistry createUnmarshallerRegistry() {
         return XmlUnmarshallerRegistry
             .builder()
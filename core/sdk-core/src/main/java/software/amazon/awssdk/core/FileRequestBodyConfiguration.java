@@ -19,13 +19,14 @@ import java.nio.file.Path;
 import java.util.Objects;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
 
 /**
- * Configuration options for {@link AsyncRequestBody#fromFile(FileRequestBodyConfiguration)} to configure how the SDK
- * should read the file.
+ * Configuration options for {@link AsyncRequestBody#fromFile(FileRequestBodyConfiguration)} and
+ * {@link RequestBody#fromFile(FileRequestBodyConfiguration)} to configure how the SDK should read the file.
  *
  * @see #builder()
  */
@@ -36,12 +37,14 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
     private final Long position;
     private final Long numBytesToRead;
     private final Path path;
+    private final Boolean memoryMapped;
 
     private FileRequestBodyConfiguration(DefaultBuilder builder) {
         this.path = Validate.notNull(builder.path, "path");
         this.chunkSizeInBytes = Validate.isPositiveOrNull(builder.chunkSizeInBytes, "chunkSizeInBytes");
         this.position = Validate.isNotNegativeOrNull(builder.position, "position");
         this.numBytesToRead = Validate.isNotNegativeOrNull(builder.numBytesToRead, "numBytesToRead");
+        this.memoryMapped = builder.memoryMapped;
     }
 
     /**
@@ -79,6 +82,13 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
         return path;
     }
 
+    /**
+     * @return whether the file is read through memory-mapped regions.
+     */
+    public Boolean memoryMapped() {
+        return memoryMapped;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -99,6 +109,9 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
         if (!Objects.equals(numBytesToRead, that.numBytesToRead)) {
             return false;
         }
+        if (!Objects.equals(memoryMapped, that.memoryMapped)) {
+            return false;
+        }
         return Objects.equals(path, that.path);
     }
 
@@ -108,6 +121,7 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
         result = 31 * result + (position != null ? position.hashCode() : 0);
         result = 31 * result + (numBytesToRead != null ? numBytesToRead.hashCode() : 0);
         result = 31 * result + (path != null ? path.hashCode() : 0);
+        result = 31 * result + (memoryMapped != null ? memoryMapped.hashCode() : 0);
         return result;
     }
 
@@ -157,6 +171,23 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
          * @return The builder for method chaining.
          */
         Builder numBytesToRead(Long numBytesToRead);
+
+        /**
+         * Sets whether the file should be read through memory-mapped regions instead of being copied into buffers.
+         *
+         * <p>When enabled, the content is served as read-only slices of {@link java.nio.MappedByteBuffer}s, so the file is
+         * never copied into the heap by the SDK: HTTP clients that write direct buffers to the socket, such as the Netty
+         * client, send the content straight from the page cache. The chunk size then only controls the size of the slices,
+         * and defaults to 1 MiB. This is most beneficial for large files on local storage, especially when TLS is disabled
+         * or offloaded. The file must not be truncated while it is being sent, and mapped regions are only unmapped once
+         * they are garbage collected.
+         *
+         * <p>By default, it's false.
+         *
+         * @param memoryMapped whether to memory-map the file
+         * @return The builder for method chaining.
+         */
+        Builder memoryMapped(Boolean memoryMapped);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -164,12 +195,14 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
         private Path path;
         private Integer chunkSizeInBytes;
         private Long numBytesToRead;
+        private Boolean memoryMapped;
 
         private DefaultBuilder(FileRequestBodyConfiguration configuration) {
             this.position = configuration.position;
             this.path = configuration.path;
             this.chunkSizeInBytes = configuration.chunkSizeInBytes;
             this.numBytesToRead = configuration.numBytesToRead;
+            this.memoryMapped = configuration.memoryMapped;
         }
 
         private DefaultBuilder() {
@@ -200,6 +233,12 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
             return this;
         }
 
+        @Override
+        public Builder memoryMapped(Boolean memoryMapped) {
+            this.memoryMapped = memoryMapped;
+            return this;
+        }
+
         @Override
         public FileRequestBodyConfiguration build() {
             return new FileRequestBodyConfiguration(this);
@@ -35,9 +35,11 @@ public final class SplittingTransformerConfiguration implements ToCopyableBuilde
     SplittingTransformerConfiguration> {
 
     private final Long bufferSizeInBytes;
+    private final Boolean parallelSplitEnabled;
 
     private SplittingTransformerConfiguration(DefaultBuilder builder) {
         this.bufferSizeInBytes = Validate.paramNotNull(builder.bufferSize, "bufferSize");
+        this.parallelSplitEnabled = builder.parallelSplitEnabled;
     }
 
     /**
@@ -54,6 +56,13 @@ public final class SplittingTransformerConfiguration implements ToCopyableBuilde
         return bufferSizeInBytes;
     }
 
+    /**
+     * @return whether a parallel split was requested
+     */
+    public boolean parallelSplitEnabled() {
+        return Boolean.TRUE.equals(parallelSplitEnabled);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -65,18 +74,24 @@ public final class SplittingTransformerConfiguration implements ToCopyableBuilde
 
         SplittingTransformerConfiguration that = (SplittingTransformerConfiguration) o;
 
-        return Objects.equals(bufferSizeInBytes, that.bufferSizeInBytes);
+        if (!Objects.equals(bufferSizeInBytes, that.bufferSizeInBytes)) {
+            return false;
+        }
+        return Objects.equals(parallelSplitEnabled, that.parallelSplitEnabled);
     }
 
     @Override
     public int hashCode() {
-        return bufferSizeInBytes != null ? bufferSizeInBytes.hashCode() : 0;
+        int result = bufferSizeInBytes != null ? bufferSizeInBytes.hashCode() : 0;
+        result = 31 * result + (parallelSplitEnabled != null ? parallelSplitEnabled.hashCode() : 0);
+        return result;
     }
 
     @Override
     public String toString() {
         return ToString.builder("SplittingTransformerConfiguration")
             .add("bufferSizeInBytes", bufferSizeInBytes)
+            .add("parallelSplitEnabled", parallelSplitEnabled)
             .build();
     }
 
@@ -94,13 +109,28 @@ public final class SplittingTransformerConfiguration implements ToCopyableBuilde
          * @return This object for method chaining.
          */
         Builder bufferSizeInBytes(Long bufferSize);
+
+        /**
+         * Requests a parallel split, if the {@link AsyncResponseTransformer} being split supports it. In a parallel split, the
+         * individual {@link AsyncResponseTransformer}s published may be used concurrently, each one receiving an arbitrary
+         * byte range of the content, identified by the {@code Content-Range} header of its response. Whether the split
+         * actually supports this is indicated by {@link AsyncResponseTransformer.SplitResult#parallelSplitSupported()}.
+         * <p>
+         * Default value: {@code false}
+         *
+         * @param parallelSplitEnabled whether a parallel split is requested
+         * @return This object for method chaining.
+         */
+        Builder parallelSplitEnabled(Boolean parallelSplitEnabled);
     }
 
     private static final class DefaultBuilder implements Builder {
         private Long bufferSize;
+        private Boolean parallelSplitEnabled;
 
         private DefaultBuilder(SplittingTransformerConfiguration configuration) {
             this.bufferSize = configuration.bufferSizeInBytes;
+            this.parallelSplitEnabled = configuration.parallelSplitEnabled;
         }
 
         private DefaultBuilder() {
@@ -112,6 +142,12 @@ public final class SplittingTransformerConfiguration implements ToCopyableBuilde
             return this;
         }
 
+        @Override
+        public Builder parallelSplitEnabled(Boolean parallelSplitEnabled) {
+            this.parallelSplitEnabled = parallelSplitEnabled;
+            return this;
+        }
+
         @Override
         public SplittingTransformerConfiguration build() {
             return new SplittingTransformerConfiguration(this);
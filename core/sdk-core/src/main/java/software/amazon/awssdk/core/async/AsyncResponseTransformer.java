@@ -335,6 +335,18 @@ public interface AsyncResponseTransformer<ResponseT, ResultT> {
          */
         CompletableFuture<ResultT> resultFuture();
 
+        /**
+         * Indicates whether the individual {@link AsyncResponseTransformer}s published by {@link #publisher()} may be used
+         * concurrently, each one receiving the byte range of the content identified by the {@code Content-Range} header of its
+         * response. When {@code false}, the individual transformers must be used one after the other, in content order.
+         *
+         * @return whether a parallel split is supported
+         * @see SplittingTransformerConfiguration.Builder#parallelSplitEnabled(Boolean)
+         */
+        default boolean parallelSplitSupported() {
+            return false;
+        }
+
         static <ResponseT, ResultT> Builder<ResponseT, ResultT> builder() {
             return DefaultAsyncResponseTransformerSplitResult.builder();
         }
@@ -367,6 +379,16 @@ public interface AsyncResponseTransformer<ResponseT, ResultT> {
              * @return an instance of this Builder
              */
             Builder<ResponseT, ResultT> resultFuture(CompletableFuture<ResultT> future);
+
+            /**
+             * Sets whether the individual {@link AsyncResponseTransformer}s support being used concurrently.
+             * @param parallelSplitSupported whether a parallel split is supported
+             * @return an instance of this Builder
+             * @see SplitResult#parallelSplitSupported()
+             */
+            default Builder<ResponseT, ResultT> parallelSplitSupported(boolean parallelSplitSupported) {
+                throw new UnsupportedOperationException();
+            }
         }
     }
 }
@@ -26,8 +26,10 @@ import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGUR
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGURED_RETRY_MODE;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGURED_RETRY_STRATEGY;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGURED_SCHEDULED_EXECUTOR_SERVICE;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.ENDPOINT_RESOLUTION_CACHE_SIZE;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.EXECUTION_ATTRIBUTES;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.EXECUTION_INTERCEPTORS;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.METRIC_COLLECTOR_FACTORY;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.METRIC_PUBLISHERS;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.PROFILE_FILE_SUPPLIER;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.PROFILE_NAME;
@@ -62,6 +64,8 @@ import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
 import software.amazon.awssdk.core.retry.RetryMode;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricCollectorFactory;
 import software.amazon.awssdk.metrics.MetricPublisher;
 import software.amazon.awssdk.profiles.ProfileFile;
 import software.amazon.awssdk.profiles.ProfileFileSupplier;
@@ -109,6 +113,8 @@ public final class ClientOverrideConfiguration
         options.add(ADDITIONAL_HTTP_HEADERS);
         options.add(EXECUTION_INTERCEPTORS);
         options.add(METRIC_PUBLISHERS);
+        options.add(METRIC_COLLECTOR_FACTORY);
+        options.add(ENDPOINT_RESOLUTION_CACHE_SIZE);
         options.add(EXECUTION_ATTRIBUTES);
         options.add(CONFIGURED_COMPRESSION_CONFIGURATION);
         options.add(CONFIGURED_SCHEDULED_EXECUTOR_SERVICE);
@@ -357,6 +363,24 @@ public final class ClientOverrideConfiguration
         return metricPublishers;
     }
 
+    /**
+     * The factory of the metric collector of each API call.
+     *
+     * @see Builder#metricCollectorFactory(MetricCollectorFactory)
+     */
+    public Optional<MetricCollectorFactory> metricCollectorFactory() {
+        return Optional.ofNullable(config.option(METRIC_COLLECTOR_FACTORY));
+    }
+
+    /**
+     * The maximum number of resolved endpoints cached by the client.
+     *
+     * @see Builder#endpointResolutionCacheSize(Integer)
+     */
+    public Optional<Integer> endpointResolutionCacheSize() {
+        return Optional.ofNullable(config.option(ENDPOINT_RESOLUTION_CACHE_SIZE));
+    }
+
     /**
      *  Returns the additional execution attributes to be added for this client.
      *
@@ -737,6 +761,37 @@ public final class ClientOverrideConfiguration
 
         List<MetricPublisher> metricPublishers();
 
+        /**
+         * Configure the factory of the {@link MetricCollector} used to collect the metrics of each API call. Use
+         * {@link MetricCollectorFactory#lockFree()} to reduce the contention and allocation caused by metric collection at high
+         * request rates.
+         *
+         * <p>If this is not set, {@link MetricCollectorFactory#defaultFactory()} is used.
+         *
+         * @param metricCollectorFactory The metric collector factory.
+         */
+        Builder metricCollectorFactory(MetricCollectorFactory metricCollectorFactory);
+
+        MetricCollectorFactory metricCollectorFactory();
+
+        /**
+         * Configure the maximum number of resolved endpoints cached by the client. Resolving an endpoint evaluates the
+         * service's endpoint rules, which is repeated work when many requests share the same endpoint parameters, such as the
+         * region and bucket. When the cache is enabled, the endpoint resolved for a set of parameters is reused by later
+         * requests with equal parameters, and whether each API call hit the cache is reported as
+         * {@link software.amazon.awssdk.core.metrics.CoreMetric#ENDPOINT_RESOLUTION_CACHE_HIT}.
+         *
+         * <p>The cache assumes the endpoint provider always resolves the same endpoint for equal parameters, which is true
+         * of the SDK's endpoint providers. It should not be enabled with a custom endpoint provider that does not.
+         *
+         * <p>By default, endpoints are not cached.
+         *
+         * @param endpointResolutionCacheSize The maximum number of cached endpoints, which must be positive.
+         */
+        Builder endpointResolutionCacheSize(Integer endpointResolutionCacheSize);
+
+        Integer endpointResolutionCacheSize();
+
         /**
          * Sets the additional execution attributes collection for this client.
          * @param executionAttributes Execution attributes map for this client.
@@ -1067,6 +1122,39 @@ public final class ClientOverrideConfiguration
             return Collections.unmodifiableList(metricPublishers == null ? emptyList() : metricPublishers);
         }
 
+        @Override
+        public Builder metricCollectorFactory(MetricCollectorFactory metricCollectorFactory) {
+            config.option(METRIC_COLLECTOR_FACTORY, metricCollectorFactory);
+            return this;
+        }
+
+        public void setMetricCollectorFactory(MetricCollectorFactory metricCollectorFactory) {
+            metricCollectorFactory(metricCollectorFactory);
+        }
+
+        @Override
+        public MetricCollectorFactory metricCollectorFactory() {
+            return config.option(METRIC_COLLECTOR_FACTORY);
+        }
+
+        @Override
+        public Builder endpointResolutionCacheSize(Integer endpointResolutionCacheSize) {
+            if (endpointResolutionCacheSize != null) {
+                Validate.isPositive(endpointResolutionCacheSize, "endpointResolutionCacheSize");
+            }
+            config.option(ENDPOINT_RESOLUTION_CACHE_SIZE, endpointResolutionCacheSize);
+            return this;
+        }
+
+        public void setEndpointResolutionCacheSize(Integer endpointResolutionCacheSize) {
+            endpointResolutionCacheSize(endpointResolutionCacheSize);
+        }
+
+        @Override
+        public Integer endpointResolutionCacheSize() {
+            return config.option(ENDPOINT_RESOLUTION_CACHE_SIZE);
+        }
+
         @Override
         public Builder executionAttributes(ExecutionAttributes executionAttributes) {
             Validate.paramNotNull(executionAttributes, "executionAttributes");
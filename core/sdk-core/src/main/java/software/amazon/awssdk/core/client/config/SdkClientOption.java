@@ -32,6 +32,7 @@ import software.amazon.awssdk.core.checksums.RequestChecksumCalculation;
 import software.amazon.awssdk.core.checksums.ResponseChecksumValidation;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.internal.endpoint.EndpointResolutionCache;
 import software.amazon.awssdk.core.internal.useragent.SdkClientUserAgentProperties;
 import software.amazon.awssdk.core.retry.RetryMode;
 import software.amazon.awssdk.core.retry.RetryPolicy;
@@ -42,6 +43,7 @@ import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.auth.spi.scheme.AuthScheme;
 import software.amazon.awssdk.http.auth.spi.scheme.AuthSchemeProvider;
 import software.amazon.awssdk.identity.spi.IdentityProviders;
+import software.amazon.awssdk.metrics.MetricCollectorFactory;
 import software.amazon.awssdk.metrics.MetricPublisher;
 import software.amazon.awssdk.profiles.ProfileFile;
 import software.amazon.awssdk.retries.api.RetryStrategy;
@@ -253,6 +255,23 @@ public final class SdkClientOption<T> extends ClientOption<T> {
     public static final SdkClientOption<List<MetricPublisher>> METRIC_PUBLISHERS =
             new SdkClientOption<>(new UnsafeValueType(List.class));
 
+    /**
+     * The factory of the metric collector of each API call.
+     */
+    public static final SdkClientOption<MetricCollectorFactory> METRIC_COLLECTOR_FACTORY =
+            new SdkClientOption<>(MetricCollectorFactory.class);
+
+    /**
+     * The maximum number of resolved endpoints the client caches. The cache is disabled when this is not set.
+     */
+    public static final SdkClientOption<Integer> ENDPOINT_RESOLUTION_CACHE_SIZE = new SdkClientOption<>(Integer.class);
+
+    /**
+     * The cache of resolved endpoints, created from {@link #ENDPOINT_RESOLUTION_CACHE_SIZE}.
+     */
+    public static final SdkClientOption<EndpointResolutionCache> ENDPOINT_RESOLUTION_CACHE =
+            new SdkClientOption<>(EndpointResolutionCache.class);
+
     /**
      * Option to specify if the default signer has been overridden on the client.
      */
@@ -13,22 +13,32 @@
  * permissions and limitations under the License.
  */
 
-package software.amazon.awssdk.core.internal.compression;
+package software.amazon.awssdk.core.compression;
 
 import java.io.InputStream;
 import java.nio.ByteBuffer;
-import software.amazon.awssdk.annotations.SdkInternalApi;
+import java.util.ServiceLoader;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.core.SdkBytes;
-import software.amazon.awssdk.core.internal.http.pipeline.stages.CompressRequestStage;
 
 /**
- * Interface for compressors used by {@link CompressRequestStage} to compress requests.
+ * Interface for compressors used to compress the requests of operations with the "requestCompression" trait.
+ *
+ * <p>The SDK includes a {@code gzip} compressor. Compressors for other algorithms can be registered through the
+ * {@link ServiceLoader} mechanism, by listing their implementation class in a
+ * {@code META-INF/services/software.amazon.awssdk.core.compression.Compressor} file on the classpath. A registered compressor
+ * is used for an operation when its {@link #compressorType()} is one of the encodings supported by the operation. The SDK
+ * compressors take precedence over registered compressors of the same type.
+ *
+ * <p>Implementations must be thread safe and have a public no-argument constructor.
  */
-@SdkInternalApi
+@SdkPublicApi
+@ThreadSafe
 public interface Compressor {
 
     /**
-     * The compression algorithm type.
+     * The compression algorithm type, as used in the {@code Content-Encoding} header of compressed requests.
      *
      * @return The {@link String} compression algorithm type.
      */
@@ -27,6 +27,7 @@ import software.amazon.awssdk.core.checksums.RequestChecksumCalculation;
 import software.amazon.awssdk.core.checksums.ResponseChecksumValidation;
 import software.amazon.awssdk.core.interceptor.trait.HttpChecksum;
 import software.amazon.awssdk.core.interceptor.trait.HttpChecksumRequired;
+import software.amazon.awssdk.core.internal.endpoint.EndpointResolutionCache;
 import software.amazon.awssdk.core.internal.interceptor.trait.RequestCompression;
 import software.amazon.awssdk.core.useragent.BusinessMetricCollection;
 import software.amazon.awssdk.endpoints.Endpoint;
@@ -100,6 +101,12 @@ public final class SdkInternalExecutionAttribute extends SdkExecutionAttribute {
     public static final ExecutionAttribute<EndpointProvider> ENDPOINT_PROVIDER =
         new ExecutionAttribute<>("EndpointProvider");
 
+    /**
+     * The cache of endpoints resolved by the {@link #ENDPOINT_PROVIDER}, if the client enables it.
+     */
+    public static final ExecutionAttribute<EndpointResolutionCache> ENDPOINT_RESOLUTION_CACHE =
+        new ExecutionAttribute<>("EndpointResolutionCache");
+
     /**
      * The resolved endpoint as computed by the client's configured {@link EndpointProvider}.
      */
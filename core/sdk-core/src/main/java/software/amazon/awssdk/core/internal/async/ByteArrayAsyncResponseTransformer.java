@@ -15,18 +15,18 @@
 
 package software.amazon.awssdk.core.internal.async;
 
-import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
+import static software.amazon.awssdk.http.Header.CONTENT_LENGTH;
 
-import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.SdkResponse;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
-import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.core.internal.io.ByteBufferCollectingOutputStream;
 
 /**
  * Implementation of {@link AsyncResponseTransformer} that dumps content into a byte array and supports further
@@ -47,7 +47,8 @@ public final class ByteArrayAsyncResponseTransformer<ResponseT> implements
     @Override
     public CompletableFuture<ResponseBytes<ResponseT>> prepare() {
         cf = new CompletableFuture<>();
-        return cf.thenApply(arr -> ResponseBytes.fromByteArray(response, arr));
+        // The array is only referenced by the subscriber, which is done writing to it once the future completes
+        return cf.thenApply(arr -> ResponseBytes.fromByteArrayUnsafe(response, arr));
     }
 
     @Override
@@ -57,7 +58,14 @@ public final class ByteArrayAsyncResponseTransformer<ResponseT> implements
 
     @Override
     public void onStream(SdkPublisher<ByteBuffer> publisher) {
-        publisher.subscribe(new BaosSubscriber(cf));
+        publisher.subscribe(new BaosSubscriber(cf, expectedContentLength(response)));
+    }
+
+    private static String expectedContentLength(Object response) {
+        if (!(response instanceof SdkResponse) || ((SdkResponse) response).sdkHttpResponse() == null) {
+            return null;
+        }
+        return ((SdkResponse) response).sdkHttpResponse().firstMatchingHeader(CONTENT_LENGTH).orElse(null);
     }
 
     @Override
@@ -68,12 +76,17 @@ public final class ByteArrayAsyncResponseTransformer<ResponseT> implements
     static class BaosSubscriber implements Subscriber<ByteBuffer> {
         private final CompletableFuture<byte[]> resultFuture;
 
-        private ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        private ByteBufferCollectingOutputStream baos;
 
         private Subscription subscription;
 
         BaosSubscriber(CompletableFuture<byte[]> resultFuture) {
+            this(resultFuture, null);
+        }
+
+        BaosSubscriber(CompletableFuture<byte[]> resultFuture, String contentLength) {
             this.resultFuture = resultFuture;
+            this.baos = ByteBufferCollectingOutputStream.forContentLength(contentLength);
         }
 
         @Override
@@ -88,7 +101,7 @@ public final class ByteArrayAsyncResponseTransformer<ResponseT> implements
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
-            invokeSafely(() -> baos.write(BinaryUtils.copyBytesFrom(byteBuffer)));
+            baos.write(byteBuffer);
             subscription.request(1);
         }
 
@@ -100,7 +113,7 @@ public final class ByteArrayAsyncResponseTransformer<ResponseT> implements
 
         @Override
         public void onComplete() {
-            resultFuture.complete(baos.toByteArray());
+            resultFuture.complete(baos.toByteArrayUnsafe());
         }
     }
 }
@@ -27,6 +27,8 @@ import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.FileTime;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 import org.reactivestreams.Subscriber;
@@ -35,11 +37,13 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncRequestBodySplitConfiguration;
 import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.internal.util.MappedFileUtils;
 import software.amazon.awssdk.core.internal.util.Mimetype;
 import software.amazon.awssdk.core.internal.util.NoopSubscription;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.NumericUtils;
 import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.async.IterablePublisher;
 import software.amazon.awssdk.utils.builder.SdkBuilder;
 
 /**
@@ -57,6 +61,12 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
      */
     private static final int DEFAULT_CHUNK_SIZE = 16 * 1024;
 
+    /**
+     * Default size (in bytes) of the slices of the mapped file delivered to the subscriber when the file is memory-mapped.
+     * Slices are not copied, so they can be larger than the chunks read into heap buffers.
+     */
+    private static final int DEFAULT_MAPPED_CHUNK_SIZE = 1024 * 1024;
+
     /**
      * File to read.
      */
@@ -70,10 +80,13 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
     private final int chunkSizeInBytes;
     private final long position;
     private final long numBytesToRead;
+    private final boolean memoryMapped;
 
     private FileAsyncRequestBody(DefaultBuilder builder) {
         this.path = builder.path;
-        this.chunkSizeInBytes = builder.chunkSizeInBytes == null ? DEFAULT_CHUNK_SIZE : builder.chunkSizeInBytes;
+        this.memoryMapped = Boolean.TRUE.equals(builder.memoryMapped);
+        this.chunkSizeInBytes = builder.chunkSizeInBytes != null ? builder.chunkSizeInBytes
+                                                                 : memoryMapped ? DEFAULT_MAPPED_CHUNK_SIZE : DEFAULT_CHUNK_SIZE;
         this.fileLength = invokeSafely(() -> Files.size(path));
         this.position = builder.position == null ? 0 : Validate.isNotNegative(builder.position, "position");
         this.numBytesToRead = builder.numBytesToRead == null ? fileLength - this.position :
@@ -106,6 +119,10 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         return numBytesToRead;
     }
 
+    public boolean memoryMapped() {
+        return memoryMapped;
+    }
+
     @Override
     public Optional<Long> contentLength() {
         return Optional.of(numBytesToRead);
@@ -118,6 +135,11 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
 
     @Override
     public void subscribe(Subscriber<? super ByteBuffer> s) {
+        if (memoryMapped) {
+            subscribeMapped(s);
+            return;
+        }
+
         AsynchronousFileChannel channel = null;
         try {
             channel = openInputChannel(this.path);
@@ -141,6 +163,18 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         }
     }
 
+    private void subscribeMapped(Subscriber<? super ByteBuffer> s) {
+        MappedRegionIterator regions;
+        try {
+            regions = new MappedRegionIterator();
+        } catch (IOException | RuntimeException e) {
+            s.onSubscribe(new NoopSubscription(s));
+            s.onError(e);
+            return;
+        }
+        new IterablePublisher<>(() -> regions).subscribe(s);
+    }
+
     /**
      * @return Builder instance to construct a {@link FileAsyncRequestBody}.
      */
@@ -192,6 +226,17 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
          * @return The builder for method chaining.
          */
         Builder numBytesToRead(Long numBytesToRead);
+
+        /**
+         * Sets whether the file is read through memory-mapped regions, delivering read-only slices of the mapped regions to
+         * the subscriber instead of copies of the file content.
+         *
+         * <p>By default, it's false.
+         *
+         * @param memoryMapped whether to memory-map the file
+         * @return The builder for method chaining.
+         */
+        Builder memoryMapped(Boolean memoryMapped);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -200,6 +245,7 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         private Path path;
         private Integer chunkSizeInBytes;
         private Long numBytesToRead;
+        private Boolean memoryMapped;
 
         @Override
         public Builder path(Path path) {
@@ -229,6 +275,12 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
             return this;
         }
 
+        @Override
+        public Builder memoryMapped(Boolean memoryMapped) {
+            this.memoryMapped = memoryMapped;
+            return this;
+        }
+
         public void setChunkSizeInBytes(Integer chunkSizeInBytes) {
             chunkSizeInBytes(chunkSizeInBytes);
         }
@@ -428,6 +480,64 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         }
     }
 
+    /**
+     * Slices the file into chunks, mapping one region of the file at a time as the chunks are requested. The chunks are not
+     * copied: they share the mapped memory, which is backed by the page cache.
+     */
+    private final class MappedRegionIterator implements Iterator<ByteBuffer> {
+        private final long endPosition = position + numBytesToRead;
+        private final long sizeAtStart;
+        private final FileTime modifiedTimeAtStart;
+        private long nextRegionPosition = position;
+        private ByteBuffer region;
+
+        private MappedRegionIterator() throws IOException {
+            this.sizeAtStart = Files.size(path);
+            this.modifiedTimeAtStart = Files.getLastModifiedTime(path);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if ((region != null && region.hasRemaining()) || nextRegionPosition < endPosition) {
+                return true;
+            }
+            // Same checks as the non-mapped subscription once the file has been read, surfaced through the publisher
+            validateFileUnchanged();
+            return false;
+        }
+
+        @Override
+        public ByteBuffer next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (region == null || !region.hasRemaining()) {
+                region = invokeSafely(() -> MappedFileUtils.mapRegion(path, nextRegionPosition, endPosition));
+                nextRegionPosition += region.remaining();
+            }
+            ByteBuffer chunk = region.duplicate();
+            chunk.limit(chunk.position() + Math.min(chunkSizeInBytes, chunk.remaining()));
+            region.position(chunk.limit());
+            return chunk.slice();
+        }
+
+        private void validateFileUnchanged() {
+            invokeSafely(() -> {
+                long sizeAtEnd = Files.size(path);
+                if (sizeAtStart != sizeAtEnd) {
+                    throw new IOException("File size changed after reading started. Initial size: " + sizeAtStart + ". "
+                                          + "Current size: " + sizeAtEnd);
+                }
+                FileTime modifiedTimeAtEnd = Files.getLastModifiedTime(path);
+                if (modifiedTimeAtStart.compareTo(modifiedTimeAtEnd) != 0) {
+                    throw new IOException("File last-modified time changed after reading started. Initial modification "
+                                          + "time: " + modifiedTimeAtStart + ". Current modification time: "
+                                          + modifiedTimeAtEnd);
+                }
+            });
+        }
+    }
+
     private static AsynchronousFileChannel openInputChannel(Path path) throws IOException {
         return AsynchronousFileChannel.open(path, StandardOpenOption.READ);
     }
@@ -45,6 +45,7 @@ public final class FileAsyncRequestBodySplitHelper {
 
     private final long totalContentLength;
     private final Path path;
+    private final boolean memoryMapped;
     private final int bufferPerAsyncRequestBody;
     private final long totalBufferSize;
     private final long chunkSize;
@@ -62,6 +63,7 @@ public final class FileAsyncRequestBodySplitHelper {
         this.totalContentLength = asyncRequestBody.contentLength().get();
         this.remainingBytes = new AtomicLong(totalContentLength);
         this.path = asyncRequestBody.path();
+        this.memoryMapped = asyncRequestBody.memoryMapped();
         this.chunkSize = splitConfiguration.chunkSizeInBytes() == null ?
                          AsyncRequestBodySplitConfiguration.defaultConfiguration().chunkSizeInBytes() :
                          splitConfiguration.chunkSizeInBytes();
@@ -134,6 +136,7 @@ public final class FileAsyncRequestBodySplitHelper {
                                                                         .position(position)
                                                                         .numBytesToRead(numBytesToReadForThisChunk)
                                                                         .chunkSizeInBytes(bufferPerAsyncRequestBody)
+                                                                        .memoryMapped(memoryMapped)
                                                                         .build();
         return new FileAsyncRequestBodyWrapper(fileAsyncRequestBody, simplePublisher);
     }
@@ -150,6 +153,21 @@ public final class FileAsyncRequestBodySplitHelper {
         return currentUsedBuffer + bufferPerAsyncRequestBody <= totalBufferSize;
     }
 
+    /**
+     * Returns the {@link FileAsyncRequestBody} reading the region of the file the given body covers, if the body is a
+     * {@link FileAsyncRequestBody} or was split from one by this helper.
+     */
+    public static Optional<FileAsyncRequestBody> fileRegion(AsyncRequestBody asyncRequestBody) {
+        if (asyncRequestBody instanceof FileAsyncRequestBody) {
+            return Optional.of((FileAsyncRequestBody) asyncRequestBody);
+        }
+        if (asyncRequestBody instanceof FileAsyncRequestBodySplitHelper.FileAsyncRequestBodyWrapper) {
+            return Optional.of(((FileAsyncRequestBodySplitHelper.FileAsyncRequestBodyWrapper) asyncRequestBody)
+                                   .fileAsyncRequestBody);
+        }
+        return Optional.empty();
+    }
+
     @SdkTestInternalApi
     AtomicInteger numAsyncRequestBodiesInFlight() {
         return numAsyncRequestBodiesInFlight;
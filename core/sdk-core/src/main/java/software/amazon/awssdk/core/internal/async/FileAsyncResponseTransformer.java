@@ -41,11 +41,13 @@ import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.FileTransformerConfiguration;
 import software.amazon.awssdk.core.FileTransformerConfiguration.FailureBehavior;
+import software.amazon.awssdk.core.SplittingTransformerConfiguration;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.async.BorrowedByteBuffers;
 
 /**
  * {@link AsyncResponseTransformer} that writes the data to the specified file.
@@ -92,7 +94,7 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
         return  0L;
     }
 
-    private AsynchronousFileChannel createChannel(Path path) throws IOException {
+    private AsynchronousFileChannel createChannel() throws IOException {
         Set<OpenOption> options = new HashSet<>();
         switch (configuration.fileWriteOption()) {
             case CREATE_OR_APPEND_TO_EXISTING:
@@ -138,7 +140,7 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
     public void onStream(SdkPublisher<ByteBuffer> publisher) {
         try {
             // onStream may be called multiple times so reset the file channel every time
-            this.fileChannel = createChannel(path);
+            this.fileChannel = createChannel();
             publisher.subscribe(new FileSubscriber(this.fileChannel, path, cf, this::exceptionOccurred,
                                                    position));
         } catch (Throwable e) {
@@ -146,6 +148,27 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
         }
     }
 
+    /**
+     * When a {@link SplittingTransformerConfiguration#parallelSplitEnabled() parallel split} is requested, returns a split whose
+     * individual transformers write the content they receive directly at its offset in the file, so they can be used
+     * concurrently. Otherwise, falls back to the default split.
+     */
+    @Override
+    public SplitResult<ResponseT, ResponseT> split(SplittingTransformerConfiguration splitConfig) {
+        Validate.notNull(splitConfig, "splitConfig must not be null");
+        if (!splitConfig.parallelSplitEnabled()) {
+            return AsyncResponseTransformer.super.split(splitConfig);
+        }
+        CompletableFuture<ResponseT> future = new CompletableFuture<>();
+        FileAsyncResponseTransformerPublisher<ResponseT> publisher =
+            new FileAsyncResponseTransformerPublisher<>(path, configuration, position, this::createChannel, future);
+        return SplitResult.<ResponseT, ResponseT>builder()
+                          .publisher(publisher)
+                          .resultFuture(future)
+                          .parallelSplitSupported(true)
+                          .build();
+    }
+
     @Override
     public void exceptionOccurred(Throwable throwable) {
         try {
@@ -179,12 +202,20 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
         private final CompletableFuture<Void> future;
         private final Consumer<Throwable> onErrorMethod;
 
+        private final boolean closeChannelOnComplete;
+
         private volatile boolean writeInProgress = false;
         private volatile boolean closeOnLastWrite = false;
         private Subscription subscription;
 
         FileSubscriber(AsynchronousFileChannel fileChannel, Path path, CompletableFuture<Void> future,
                        Consumer<Throwable> onErrorMethod, long startingPosition) {
+            this(fileChannel, path, future, onErrorMethod, startingPosition, true);
+        }
+
+        FileSubscriber(AsynchronousFileChannel fileChannel, Path path, CompletableFuture<Void> future,
+                       Consumer<Throwable> onErrorMethod, long startingPosition, boolean closeChannelOnComplete) {
+            this.closeChannelOnComplete = closeChannelOnComplete;
             this.fileChannel = fileChannel;
             this.path = path;
             this.future = future;
@@ -209,10 +240,11 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
                 throw new NullPointerException("Element must not be null");
             }
 
-            performWrite(byteBuffer);
+            // The buffer may be borrowed from the HTTP client, keep it until it is fully written
+            performWrite(byteBuffer, BorrowedByteBuffers.retain());
         }
 
-        private void performWrite(ByteBuffer byteBuffer) {
+        private void performWrite(ByteBuffer byteBuffer, Runnable releaseBuffer) {
             writeInProgress = true;
 
             fileChannel.write(byteBuffer, position.get(), byteBuffer, new CompletionHandler<Integer, ByteBuffer>() {
@@ -221,8 +253,9 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
                     position.addAndGet(result);
 
                     if (byteBuffer.hasRemaining()) {
-                        performWrite(byteBuffer);
+                        performWrite(byteBuffer, releaseBuffer);
                     } else {
+                        releaseBuffer.run();
                         synchronized (FileSubscriber.this) {
                             writeInProgress = false;
                             if (closeOnLastWrite) {
@@ -236,6 +269,7 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
 
                 @Override
                 public void failed(Throwable exc, ByteBuffer attachment) {
+                    releaseBuffer.run();
                     subscription.cancel();
                     future.completeExceptionally(exc);
                 }
@@ -264,7 +298,7 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
 
         private void close() {
             try {
-                if (fileChannel != null) {
+                if (fileChannel != null && closeChannelOnComplete) {
                     invokeSafely(fileChannel::close);
                 }
                 log.trace(() -> "Completing File async transformer future future");
@@ -0,0 +1,286 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import static software.amazon.awssdk.utils.FunctionalUtils.runAndLogError;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.FileTransformerConfiguration;
+import software.amazon.awssdk.core.FileTransformerConfiguration.FailureBehavior;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.internal.util.NoopSubscription;
+import software.amazon.awssdk.utils.FunctionalUtils.UnsafeSupplier;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Publisher of the individual {@link AsyncResponseTransformer}s of a parallel split of a {@link FileAsyncResponseTransformer}.
+ * Each individual transformer writes the content it receives directly at its offset in the file, as indicated by the
+ * {@code Content-Range} header of its response, so the individual transformers can be used concurrently. All of them share a
+ * single {@link AsynchronousFileChannel}, opened when the first one receives its content.
+ * <p>
+ * Cancelling the subscription to this publisher signals that no more individual transformers are needed. The result future
+ * completes, with the response of the transformer that received the start of the content, once all individual transformers
+ * published so far have completed. It completes exceptionally as soon as one of them fails.
+ */
+@SdkInternalApi
+public final class FileAsyncResponseTransformerPublisher<ResponseT>
+    implements SdkPublisher<AsyncResponseTransformer<ResponseT, ResponseT>> {
+
+    private static final Logger log = Logger.loggerFor(FileAsyncResponseTransformerPublisher.class);
+    private static final String CONTENT_RANGE_HEADER = "Content-Range";
+
+    private final Path path;
+    private final FileTransformerConfiguration configuration;
+    private final long basePosition;
+    private final UnsafeSupplier<AsynchronousFileChannel> channelSupplier;
+    private final CompletableFuture<ResponseT> resultFuture;
+
+    /**
+     * The futures of all the individual transformers published so far, guarded by {@code this}.
+     */
+    private final List<CompletableFuture<Void>> partFutures = new ArrayList<>();
+
+    /**
+     * The response of the individual transformer that received the start of the content.
+     */
+    private final AtomicReference<ResponseT> initialResponse = new AtomicReference<>();
+
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicInteger drainWip = new AtomicInteger();
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    private final AtomicBoolean failed = new AtomicBoolean();
+
+    private volatile Subscriber<? super AsyncResponseTransformer<ResponseT, ResponseT>> subscriber;
+    private AsynchronousFileChannel fileChannel;
+
+    FileAsyncResponseTransformerPublisher(Path path,
+                                          FileTransformerConfiguration configuration,
+                                          long basePosition,
+                                          UnsafeSupplier<AsynchronousFileChannel> channelSupplier,
+                                          CompletableFuture<ResponseT> resultFuture) {
+        this.path = Validate.paramNotNull(path, "path");
+        this.configuration = Validate.paramNotNull(configuration, "configuration");
+        this.basePosition = basePosition;
+        this.channelSupplier = Validate.paramNotNull(channelSupplier, "channelSupplier");
+        this.resultFuture = Validate.paramNotNull(resultFuture, "resultFuture");
+        this.resultFuture.whenComplete((r, e) -> {
+            if (e != null) {
+                handleFailure(e);
+            }
+        });
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super AsyncResponseTransformer<ResponseT, ResponseT>> s) {
+        if (!subscribed.compareAndSet(false, true)) {
+            s.onSubscribe(new NoopSubscription(s));
+            s.onError(new IllegalStateException("This publisher only supports one subscriber"));
+            return;
+        }
+        this.subscriber = s;
+        s.onSubscribe(new PartSubscription());
+    }
+
+    private void drain() {
+        if (drainWip.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            while (demand.get() > 0 && !cancelled.get() && !resultFuture.isDone()) {
+                demand.decrementAndGet();
+                subscriber.onNext(newPartTransformer());
+            }
+        } while (drainWip.decrementAndGet() != 0);
+    }
+
+    private synchronized IndividualTransformer newPartTransformer() {
+        IndividualTransformer transformer = new IndividualTransformer();
+        partFutures.add(transformer.partFuture);
+        return transformer;
+    }
+
+    private void handleCancel() {
+        CompletableFuture<?>[] futures;
+        synchronized (this) {
+            futures = partFutures.toArray(new CompletableFuture<?>[0]);
+        }
+        CompletableFuture.allOf(futures).whenComplete((r, e) -> {
+            if (e != null) {
+                resultFuture.completeExceptionally(e);
+                return;
+            }
+            closeChannel();
+            log.trace(() -> String.format("All %d parts written to %s", futures.length, path));
+            resultFuture.complete(initialResponse.get());
+        });
+    }
+
+    private void handleFailure(Throwable t) {
+        resultFuture.completeExceptionally(t);
+        if (!failed.compareAndSet(false, true)) {
+            return;
+        }
+        closeChannel();
+        if (configuration.failureBehavior() == FailureBehavior.DELETE) {
+            runAndLogError(log.logger(),
+                           String.format("Failed to delete the file %s", path),
+                           () -> Files.deleteIfExists(path));
+        }
+        Subscriber<? super AsyncResponseTransformer<ResponseT, ResponseT>> s = subscriber;
+        if (s != null && cancelled.compareAndSet(false, true)) {
+            s.onError(t);
+        }
+    }
+
+    private synchronized AsynchronousFileChannel channel() throws Exception {
+        if (resultFuture.isDone()) {
+            throw SdkClientException.create("The file " + path + " is no longer being written to");
+        }
+        if (fileChannel == null) {
+            fileChannel = channelSupplier.get();
+        }
+        return fileChannel;
+    }
+
+    private synchronized void closeChannel() {
+        if (fileChannel != null) {
+            AsynchronousFileChannel channel = fileChannel;
+            runAndLogError(log.logger(),
+                           String.format("Failed to close the file %s, resource may be leaked", path),
+                           channel::close);
+        }
+    }
+
+    /**
+     * Parses the start offset of the content from the {@code Content-Range} header of the response, which is expected to be of
+     * the form {@code bytes <start>-<end>/<total>}. A response without such header contains the content from its start.
+     */
+    static long contentStartOffset(Object response) {
+        if (!(response instanceof SdkResponse) || ((SdkResponse) response).sdkHttpResponse() == null) {
+            return 0L;
+        }
+        Optional<String> contentRange = ((SdkResponse) response).sdkHttpResponse().firstMatchingHeader(CONTENT_RANGE_HEADER);
+        if (!contentRange.isPresent()) {
+            return 0L;
+        }
+        String value = contentRange.get().trim();
+        int unitEnd = value.indexOf(' ');
+        int rangeEnd = value.indexOf('-', unitEnd + 1);
+        if (unitEnd < 0 || rangeEnd < 0) {
+            throw SdkClientException.create("Unable to parse " + CONTENT_RANGE_HEADER + " header: " + value);
+        }
+        try {
+            return Long.parseLong(value.substring(unitEnd + 1, rangeEnd).trim());
+        } catch (NumberFormatException e) {
+            throw SdkClientException.create("Unable to parse " + CONTENT_RANGE_HEADER + " header: " + value, e);
+        }
+    }
+
+    private final class PartSubscription implements Subscription {
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                handleFailure(new IllegalArgumentException("Amount requested must be positive"));
+                return;
+            }
+            demand.getAndUpdate(current -> Long.MAX_VALUE - current < n ? Long.MAX_VALUE : current + n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled.compareAndSet(false, true)) {
+                handleCancel();
+            }
+        }
+    }
+
+    /**
+     * Writes the content it receives at the offset indicated by its response.
+     */
+    private final class IndividualTransformer implements AsyncResponseTransformer<ResponseT, ResponseT> {
+        private final CompletableFuture<Void> partFuture = new CompletableFuture<>();
+        private volatile ResponseT response;
+        private volatile long position;
+        private volatile CompletableFuture<Void> attemptFuture;
+
+        @Override
+        public CompletableFuture<ResponseT> prepare() {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            this.attemptFuture = future;
+            future.whenComplete((r, e) -> {
+                if (e == null) {
+                    partFuture.complete(null);
+                } else {
+                    partFuture.completeExceptionally(e);
+                    handleFailure(e);
+                }
+            });
+            return future.thenApply(ignored -> response);
+        }
+
+        @Override
+        public void onResponse(ResponseT response) {
+            this.response = response;
+            long offset = contentStartOffset(response);
+            this.position = basePosition + offset;
+            if (offset == 0) {
+                initialResponse.compareAndSet(null, response);
+            }
+        }
+
+        @Override
+        public void onStream(SdkPublisher<ByteBuffer> publisher) {
+            try {
+                publisher.subscribe(new FileAsyncResponseTransformer.FileSubscriber(channel(), path, attemptFuture,
+                                                                                     this::exceptionOccurred, position,
+                                                                                     false));
+            } catch (Throwable e) {
+                exceptionOccurred(e);
+            }
+        }
+
+        @Override
+        public void exceptionOccurred(Throwable error) {
+            CompletableFuture<Void> future = attemptFuture;
+            if (future != null) {
+                future.completeExceptionally(error);
+            } else {
+                partFuture.completeExceptionally(error);
+                handleFailure(error);
+            }
+        }
+    }
+}
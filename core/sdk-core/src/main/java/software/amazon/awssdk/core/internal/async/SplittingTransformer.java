@@ -28,6 +28,7 @@ import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.async.BorrowedByteBuffers;
 import software.amazon.awssdk.utils.async.DelegatingBufferingSubscriber;
 import software.amazon.awssdk.utils.async.SimplePublisher;
 
@@ -354,7 +355,7 @@ public class SplittingTransformer<ResponseT, ResultT> implements SdkPublisher<As
             if (byteBuffer == null) {
                 throw new NullPointerException("onNext must not be called with null byteBuffer");
             }
-            publisherToUpstream.send(byteBuffer).whenComplete((r, t) -> {
+            publisherToUpstream.send(BorrowedByteBuffers.copyIfBorrowed(byteBuffer)).whenComplete((r, t) -> {
                 if (t != null) {
                     handleError(t);
                     return;
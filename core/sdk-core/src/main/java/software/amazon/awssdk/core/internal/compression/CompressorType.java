@@ -15,26 +15,37 @@
 
 package software.amazon.awssdk.core.internal.compression;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.compression.Compressor;
+import software.amazon.awssdk.utils.ClassLoaderHelper;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.awssdk.utils.Validate;
 
 /**
  * The supported compression algorithms for operations with the requestCompression trait. Each supported algorithm will have an
  * {@link Compressor} implementation.
+ * <p>
+ * In addition to the compressors built into the SDK, {@link Compressor} implementations registered through
+ * {@link ServiceLoader} are supported, which allows algorithms such as zstd to be added without an SDK dependency on them.
+ * Built-in compressors take precedence over discovered compressors of the same type.
  */
 @SdkInternalApi
 public final class CompressorType {
-
     public static final CompressorType GZIP = CompressorType.of("gzip");
 
-    private static Map<String, Compressor> compressorMap = new HashMap<String, Compressor>() {{
-            put("gzip", new GzipCompressor());
-        }};
+    private static final Logger log = Logger.loggerFor(CompressorType.class);
+
+    private static Map<String, Compressor> compressorMap = loadCompressors();
 
     private final String id;
 
@@ -102,6 +113,33 @@ public final class CompressorType {
         return result;
     }
 
+    private static Map<String, Compressor> loadCompressors() {
+        Map<String, Compressor> compressors = new HashMap<>();
+        Compressor gzip = new GzipCompressor();
+        compressors.put(gzip.compressorType(), gzip);
+
+        try {
+            Iterator<Compressor> discovered =
+                ServiceLoader.load(Compressor.class, ClassLoaderHelper.classLoader(CompressorType.class)).iterator();
+            while (discovered.hasNext()) {
+                Compressor compressor = discovered.next();
+                String type = StringUtils.lowerCase(compressor.compressorType());
+                if (StringUtils.isBlank(type)) {
+                    log.warn(() -> "Ignoring compressor " + compressor.getClass().getName() + " with a blank compressor type.");
+                    continue;
+                }
+                if (compressors.putIfAbsent(type, compressor) != null) {
+                    log.debug(() -> "Ignoring compressor " + compressor.getClass().getName() + " because a compressor of type "
+                                    + type + " is already registered.");
+                }
+            }
+        } catch (ServiceConfigurationError e) {
+            log.warn(() -> "Failed to load request compressors registered through the ServiceLoader.", e);
+        }
+
+        return Collections.unmodifiableMap(compressors);
+    }
+
     private static class CompressorTypeCache {
         private static final ConcurrentHashMap<String, CompressorType> VALUES = new ConcurrentHashMap<>();
 
@@ -0,0 +1,56 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.compression;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Deflater;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * A bounded pool of {@link Deflater}s producing raw deflate data, so that compressing a request does not allocate a new
+ * {@link Deflater} and its native state. Deflaters are created on demand when the pool is empty, and released deflaters
+ * that don't fit in the pool are ended.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class DeflaterPool {
+    private final int level;
+    private final BlockingQueue<Deflater> deflaters;
+
+    DeflaterPool(int level, int maxPooledDeflaters) {
+        this.level = level;
+        this.deflaters = new ArrayBlockingQueue<>(maxPooledDeflaters);
+    }
+
+    Deflater acquire() {
+        Deflater deflater = deflaters.poll();
+        return deflater != null ? deflater : new Deflater(level, true);
+    }
+
+    void release(Deflater deflater) {
+        deflater.reset();
+        if (!deflaters.offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    int pooledDeflaters() {
+        return deflaters.size();
+    }
+}
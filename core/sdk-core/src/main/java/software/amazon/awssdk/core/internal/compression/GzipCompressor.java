@@ -13,23 +13,38 @@
  * permissions and limitations under the License.
  */
 
-package software.amazon.awssdk.core.internal.compression;
 
-import static software.amazon.awssdk.utils.IoUtils.closeQuietlyV2;
+package software.amazon.awssdk.core.internal.compression;
 
 import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.UncheckedIOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPOutputStream;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.core.SdkBytes;
-import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.core.compression.Compressor;
+import software.amazon.awssdk.utils.BinaryUtils;
 
+/**
+ * A {@link Compressor} producing the same gzip members as {@link GZIPOutputStream}, using {@link Deflater}s from a shared
+ * {@link DeflaterPool} instead of creating one per payload. Streams are deflated as they are read: the returned stream holds
+ * a pooled {@link Deflater} until it is exhausted or closed.
+ */
 @SdkInternalApi
 public final class GzipCompressor implements Compressor {
 
+    static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    static final int GZIP_TRAILER_SIZE = 8;
+
     private static final String COMPRESSOR_TYPE = "gzip";
-    private static final Logger log = Logger.loggerFor(GzipCompressor.class);
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final int MAX_POOLED_DEFLATERS = 2 * Runtime.getRuntime().availableProcessors();
+
+    private static final DeflaterPool DEFLATERS = new DeflaterPool(Deflater.DEFAULT_COMPRESSION, MAX_POOLED_DEFLATERS);
 
     @Override
     public String compressorType() {
@@ -38,17 +53,62 @@ public final class GzipCompressor implements Compressor {
 
     @Override
     public SdkBytes compress(SdkBytes content) {
-        GZIPOutputStream gzipOutputStream = null;
+        return SdkBytes.fromByteArrayUnsafe(compress(content.asByteArrayUnsafe()));
+    }
+
+    @Override
+    public byte[] compress(byte[] content) {
+        return compress(content, 0, content.length);
+    }
+
+    @Override
+    public ByteBuffer compress(ByteBuffer content) {
+        if (content.hasArray()) {
+            return ByteBuffer.wrap(compress(content.array(), content.arrayOffset() + content.position(), content.remaining()));
+        }
+        return ByteBuffer.wrap(compress(BinaryUtils.copyBytesFrom(content)));
+    }
+
+    @Override
+    public InputStream compress(InputStream content) {
+        return new GzipDeflatingInputStream(content, DEFLATERS, BUFFER_SIZE);
+    }
+
+    private static byte[] compress(byte[] content, int offset, int length) {
+        Deflater deflater = DEFLATERS.acquire();
         try {
-            ByteArrayOutputStream compressedOutputStream = new ByteArrayOutputStream();
-            gzipOutputStream = new GZIPOutputStream(compressedOutputStream);
-            gzipOutputStream.write(content.asByteArray());
-            gzipOutputStream.close();
-            return SdkBytes.fromByteArray(compressedOutputStream.toByteArray());
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(GZIP_HEADER.length + length / 2 + GZIP_TRAILER_SIZE);
+            out.write(GZIP_HEADER, 0, GZIP_HEADER.length);
+
+            CRC32 crc = new CRC32();
+            crc.update(content, offset, length);
+            deflater.setInput(content, offset, length);
+
+            finish(deflater, new byte[Math.min(BUFFER_SIZE, Math.max(length, 64))], out, crc, length);
+            return out.toByteArray();
         } finally {
-            closeQuietlyV2(gzipOutputStream, log);
+            DEFLATERS.release(deflater);
         }
     }
-}
\ No newline at end of file
+
+    private static void finish(Deflater deflater, byte[] buffer, ByteArrayOutputStream out, CRC32 crc, long uncompressedSize) {
+        deflater.finish();
+        while (!deflater.finished()) {
+            out.write(buffer, 0, deflater.deflate(buffer));
+        }
+        writeIntLittleEndian(out, (int) crc.getValue());
+        writeIntLittleEndian(out, (int) uncompressedSize);
+    }
+
+    private static void writeIntLittleEndian(ByteArrayOutputStream out, int value) {
+        out.write(value & 0xff);
+        out.write((value >> 8) & 0xff);
+        out.write((value >> 16) & 0xff);
+        out.write((value >> 24) & 0xff);
+    }
+
+    @SdkTestInternalApi
+    static int pooledDeflaters() {
+        return DEFLATERS.pooledDeflaters();
+    }
+}
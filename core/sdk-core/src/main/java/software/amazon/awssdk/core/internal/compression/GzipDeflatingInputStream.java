@@ -0,0 +1,141 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * An {@link InputStream} of the gzip member of the content of another stream, deflated as it is read. The gzip header is
+ * produced first, then the content is read and deflated one buffer at a time, and the trailer is produced once the content
+ * is exhausted.
+ * <p>
+ * The {@link Deflater} is taken from a {@link DeflaterPool} when the stream is created, and returned to it once the trailer
+ * has been produced or the stream is closed, whichever happens first.
+ */
+@SdkInternalApi
+@NotThreadSafe
+final class GzipDeflatingInputStream extends InputStream {
+    private final InputStream content;
+    private final DeflaterPool deflaters;
+    private final CRC32 crc = new CRC32();
+    private final byte[] input;
+    private final byte[] output;
+
+    private Deflater deflater;
+    private long uncompressedSize;
+    private boolean headerWritten;
+    private boolean trailerWritten;
+    private int outputPosition;
+    private int outputLimit;
+
+    GzipDeflatingInputStream(InputStream content, DeflaterPool deflaters, int bufferSize) {
+        this.content = content;
+        this.deflaters = deflaters;
+        this.input = new byte[bufferSize];
+        this.output = new byte[Math.max(bufferSize, GzipCompressor.GZIP_HEADER.length)];
+        this.deflater = deflaters.acquire();
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        int read = read(b, 0, 1);
+        return read == -1 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        while (outputPosition == outputLimit) {
+            if (!fillOutput()) {
+                return -1;
+            }
+        }
+        int read = Math.min(len, outputLimit - outputPosition);
+        System.arraycopy(output, outputPosition, b, off, read);
+        outputPosition += read;
+        return read;
+    }
+
+    @Override
+    public void close() throws IOException {
+        releaseDeflater();
+        content.close();
+    }
+
+    /**
+     * Produces the next bytes of the gzip member into the output buffer, returning false once the trailer has been produced.
+     */
+    private boolean fillOutput() throws IOException {
+        outputPosition = 0;
+        outputLimit = 0;
+        if (!headerWritten) {
+            System.arraycopy(GzipCompressor.GZIP_HEADER, 0, output, 0, GzipCompressor.GZIP_HEADER.length);
+            outputLimit = GzipCompressor.GZIP_HEADER.length;
+            headerWritten = true;
+            return true;
+        }
+        if (trailerWritten) {
+            return false;
+        }
+        if (deflater == null) {
+            throw new IOException("Stream closed");
+        }
+        if (!deflater.finished()) {
+            if (deflater.needsInput()) {
+                int read = content.read(input);
+                if (read == -1) {
+                    deflater.finish();
+                } else {
+                    crc.update(input, 0, read);
+                    uncompressedSize += read;
+                    deflater.setInput(input, 0, read);
+                }
+            }
+            outputLimit = deflater.deflate(output);
+            return true;
+        }
+
+        writeIntLittleEndian(0, (int) crc.getValue());
+        writeIntLittleEndian(4, (int) uncompressedSize);
+        outputLimit = GzipCompressor.GZIP_TRAILER_SIZE;
+        trailerWritten = true;
+        releaseDeflater();
+        return true;
+    }
+
+    private void writeIntLittleEndian(int offset, int value) {
+        output[offset] = (byte) value;
+        output[offset + 1] = (byte) (value >> 8);
+        output[offset + 2] = (byte) (value >> 16);
+        output[offset + 3] = (byte) (value >> 24);
+    }
+
+    private void releaseDeflater() {
+        if (deflater != null) {
+            deflaters.release(deflater);
+            deflater = null;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.endpoint;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.endpoints.Endpoint;
+import software.amazon.awssdk.endpoints.EndpointProvider;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A bounded cache of resolved endpoints, keyed on the endpoint provider and the endpoint parameters that were given to it.
+ * Generated endpoint providers evaluate the whole rule set on every call, even though the parameters of most requests made
+ * by a client are the same, so caching the result saves that work on all but the first request for each set of parameters.
+ *
+ * <p>The endpoint parameters, or the cache keys derived from them, must implement {@link Object#equals(Object)} and
+ * {@link Object#hashCode()}, and the endpoint provider must always resolve the same endpoint for equal keys. Failed
+ * resolutions are not cached.
+ *
+ * <p>When the cache is full, an arbitrary entry is evicted to make room for a new one, so the bound is approximate while
+ * entries are being added concurrently.
+ */
+@ThreadSafe
+@SdkProtectedApi
+public final class EndpointResolutionCache {
+    private final ConcurrentHashMap<CacheKey, Endpoint> cache = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final int maxSize;
+
+    private EndpointResolutionCache(int maxSize) {
+        this.maxSize = Validate.isPositive(maxSize, "maxSize");
+    }
+
+    /**
+     * Create a cache that holds up to the given number of resolved endpoints.
+     */
+    public static EndpointResolutionCache create(int maxSize) {
+        return new EndpointResolutionCache(maxSize);
+    }
+
+    /**
+     * Return the endpoint previously resolved by the given provider for equal parameters, or resolve it with the given
+     * resolver and cache it. Whether the cache was hit is reported to the metric collector as
+     * {@link CoreMetric#ENDPOINT_RESOLUTION_CACHE_HIT}.
+     */
+    public <T> Endpoint resolve(EndpointProvider provider, T params, Function<? super T, Endpoint> resolver,
+                                MetricCollector metricCollector) {
+        return resolve(provider, params, params, resolver, metricCollector);
+    }
+
+    /**
+     * Like {@link #resolve(EndpointProvider, Object, Function, MetricCollector)}, but looks the endpoint up by the given
+     * cache key instead of by the parameters themselves. The key must be equal for any two parameters that the provider
+     * resolves to the same endpoint, which allows parameters that the provider never reads to be left out of it.
+     */
+    public <T> Endpoint resolve(EndpointProvider provider, Object cacheKey, T params, Function<? super T, Endpoint> resolver,
+                                MetricCollector metricCollector) {
+        CacheKey key = new CacheKey(provider, cacheKey);
+        Endpoint endpoint = cache.get(key);
+        boolean hit = endpoint != null;
+        metricCollector.reportMetric(CoreMetric.ENDPOINT_RESOLUTION_CACHE_HIT, hit);
+        if (hit) {
+            hits.increment();
+            return endpoint;
+        }
+
+        misses.increment();
+        endpoint = resolver.apply(params);
+        if (endpoint != null) {
+            while (cache.size() >= maxSize && evictOne()) {
+                // Keep evicting until there is room for the new entry
+            }
+            cache.put(key, endpoint);
+        }
+        return endpoint;
+    }
+
+    /**
+     * The number of resolutions that were served from the cache.
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * The number of resolutions that had to be delegated to the endpoint provider.
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * The number of endpoints currently cached.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    private boolean evictOne() {
+        Iterator<CacheKey> keys = cache.keySet().iterator();
+        if (!keys.hasNext()) {
+            return false;
+        }
+        cache.remove(keys.next());
+        return true;
+    }
+
+    private static final class CacheKey {
+        private final EndpointProvider provider;
+        private final Object key;
+        private final int hashCode;
+
+        private CacheKey(EndpointProvider provider, Object key) {
+            this.provider = provider;
+            this.key = key;
+            this.hashCode = 31 * System.identityHashCode(provider) + Objects.hashCode(key);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey that = (CacheKey) o;
+            return provider == that.provider && Objects.equals(key, that.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -15,9 +15,9 @@
 
 package software.amazon.awssdk.core.internal.http.async;
 
+import static software.amazon.awssdk.http.Header.CONTENT_LENGTH;
+
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
@@ -28,10 +28,10 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
+import software.amazon.awssdk.core.internal.io.ByteBufferCollectingOutputStream;
 import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.http.SdkHttpResponse;
-import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 
 /**
@@ -47,7 +47,7 @@ import software.amazon.awssdk.utils.CompletableFutureUtils;
  */
 @SdkInternalApi
 public final class AsyncResponseHandler<T> implements TransformingAsyncResponseHandler<T> {
-    private volatile CompletableFuture<ByteArrayOutputStream> streamFuture;
+    private volatile CompletableFuture<ByteBufferCollectingOutputStream> streamFuture;
     private final HttpResponseHandler<T> responseHandler;
     private final ExecutionAttributes executionAttributes;
     private final Function<SdkHttpFullResponse, SdkHttpFullResponse> crc32Validator;
@@ -68,7 +68,8 @@ public final class AsyncResponseHandler<T> implements TransformingAsyncResponseH
 
     @Override
     public void onStream(Publisher<ByteBuffer> publisher) {
-        publisher.subscribe(new BaosSubscriber(streamFuture));
+        String contentLength = httpResponse == null ? null : httpResponse.firstMatchingHeader(CONTENT_LENGTH).orElse(null);
+        publisher.subscribe(new BaosSubscriber(streamFuture, contentLength));
     }
 
     @Override
@@ -85,7 +86,7 @@ public final class AsyncResponseHandler<T> implements TransformingAsyncResponseH
         return streamFuture.thenCompose(baos -> {
             if (baos != null) {
                 // Ignore aborts - we already have all of the content.
-                httpResponse.content(AbortableInputStream.create(new ByteArrayInputStream(baos.toByteArray())));
+                httpResponse.content(AbortableInputStream.create(baos.toInputStream()));
             }
 
             try {
@@ -98,13 +99,14 @@ public final class AsyncResponseHandler<T> implements TransformingAsyncResponseH
     }
 
     private static class BaosSubscriber implements Subscriber<ByteBuffer> {
-        private final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        private final CompletableFuture<ByteArrayOutputStream> streamFuture;
+        private final ByteBufferCollectingOutputStream baos;
+        private final CompletableFuture<ByteBufferCollectingOutputStream> streamFuture;
         private Subscription subscription;
         private boolean dataWritten = false;
 
-        private BaosSubscriber(CompletableFuture<ByteArrayOutputStream> streamFuture) {
+        private BaosSubscriber(CompletableFuture<ByteBufferCollectingOutputStream> streamFuture, String contentLength) {
             this.streamFuture = streamFuture;
+            this.baos = ByteBufferCollectingOutputStream.forContentLength(contentLength);
         }
 
         @Override
@@ -116,13 +118,8 @@ public final class AsyncResponseHandler<T> implements TransformingAsyncResponseH
         @Override
         public void onNext(ByteBuffer byteBuffer) {
             dataWritten = true;
-            try {
-                baos.write(BinaryUtils.copyBytesFrom(byteBuffer));
-                this.subscription.request(1);
-            } catch (IOException e) {
-                // Should never happen
-                streamFuture.completeExceptionally(e);
-            }
+            baos.write(byteBuffer);
+            this.subscription.request(1);
         }
 
         @Override
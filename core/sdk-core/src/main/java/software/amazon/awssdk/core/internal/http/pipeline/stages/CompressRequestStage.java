@@ -27,11 +27,11 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.CompressionConfiguration;
 import software.amazon.awssdk.core.RequestOverrideConfiguration;
 import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.compression.Compressor;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.internal.async.CompressionAsyncRequestBody;
-import software.amazon.awssdk.core.internal.compression.Compressor;
 import software.amazon.awssdk.core.internal.compression.CompressorType;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
@@ -70,7 +70,6 @@ public class CompressRequestStage implements MutableRequestToRequestPipeline {
         if (!isStreaming(context)) {
             compressEntirePayload(input, compressor);
             updateContentEncodingHeader(input, compressor, context.executionAttributes());
-            updateContentLengthHeader(input);
             return input;
         }
 
@@ -115,17 +114,28 @@ public class CompressRequestStage implements MutableRequestToRequestPipeline {
         return context.executionAttributes().getAttribute(SdkInternalExecutionAttribute.REQUEST_COMPRESSION).isStreaming();
     }
 
+    /**
+     * Compresses the payload once up front, so that the compressed bytes can be used both for the Content-Length header and
+     * for every attempt of the request, instead of compressing the payload again for each of them.
+     */
     private void compressEntirePayload(SdkHttpFullRequest.Builder input, Compressor compressor) {
-        ContentStreamProvider wrappedProvider = input.contentStreamProvider();
-        ContentStreamProvider compressedStreamProvider = () -> compressor.compress(wrappedProvider.newStream());
-        input.contentStreamProvider(compressedStreamProvider);
+        byte[] compressed;
+        try (InputStream inputStream = input.contentStreamProvider().newStream()) {
+            compressed = compressor.compress(IoUtils.toByteArray(inputStream));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        input.contentStreamProvider(ContentStreamProvider.fromByteArrayUnsafe(compressed));
+        input.putHeader("Content-Length", String.valueOf(compressed.length));
     }
 
     private void updateContentEncodingHeader(SdkHttpFullRequest.Builder input,
                                              Compressor compressor,
                                              ExecutionAttributes executionAttributes) {
-        executionAttributes.getAttribute(SdkInternalExecutionAttribute.BUSINESS_METRICS)
-                           .addMetric(BusinessMetricFeatureId.GZIP_REQUEST_COMPRESSION.value());
+        if (CompressorType.GZIP.toString().equals(compressor.compressorType())) {
+            executionAttributes.getAttribute(SdkInternalExecutionAttribute.BUSINESS_METRICS)
+                               .addMetric(BusinessMetricFeatureId.GZIP_REQUEST_COMPRESSION.value());
+        }
         if (input.firstMatchingHeader(COMPRESSION_HEADER).isPresent()) {
             input.appendHeader(COMPRESSION_HEADER, compressor.compressorType());
         } else {
@@ -133,17 +143,6 @@ public class CompressRequestStage implements MutableRequestToRequestPipeline {
         }
     }
 
-    private void updateContentLengthHeader(SdkHttpFullRequest.Builder input) {
-        InputStream inputStream = input.contentStreamProvider().newStream();
-        try {
-            byte[] bytes = IoUtils.toByteArray(inputStream);
-            String length = String.valueOf(bytes.length);
-            input.putHeader("Content-Length", length);
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
-        }
-    }
-
     private boolean isTransferEncodingChunked(SdkHttpFullRequest.Builder input) {
         return input.firstMatchingHeader("Transfer-Encoding")
                     .map(headerValue -> headerValue.equals("chunked"))
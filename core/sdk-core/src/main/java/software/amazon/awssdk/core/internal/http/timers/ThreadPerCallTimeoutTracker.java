@@ -0,0 +1,85 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.Abortable;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link TimeoutTracker} that waits for the timeout on a thread of its own, instead of on a shared
+ * {@link java.util.concurrent.ScheduledExecutorService}.
+ * <p>
+ * This is used to time calls made from virtual threads. Tens of thousands of concurrent calls would all contend on the lock of
+ * the scheduler's delay queue. A virtual thread sleeping until the timeout is cheap, and cancelling the tracker interrupts
+ * it so that it does not outlive the call.
+ */
+@SdkInternalApi
+public final class ThreadPerCallTimeoutTracker implements TimeoutTracker {
+    private final TimeoutTask timeoutTask;
+    private final Thread timerThread;
+
+    private ThreadPerCallTimeoutTracker(TimeoutTask timeoutTask, long timeoutInMillis,
+                                        Function<Runnable, Thread> threadFactory) {
+        this.timeoutTask = Validate.paramNotNull(timeoutTask, "timeoutTask");
+        this.timerThread = threadFactory.apply(() -> runAfter(timeoutInMillis));
+    }
+
+    /**
+     * Start a thread, created with the given factory, that runs the given task once the timeout elapses unless the
+     * returned tracker is cancelled first.
+     */
+    public static ThreadPerCallTimeoutTracker start(TimeoutTask timeoutTask, long timeoutInMillis,
+                                                    Function<Runnable, Thread> threadFactory) {
+        ThreadPerCallTimeoutTracker tracker = new ThreadPerCallTimeoutTracker(timeoutTask, timeoutInMillis, threadFactory);
+        tracker.timerThread.start();
+        return tracker;
+    }
+
+    private void runAfter(long timeoutInMillis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(timeoutInMillis);
+        } catch (InterruptedException e) {
+            // Cancelled before the timeout elapsed
+            return;
+        }
+        timeoutTask.run();
+    }
+
+    @Override
+    public boolean hasExecuted() {
+        return timeoutTask.hasExecuted();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void cancel() {
+        // Cancel the task first, so that it cannot run once this returns, then wake the timer thread so it exits.
+        timeoutTask.cancel();
+        timerThread.interrupt();
+    }
+
+    @Override
+    public void abortable(Abortable abortable) {
+        timeoutTask.abortable(abortable);
+    }
+}
@@ -24,6 +24,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.internal.util.VirtualThreads;
 import software.amazon.awssdk.utils.OptionalUtils;
 
 @SdkInternalApi
@@ -66,6 +67,9 @@ public final class TimerUtils {
 
     /**
      * Schedule a {@link TimeoutTask} that aborts the task if not otherwise completed before the given timeout.
+     * <p>
+     * If the thread to interrupt is a virtual thread, the timeout is tracked by a virtual thread of its own rather than by the
+     * given executor, so that many concurrent calls from virtual threads do not contend on the executor's queue.
      *
      * @param timeoutExecutor the executor to execute the {@link TimeoutTask}
      * @param timeoutInMills the timeout in milliseconds.
@@ -81,6 +85,10 @@ public final class TimerUtils {
 
         SyncTimeoutTask timeoutTask = new SyncTimeoutTask(threadToInterrupt);
 
+        if (VirtualThreads.isVirtual(threadToInterrupt)) {
+            return ThreadPerCallTimeoutTracker.start(timeoutTask, timeoutInMills, VirtualThreads::newVirtualThread);
+        }
+
         ScheduledFuture<?> scheduledFuture =
             timeoutExecutor.schedule(timeoutTask,
                                      timeoutInMills,
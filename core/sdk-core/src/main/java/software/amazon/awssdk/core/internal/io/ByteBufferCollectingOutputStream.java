@@ -0,0 +1,109 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A {@link ByteArrayOutputStream} that {@link #write(ByteBuffer) writes} byte buffers directly into its array, and can return
+ * its array without copying it when its size matches its content.
+ * <p>
+ * Collecting a response body with {@code write(BinaryUtils.copyBytesFrom(buffer))} and {@code toByteArray()} copies the bytes
+ * three times. When the expected size is known, this stream copies them once.
+ */
+@SdkInternalApi
+@NotThreadSafe
+public final class ByteBufferCollectingOutputStream extends ByteArrayOutputStream {
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private final int expectedSize;
+
+    public ByteBufferCollectingOutputStream() {
+        this.expectedSize = 0;
+    }
+
+    /**
+     * @param expectedSize The size of the array allocated on the first write, so that responses without a body, such as the
+     * responses of HEAD requests, do not allocate it.
+     */
+    private ByteBufferCollectingOutputStream(int expectedSize) {
+        super(0);
+        this.expectedSize = expectedSize;
+    }
+
+    /**
+     * Create a stream sized for the given Content-Length header value, if it is present, valid and can fit in an array.
+     */
+    public static ByteBufferCollectingOutputStream forContentLength(String contentLength) {
+        if (contentLength == null) {
+            return new ByteBufferCollectingOutputStream();
+        }
+        long expectedLength;
+        try {
+            expectedLength = Long.parseLong(contentLength);
+        } catch (NumberFormatException e) {
+            return new ByteBufferCollectingOutputStream();
+        }
+        if (expectedLength < 0 || expectedLength > MAX_ARRAY_SIZE) {
+            return new ByteBufferCollectingOutputStream();
+        }
+        return new ByteBufferCollectingOutputStream((int) expectedLength);
+    }
+
+    /**
+     * Write the remaining bytes of the given buffer, without modifying its position.
+     */
+    public void write(ByteBuffer buffer) {
+        int length = buffer.remaining();
+        ensureCapacity(count + length);
+        buffer.duplicate().get(buf, count, length);
+        count += length;
+    }
+
+    /**
+     * Return the written bytes, without copying them if the array of this stream is exactly filled. The stream must not be
+     * written to afterwards.
+     */
+    public byte[] toByteArrayUnsafe() {
+        return count == buf.length ? buf : Arrays.copyOf(buf, count);
+    }
+
+    /**
+     * Return a stream reading the written bytes, without copying them. The stream must not be written to afterwards.
+     */
+    public ByteArrayInputStream toInputStream() {
+        return new ByteArrayInputStream(buf, 0, count);
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Response body is larger than the maximum array size");
+        }
+        if (minCapacity > buf.length) {
+            int newCapacity = Math.max(Math.max(buf.length << 1, minCapacity), count == 0 ? expectedSize : 0);
+            if (newCapacity < 0 || newCapacity > MAX_ARRAY_SIZE) {
+                newCapacity = Math.max(minCapacity, MAX_ARRAY_SIZE);
+            }
+            buf = Arrays.copyOf(buf, newCapacity);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.internal.util.MappedFileUtils;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An {@link InputStream} reading a range of a file through memory-mapped regions, mapped one at a time as the stream is
+ * read, rather than through {@code read} system calls.
+ */
+@SdkInternalApi
+public final class MappedFileInputStream extends InputStream {
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+    private final Path path;
+    private final long endPosition;
+    private long nextRegionPosition;
+    private ByteBuffer region = EMPTY;
+    private boolean closed;
+
+    public MappedFileInputStream(Path path, long position, long length) {
+        this.path = Validate.paramNotNull(path, "path");
+        this.nextRegionPosition = Validate.isNotNegative(position, "position");
+        this.endPosition = position + Validate.isNotNegative(length, "length");
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!nextRegion()) {
+            return -1;
+        }
+        return region.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        Validate.paramNotNull(b, "b");
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len == 0) {
+            return 0;
+        }
+        if (!nextRegion()) {
+            return -1;
+        }
+        int read = Math.min(len, region.remaining());
+        region.get(b, off, read);
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        ensureOpen();
+        if (n <= 0) {
+            return 0;
+        }
+        long skipped = Math.min(n, region.remaining() + (endPosition - nextRegionPosition));
+        long skippedInRegion = Math.min(skipped, region.remaining());
+        region.position(region.position() + (int) skippedInRegion);
+        nextRegionPosition += skipped - skippedInRegion;
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        ensureOpen();
+        return region.remaining();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        region = EMPTY;
+    }
+
+    private boolean nextRegion() throws IOException {
+        ensureOpen();
+        if (region.hasRemaining()) {
+            return true;
+        }
+        if (nextRegionPosition >= endPosition) {
+            return false;
+        }
+        region = MappedFileUtils.mapRegion(path, nextRegionPosition, endPosition);
+        nextRegionPosition += region.remaining();
+        return true;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+}
@@ -18,9 +18,14 @@ package software.amazon.awssdk.core.internal.sync;
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.internal.io.MappedFileInputStream;
+import software.amazon.awssdk.core.internal.io.SdkLengthAwareInputStream;
 import software.amazon.awssdk.http.ContentStreamProvider;
 
 /**
@@ -29,19 +34,45 @@ import software.amazon.awssdk.http.ContentStreamProvider;
 @SdkInternalApi
 public final class FileContentStreamProvider implements ContentStreamProvider {
     private final Path filePath;
+    private final long position;
+    private final Long numBytesToRead;
+    private final boolean memoryMapped;
     private InputStream currentStream;
 
     public FileContentStreamProvider(Path filePath) {
+        this(filePath, 0, null, false);
+    }
+
+    /**
+     * @param numBytesToRead the number of bytes to read from {@code position}, or null to read until the end of the file.
+     * @param memoryMapped whether to read the file through memory-mapped regions.
+     */
+    public FileContentStreamProvider(Path filePath, long position, Long numBytesToRead, boolean memoryMapped) {
         this.filePath = filePath;
+        this.position = position;
+        this.numBytesToRead = numBytesToRead;
+        this.memoryMapped = memoryMapped;
     }
 
     @Override
     public InputStream newStream() {
         closeCurrentStream();
-        currentStream = invokeSafely(() -> Files.newInputStream(filePath));
+        currentStream = invokeSafely(this::openStream);
         return currentStream;
     }
 
+    private InputStream openStream() throws Exception {
+        if (memoryMapped) {
+            long length = numBytesToRead != null ? numBytesToRead : Files.size(filePath) - position;
+            return new MappedFileInputStream(filePath, position, length);
+        }
+        if (position == 0 && numBytesToRead == null) {
+            return Files.newInputStream(filePath);
+        }
+        InputStream stream = Channels.newInputStream(FileChannel.open(filePath, StandardOpenOption.READ).position(position));
+        return numBytesToRead != null ? new SdkLengthAwareInputStream(stream, numBytesToRead) : stream;
+    }
+
     private void closeCurrentStream() {
         if (currentStream != null) {
             invokeSafely(currentStream::close);
@@ -0,0 +1,56 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.util;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Utilities to read files through memory-mapped regions.
+ */
+@SdkInternalApi
+public final class MappedFileUtils {
+    /**
+     * The maximum size of a region mapped at once. Larger ranges are mapped one region at a time as they are read, so that
+     * the address space held by a request is bounded.
+     */
+    public static final int MAX_REGION_SIZE = 64 * 1024 * 1024;
+
+    private MappedFileUtils() {
+    }
+
+    /**
+     * Maps the next region of at most {@link #MAX_REGION_SIZE} bytes of the range ending at {@code endPosition}, read-only.
+     * The file is closed once the region is mapped, the region remains valid until it is garbage collected.
+     *
+     * @throws IOException if the file is shorter than the range, e.g. because it was truncated
+     */
+    public static MappedByteBuffer mapRegion(Path path, long position, long endPosition) throws IOException {
+        long size = Math.min(MAX_REGION_SIZE, endPosition - position);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < position + size) {
+                throw new IOException("Fewer bytes are available than were expected, was the file modified after reading "
+                                      + "started? Expected at least " + (position + size) + " bytes, file size: " + fileSize);
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+        }
+    }
+}
@@ -27,6 +27,8 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
@@ -35,6 +37,7 @@ import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricCollectorFactory;
 import software.amazon.awssdk.metrics.NoOpMetricCollector;
 import software.amazon.awssdk.metrics.SdkMetric;
 import software.amazon.awssdk.utils.Pair;
@@ -132,6 +135,18 @@ public final class MetricUtils {
         }
     }
 
+    /**
+     * Create the root collector of an API call, using the {@link SdkClientOption#METRIC_COLLECTOR_FACTORY} configured on the
+     * client if any.
+     */
+    public static MetricCollector createApiCallMetricCollector(SdkClientConfiguration clientConfiguration) {
+        MetricCollectorFactory factory = clientConfiguration.option(SdkClientOption.METRIC_COLLECTOR_FACTORY);
+        if (factory == null) {
+            factory = MetricCollectorFactory.defaultFactory();
+        }
+        return factory.create("ApiCall");
+    }
+
     public static MetricCollector createAttemptMetricsCollector(RequestExecutionContext context) {
         MetricCollector parentCollector = context.executionContext().metricCollector();
         if (parentCollector != null) {
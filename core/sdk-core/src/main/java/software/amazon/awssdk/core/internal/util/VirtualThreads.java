@@ -0,0 +1,101 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Access to the virtual threads of Java 21 and later, from code compiled for Java 8.
+ * <p>
+ * The methods are looked up once, when this class is initialized. On runtimes without virtual threads, {@link #isSupported()}
+ * returns false, {@link #isVirtual(Thread)} always returns false and {@link #newVirtualThread(Runnable)} must not be called.
+ */
+@SdkInternalApi
+public final class VirtualThreads {
+    private static final Logger log = Logger.loggerFor(VirtualThreads.class);
+
+    private static final MethodHandle IS_VIRTUAL;
+    private static final MethodHandle OF_VIRTUAL;
+    private static final MethodHandle UNSTARTED;
+
+    static {
+        MethodHandle isVirtual = null;
+        MethodHandle ofVirtual = null;
+        MethodHandle unstarted = null;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Class<?> ofVirtualClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            isVirtual = lookup.findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+            ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(ofVirtualClass));
+            unstarted = lookup.findVirtual(builderClass, "unstarted", MethodType.methodType(Thread.class, Runnable.class));
+            // Virtual threads are a preview feature of Java 19 and 20, and creating one throws unless previews are enabled.
+            ofVirtual.invoke();
+        } catch (Throwable t) {
+            log.debug(() -> "Virtual threads are not available on this runtime.", t);
+            isVirtual = null;
+            ofVirtual = null;
+            unstarted = null;
+        }
+        IS_VIRTUAL = isVirtual;
+        OF_VIRTUAL = ofVirtual;
+        UNSTARTED = unstarted;
+    }
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Whether the runtime supports virtual threads.
+     */
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Whether the given thread is a virtual thread.
+     */
+    public static boolean isVirtual(Thread thread) {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (boolean) IS_VIRTUAL.invoke(thread);
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to check whether the thread is virtual", t);
+        }
+    }
+
+    /**
+     * Create a virtual thread that runs the given task once it is started.
+     *
+     * @throws UnsupportedOperationException If the runtime does not support virtual threads.
+     */
+    public static Thread newVirtualThread(Runnable task) {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("Virtual threads are not supported by this runtime");
+        }
+        try {
+            return (Thread) UNSTARTED.invoke(OF_VIRTUAL.invoke(), task);
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to create a virtual thread", t);
+        }
+    }
+}
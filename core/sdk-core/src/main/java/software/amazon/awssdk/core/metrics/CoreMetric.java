@@ -162,6 +162,14 @@ public final class CoreMetric {
     public static final SdkMetric<Duration> ENDPOINT_RESOLVE_DURATION =
         metric("EndpointResolveDuration", Duration.class, MetricLevel.INFO);
 
+    /**
+     * Whether the endpoint used for the API call was served from the client's endpoint resolution cache. This is only
+     * reported when the cache is enabled with
+     * {@link software.amazon.awssdk.core.client.config.ClientOverrideConfiguration.Builder#endpointResolutionCacheSize(Integer)}.
+     */
+    public static final SdkMetric<Boolean> ENDPOINT_RESOLUTION_CACHE_HIT =
+        metric("EndpointResolutionCacheHit", Boolean.class, MetricLevel.INFO);
+
 
     /**
      * The type of error that occurred for a call attempt.
@@ -30,8 +30,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.FileRequestBodyConfiguration;
 import software.amazon.awssdk.core.internal.sync.BufferingContentStreamProvider;
 import software.amazon.awssdk.core.internal.sync.FileContentStreamProvider;
 import software.amazon.awssdk.core.internal.util.Mimetype;
@@ -117,6 +119,41 @@ public class RequestBody {
         return fromFile(file.toPath());
     }
 
+    /**
+     * Create a {@link RequestBody} using the contents of a file, read as specified by the provided configuration. The
+     * {@link FileRequestBodyConfiguration#chunkSizeInBytes() chunk size} does not apply to synchronous request bodies.
+     *
+     * @param configuration configuration for how the SDK should read the file
+     * @return RequestBody instance.
+     */
+    public static RequestBody fromFile(FileRequestBodyConfiguration configuration) {
+        paramNotNull(configuration, "configuration");
+        Path path = configuration.path();
+        long position = configuration.position() == null ? 0 : configuration.position();
+        long contentLength = configuration.numBytesToRead() != null
+                             ? configuration.numBytesToRead()
+                             : invokeSafely(() -> Files.size(path)) - position;
+        return new RequestBody(new FileContentStreamProvider(path, position, configuration.numBytesToRead(),
+                                                             Boolean.TRUE.equals(configuration.memoryMapped())),
+                               isNotNegative(contentLength, "contentLength"),
+                               Mimetype.getInstance().getMimetype(path));
+    }
+
+    /**
+     * Create a {@link RequestBody} using the contents of a file, read as specified by the provided configuration.
+     * <p>
+     * This is a convenience method that creates an instance of the {@link FileRequestBodyConfiguration} builder,
+     * avoiding the need to create one manually via {@link FileRequestBodyConfiguration#builder()}.
+     *
+     * @param configuration configuration for how the SDK should read the file
+     * @return RequestBody instance.
+     * @see #fromFile(FileRequestBodyConfiguration)
+     */
+    public static RequestBody fromFile(Consumer<FileRequestBodyConfiguration.Builder> configuration) {
+        paramNotNull(configuration, "configuration");
+        return fromFile(FileRequestBodyConfiguration.builder().applyMutation(configuration).build());
+    }
+
     /**
      * Creates a {@link RequestBody} from an input stream. {@value Header#CONTENT_LENGTH} must
      * be provided so that the SDK does not have to make two passes of the data.
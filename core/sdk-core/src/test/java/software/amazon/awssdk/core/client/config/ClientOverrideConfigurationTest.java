@@ -16,6 +16,7 @@
 package software.amazon.awssdk.core.client.config;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -35,6 +36,7 @@ import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
 import software.amazon.awssdk.core.internal.http.request.SlowExecutionInterceptor;
+import software.amazon.awssdk.metrics.MetricCollectorFactory;
 import software.amazon.awssdk.metrics.MetricPublisher;
 import software.amazon.awssdk.utils.ImmutableMap;
 
@@ -193,6 +195,36 @@ public class ClientOverrideConfigurationTest {
         assertThat(overrideConfig.metricPublishers()).containsExactly(publishers.get(0), publishers.get(1), thirdAdded);
     }
 
+    @Test
+    public void metricCollectorFactory_preservedByToBuilder() {
+        MetricCollectorFactory factory = MetricCollectorFactory.lockFree();
+
+        ClientOverrideConfiguration overrideConfig = ClientOverrideConfiguration.builder()
+                                                                                .metricCollectorFactory(factory)
+                                                                                .build();
+
+        assertThat(overrideConfig.metricCollectorFactory()).containsSame(factory);
+        assertThat(overrideConfig.toBuilder().build().metricCollectorFactory()).containsSame(factory);
+        assertThat(ClientOverrideConfiguration.builder().build().metricCollectorFactory()).isEmpty();
+    }
+
+    @Test
+    public void endpointResolutionCacheSize_preservedByToBuilder() {
+        ClientOverrideConfiguration overrideConfig = ClientOverrideConfiguration.builder()
+                                                                                .endpointResolutionCacheSize(64)
+                                                                                .build();
+
+        assertThat(overrideConfig.endpointResolutionCacheSize()).contains(64);
+        assertThat(overrideConfig.toBuilder().build().endpointResolutionCacheSize()).contains(64);
+        assertThat(ClientOverrideConfiguration.builder().build().endpointResolutionCacheSize()).isEmpty();
+    }
+
+    @Test
+    public void endpointResolutionCacheSize_notPositive_throws() {
+        assertThatThrownBy(() -> ClientOverrideConfiguration.builder().endpointResolutionCacheSize(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     public void executionAttributes_createsCopy() {
         ExecutionAttributes executionAttributes = new ExecutionAttributes();
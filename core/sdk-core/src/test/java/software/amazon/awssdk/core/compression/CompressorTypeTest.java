@@ -16,8 +16,10 @@
 package software.amazon.awssdk.core.compression;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
+import software.amazon.awssdk.core.SdkBytes;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.core.internal.compression.CompressorType;
 
@@ -43,4 +45,39 @@ public class CompressorTypeTest {
         CompressorType brotliFromStringDuplicate = CompressorType.of("brotli");
         assertThat(brotliFromString).isEqualTo(brotliFromStringDuplicate);
     }
+
+    @Test
+    public void compressorType_registeredThroughServiceLoader_isSupported() {
+        assertThat(CompressorType.isSupported(TestCompressor.TYPE)).isTrue();
+        assertThat(CompressorType.of(TestCompressor.TYPE).newCompressor()).isInstanceOf(TestCompressor.class);
+    }
+
+    @Test
+    public void compressorType_gzip_usesBuiltInCompressor() {
+        assertThat(CompressorType.GZIP.newCompressor()).isNotInstanceOf(TestCompressor.class);
+    }
+
+    @Test
+    public void compressorType_withoutCompressor_throwsException() {
+        assertThat(CompressorType.isSupported("brotli")).isFalse();
+        assertThatThrownBy(() -> CompressorType.of("brotli").newCompressor())
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    /**
+     * Registered in META-INF/services of the test resources.
+     */
+    public static class TestCompressor implements Compressor {
+        static final String TYPE = "test-identity";
+
+        @Override
+        public String compressorType() {
+            return TYPE;
+        }
+
+        @Override
+        public SdkBytes compress(SdkBytes content) {
+            return content;
+        }
+    }
 }
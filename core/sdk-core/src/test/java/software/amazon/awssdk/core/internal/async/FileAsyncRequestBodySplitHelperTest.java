@@ -18,10 +18,13 @@ package software.amazon.awssdk.core.internal.async;
 import static org.assertj.core.api.Assertions.assertThat;
 import static software.amazon.awssdk.core.internal.async.SplittingPublisherTestUtils.verifyIndividualAsyncRequestBody;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -29,10 +32,13 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncRequestBodySplitConfiguration;
 import software.amazon.awssdk.testutils.RandomTempFile;
+import software.amazon.awssdk.utils.BinaryUtils;
 
 public class FileAsyncRequestBodySplitHelperTest {
 
@@ -83,6 +89,65 @@ public class FileAsyncRequestBodySplitHelperTest {
         assertThat(maxConcurrency.get()).isLessThanOrEqualTo(expectedMaxConcurrency);
     }
 
+    @Test
+    public void fileRegion_splitBodies_shouldExposeTheirRegionOfTheFile() {
+        FileAsyncRequestBody fileAsyncRequestBody = FileAsyncRequestBody.builder()
+                                                                        .path(testFile)
+                                                                        .chunkSizeInBytes(10)
+                                                                        .build();
+        AsyncRequestBodySplitConfiguration config =
+            AsyncRequestBodySplitConfiguration.builder()
+                                              .chunkSizeInBytes(300L)
+                                              .bufferSizeInBytes(10_000L)
+                                              .build();
+        List<AsyncRequestBody> bodies = new ArrayList<>();
+        new FileAsyncRequestBodySplitHelper(fileAsyncRequestBody, config).split()
+                                                                         .subscribe(b -> {
+                                                                             bodies.add(b);
+                                                                             b.subscribe(bytes -> { });
+                                                                         })
+                                                                         .join();
+
+        assertThat(bodies).hasSize(7);
+        for (int i = 0; i < bodies.size(); i++) {
+            FileAsyncRequestBody region = FileAsyncRequestBodySplitHelper.fileRegion(bodies.get(i)).get();
+            assertThat(region.path()).isEqualTo(testFile);
+            assertThat(region.position()).isEqualTo(i * 300L);
+            assertThat(region.numBytesToRead()).isEqualTo(Math.min(300L, 2000L - i * 300L));
+        }
+        assertThat(FileAsyncRequestBodySplitHelper.fileRegion(fileAsyncRequestBody)).containsSame(fileAsyncRequestBody);
+        assertThat(FileAsyncRequestBodySplitHelper.fileRegion(AsyncRequestBody.fromString("content"))).isEmpty();
+    }
+
+    @Test
+    public void split_memoryMappedBody_shouldSplitIntoMemoryMappedParts() throws Exception {
+        FileAsyncRequestBody fileAsyncRequestBody = FileAsyncRequestBody.builder()
+                                                                        .path(testFile)
+                                                                        .chunkSizeInBytes(100)
+                                                                        .memoryMapped(true)
+                                                                        .build();
+        AsyncRequestBodySplitConfiguration config =
+            AsyncRequestBodySplitConfiguration.builder()
+                                              .chunkSizeInBytes(300L)
+                                              .bufferSizeInBytes(10_000L)
+                                              .build();
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        List<AsyncRequestBody> bodies = new ArrayList<>();
+        new FileAsyncRequestBodySplitHelper(fileAsyncRequestBody, config).split()
+                                                                         .subscribe(b -> {
+                                                                             bodies.add(b);
+                                                                             b.subscribe(bytes -> {
+                                                                                 byte[] copy = BinaryUtils.copyBytesFrom(bytes);
+                                                                                 content.write(copy, 0, copy.length);
+                                                                             });
+                                                                         })
+                                                                         .join();
+
+        assertThat(bodies).allSatisfy(b -> assertThat(FileAsyncRequestBodySplitHelper.fileRegion(b).get().memoryMapped())
+            .isTrue());
+        assertThat(content.toByteArray()).isEqualTo(Files.readAllBytes(testFile));
+    }
+
     private static Runnable verifyConcurrentRequests(FileAsyncRequestBodySplitHelper helper, AtomicInteger maxConcurrency) {
         return () -> {
             int concurrency = helper.numAsyncRequestBodiesInFlight().get();
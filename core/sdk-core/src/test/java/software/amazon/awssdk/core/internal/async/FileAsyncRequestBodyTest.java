@@ -31,6 +31,9 @@ import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.attribute.FileTime;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadLocalRandom;
@@ -46,6 +49,7 @@ import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.testutils.RandomTempFile;
 import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.async.DelegatingSubscriber;
 
 public class FileAsyncRequestBodyTest {
     private static final long MiB = 1024 * 1024;
@@ -312,6 +316,83 @@ public class FileAsyncRequestBodyTest {
         assertThat(bytes).isEqualTo(expected);
     }
 
+    @Test
+    public void memoryMapped_shouldDeliverDirectSlicesOfFile() throws Exception {
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(testFile)
+                                                                .memoryMapped(true)
+                                                                .build();
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+        List<ByteBuffer> buffers = new ArrayList<>();
+        asyncRequestBody.subscribe(new DelegatingSubscriber<ByteBuffer, ByteBuffer>(subscriber) {
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                buffers.add(byteBuffer);
+                subscriber.onNext(byteBuffer);
+            }
+        });
+        subscriber.sub.request(Long.MAX_VALUE);
+        subscriber.completed.get(5, TimeUnit.SECONDS);
+
+        assertThat(buffers).hasSize(10).allSatisfy(b -> assertThat(b.isDirect()).isTrue());
+        assertThat(subscriber.output.toByteArray()).isEqualTo(Files.readAllBytes(testFile));
+    }
+
+    @Test
+    public void memoryMapped_bothPositionAndNumBytesToReadConfigured_shouldHonor() throws Exception {
+        CompletableFuture<byte[]> future = new CompletableFuture<>();
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(smallFile)
+                                                                .position(20L)
+                                                                .numBytesToRead(35L)
+                                                                .chunkSizeInBytes(10)
+                                                                .memoryMapped(true)
+                                                                .build();
+
+        asyncRequestBody.subscribe(new ByteArrayAsyncResponseTransformer.BaosSubscriber(future));
+
+        byte[] expected = Arrays.copyOfRange(Files.readAllBytes(smallFile), 20, 55);
+        assertThat(future.get(1, TimeUnit.SECONDS)).isEqualTo(expected);
+    }
+
+    @Test
+    public void memoryMapped_fileGetsTouched_failsBecauseUpdatedModificationTime() throws Exception {
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(testFile)
+                                                                .memoryMapped(true)
+                                                                .build();
+
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+        asyncRequestBody.subscribe(subscriber);
+        subscriber.sub.request(1);
+        assertTrue(subscriber.onNextSemaphore.tryAcquire(5, TimeUnit.SECONDS));
+
+        Thread.sleep(1_000);
+        Files.setLastModifiedTime(testFile, FileTime.from(Instant.now()));
+        subscriber.sub.request(Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> subscriber.completed.get(5, TimeUnit.SECONDS))
+            .hasRootCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void memoryMapped_missingFile_failsOnSubscribe() {
+        Path missing = smallFile.resolveSibling("missing-" + System.nanoTime());
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(smallFile)
+                                                                .memoryMapped(true)
+                                                                .build();
+        invokeSafely(() -> Files.move(smallFile, missing));
+        try {
+            asyncRequestBody.subscribe(subscriber);
+            assertThatThrownBy(() -> subscriber.completed.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(NoSuchFileException.class);
+        } finally {
+            invokeSafely(() -> Files.move(missing, smallFile));
+        }
+    }
+
     private static class ControllableSubscriber implements Subscriber<ByteBuffer> {
         private final ByteArrayOutputStream output = new ByteArrayOutputStream();
         private final CompletableFuture<Void> completed = new CompletableFuture<>();
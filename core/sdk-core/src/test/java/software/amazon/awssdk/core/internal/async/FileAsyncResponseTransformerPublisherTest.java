@@ -0,0 +1,199 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.jimfs.Jimfs;
+import io.reactivex.Flowable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.FileTransformerConfiguration;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.SplittingTransformerConfiguration;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.protocol.VoidSdkResponse;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+class FileAsyncResponseTransformerPublisherTest {
+    private static final String CONTENT = "0123456789abcdefghij";
+
+    private FileSystem testFs;
+    private Path testPath;
+
+    @BeforeEach
+    public void setup() {
+        testFs = Jimfs.newFileSystem();
+        testPath = testFs.getPath("test_file.txt");
+    }
+
+    @AfterEach
+    public void teardown() throws IOException {
+        testFs.close();
+    }
+
+    @Test
+    void split_parallelSplitNotEnabled_shouldUseDefaultSplit() {
+        AsyncResponseTransformer.SplitResult<SdkResponse, SdkResponse> split =
+            new FileAsyncResponseTransformer<SdkResponse>(testPath).split(config(false));
+
+        assertThat(split.parallelSplitSupported()).isFalse();
+        assertThat(split.publisher()).isInstanceOf(SplittingTransformer.class);
+    }
+
+    @Test
+    void split_rangesCompletedOutOfOrder_shouldWriteEachRangeAtItsOffset() throws Exception {
+        AsyncResponseTransformer.SplitResult<SdkResponse, SdkResponse> split =
+            new FileAsyncResponseTransformer<SdkResponse>(testPath).split(config(true));
+        assertThat(split.parallelSplitSupported()).isTrue();
+
+        TestSubscriber subscriber = new TestSubscriber();
+        split.publisher().subscribe(subscriber);
+        subscriber.subscription.request(4);
+        assertThat(subscriber.transformers).hasSize(4);
+
+        List<CompletableFuture<SdkResponse>> futures = new ArrayList<>();
+        for (int i = 3; i >= 0; i--) {
+            futures.add(writeRange(subscriber.transformers.get(i), i * 5, i * 5 + 4));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+        assertThat(split.resultFuture()).isNotDone();
+
+        subscriber.subscription.cancel();
+
+        SdkResponse response = split.resultFuture().get(5, TimeUnit.SECONDS);
+        assertThat(response.sdkHttpResponse().firstMatchingHeader("Content-Range")).hasValue("bytes 0-4/20");
+        assertThat(new String(Files.readAllBytes(testPath), StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void split_writeToPosition_shouldWriteRangesRelativeToPosition() throws Exception {
+        Files.write(testPath, "xxxxx".getBytes(StandardCharsets.UTF_8));
+        FileTransformerConfiguration configuration =
+            FileTransformerConfiguration.builder()
+                                        .fileWriteOption(FileTransformerConfiguration.FileWriteOption.WRITE_TO_POSITION)
+                                        .failureBehavior(FileTransformerConfiguration.FailureBehavior.LEAVE)
+                                        .position(5L)
+                                        .build();
+        AsyncResponseTransformer.SplitResult<SdkResponse, SdkResponse> split =
+            new FileAsyncResponseTransformer<SdkResponse>(testPath, configuration).split(config(true));
+
+        TestSubscriber subscriber = new TestSubscriber();
+        split.publisher().subscribe(subscriber);
+        subscriber.subscription.request(2);
+        writeRange(subscriber.transformers.get(1), 10, 19).get(5, TimeUnit.SECONDS);
+        writeRange(subscriber.transformers.get(0), 0, 9).get(5, TimeUnit.SECONDS);
+        subscriber.subscription.cancel();
+
+        split.resultFuture().get(5, TimeUnit.SECONDS);
+        assertThat(new String(Files.readAllBytes(testPath), StandardCharsets.UTF_8)).isEqualTo("xxxxx" + CONTENT);
+    }
+
+    @Test
+    void split_rangeFails_shouldFailResultAndDeleteFile() throws Exception {
+        AsyncResponseTransformer.SplitResult<SdkResponse, SdkResponse> split =
+            new FileAsyncResponseTransformer<SdkResponse>(testPath).split(config(true));
+
+        TestSubscriber subscriber = new TestSubscriber();
+        split.publisher().subscribe(subscriber);
+        subscriber.subscription.request(2);
+        writeRange(subscriber.transformers.get(0), 0, 4).get(5, TimeUnit.SECONDS);
+        assertThat(testPath).exists();
+
+        AsyncResponseTransformer<SdkResponse, SdkResponse> failing = subscriber.transformers.get(1);
+        failing.prepare();
+        RuntimeException error = new RuntimeException("boom");
+        failing.exceptionOccurred(error);
+
+        assertThatThrownBy(() -> split.resultFuture().get(5, TimeUnit.SECONDS)).hasCause(error);
+        assertThat(subscriber.error).isSameAs(error);
+        assertThat(testPath).doesNotExist();
+    }
+
+    @Test
+    void contentStartOffset_shouldParseContentRangeHeader() {
+        assertThat(FileAsyncResponseTransformerPublisher.contentStartOffset(response("bytes 100-199/1000"))).isEqualTo(100L);
+        assertThat(FileAsyncResponseTransformerPublisher.contentStartOffset(response(null))).isZero();
+        assertThat(FileAsyncResponseTransformerPublisher.contentStartOffset(new Object())).isZero();
+        assertThatThrownBy(() -> FileAsyncResponseTransformerPublisher.contentStartOffset(response("invalid")))
+            .hasMessageContaining("Content-Range");
+    }
+
+    private static SplittingTransformerConfiguration config(boolean parallel) {
+        return SplittingTransformerConfiguration.builder()
+                                                .bufferSizeInBytes(1024L)
+                                                .parallelSplitEnabled(parallel)
+                                                .build();
+    }
+
+    private static CompletableFuture<SdkResponse> writeRange(AsyncResponseTransformer<SdkResponse, SdkResponse> transformer,
+                                                             int start, int end) {
+        CompletableFuture<SdkResponse> future = transformer.prepare();
+        transformer.onResponse(response("bytes " + start + "-" + end + "/" + CONTENT.length()));
+        String content = CONTENT.substring(start, end + 1);
+        transformer.onStream(SdkPublisher.adapt(
+            Flowable.just(ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8)))));
+        return future;
+    }
+
+    private static SdkResponse response(String contentRange) {
+        SdkHttpResponse.Builder httpResponse = SdkHttpResponse.builder().statusCode(206);
+        if (contentRange != null) {
+            httpResponse.putHeader("Content-Range", contentRange);
+        }
+        return VoidSdkResponse.builder().sdkHttpResponse(httpResponse.build()).build();
+    }
+
+    private static final class TestSubscriber implements Subscriber<AsyncResponseTransformer<SdkResponse, SdkResponse>> {
+        private final List<AsyncResponseTransformer<SdkResponse, SdkResponse>> transformers = new ArrayList<>();
+        private Subscription subscription;
+        private Throwable error;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            this.subscription = s;
+        }
+
+        @Override
+        public void onNext(AsyncResponseTransformer<SdkResponse, SdkResponse> transformer) {
+            transformers.add(transformer);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            this.error = t;
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
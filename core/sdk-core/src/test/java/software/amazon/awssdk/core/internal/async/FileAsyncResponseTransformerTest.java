@@ -41,6 +41,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -55,6 +56,7 @@ import software.amazon.awssdk.core.FileTransformerConfiguration.FileWriteOption;
 import software.amazon.awssdk.core.FileTransformerConfiguration.FailureBehavior;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.internal.util.NoopSubscription;
+import software.amazon.awssdk.utils.async.BorrowedByteBuffers;
 
 /**
  * Tests for {@link FileAsyncResponseTransformer}.
@@ -309,6 +311,22 @@ class FileAsyncResponseTransformerTest {
 
     }
 
+    @Test
+    void borrowedBuffers_shouldBeRetainedUntilWritten() throws Exception {
+        Path testPath = testFs.getPath("test_file.txt");
+        FileAsyncResponseTransformer<String> transformer = new FileAsyncResponseTransformer<>(testPath);
+        CompletableFuture<String> future = transformer.prepare();
+        transformer.onResponse("foobar");
+
+        String content = RandomStringUtils.randomAlphanumeric(3000);
+        AtomicInteger releases = new AtomicInteger();
+        transformer.onStream(lendingPublisher(content, 1000, releases));
+
+        future.get(10, TimeUnit.SECONDS);
+        assertThat(releases).hasValue(3);
+        assertThat(testPath).hasContent(content);
+    }
+
     @Test
     void onStreamFailed_shouldCompleteFutureExceptionally() {
         Path testPath = testFs.getPath("test_file.txt");
@@ -341,6 +359,43 @@ class FileAsyncResponseTransformerTest {
                           .withCause(runtimeException);
     }
 
+    /**
+     * Lends each chunk of the content as a direct buffer that is zeroed once released, so that a write made after the release
+     * corrupts the file.
+     */
+    private static SdkPublisher<ByteBuffer> lendingPublisher(String content, int chunkSize, AtomicInteger releases) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        return s -> s.onSubscribe(new Subscription() {
+            private int position;
+            private boolean completed;
+
+            @Override
+            public synchronized void request(long n) {
+                for (long i = 0; i < n && position < bytes.length; i++) {
+                    int length = Math.min(chunkSize, bytes.length - position);
+                    ByteBuffer chunk = ByteBuffer.allocateDirect(length);
+                    chunk.put(bytes, position, length).flip();
+                    position += length;
+                    Runnable release = () -> {
+                        for (int j = 0; j < length; j++) {
+                            chunk.put(j, (byte) 0);
+                        }
+                        releases.incrementAndGet();
+                    };
+                    BorrowedByteBuffers.lend(chunk, release, s::onNext);
+                }
+                if (position == bytes.length && !completed) {
+                    completed = true;
+                    s.onComplete();
+                }
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+    }
+
     private static SdkPublisher<ByteBuffer> testPublisher(String content) {
         return SdkPublisher.adapt(Flowable.just(ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8))));
     }
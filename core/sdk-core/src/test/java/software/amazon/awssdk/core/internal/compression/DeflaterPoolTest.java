@@ -0,0 +1,64 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.zip.Deflater;
+import org.junit.jupiter.api.Test;
+
+public class DeflaterPoolTest {
+
+    @Test
+    public void acquire_afterRelease_reusesDeflater() {
+        DeflaterPool pool = new DeflaterPool(Deflater.DEFAULT_COMPRESSION, 1);
+        Deflater deflater = pool.acquire();
+        pool.release(deflater);
+
+        assertThat(pool.pooledDeflaters()).isEqualTo(1);
+        assertThat(pool.acquire()).isSameAs(deflater);
+        assertThat(pool.pooledDeflaters()).isZero();
+    }
+
+    @Test
+    public void release_resetsDeflater() {
+        DeflaterPool pool = new DeflaterPool(Deflater.DEFAULT_COMPRESSION, 1);
+        Deflater deflater = pool.acquire();
+        deflater.setInput(new byte[] {1, 2, 3});
+        deflater.finish();
+        deflater.deflate(new byte[64]);
+        pool.release(deflater);
+
+        Deflater reused = pool.acquire();
+        assertThat(reused.finished()).isFalse();
+        assertThat(reused.getBytesRead()).isZero();
+    }
+
+    @Test
+    public void release_whenPoolIsFull_doesNotPoolDeflater() {
+        DeflaterPool pool = new DeflaterPool(Deflater.DEFAULT_COMPRESSION, 1);
+        Deflater first = pool.acquire();
+        Deflater second = pool.acquire();
+        assertThat(first).isNotSameAs(second);
+
+        pool.release(first);
+        pool.release(second);
+
+        assertThat(pool.pooledDeflaters()).isEqualTo(1);
+        assertThat(pool.acquire()).isSameAs(first);
+    }
+}
@@ -21,10 +21,20 @@ import static org.hamcrest.core.Is.is;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
 import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import org.junit.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.compression.Compressor;
+import software.amazon.awssdk.utils.IoUtils;
 
 public class GzipCompressorTest {
     private static final Compressor gzipCompressor = new GzipCompressor();
@@ -53,4 +63,116 @@ public class GzipCompressorTest {
 
         assertThat(decompressedData, is(originalData));
     }
+
+    @Test
+    public void compress_matchesGzipOutputStream() throws IOException {
+        for (int size : new int[] {0, 1, 100, 8 * 1024, 100_000, 1_000_000}) {
+            byte[] originalData = randomCompressibleBytes(size);
+            byte[] expected = gzipOutputStream(originalData);
+
+            assertThat(gzipCompressor.compress(originalData), is(expected));
+            assertThat(gzipCompressor.compress(SdkBytes.fromByteArray(originalData)).asByteArray(), is(expected));
+            assertThat(IoUtils.toByteArray(gzipCompressor.compress(new ByteArrayInputStream(originalData))), is(expected));
+        }
+    }
+
+    @Test
+    public void compressByteBuffer_onlyCompressesRemainingBytes() throws IOException {
+        byte[] originalData = randomCompressibleBytes(50_000);
+        byte[] expected = gzipOutputStream(Arrays.copyOfRange(originalData, 100, 40_100));
+
+        ByteBuffer heapBuffer = ByteBuffer.wrap(originalData, 100, 40_000).slice();
+        ByteBuffer directBuffer = ByteBuffer.allocateDirect(40_000);
+        directBuffer.put(originalData, 100, 40_000).flip();
+
+        assertThat(toBytes(gzipCompressor.compress(heapBuffer)), is(expected));
+        assertThat(toBytes(gzipCompressor.compress(directBuffer)), is(expected));
+    }
+
+    @Test
+    public void compress_releasesDeflatersToPool() {
+        gzipCompressor.compress(COMPRESSABLE_STRING.getBytes(StandardCharsets.UTF_8));
+        int pooled = GzipCompressor.pooledDeflaters();
+        assertThat(pooled > 0, is(true));
+
+        gzipCompressor.compress(COMPRESSABLE_STRING.getBytes(StandardCharsets.UTF_8));
+        assertThat(GzipCompressor.pooledDeflaters(), is(pooled));
+    }
+
+    @Test
+    public void compressInputStream_deflatesContentAsItIsRead() throws IOException {
+        byte[] originalData = randomCompressibleBytes(1_000_000);
+        CountingInputStream content = new CountingInputStream(new ByteArrayInputStream(originalData));
+
+        InputStream compressed = gzipCompressor.compress(content);
+        assertThat(content.bytesRead, is(0L));
+
+        byte[] firstBytes = new byte[100];
+        int read = compressed.read(firstBytes);
+        assertThat(read > 0, is(true));
+        assertThat(content.bytesRead < originalData.length, is(true));
+
+        InputStream rest = new SequenceInputStream(new ByteArrayInputStream(firstBytes, 0, read), compressed);
+        assertThat(IoUtils.toByteArray(new GZIPInputStream(rest)), is(originalData));
+    }
+
+    @Test
+    public void compressInputStream_releasesDeflaterOnEndOfStreamOrClose() throws IOException {
+        gzipCompressor.compress(COMPRESSABLE_STRING.getBytes(StandardCharsets.UTF_8));
+        int pooled = GzipCompressor.pooledDeflaters();
+
+        InputStream exhausted = gzipCompressor.compress(new ByteArrayInputStream(randomCompressibleBytes(100_000)));
+        assertThat(GzipCompressor.pooledDeflaters(), is(pooled - 1));
+        IoUtils.drainInputStream(exhausted);
+        assertThat(GzipCompressor.pooledDeflaters(), is(pooled));
+
+        InputStream closed = gzipCompressor.compress(new ByteArrayInputStream(randomCompressibleBytes(100_000)));
+        closed.read(new byte[100]);
+        closed.close();
+        closed.close();
+        assertThat(GzipCompressor.pooledDeflaters(), is(pooled));
+    }
+
+    private static byte[] randomCompressibleBytes(int size) {
+        Random random = new Random(size);
+        byte[] bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) ('a' + random.nextInt(8));
+        }
+        return bytes;
+    }
+
+    private static byte[] gzipOutputStream(byte[] content) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(baos)) {
+            gzip.write(content);
+        }
+        byte[] compressed = baos.toByteArray();
+        // The OS header field written by GZIPOutputStream differs between JDK versions
+        compressed[9] = (byte) 0xff;
+        return compressed;
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private long bytesRead;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                bytesRead += read;
+            }
+            return read;
+        }
+    }
+
+    private static byte[] toBytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.endpoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.endpoints.Endpoint;
+import software.amazon.awssdk.endpoints.EndpointProvider;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
+
+public class EndpointResolutionCacheTest {
+    private static final EndpointProvider PROVIDER = new EndpointProvider() {
+    };
+
+    @Test
+    public void resolve_equalParams_resolvesOnce() {
+        EndpointResolutionCache cache = EndpointResolutionCache.create(10);
+        CountingResolver resolver = new CountingResolver();
+
+        Endpoint first = cache.resolve(PROVIDER, "us-east-1", resolver, NoOpMetricCollector.create());
+        Endpoint second = cache.resolve(PROVIDER, new String("us-east-1"), resolver, NoOpMetricCollector.create());
+
+        assertThat(second).isSameAs(first);
+        assertThat(resolver.calls.get()).isEqualTo(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void resolve_differentParams_resolvesEach() {
+        EndpointResolutionCache cache = EndpointResolutionCache.create(10);
+        CountingResolver resolver = new CountingResolver();
+
+        Endpoint east = cache.resolve(PROVIDER, "us-east-1", resolver, NoOpMetricCollector.create());
+        Endpoint west = cache.resolve(PROVIDER, "us-west-2", resolver, NoOpMetricCollector.create());
+
+        assertThat(east.url()).isEqualTo(URI.create("https://us-east-1.example.com"));
+        assertThat(west.url()).isEqualTo(URI.create("https://us-west-2.example.com"));
+        assertThat(resolver.calls.get()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void resolve_equalCacheKeys_resolvesOnceIgnoringOtherParams() {
+        EndpointResolutionCache cache = EndpointResolutionCache.create(10);
+        CountingResolver resolver = new CountingResolver();
+
+        Endpoint first = cache.resolve(PROVIDER, "us-east-1", "us-east-1/key-1", p -> resolver.apply("us-east-1"),
+                                       NoOpMetricCollector.create());
+        Endpoint second = cache.resolve(PROVIDER, "us-east-1", "us-east-1/key-2", p -> resolver.apply("us-east-1"),
+                                        NoOpMetricCollector.create());
+
+        assertThat(second).isSameAs(first);
+        assertThat(resolver.calls.get()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void resolve_differentProviders_doNotShareEntries() {
+        EndpointResolutionCache cache = EndpointResolutionCache.create(10);
+        CountingResolver resolver = new CountingResolver();
+        EndpointProvider otherProvider = new EndpointProvider() {
+        };
+
+        cache.resolve(PROVIDER, "us-east-1", resolver, NoOpMetricCollector.create());
+        cache.resolve(otherProvider, "us-east-1", resolver, NoOpMetricCollector.create());
+
+        assertThat(resolver.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void resolve_resolverThrows_isNotCached() {
+        EndpointResolutionCache cache = EndpointResolutionCache.create(10);
+        CountingResolver resolver = new CountingResolver();
+        Function<String, Endpoint> failingResolver = p -> {
+            throw new IllegalStateException("Invalid region");
+        };
+
+        assertThatThrownBy(() -> cache.resolve(PROVIDER, "us-east-1", failingResolver, NoOpMetricCollector.create()))
+            .isInstanceOf(IllegalStateException.class);
+        cache.resolve(PROVIDER, "us-east-1", resolver, NoOpMetricCollector.create());
+
+        assertThat(resolver.calls.get()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void resolve_full_evictsToStayBounded() {
+        EndpointResolutionCache cache = EndpointResolutionCache.create(3);
+        CountingResolver resolver = new CountingResolver();
+
+        for (int i = 0; i < 10; i++) {
+            cache.resolve(PROVIDER, "region-" + i, resolver, NoOpMetricCollector.create());
+        }
+
+        assertThat(cache.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void resolve_reportsCacheHitMetric() {
+        EndpointResolutionCache cache = EndpointResolutionCache.create(10);
+        CountingResolver resolver = new CountingResolver();
+
+        MetricCollector miss = MetricCollector.create("ApiCall");
+        cache.resolve(PROVIDER, "us-east-1", resolver, miss);
+        MetricCollector hit = MetricCollector.create("ApiCall");
+        cache.resolve(PROVIDER, "us-east-1", resolver, hit);
+
+        assertThat(cacheHitMetric(miss.collect())).isFalse();
+        assertThat(cacheHitMetric(hit.collect())).isTrue();
+    }
+
+    @Test
+    public void create_notPositiveSize_throws() {
+        assertThatThrownBy(() -> EndpointResolutionCache.create(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Boolean cacheHitMetric(MetricCollection metrics) {
+        return metrics.metricValues(CoreMetric.ENDPOINT_RESOLUTION_CACHE_HIT).get(0);
+    }
+
+    private static final class CountingResolver implements Function<String, Endpoint> {
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public Endpoint apply(String region) {
+            calls.incrementAndGet();
+            return Endpoint.builder().url(URI.create("https://" + region + ".example.com")).build();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+public class ThreadPerCallTimeoutTrackerTest {
+
+    @Test
+    public void timeoutElapsed_interruptsThreadAndAborts() throws InterruptedException {
+        Thread caller = new Thread(() -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                // Expected
+            }
+        });
+        caller.start();
+        CountDownLatch aborted = new CountDownLatch(1);
+
+        // The abortable is set before the tracker starts so the timer can never fire before it is in place
+        SyncTimeoutTask task = new SyncTimeoutTask(caller);
+        task.abortable(aborted::countDown);
+        TimeoutTracker tracker = ThreadPerCallTimeoutTracker.start(task, 10, Thread::new);
+
+        assertThat(aborted.await(5, TimeUnit.SECONDS)).isTrue();
+        caller.join(5_000);
+        assertThat(caller.isAlive()).isFalse();
+        assertThat(tracker.hasExecuted()).isTrue();
+    }
+
+    @Test
+    public void cancelledBeforeTimeout_timerThreadExitsWithoutRunningTask() throws InterruptedException {
+        AtomicReference<Thread> timerThread = new AtomicReference<>();
+        TimeoutTracker tracker = ThreadPerCallTimeoutTracker.start(new SyncTimeoutTask(Thread.currentThread()), 60_000, r -> {
+            Thread thread = new Thread(r);
+            timerThread.set(thread);
+            return thread;
+        });
+
+        tracker.cancel();
+        timerThread.get().join(5_000);
+
+        assertThat(timerThread.get().isAlive()).isFalse();
+        assertThat(tracker.hasExecuted()).isFalse();
+        assertThat(Thread.interrupted()).isFalse();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.utils.IoUtils;
+
+class ByteBufferCollectingOutputStreamTest {
+    @Test
+    void write_doesNotModifyBufferPosition() {
+        ByteBufferCollectingOutputStream stream = new ByteBufferCollectingOutputStream();
+        ByteBuffer buffer = ByteBuffer.wrap(bytes("hello"));
+        stream.write(buffer);
+
+        assertThat(buffer.position()).isZero();
+        assertThat(stream.toByteArrayUnsafe()).isEqualTo(bytes("hello"));
+    }
+
+    @Test
+    void write_directBuffers_areCollectedInOrder() {
+        ByteBufferCollectingOutputStream stream = new ByteBufferCollectingOutputStream();
+        for (String part : new String[] {"a", "bc", "def"}) {
+            ByteBuffer direct = ByteBuffer.allocateDirect(part.length());
+            direct.put(bytes(part));
+            direct.flip();
+            stream.write(direct);
+        }
+
+        assertThat(stream.size()).isEqualTo(6);
+        assertThat(stream.toByteArrayUnsafe()).isEqualTo(bytes("abcdef"));
+    }
+
+    @Test
+    void forContentLength_exactLength_returnsArrayWithoutCopying() {
+        ByteBufferCollectingOutputStream stream = ByteBufferCollectingOutputStream.forContentLength("10");
+        stream.write(ByteBuffer.wrap(bytes("01234")));
+        stream.write(ByteBuffer.wrap(bytes("56789")));
+
+        assertThat(stream.toByteArrayUnsafe()).isSameAs(stream.toByteArrayUnsafe())
+                                              .isEqualTo(bytes("0123456789"));
+    }
+
+    @Test
+    void forContentLength_lengthTooSmall_growsToFitContent() {
+        ByteBufferCollectingOutputStream stream = ByteBufferCollectingOutputStream.forContentLength("2");
+        stream.write(ByteBuffer.wrap(bytes("0123456789")));
+        stream.write(ByteBuffer.wrap(bytes("abc")));
+
+        assertThat(stream.toByteArrayUnsafe()).isEqualTo(bytes("0123456789abc"));
+    }
+
+    @Test
+    void forContentLength_noContent_returnsEmptyArray() {
+        assertThat(ByteBufferCollectingOutputStream.forContentLength("1024").toByteArrayUnsafe()).isEmpty();
+    }
+
+    @Test
+    void forContentLength_invalidValues_collectContent() {
+        for (String contentLength : new String[] {null, "", "-1", "abc", String.valueOf(Long.MAX_VALUE)}) {
+            ByteBufferCollectingOutputStream stream = ByteBufferCollectingOutputStream.forContentLength(contentLength);
+            stream.write(ByteBuffer.wrap(bytes("hello")));
+            assertThat(stream.toByteArrayUnsafe()).isEqualTo(bytes("hello"));
+        }
+    }
+
+    @Test
+    void toInputStream_readsWrittenBytes() throws Exception {
+        ByteBufferCollectingOutputStream stream = ByteBufferCollectingOutputStream.forContentLength("100");
+        stream.write(ByteBuffer.wrap(bytes("hello")));
+
+        assertThat(IoUtils.toByteArray(stream.toInputStream())).isEqualTo(bytes("hello"));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
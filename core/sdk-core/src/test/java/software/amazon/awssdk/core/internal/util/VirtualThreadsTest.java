@@ -0,0 +1,47 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+public class VirtualThreadsTest {
+
+    @Test
+    public void isVirtual_platformThread_returnsFalse() {
+        assertThat(VirtualThreads.isVirtual(Thread.currentThread())).isFalse();
+    }
+
+    @Test
+    public void newVirtualThread_createsVirtualThreadWhenSupported() throws InterruptedException {
+        AtomicBoolean ranOnVirtualThread = new AtomicBoolean();
+        Runnable task = () -> ranOnVirtualThread.set(VirtualThreads.isVirtual(Thread.currentThread()));
+
+        if (!VirtualThreads.isSupported()) {
+            assertThatThrownBy(() -> VirtualThreads.newVirtualThread(task)).isInstanceOf(UnsupportedOperationException.class);
+            return;
+        }
+
+        Thread thread = VirtualThreads.newVirtualThread(task);
+        thread.start();
+        thread.join();
+
+        assertThat(ranOnVirtualThread).isTrue();
+    }
+}
@@ -30,6 +30,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Random;
 import org.junit.Rule;
 import org.junit.Test;
@@ -79,6 +80,40 @@ public class RequestBodyTest {
         assertThat(requestBody.contentType()).isEqualTo(Mimetype.MIMETYPE_OCTET_STREAM);
     }
 
+    @Test
+    public void fileConfiguration_positionAndNumBytesToRead_readsRange() throws IOException {
+        byte[] content = randomFileContent(1000);
+        Path file = folder.newFile().toPath();
+        Files.write(file, content);
+
+        for (boolean memoryMapped : new boolean[] {false, true}) {
+            RequestBody requestBody = RequestBody.fromFile(c -> c.path(file)
+                                                                 .position(100L)
+                                                                 .numBytesToRead(500L)
+                                                                 .memoryMapped(memoryMapped));
+
+            assertThat(requestBody.optionalContentLength()).hasValue(500L);
+            try (InputStream stream = requestBody.contentStreamProvider().newStream()) {
+                assertThat(IoUtils.toByteArray(stream)).isEqualTo(Arrays.copyOfRange(content, 100, 600));
+            }
+        }
+    }
+
+    @Test
+    public void fileConfiguration_memoryMapped_readsWholeFileFromPosition() throws IOException {
+        byte[] content = randomFileContent(1000);
+        Path file = folder.newFile().toPath();
+        Files.write(file, content);
+
+        RequestBody requestBody = RequestBody.fromFile(c -> c.path(file).position(10L).memoryMapped(true));
+
+        assertThat(requestBody.optionalContentLength()).hasValue(990L);
+        try (InputStream stream = requestBody.contentStreamProvider().newStream()) {
+            assertThat(stream.skip(90)).isEqualTo(90);
+            assertThat(IoUtils.toByteArray(stream)).isEqualTo(Arrays.copyOfRange(content, 100, 1000));
+        }
+    }
+
     @Test
     public void streamConstructorHasCorrectContentType() {
         StringInputStream inputStream = new StringInputStream("hello world");
@@ -178,4 +213,10 @@ public class RequestBodyTest {
 
         return BinaryUtils.toHex(CRC32.getChecksumBytes());
     }
+
+    private static byte[] randomFileContent(int size) {
+        byte[] content = new byte[size];
+        new Random().nextBytes(content);
+        return content;
+    }
 }
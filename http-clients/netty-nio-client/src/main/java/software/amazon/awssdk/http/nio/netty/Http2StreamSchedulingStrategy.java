@@ -0,0 +1,45 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * The strategy used to choose which HTTP/2 connection a new stream is opened on, when more than one connection to the same
+ * endpoint can accept it.
+ *
+ * @see Http2Configuration.Builder#streamSchedulingStrategy(Http2StreamSchedulingStrategy)
+ */
+@SdkPublicApi
+public enum Http2StreamSchedulingStrategy {
+    /**
+     * Open the stream on the first connection that has a stream available. This fills connections up to their maximum number
+     * of concurrent streams one after another, so that unneeded connections can be closed when they become idle.
+     * <p>
+     * This is the default strategy.
+     */
+    FIRST_AVAILABLE,
+
+    /**
+     * Open the stream on the connection with the fewest outstanding streams. When several connections have the same number of
+     * outstanding streams, the one with the lowest {@code PING} round-trip time is preferred, provided that health check pings
+     * are enabled with {@link Http2Configuration.Builder#healthCheckPingPeriod}.
+     * <p>
+     * Spreading streams across connections reduces the effect of a slow stream, or of a congested TCP connection, on the
+     * other streams, at the cost of keeping more connections in use.
+     */
+    LEAST_OUTSTANDING_STREAMS
+}
@@ -80,6 +80,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
     private static final AttributeMap NETTY_HTTP_DEFAULTS =
         AttributeMap.builder()
                     .put(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT, Duration.ofSeconds(5))
+                    .put(NettyConfiguration.ZERO_COPY_RESPONSE_BODY, false)
                     .build();
 
     private final SdkEventLoopGroup sdkEventLoopGroup;
@@ -109,6 +110,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
                                              .maxStreams(maxStreams)
                                              .initialWindowSize(initialWindowSize)
                                              .healthCheckPingPeriod(resolveHealthCheckPingPeriod(http2Configuration))
+                                             .streamSchedulingStrategy(resolveStreamSchedulingStrategy(http2Configuration))
                                              .sdkEventLoopGroup(sdkEventLoopGroup)
                                              .sslProvider(sslProvider)
                                              .proxyConfiguration(builder.proxyConfiguration)
@@ -238,6 +240,13 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         return null;
     }
 
+    private Http2StreamSchedulingStrategy resolveStreamSchedulingStrategy(Http2Configuration http2Configuration) {
+        if (http2Configuration == null || http2Configuration.streamSchedulingStrategy() == null) {
+            return Http2StreamSchedulingStrategy.FIRST_AVAILABLE;
+        }
+        return http2Configuration.streamSchedulingStrategy();
+    }
+
     private SdkEventLoopGroup nonManagedEventLoopGroup(SdkEventLoopGroup eventLoopGroup) {
         return SdkEventLoopGroup.create(new NonManagedEventLoopGroup(eventLoopGroup.eventLoopGroup()),
                                         eventLoopGroup.channelFactory());
@@ -554,6 +563,20 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          * See https://netty.io/news/2016/05/26/4-1-0-Final.html
          */
         Builder useNonBlockingDnsResolver(Boolean useNonBlockingDnsResolver);
+
+        /**
+         * Configure whether response body content is handed to the response subscriber without first being copied out of
+         * Netty's (typically pooled, direct) buffers. False by default.
+         * <p>
+         * When enabled, each {@link java.nio.ByteBuffer} delivered to the response publisher's subscriber is only valid until
+         * its {@code onNext} method returns, after which the memory is returned to Netty's allocator. Subscribers that need
+         * the data afterwards must either copy it, or call
+         * {@link software.amazon.awssdk.utils.async.BorrowedByteBuffers#retain()} from within {@code onNext} and run the
+         * returned release action once they are done with the buffer. The SDK's built-in response transformers (for example
+         * {@code AsyncResponseTransformer.toFile} and {@code AsyncResponseTransformer.toBytes}) follow this contract, but
+         * custom subscribers supplied via {@code AsyncResponseTransformer.toPublisher} must as well before this is enabled.
+         */
+        Builder zeroCopyResponseBody(Boolean zeroCopyResponseBody);
     }
 
     /**
@@ -813,6 +836,16 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             useNonBlockingDnsResolver(useNonBlockingDnsResolver);
         }
 
+        @Override
+        public Builder zeroCopyResponseBody(Boolean zeroCopyResponseBody) {
+            standardOptions.put(NettyConfiguration.ZERO_COPY_RESPONSE_BODY, zeroCopyResponseBody);
+            return this;
+        }
+
+        public void setZeroCopyResponseBody(Boolean zeroCopyResponseBody) {
+            zeroCopyResponseBody(zeroCopyResponseBody);
+        }
+
         @Override
         public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             if (standardOptions.get(SdkHttpConfigurationOption.TLS_NEGOTIATION_TIMEOUT) == null) {
@@ -51,6 +51,12 @@ public final class ChannelAttributeKey {
     public static final AttributeKey<PingTracker> PING_TRACKER =
         NettyUtils.getOrCreateAttributeKey("aws.http.nio.netty.async.h2.pingTracker");
 
+    /**
+     * Smoothed round-trip time, in nanoseconds, of the health check PING frames sent on an HTTP/2 connection.
+     */
+    public static final AttributeKey<Long> HTTP2_PING_ROUND_TRIP_TIME_NANOS =
+        NettyUtils.getOrCreateAttributeKey("aws.http.nio.netty.async.h2.pingRoundTripTimeNanos");
+
     public static final AttributeKey<Http2Connection> HTTP2_CONNECTION =
         NettyUtils.getOrCreateAttributeKey("aws.http.nio.netty.async.http2Connection");
 
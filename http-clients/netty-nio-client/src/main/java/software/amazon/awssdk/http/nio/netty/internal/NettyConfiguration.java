@@ -42,6 +42,11 @@ public final class NettyConfiguration {
     public static final int EVENTLOOP_SHUTDOWN_FUTURE_TIMEOUT_SECONDS = 16;
     public static final int HTTP2_CONNECTION_PING_TIMEOUT_SECONDS = 5;
 
+    /**
+     * Whether response body content should be lent to the subscriber without being copied to the heap first.
+     */
+    public static final AttributeMap.Key<Boolean> ZERO_COPY_RESPONSE_BODY = new NettyOption<>(Boolean.class);
+
     private final AttributeMap configuration;
 
     public NettyConfiguration(AttributeMap configuration) {
@@ -107,4 +112,14 @@ public final class NettyConfiguration {
     public Duration tlsHandshakeTimeout() {
         return configuration.get(SdkHttpConfigurationOption.TLS_NEGOTIATION_TIMEOUT);
     }
+
+    public boolean zeroCopyResponseBody() {
+        return Boolean.TRUE.equals(configuration.get(ZERO_COPY_RESPONSE_BODY));
+    }
+
+    private static final class NettyOption<T> extends AttributeMap.Key<T> {
+        private NettyOption(Class<T> valueType) {
+            super(valueType);
+        }
+    }
 }
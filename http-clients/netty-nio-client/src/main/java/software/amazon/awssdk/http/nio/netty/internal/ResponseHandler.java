@@ -69,6 +69,7 @@ import software.amazon.awssdk.http.nio.netty.internal.utils.ChannelUtils;
 import software.amazon.awssdk.http.nio.netty.internal.utils.NettyClientLogger;
 import software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils;
 import software.amazon.awssdk.utils.FunctionalUtils.UnsafeRunnable;
+import software.amazon.awssdk.utils.async.BorrowedByteBuffers;
 import software.amazon.awssdk.utils.async.DelegatingSubscription;
 
 @Sharable
@@ -272,6 +273,7 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
         private final RequestContext requestContext;
         private final CompletableFuture<Void> executeFuture;
         private final AtomicBoolean isDone = new AtomicBoolean(false);
+        private final boolean zeroCopyResponseBody;
 
         PublisherAdapter(StreamedHttpResponse response, ChannelHandlerContext channelContext,
                          RequestContext requestContext, CompletableFuture<Void> executeFuture) {
@@ -279,6 +281,8 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
             this.channelContext = channelContext;
             this.requestContext = requestContext;
             this.executeFuture = executeFuture;
+            this.zeroCopyResponseBody = requestContext.configuration() != null
+                                        && requestContext.configuration().zeroCopyResponseBody();
         }
 
         @Override
@@ -322,6 +326,16 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                         return;
                     }
 
+                    if (zeroCopyResponseBody && httpContent.content().nioBufferCount() == 1) {
+                        // The subscriber has opted in to borrowing Netty's buffer; it is released once onNext returns,
+                        // unless the subscriber retained it through BorrowedByteBuffers.
+                        tryCatch(() -> BorrowedByteBuffers.lend(httpContent.content().nioBuffer(),
+                                                                () -> ReferenceCountUtil.release(httpContent),
+                                                                subscriber::onNext),
+                                 this::notifyError);
+                        return;
+                    }
+
                     // Needed to prevent use-after-free bug if the subscriber's onNext is asynchronous
                     ByteBuffer byteBuffer =
                         tryCatchFinally(() -> copyToByteBuffer(httpContent.content()),
@@ -43,6 +43,7 @@ import java.io.IOException;
 import java.nio.channels.ClosedChannelException;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -53,6 +54,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.nio.netty.Http2StreamSchedulingStrategy;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.utils.BetterFixedChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.utils.NettyClientLogger;
@@ -65,7 +67,8 @@ import software.amazon.awssdk.utils.Validate;
  * for each HTTP/2 stream using {@link Http2StreamChannelBootstrap} with the parent channel being
  * the actual socket channel. This implementation assumes that all connections have the same setting
  * for MAX_CONCURRENT_STREAMS. Concurrent requests are load balanced across all available connections,
- * when the max concurrency for a connection is reached then a new connection will be opened.
+ * when the max concurrency for a connection is reached then a new connection will be opened. Which of the available
+ * connections a stream is opened on is decided by the {@link Http2StreamSchedulingStrategy}.
  *
  * <p>
  * <b>Note:</b> This enforces no max concurrency. Relies on being wrapped with a {@link BetterFixedChannelPool}
@@ -92,6 +95,7 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
     private final EventLoopGroup eventLoopGroup;
     private final Set<MultiplexedChannelRecord> connections;
     private final Duration idleConnectionTimeout;
+    private final Http2StreamSchedulingStrategy streamSchedulingStrategy;
 
     private AtomicBoolean closed = new AtomicBoolean(false);
 
@@ -101,10 +105,22 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
     Http2MultiplexedChannelPool(ChannelPool connectionPool,
                                 EventLoopGroup eventLoopGroup,
                                 Duration idleConnectionTimeout) {
+        this(connectionPool, eventLoopGroup, idleConnectionTimeout, Http2StreamSchedulingStrategy.FIRST_AVAILABLE);
+    }
+
+    /**
+     * @param connectionPool Connection pool for parent channels (i.e. the socket channel).
+     * @param streamSchedulingStrategy How to choose the connection a stream is opened on.
+     */
+    Http2MultiplexedChannelPool(ChannelPool connectionPool,
+                                EventLoopGroup eventLoopGroup,
+                                Duration idleConnectionTimeout,
+                                Http2StreamSchedulingStrategy streamSchedulingStrategy) {
         this.connectionPool = connectionPool;
         this.eventLoopGroup = eventLoopGroup;
         this.connections = ConcurrentHashMap.newKeySet();
         this.idleConnectionTimeout = idleConnectionTimeout;
+        this.streamSchedulingStrategy = Validate.paramNotNull(streamSchedulingStrategy, "streamSchedulingStrategy");
     }
 
     @SdkTestInternalApi
@@ -112,7 +128,17 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
                                 EventLoopGroup eventLoopGroup,
                                 Set<MultiplexedChannelRecord> connections,
                                 Duration idleConnectionTimeout) {
-        this(connectionPool, eventLoopGroup, idleConnectionTimeout);
+        this(connectionPool, eventLoopGroup, connections, idleConnectionTimeout,
+             Http2StreamSchedulingStrategy.FIRST_AVAILABLE);
+    }
+
+    @SdkTestInternalApi
+    Http2MultiplexedChannelPool(ChannelPool connectionPool,
+                                EventLoopGroup eventLoopGroup,
+                                Set<MultiplexedChannelRecord> connections,
+                                Duration idleConnectionTimeout,
+                                Http2StreamSchedulingStrategy streamSchedulingStrategy) {
+        this(connectionPool, eventLoopGroup, idleConnectionTimeout, streamSchedulingStrategy);
         this.connections.addAll(connections);
     }
 
@@ -127,7 +153,7 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
             return promise.setFailure(new IOException("Channel pool is closed!"));
         }
 
-        for (MultiplexedChannelRecord multiplexedChannel : connections) {
+        for (MultiplexedChannelRecord multiplexedChannel : connectionsInSchedulingOrder()) {
             if (acquireStreamOnInitializedConnection(multiplexedChannel, promise)) {
                 return promise;
             }
@@ -138,6 +164,23 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
         return promise;
     }
 
+    /**
+     * Order the connections in which a stream acquisition should be attempted, according to the stream scheduling strategy.
+     * The load of each connection is captured before sorting, because it may change concurrently.
+     */
+    private Collection<MultiplexedChannelRecord> connectionsInSchedulingOrder() {
+        if (streamSchedulingStrategy == Http2StreamSchedulingStrategy.FIRST_AVAILABLE || connections.size() < 2) {
+            return connections;
+        }
+
+        List<ConnectionLoad> loads = new ArrayList<>(connections.size());
+        for (MultiplexedChannelRecord connection : connections) {
+            loads.add(new ConnectionLoad(connection));
+        }
+        loads.sort(null);
+        return loads.stream().map(load -> load.connection).collect(toList());
+    }
+
     private void acquireStreamOnNewConnection(Promise<Channel> promise) {
         Future<Channel> newConnectionAcquire = connectionPool.acquire();
 
@@ -509,4 +552,26 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
             pool.closeAndReleaseParent(ctx.channel(), cause);
         }
     }
+
+    /**
+     * A snapshot of the load of a connection, ordering connections with fewer outstanding streams first, and then connections
+     * with a lower PING round-trip time first.
+     */
+    private static final class ConnectionLoad implements Comparable<ConnectionLoad> {
+        private final MultiplexedChannelRecord connection;
+        private final long outstandingStreams;
+        private final long pingRoundTripTimeNanos;
+
+        private ConnectionLoad(MultiplexedChannelRecord connection) {
+            this.connection = connection;
+            this.outstandingStreams = connection.outstandingStreams();
+            this.pingRoundTripTimeNanos = connection.pingRoundTripTimeNanos();
+        }
+
+        @Override
+        public int compareTo(ConnectionLoad other) {
+            int result = Long.compare(outstandingStreams, other.outstandingStreams);
+            return result != 0 ? result : Long.compare(pingRoundTripTimeNanos, other.pingRoundTripTimeNanos);
+        }
+    }
 }
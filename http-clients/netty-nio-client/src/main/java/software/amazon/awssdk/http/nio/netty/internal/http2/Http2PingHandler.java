@@ -51,6 +51,7 @@ public class Http2PingHandler extends SimpleChannelInboundHandler<Http2PingFrame
     private ScheduledFuture<?> periodicPing;
     private long lastPingSendTime = 0;
     private long lastPingAckTime = 0;
+    private long lastPingSendNanos = 0;
 
     public Http2PingHandler(int pingTimeoutMillis) {
         this.pingTimeoutMillis = pingTimeoutMillis;
@@ -88,6 +89,7 @@ public class Http2PingHandler extends SimpleChannelInboundHandler<Http2PingFrame
         log.debug(ctx.channel(), () -> "Received PING from channel, ack=" + frame.ack());
         if (frame.ack()) {
             lastPingAckTime = System.currentTimeMillis();
+            updateRoundTripTime(ctx.channel(), System.nanoTime() - lastPingSendNanos);
         } else {
             ctx.fireChannelRead(frame);
         }
@@ -119,6 +121,7 @@ public class Http2PingHandler extends SimpleChannelInboundHandler<Http2PingFrame
             } else {
                 log.debug(channel, () -> "Successfully flushed PING frame to connection");
                 lastPingSendTime = System.currentTimeMillis();
+                lastPingSendNanos = System.nanoTime();
                 long flushTime = lastPingSendTime - writeMs;
                 if (flushTime > delayWarningTimeLimitMs) {
                     log.warn(channel, () -> "Flushing PING frame took " + flushTime + "ms");
@@ -141,6 +144,19 @@ public class Http2PingHandler extends SimpleChannelInboundHandler<Http2PingFrame
         });
     }
 
+    /**
+     * Record the smoothed round-trip time of the PING frames on the channel, so that it can be used to choose between
+     * connections. Like TCP's SRTT, each new sample has a weight of 1/8.
+     */
+    private void updateRoundTripTime(Channel channel, long roundTripTimeNanos) {
+        if (lastPingSendNanos == 0 || roundTripTimeNanos < 0) {
+            return;
+        }
+        Long previous = channel.attr(ChannelAttributeKey.HTTP2_PING_ROUND_TRIP_TIME_NANOS).get();
+        long smoothed = previous == null ? roundTripTimeNanos : previous + (roundTripTimeNanos - previous) / 8;
+        channel.attr(ChannelAttributeKey.HTTP2_PING_ROUND_TRIP_TIME_NANOS).set(smoothed);
+    }
+
     private void channelIsUnhealthy(Channel channel, PingFailedException exception) {
         stop();
         channel.pipeline().fireExceptionCaught(exception);
@@ -300,6 +300,22 @@ public class MultiplexedChannelRecord {
         return false;
     }
 
+    /**
+     * @return The number of streams currently claimed on this connection.
+     */
+    long outstandingStreams() {
+        return maxConcurrencyPerConnection - availableChildChannels.get();
+    }
+
+    /**
+     * @return The smoothed PING round-trip time of this connection in nanoseconds, or {@link Long#MAX_VALUE} if it has not been
+     * measured.
+     */
+    long pingRoundTripTimeNanos() {
+        Long roundTripTime = connection.attr(ChannelAttributeKey.HTTP2_PING_ROUND_TRIP_TIME_NANOS).get();
+        return roundTripTime == null ? Long.MAX_VALUE : roundTripTime;
+    }
+
     boolean canBeClosedAndReleased() {
         return state != RecordState.OPEN && availableChildChannels.get() == maxConcurrencyPerConnection;
     }
@@ -49,11 +49,25 @@ public class Http2ConfigurationTest {
         Http2Configuration config1 = Http2Configuration.builder()
                 .maxStreams(7L)
                 .initialWindowSize(42)
+                .streamSchedulingStrategy(Http2StreamSchedulingStrategy.LEAST_OUTSTANDING_STREAMS)
                 .build();
 
         Http2Configuration config2 = config1.toBuilder().build();
 
         assertThat(config1).isEqualTo(config2);
+        assertThat(config2.streamSchedulingStrategy()).isEqualTo(Http2StreamSchedulingStrategy.LEAST_OUTSTANDING_STREAMS);
+    }
+
+    @Test
+    public void equals_differentStreamSchedulingStrategy_notEqual() {
+        Http2Configuration config1 = Http2Configuration.builder()
+                .streamSchedulingStrategy(Http2StreamSchedulingStrategy.FIRST_AVAILABLE)
+                .build();
+        Http2Configuration config2 = config1.toBuilder()
+                .streamSchedulingStrategy(Http2StreamSchedulingStrategy.LEAST_OUTSTANDING_STREAMS)
+                .build();
+
+        assertThat(config1).isNotEqualTo(config2);
     }
 
     @Test
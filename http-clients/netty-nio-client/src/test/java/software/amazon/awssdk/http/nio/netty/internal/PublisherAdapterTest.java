@@ -26,6 +26,7 @@ import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.PROTOCOL_FUTURE;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.REQUEST_CONTEXT_KEY;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.EmptyByteBuf;
 import io.netty.buffer.Unpooled;
@@ -40,7 +41,12 @@ import io.netty.handler.codec.http.HttpVersion;
 import io.reactivex.Flowable;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -56,6 +62,8 @@ import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
 import software.amazon.awssdk.http.nio.netty.internal.nrs.DefaultStreamedHttpResponse;
 import software.amazon.awssdk.http.nio.netty.internal.nrs.StreamedHttpResponse;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.async.BorrowedByteBuffers;
 
 @RunWith(MockitoJUnitRunner.class)
 public class PublisherAdapterTest {
@@ -285,7 +293,56 @@ public class PublisherAdapterTest {
         verify(channelPool).release(channel);
     }
 
-    static final class TestSubscriber implements Subscriber<ByteBuffer> {
+    @Test
+    public void zeroCopyEnabled_contentIsLentAndReleasedAfterOnNext() {
+        ByteBuf content = Unpooled.directBuffer(5).writeBytes("hello".getBytes(StandardCharsets.UTF_8));
+        AtomicBoolean lent = new AtomicBoolean();
+        AtomicInteger refCntDuringOnNext = new AtomicInteger();
+
+        subscribeWithZeroCopy(content, byteBuffer -> {
+            lent.set(BorrowedByteBuffers.isBorrowed() && byteBuffer.isDirect());
+            refCntDuringOnNext.set(content.refCnt());
+        });
+
+        assertThat(lent).isTrue();
+        assertThat(refCntDuringOnNext).hasValue(1);
+        assertThat(content.refCnt()).isZero();
+    }
+
+    @Test
+    public void zeroCopyEnabled_retainedContent_isReleasedByRetention() {
+        ByteBuf content = Unpooled.directBuffer(5).writeBytes("hello".getBytes(StandardCharsets.UTF_8));
+        AtomicReference<Runnable> retention = new AtomicReference<>();
+
+        subscribeWithZeroCopy(content, byteBuffer -> retention.set(BorrowedByteBuffers.retain()));
+
+        assertThat(content.refCnt()).isEqualTo(1);
+        retention.get().run();
+        assertThat(content.refCnt()).isZero();
+    }
+
+    private void subscribeWithZeroCopy(ByteBuf content, Consumer<ByteBuffer> onNext) {
+        NettyConfiguration configuration =
+            new NettyConfiguration(AttributeMap.builder().put(NettyConfiguration.ZERO_COPY_RESPONSE_BODY, true).build());
+        RequestContext zeroCopyRequestContext = new RequestContext(channelPool, eventLoopGroup,
+                                                                   requestContext.executeRequest(), configuration);
+        StreamedHttpResponse streamedHttpResponse =
+            new DefaultStreamedHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
+                                            Flowable.just(new DefaultHttpContent(content)));
+
+        ResponseHandler.PublisherAdapter publisherAdapter =
+            new ResponseHandler.PublisherAdapter(streamedHttpResponse, ctx, zeroCopyRequestContext, executeFuture);
+
+        publisherAdapter.subscribe(new TestSubscriber() {
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                onNext.accept(byteBuffer);
+                super.onNext(byteBuffer);
+            }
+        });
+    }
+
+    static class TestSubscriber implements Subscriber<ByteBuffer> {
 
         private Subscription subscription;
         private boolean isCompleted = false;
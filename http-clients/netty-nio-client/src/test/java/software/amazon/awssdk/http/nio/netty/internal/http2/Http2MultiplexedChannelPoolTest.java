@@ -38,8 +38,12 @@ import io.netty.util.concurrent.FailedFuture;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.Promise;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -47,6 +51,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.nio.netty.Http2StreamSchedulingStrategy;
 import software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey;
 import software.amazon.awssdk.metrics.MetricCollection;
 import software.amazon.awssdk.metrics.MetricCollector;
@@ -260,6 +265,92 @@ public class Http2MultiplexedChannelPoolTest {
         }
     }
 
+    @Test
+    public void leastOutstandingStreams_acquiresStreamOnLeastLoadedConnection() {
+        EmbeddedChannel channel1 = newHttp2Channel();
+        EmbeddedChannel channel2 = newHttp2Channel();
+
+        try {
+            loopGroup.register(channel1).awaitUninterruptibly();
+            loopGroup.register(channel2).awaitUninterruptibly();
+            MultiplexedChannelRecord record1 = new MultiplexedChannelRecord(channel1, 4, null);
+            MultiplexedChannelRecord record2 = new MultiplexedChannelRecord(channel2, 4, null);
+
+            Set<MultiplexedChannelRecord> records = new LinkedHashSet<>(Arrays.asList(record1, record2));
+            Http2MultiplexedChannelPool h2Pool =
+                new Http2MultiplexedChannelPool(mock(ChannelPool.class), loopGroup, records, null,
+                                                Http2StreamSchedulingStrategy.LEAST_OUTSTANDING_STREAMS);
+
+            assertThat(doAcquire(channel1, channel2, h2Pool).parent()).isIn(channel1, channel2);
+            assertThat(doAcquire(channel1, channel2, h2Pool).parent()).isIn(channel1, channel2);
+            assertThat(record1.outstandingStreams()).isEqualTo(1);
+            assertThat(record2.outstandingStreams()).isEqualTo(1);
+
+            Channel stream = doAcquire(channel1, channel2, h2Pool);
+            doAcquire(channel1, channel2, h2Pool);
+            assertThat(record1.outstandingStreams()).isEqualTo(2);
+            assertThat(record2.outstandingStreams()).isEqualTo(2);
+
+            stream.close();
+            h2Pool.release(stream).awaitUninterruptibly();
+            runPendingTasks(channel1, channel2);
+            assertThat(doAcquire(channel1, channel2, h2Pool).parent()).isSameAs(stream.parent());
+        } finally {
+            channel1.close();
+            channel2.close();
+        }
+    }
+
+    @Test
+    public void leastOutstandingStreams_equalLoad_prefersLowerPingRoundTripTime() {
+        EmbeddedChannel channel1 = newHttp2Channel();
+        EmbeddedChannel channel2 = newHttp2Channel();
+        channel1.attr(ChannelAttributeKey.HTTP2_PING_ROUND_TRIP_TIME_NANOS).set(TimeUnit.MILLISECONDS.toNanos(50));
+        channel2.attr(ChannelAttributeKey.HTTP2_PING_ROUND_TRIP_TIME_NANOS).set(TimeUnit.MILLISECONDS.toNanos(5));
+
+        try {
+            loopGroup.register(channel1).awaitUninterruptibly();
+            loopGroup.register(channel2).awaitUninterruptibly();
+            Set<MultiplexedChannelRecord> records =
+                new LinkedHashSet<>(Arrays.asList(new MultiplexedChannelRecord(channel1, 4, null),
+                                                  new MultiplexedChannelRecord(channel2, 4, null)));
+            Http2MultiplexedChannelPool h2Pool =
+                new Http2MultiplexedChannelPool(mock(ChannelPool.class), loopGroup, records, null,
+                                                Http2StreamSchedulingStrategy.LEAST_OUTSTANDING_STREAMS);
+
+            assertThat(doAcquire(channel1, channel2, h2Pool).parent()).isSameAs(channel2);
+            assertThat(doAcquire(channel1, channel2, h2Pool).parent()).isSameAs(channel1);
+            assertThat(doAcquire(channel1, channel2, h2Pool).parent()).isSameAs(channel2);
+        } finally {
+            channel1.close();
+            channel2.close();
+        }
+    }
+
+    @Test
+    public void firstAvailable_fillsConnectionsInOrder() {
+        EmbeddedChannel channel1 = newHttp2Channel();
+        EmbeddedChannel channel2 = newHttp2Channel();
+
+        try {
+            loopGroup.register(channel1).awaitUninterruptibly();
+            loopGroup.register(channel2).awaitUninterruptibly();
+            Set<MultiplexedChannelRecord> records =
+                new LinkedHashSet<>(Arrays.asList(new MultiplexedChannelRecord(channel1, 2, null),
+                                                  new MultiplexedChannelRecord(channel2, 2, null)));
+            Http2MultiplexedChannelPool h2Pool =
+                new Http2MultiplexedChannelPool(mock(ChannelPool.class), loopGroup, records, null,
+                                                Http2StreamSchedulingStrategy.FIRST_AVAILABLE);
+
+            Channel first = doAcquire(channel1, channel2, h2Pool);
+            assertThat(doAcquire(channel1, channel2, h2Pool).parent()).isSameAs(first.parent());
+            assertThat(doAcquire(channel1, channel2, h2Pool).parent()).isNotSameAs(first.parent());
+        } finally {
+            channel1.close();
+            channel2.close();
+        }
+    }
+
     @Test
     public void metricsShouldSumAllChildChannels() throws InterruptedException {
         int maxConcurrentStream = 2;
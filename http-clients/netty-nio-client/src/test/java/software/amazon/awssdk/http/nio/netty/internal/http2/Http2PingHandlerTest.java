@@ -150,6 +150,20 @@ public class Http2PingHandlerTest {
         assertThat(catcher.caughtExceptions).isEmpty();
     }
 
+    @Test
+    public void respondedToPings_recordRoundTripTime() {
+        EmbeddedChannel channel = createHttp2Channel(slowChecker);
+        channel.writeInbound(new DefaultHttp2PingFrame(0, true));
+        assertThat(channel.attr(ChannelAttributeKey.HTTP2_PING_ROUND_TRIP_TIME_NANOS).get()).isNull();
+
+        channel.runPendingTasks();
+        assertThat((Object) channel.readOutbound()).isNotNull();
+        channel.writeInbound(new DefaultHttp2PingFrame(0, true));
+
+        assertThat(channel.attr(ChannelAttributeKey.HTTP2_PING_ROUND_TRIP_TIME_NANOS).get()).isNotNull()
+                                                                                          .isGreaterThanOrEqualTo(0L);
+    }
+
     @Test
     public void nonAckPingsResultInOneChannelException() {
         PipelineExceptionCatcher catcher = new PipelineExceptionCatcher();
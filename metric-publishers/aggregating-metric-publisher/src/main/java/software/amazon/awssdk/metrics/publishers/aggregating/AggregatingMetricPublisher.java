@@ -0,0 +1,288 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.aggregating;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.metrics.publishers.aggregating.internal.StripedHistogram;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * A metric publisher that aggregates metrics in memory, so that latency percentiles can be read locally without shipping every
+ * {@link MetricCollection} out of the process.
+ *
+ * <p>
+ * Every {@link Duration} and numeric metric of an API call, including the metrics of its attempts and HTTP client, is recorded
+ * into a histogram. Histograms are grouped by {@link AggregationKey}: the service and operation called, the HTTP client used
+ * and the HTTP status code of the last attempt. Recording only locks one of several stripes of the histogram, so API calls
+ * completing concurrently on different threads rarely contend.
+ * </p>
+ *
+ * <p>
+ * The aggregated metrics are read with {@link #snapshot()}, for example by a scrape endpoint. {@link #snapshotAndReset()}
+ * additionally starts a new interval, so that each snapshot only contains the metrics of the API calls completed since the
+ * previous one.
+ * </p>
+ *
+ * @snippet
+ * AggregatingMetricPublisher publisher = AggregatingMetricPublisher.create();
+ * S3Client s3 = S3Client.builder()
+ *                       .overrideConfiguration(o -> o.addMetricPublisher(publisher))
+ *                       .build();
+ *
+ * // Periodically
+ * MetricsSnapshot snapshot = publisher.snapshotAndReset();
+ * snapshot.asMap().forEach((key, histograms) -> {
+ *     HistogramSnapshot latency = histograms.get(CoreMetric.API_CALL_DURATION);
+ *     if (latency != null) {
+ *         System.out.println(key + " p99: " + latency.durationAtPercentile(99));
+ *     }
+ * });
+ *
+ * @see MetricsSnapshot
+ * @see HistogramSnapshot
+ */
+@ThreadSafe
+@SdkPublicApi
+public final class AggregatingMetricPublisher implements MetricPublisher {
+    private static final Logger log = Logger.loggerFor(AggregatingMetricPublisher.class);
+    private static final Set<MetricCategory> DEFAULT_METRIC_CATEGORIES = Collections.singleton(MetricCategory.ALL);
+    private static final MetricLevel DEFAULT_METRIC_LEVEL = MetricLevel.INFO;
+
+    private final Set<MetricCategory> metricCategories;
+    private final boolean metricCategoriesContainsAll;
+    private final MetricLevel metricLevel;
+
+    private final Map<AggregationKey, Map<SdkMetric<?>, StripedHistogram>> histograms = new ConcurrentHashMap<>();
+    private volatile Instant intervalStart = Instant.now();
+
+    private AggregatingMetricPublisher(Builder builder) {
+        this.metricCategories = builder.metricCategories == null ? DEFAULT_METRIC_CATEGORIES
+                                                                 : EnumSet.copyOf(builder.metricCategories);
+        this.metricCategoriesContainsAll = metricCategories.contains(MetricCategory.ALL);
+        this.metricLevel = builder.metricLevel == null ? DEFAULT_METRIC_LEVEL : builder.metricLevel;
+    }
+
+    /**
+     * Create a new {@link Builder} that can be used to create {@link AggregatingMetricPublisher}s.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create an {@link AggregatingMetricPublisher} using all default values.
+     */
+    public static AggregatingMetricPublisher create() {
+        return builder().build();
+    }
+
+    @Override
+    public void publish(MetricCollection metricCollection) {
+        if (metricCollection == null) {
+            log.warn(() -> "Null metric collection passed to the publisher");
+            return;
+        }
+        try {
+            Map<SdkMetric<?>, StripedHistogram> keyHistograms =
+                histograms.computeIfAbsent(aggregationKey(metricCollection), k -> new ConcurrentHashMap<>());
+            record(metricCollection, keyHistograms);
+        } catch (RuntimeException e) {
+            log.error(() -> "Failed to aggregate metrics", e);
+        }
+    }
+
+    /**
+     * Return the metrics aggregated since this publisher was created or last reset.
+     */
+    public MetricsSnapshot snapshot() {
+        return snapshot(false);
+    }
+
+    /**
+     * Return the metrics aggregated since this publisher was created or last reset, and start a new interval. Each value is
+     * contained by exactly one of the snapshots returned by successive calls.
+     */
+    public MetricsSnapshot snapshotAndReset() {
+        return snapshot(true);
+    }
+
+    /**
+     * Discard the metrics aggregated so far, and start a new interval.
+     */
+    public void reset() {
+        snapshot(true);
+    }
+
+    /**
+     * Closes this metric publisher. This implementation is empty as the aggregated metrics are held in memory and remain
+     * readable through {@link #snapshot()}.
+     */
+    @Override
+    public void close() {
+    }
+
+    private synchronized MetricsSnapshot snapshot(boolean reset) {
+        Instant start = intervalStart;
+        Instant end = Instant.now();
+        if (reset) {
+            intervalStart = end;
+        }
+
+        Map<AggregationKey, Map<SdkMetric<?>, HistogramSnapshot>> result = new HashMap<>();
+        histograms.forEach((key, keyHistograms) -> {
+            Map<SdkMetric<?>, HistogramSnapshot> keySnapshots = new HashMap<>();
+            keyHistograms.forEach((metric, histogram) -> {
+                HistogramSnapshot snapshot = histogram.snapshot(reset);
+                if (snapshot.count() > 0) {
+                    keySnapshots.put(metric, snapshot);
+                }
+            });
+            if (!keySnapshots.isEmpty()) {
+                result.put(key, keySnapshots);
+            }
+        });
+        return MetricsSnapshot.create(start, end, result);
+    }
+
+    private void record(MetricCollection metricCollection, Map<SdkMetric<?>, StripedHistogram> keyHistograms) {
+        for (MetricRecord<?> metricRecord : metricCollection) {
+            if (!shouldReport(metricRecord)) {
+                continue;
+            }
+            Object value = metricRecord.value();
+            long recordedValue;
+            if (value instanceof Duration) {
+                recordedValue = ((Duration) value).toNanos();
+            } else if (value instanceof Double || value instanceof Float) {
+                recordedValue = Math.round(((Number) value).doubleValue());
+            } else if (value instanceof Number) {
+                recordedValue = ((Number) value).longValue();
+            } else {
+                continue;
+            }
+            keyHistograms.computeIfAbsent(metricRecord.metric(), m -> new StripedHistogram()).record(recordedValue);
+        }
+        metricCollection.children().forEach(child -> record(child, keyHistograms));
+    }
+
+    private boolean shouldReport(MetricRecord<?> metricRecord) {
+        SdkMetric<?> metric = metricRecord.metric();
+        return metricLevel.includesLevel(metric.level())
+               && (metricCategoriesContainsAll || metric.categories().stream().anyMatch(metricCategories::contains));
+    }
+
+    private static AggregationKey aggregationKey(MetricCollection metricCollection) {
+        return AggregationKey.builder()
+                             .serviceId(lastValue(metricCollection, CoreMetric.SERVICE_ID))
+                             .operationName(lastValue(metricCollection, CoreMetric.OPERATION_NAME))
+                             .httpClientName(lastValue(metricCollection, HttpMetric.HTTP_CLIENT_NAME))
+                             .httpStatusCode(lastValue(metricCollection, HttpMetric.HTTP_STATUS_CODE))
+                             .build();
+    }
+
+    /**
+     * Return the last value of the metric in the collection or its children, children being visited in order after the
+     * collection itself. For the status code, this is the value of the last attempt.
+     */
+    private static <T> T lastValue(MetricCollection metricCollection, SdkMetric<T> metric) {
+        T result = null;
+        List<T> values = metricCollection.metricValues(metric);
+        if (!values.isEmpty()) {
+            result = values.get(values.size() - 1);
+        }
+        for (MetricCollection child : metricCollection.children()) {
+            T childValue = lastValue(child, metric);
+            if (childValue != null) {
+                result = childValue;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Builder class to construct {@link AggregatingMetricPublisher} instances. See the individual properties for which
+     * configuration settings are available.
+     */
+    public static final class Builder {
+        private Collection<MetricCategory> metricCategories;
+        private MetricLevel metricLevel;
+
+        private Builder() {
+        }
+
+        /**
+         * Configure the {@link MetricCategory}s that should be aggregated.
+         *
+         * <p>If this is not specified, {@link MetricCategory#ALL} is used.
+         *
+         * <p>All {@link SdkMetric}s are associated with at least one {@code MetricCategory}. Any metrics
+         * {@link #publish(MetricCollection)}ed that do not fall under these configured categories are ignored. The metrics used
+         * for the {@link AggregationKey} are always used, regardless of their category.
+         */
+        public Builder metricCategories(Collection<MetricCategory> metricCategories) {
+            this.metricCategories = new ArrayList<>(metricCategories);
+            return this;
+        }
+
+        /**
+         * @see #metricCategories(Collection)
+         */
+        public Builder metricCategories(MetricCategory... metricCategories) {
+            return metricCategories(Arrays.asList(metricCategories));
+        }
+
+        /**
+         * Configure the {@link MetricLevel} that should be aggregated.
+         *
+         * <p>If this is not specified, {@link MetricLevel#INFO} is used.
+         *
+         * <p>All {@link SdkMetric}s are associated with one {@code MetricLevel}. Any metrics {@link #publish(MetricCollection)}ed
+         * that do not fall under this configured level are ignored.
+         */
+        public Builder metricLevel(MetricLevel metricLevel) {
+            this.metricLevel = metricLevel;
+            return this;
+        }
+
+        /**
+         * Build an {@link AggregatingMetricPublisher} using the configuration currently configured on this publisher.
+         */
+        public AggregatingMetricPublisher build() {
+            return new AggregatingMetricPublisher(this);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.aggregating;
+
+import java.util.Objects;
+import java.util.Optional;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * The key under which an {@link AggregatingMetricPublisher} aggregates the metrics of an API call: the service and operation
+ * called, the HTTP client used and the HTTP status code of the last attempt.
+ */
+@SdkPublicApi
+@Immutable
+@ThreadSafe
+public final class AggregationKey implements ToCopyableBuilder<AggregationKey.Builder, AggregationKey> {
+    private final String serviceId;
+    private final String operationName;
+    private final String httpClientName;
+    private final Integer httpStatusCode;
+
+    private AggregationKey(DefaultBuilder builder) {
+        this.serviceId = builder.serviceId;
+        this.operationName = builder.operationName;
+        this.httpClientName = builder.httpClientName;
+        this.httpStatusCode = builder.httpStatusCode;
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * @return The {@link CoreMetric#SERVICE_ID} of the API call.
+     */
+    public Optional<String> serviceId() {
+        return Optional.ofNullable(serviceId);
+    }
+
+    /**
+     * @return The {@link CoreMetric#OPERATION_NAME} of the API call.
+     */
+    public Optional<String> operationName() {
+        return Optional.ofNullable(operationName);
+    }
+
+    /**
+     * @return The {@link HttpMetric#HTTP_CLIENT_NAME} of the HTTP client used by the API call.
+     */
+    public Optional<String> httpClientName() {
+        return Optional.ofNullable(httpClientName);
+    }
+
+    /**
+     * @return The {@link HttpMetric#HTTP_STATUS_CODE} of the last attempt of the API call, absent if no response was
+     * received.
+     */
+    public Optional<Integer> httpStatusCode() {
+        return Optional.ofNullable(httpStatusCode);
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new DefaultBuilder(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        AggregationKey that = (AggregationKey) o;
+        return Objects.equals(serviceId, that.serviceId)
+               && Objects.equals(operationName, that.operationName)
+               && Objects.equals(httpClientName, that.httpClientName)
+               && Objects.equals(httpStatusCode, that.httpStatusCode);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(serviceId);
+        result = 31 * result + Objects.hashCode(operationName);
+        result = 31 * result + Objects.hashCode(httpClientName);
+        result = 31 * result + Objects.hashCode(httpStatusCode);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("AggregationKey")
+                       .add("serviceId", serviceId)
+                       .add("operationName", operationName)
+                       .add("httpClientName", httpClientName)
+                       .add("httpStatusCode", httpStatusCode)
+                       .build();
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, AggregationKey> {
+        Builder serviceId(String serviceId);
+
+        Builder operationName(String operationName);
+
+        Builder httpClientName(String httpClientName);
+
+        Builder httpStatusCode(Integer httpStatusCode);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private String serviceId;
+        private String operationName;
+        private String httpClientName;
+        private Integer httpStatusCode;
+
+        private DefaultBuilder() {
+        }
+
+        private DefaultBuilder(AggregationKey key) {
+            this.serviceId = key.serviceId;
+            this.operationName = key.operationName;
+            this.httpClientName = key.httpClientName;
+            this.httpStatusCode = key.httpStatusCode;
+        }
+
+        @Override
+        public Builder serviceId(String serviceId) {
+            this.serviceId = serviceId;
+            return this;
+        }
+
+        @Override
+        public Builder operationName(String operationName) {
+            this.operationName = operationName;
+            return this;
+        }
+
+        @Override
+        public Builder httpClientName(String httpClientName) {
+            this.httpClientName = httpClientName;
+            return this;
+        }
+
+        @Override
+        public Builder httpStatusCode(Integer httpStatusCode) {
+            this.httpStatusCode = httpStatusCode;
+            return this;
+        }
+
+        @Override
+        public AggregationKey build() {
+            return new AggregationKey(this);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.aggregating;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.metrics.publishers.aggregating.internal.HistogramBucketing;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * The distribution of the values of a metric aggregated by an {@link AggregatingMetricPublisher}.
+ * <p>
+ * Values of {@link Duration} metrics are recorded in nanoseconds and other numeric values are rounded to a {@code long}.
+ * Percentiles are computed from buckets whose width is less than 1/64th of the values they contain, so they are within
+ * about 1.6% of the exact value. The {@link #count()}, {@link #sum()}, {@link #min()} and {@link #max()} are exact.
+ */
+@SdkPublicApi
+@Immutable
+@ThreadSafe
+public final class HistogramSnapshot {
+    private final long[] counts;
+    private final int offset;
+    private final long count;
+    private final long sum;
+    private final long min;
+    private final long max;
+
+    private HistogramSnapshot(long[] counts, int offset, long count, long sum, long min, long max) {
+        this.counts = counts;
+        this.offset = offset;
+        this.count = count;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * Create a snapshot from the bucket counts of a histogram. The array is not copied.
+     */
+    @SdkInternalApi
+    public static HistogramSnapshot create(long[] counts, int offset, long count, long sum, long min, long max) {
+        return new HistogramSnapshot(counts, offset, count, sum, min, max);
+    }
+
+    /**
+     * @return The number of recorded values.
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * @return The sum of the recorded values.
+     */
+    public long sum() {
+        return sum;
+    }
+
+    /**
+     * @return The lowest recorded value, or 0 if no value was recorded.
+     */
+    public long min() {
+        return min;
+    }
+
+    /**
+     * @return The highest recorded value, or 0 if no value was recorded.
+     */
+    public long max() {
+        return max;
+    }
+
+    /**
+     * @return The mean of the recorded values, or 0 if no value was recorded.
+     */
+    public double mean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Return the value below which the given percentage of the recorded values fall. For example, {@code valueAtPercentile(99)}
+     * returns the p99 of the recorded values.
+     *
+     * @param percentile The percentile, between 0 and 100.
+     * @return The value at the given percentile, or 0 if no value was recorded.
+     */
+    public long valueAtPercentile(double percentile) {
+        Validate.isTrue(percentile >= 0 && percentile <= 100, "percentile must be between 0 and 100, but was %s", percentile);
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long cumulativeCount = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulativeCount += counts[i];
+            if (cumulativeCount >= rank) {
+                long value = HistogramBucketing.highestValue(offset + i);
+                return Math.max(min, Math.min(max, value));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Equivalent to {@link #valueAtPercentile(double)}, for histograms of {@link Duration} metrics.
+     */
+    public Duration durationAtPercentile(double percentile) {
+        return Duration.ofNanos(valueAtPercentile(percentile));
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("HistogramSnapshot")
+                       .add("count", count)
+                       .add("min", min)
+                       .add("max", max)
+                       .add("mean", mean())
+                       .add("p50", valueAtPercentile(50))
+                       .add("p99", valueAtPercentile(99))
+                       .build();
+    }
+}
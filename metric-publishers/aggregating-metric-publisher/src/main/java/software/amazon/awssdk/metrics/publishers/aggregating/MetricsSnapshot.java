@@ -0,0 +1,109 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.aggregating;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * The metrics aggregated by an {@link AggregatingMetricPublisher} between {@link #intervalStart()} and
+ * {@link #intervalEnd()}, grouped by {@link AggregationKey}.
+ */
+@SdkPublicApi
+@Immutable
+@ThreadSafe
+public final class MetricsSnapshot {
+    private final Instant intervalStart;
+    private final Instant intervalEnd;
+    private final Map<AggregationKey, Map<SdkMetric<?>, HistogramSnapshot>> histograms;
+
+    private MetricsSnapshot(Instant intervalStart, Instant intervalEnd,
+                            Map<AggregationKey, Map<SdkMetric<?>, HistogramSnapshot>> histograms) {
+        this.intervalStart = intervalStart;
+        this.intervalEnd = intervalEnd;
+        this.histograms = Collections.unmodifiableMap(histograms);
+    }
+
+    /**
+     * Create a snapshot. The map, and the maps it contains, are not copied.
+     */
+    @SdkInternalApi
+    public static MetricsSnapshot create(Instant intervalStart, Instant intervalEnd,
+                                         Map<AggregationKey, Map<SdkMetric<?>, HistogramSnapshot>> histograms) {
+        return new MetricsSnapshot(intervalStart, intervalEnd, histograms);
+    }
+
+    /**
+     * @return The time the publisher was created, or last reset.
+     */
+    public Instant intervalStart() {
+        return intervalStart;
+    }
+
+    /**
+     * @return The time this snapshot was taken.
+     */
+    public Instant intervalEnd() {
+        return intervalEnd;
+    }
+
+    /**
+     * @return The keys for which at least one value was recorded during the interval.
+     */
+    public Set<AggregationKey> keys() {
+        return histograms.keySet();
+    }
+
+    /**
+     * @return The histograms of the metrics recorded for the given key, or an empty map if none was recorded.
+     */
+    public Map<SdkMetric<?>, HistogramSnapshot> histograms(AggregationKey key) {
+        Map<SdkMetric<?>, HistogramSnapshot> result = histograms.get(key);
+        return result == null ? Collections.emptyMap() : Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * @return The histogram of the given metric for the given key, if a value was recorded.
+     */
+    public Optional<HistogramSnapshot> histogram(AggregationKey key, SdkMetric<?> metric) {
+        return Optional.ofNullable(histograms(key).get(metric));
+    }
+
+    /**
+     * @return All the histograms of this snapshot, grouped by key.
+     */
+    public Map<AggregationKey, Map<SdkMetric<?>, HistogramSnapshot>> asMap() {
+        return histograms;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("MetricsSnapshot")
+                       .add("intervalStart", intervalStart)
+                       .add("intervalEnd", intervalEnd)
+                       .add("histograms", histograms)
+                       .build();
+    }
+}
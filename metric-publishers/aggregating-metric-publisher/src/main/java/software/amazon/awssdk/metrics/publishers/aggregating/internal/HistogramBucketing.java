@@ -0,0 +1,81 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.aggregating.internal;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * The log-linear bucketing of the aggregating histograms, similar to the one of HdrHistogram.
+ * <p>
+ * Values below {@link #SUB_BUCKET_COUNT} have their own bucket. Larger values are split by their highest set bit into
+ * exponential ranges, each divided into {@code SUB_BUCKET_COUNT / 2} linear buckets, so that the width of a bucket is always
+ * less than 1/64th of the values it contains.
+ */
+@SdkInternalApi
+public final class HistogramBucketing {
+    /**
+     * The number of buckets of a histogram covering all the positive {@code long} values.
+     */
+    public static final int BUCKET_COUNT;
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT / 2;
+
+    static {
+        BUCKET_COUNT = index(Long.MAX_VALUE) + 1;
+    }
+
+    private HistogramBucketing() {
+    }
+
+    /**
+     * @return The index of the bucket containing the given value. Negative values are counted as 0.
+     */
+    public static int index(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return value < 0 ? 0 : (int) value;
+        }
+        int highestBit = 63 - Long.numberOfLeadingZeros(value);
+        int shift = highestBit - SUB_BUCKET_BITS + 1;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_HALF_COUNT;
+        return SUB_BUCKET_COUNT + (highestBit - SUB_BUCKET_BITS) * SUB_BUCKET_HALF_COUNT + subBucket;
+    }
+
+    /**
+     * @return The lowest value counted in the bucket with the given index.
+     */
+    public static long lowestValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int bucket = index - SUB_BUCKET_COUNT;
+        int shift = bucket / SUB_BUCKET_HALF_COUNT + 1;
+        long subBucket = bucket % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT;
+        return subBucket << shift;
+    }
+
+    /**
+     * @return The highest value counted in the bucket with the given index.
+     */
+    public static long highestValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF_COUNT + 1;
+        return lowestValue(index) + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.aggregating.internal;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.metrics.publishers.aggregating.HistogramSnapshot;
+
+/**
+ * A histogram of {@code long} values bucketed by {@link HistogramBucketing}, split into stripes that are each guarded by their
+ * own lock. A thread always records into the same stripe, so that threads publishing concurrently rarely contend.
+ * <p>
+ * Each stripe only allocates the range of buckets between the lowest and highest values it recorded, since the values of a
+ * metric are usually within a few orders of magnitude of each other.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class StripedHistogram {
+    private static final int STRIPE_COUNT =
+        Math.min(8, Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors())));
+
+    private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+
+    public StripedHistogram() {
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Record a value. Negative values are recorded as 0.
+     */
+    public void record(long value) {
+        long recordedValue = Math.max(0, value);
+        Stripe stripe = stripes[(int) Thread.currentThread().getId() & (STRIPE_COUNT - 1)];
+        synchronized (stripe) {
+            stripe.record(recordedValue);
+        }
+    }
+
+    /**
+     * Merge the values recorded by all stripes.
+     *
+     * @param reset Whether the stripes should be emptied. Each stripe is copied and emptied atomically, so no value is lost
+     * or counted twice by successive calls.
+     */
+    public HistogramSnapshot snapshot(boolean reset) {
+        Merged merged = new Merged();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                merged.add(stripe);
+                if (reset) {
+                    stripe.reset();
+                }
+            }
+        }
+        return merged.toSnapshot();
+    }
+
+    private static final class Stripe {
+        private long[] counts;
+        private int offset;
+        private long count;
+        private long sum;
+        private long min;
+        private long max;
+
+        private void record(long value) {
+            int index = HistogramBucketing.index(value);
+            if (counts == null) {
+                counts = new long[16];
+                offset = Math.max(0, index - counts.length / 2);
+            } else if (index < offset || index >= offset + counts.length) {
+                resize(Math.min(index, offset), Math.max(index, offset + counts.length - 1));
+            }
+            counts[index - offset]++;
+
+            if (count == 0) {
+                min = value;
+                max = value;
+            } else {
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            count++;
+            sum += value;
+        }
+
+        private void resize(int lowestIndex, int highestIndex) {
+            int slack = counts.length / 2;
+            int newOffset = Math.max(0, lowestIndex - slack);
+            int newLength = Math.min(HistogramBucketing.BUCKET_COUNT, highestIndex + slack + 1) - newOffset;
+            long[] newCounts = new long[newLength];
+            System.arraycopy(counts, 0, newCounts, offset - newOffset, counts.length);
+            counts = newCounts;
+            offset = newOffset;
+        }
+
+        private void reset() {
+            counts = null;
+            offset = 0;
+            count = 0;
+            sum = 0;
+            min = 0;
+            max = 0;
+        }
+    }
+
+    private static final class Merged {
+        private long[] counts = new long[0];
+        private int offset;
+        private long count;
+        private long sum;
+        private long min;
+        private long max;
+
+        private void add(Stripe stripe) {
+            if (stripe.count == 0) {
+                return;
+            }
+            if (count == 0) {
+                counts = stripe.counts.clone();
+                offset = stripe.offset;
+                min = stripe.min;
+                max = stripe.max;
+            } else {
+                int newOffset = Math.min(offset, stripe.offset);
+                int newEnd = Math.max(offset + counts.length, stripe.offset + stripe.counts.length);
+                if (newOffset != offset || newEnd != offset + counts.length) {
+                    long[] newCounts = new long[newEnd - newOffset];
+                    System.arraycopy(counts, 0, newCounts, offset - newOffset, counts.length);
+                    counts = newCounts;
+                    offset = newOffset;
+                }
+                for (int i = 0; i < stripe.counts.length; i++) {
+                    counts[stripe.offset - offset + i] += stripe.counts[i];
+                }
+                min = Math.min(min, stripe.min);
+                max = Math.max(max, stripe.max);
+            }
+            count += stripe.count;
+            sum += stripe.sum;
+        }
+
+        private HistogramSnapshot toSnapshot() {
+            return HistogramSnapshot.create(counts, offset, count, sum, min, max);
+        }
+    }
+}
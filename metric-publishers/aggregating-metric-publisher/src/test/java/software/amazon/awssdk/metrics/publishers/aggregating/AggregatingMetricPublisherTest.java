@@ -0,0 +1,133 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.aggregating;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricLevel;
+
+class AggregatingMetricPublisherTest {
+    private static final AggregationKey OK_KEY = key(200);
+
+    @Test
+    void publish_nullMetrics_ignored() {
+        AggregatingMetricPublisher publisher = AggregatingMetricPublisher.create();
+        publisher.publish(null);
+        assertThat(publisher.snapshot().keys()).isEmpty();
+    }
+
+    @Test
+    void publish_apiCalls_aggregatedByServiceOperationClientAndStatus() {
+        AggregatingMetricPublisher publisher = AggregatingMetricPublisher.create();
+        for (int i = 1; i <= 100; i++) {
+            publisher.publish(apiCall(Duration.ofMillis(i), 200));
+        }
+        publisher.publish(apiCall(Duration.ofMillis(500), 503));
+
+        MetricsSnapshot snapshot = publisher.snapshot();
+        assertThat(snapshot.keys()).containsExactlyInAnyOrder(OK_KEY, key(503));
+
+        HistogramSnapshot latency = snapshot.histogram(OK_KEY, CoreMetric.API_CALL_DURATION).get();
+        assertThat(latency.count()).isEqualTo(100);
+        assertThat(latency.min()).isEqualTo(Duration.ofMillis(1).toNanos());
+        assertThat(latency.max()).isEqualTo(Duration.ofMillis(100).toNanos());
+        assertApproximately(latency.durationAtPercentile(50), Duration.ofMillis(50));
+        assertApproximately(latency.durationAtPercentile(99), Duration.ofMillis(99));
+
+        assertThat(snapshot.histogram(key(503), CoreMetric.API_CALL_DURATION).get().count()).isEqualTo(1);
+        assertThat(snapshot.histogram(OK_KEY, HttpMetric.LEASED_CONCURRENCY).get().sum()).isEqualTo(100);
+    }
+
+    @Test
+    void publish_metricLevelConfigured_ignoresMoreVerboseMetrics() {
+        AggregatingMetricPublisher publisher = AggregatingMetricPublisher.builder()
+                                                                         .metricLevel(MetricLevel.ERROR)
+                                                                         .build();
+        publisher.publish(apiCall(Duration.ofMillis(1), 200));
+
+        assertThat(publisher.snapshot().histograms(OK_KEY)).isEmpty();
+    }
+
+    @Test
+    void publish_metricCategoriesConfigured_ignoresOtherCategories() {
+        AggregatingMetricPublisher publisher = AggregatingMetricPublisher.builder()
+                                                                         .metricCategories(MetricCategory.HTTP_CLIENT)
+                                                                         .build();
+        publisher.publish(apiCall(Duration.ofMillis(1), 200));
+
+        assertThat(publisher.snapshot().histograms(OK_KEY)).containsOnlyKeys(HttpMetric.LEASED_CONCURRENCY);
+    }
+
+    @Test
+    void snapshotAndReset_startsNewInterval() {
+        AggregatingMetricPublisher publisher = AggregatingMetricPublisher.create();
+        publisher.publish(apiCall(Duration.ofMillis(1), 200));
+
+        MetricsSnapshot first = publisher.snapshotAndReset();
+        publisher.publish(apiCall(Duration.ofMillis(2), 200));
+        publisher.publish(apiCall(Duration.ofMillis(3), 200));
+        MetricsSnapshot second = publisher.snapshotAndReset();
+        MetricsSnapshot third = publisher.snapshot();
+
+        assertThat(first.histogram(OK_KEY, CoreMetric.API_CALL_DURATION).get().count()).isEqualTo(1);
+        assertThat(second.histogram(OK_KEY, CoreMetric.API_CALL_DURATION).get().count()).isEqualTo(2);
+        assertThat(second.intervalStart()).isEqualTo(first.intervalEnd());
+        assertThat(third.keys()).isEmpty();
+    }
+
+    @Test
+    void reset_discardsAggregatedMetrics() {
+        AggregatingMetricPublisher publisher = AggregatingMetricPublisher.create();
+        publisher.publish(apiCall(Duration.ofMillis(1), 200));
+        publisher.reset();
+
+        assertThat(publisher.snapshot().keys()).isEmpty();
+    }
+
+    private static MetricCollection apiCall(Duration duration, int statusCode) {
+        MetricCollector apiCall = MetricCollector.create("ApiCall");
+        apiCall.reportMetric(CoreMetric.SERVICE_ID, "DynamoDB");
+        apiCall.reportMetric(CoreMetric.OPERATION_NAME, "GetItem");
+        apiCall.reportMetric(CoreMetric.API_CALL_DURATION, duration);
+        apiCall.reportMetric(CoreMetric.API_CALL_SUCCESSFUL, statusCode == 200);
+        MetricCollector attempt = apiCall.createChild("ApiCallAttempt");
+        attempt.reportMetric(HttpMetric.HTTP_STATUS_CODE, statusCode);
+        MetricCollector httpClient = attempt.createChild("HttpClient");
+        httpClient.reportMetric(HttpMetric.HTTP_CLIENT_NAME, "Apache");
+        httpClient.reportMetric(HttpMetric.LEASED_CONCURRENCY, 1);
+        return apiCall.collect();
+    }
+
+    private static void assertApproximately(Duration actual, Duration expected) {
+        assertThat(actual).isBetween(expected, expected.multipliedBy(102).dividedBy(100));
+    }
+
+    private static AggregationKey key(int statusCode) {
+        return AggregationKey.builder()
+                             .serviceId("DynamoDB")
+                             .operationName("GetItem")
+                             .httpClientName("Apache")
+                             .httpStatusCode(statusCode)
+                             .build();
+    }
+}
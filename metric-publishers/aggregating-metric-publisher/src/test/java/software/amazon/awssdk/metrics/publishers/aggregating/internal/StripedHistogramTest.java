@@ -0,0 +1,109 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.aggregating.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.metrics.publishers.aggregating.HistogramSnapshot;
+
+class StripedHistogramTest {
+    @Test
+    void buckets_coverAllValuesWithBoundedRelativeError() {
+        Random random = new Random(0);
+        for (int i = 0; i < 100_000; i++) {
+            long value = (random.nextLong() >>> 1) >>> random.nextInt(63);
+            int index = HistogramBucketing.index(value);
+            assertThat(index).isBetween(0, HistogramBucketing.BUCKET_COUNT - 1);
+            assertThat(HistogramBucketing.lowestValue(index)).isLessThanOrEqualTo(value);
+            assertThat(HistogramBucketing.highestValue(index)).isGreaterThanOrEqualTo(value);
+            assertThat(HistogramBucketing.highestValue(index) - HistogramBucketing.lowestValue(index))
+                .isLessThanOrEqualTo(value / 64);
+        }
+        assertThat(HistogramBucketing.highestValue(HistogramBucketing.BUCKET_COUNT - 1)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void buckets_areContiguous() {
+        for (int i = 1; i < HistogramBucketing.BUCKET_COUNT; i++) {
+            assertThat(HistogramBucketing.lowestValue(i)).isEqualTo(HistogramBucketing.highestValue(i - 1) + 1);
+        }
+    }
+
+    @Test
+    void snapshot_widelySpreadValues_computesPercentiles() {
+        StripedHistogram histogram = new StripedHistogram();
+        for (long value = 1; value <= 1_000_000; value++) {
+            histogram.record(value);
+        }
+        histogram.record(-5);
+
+        HistogramSnapshot snapshot = histogram.snapshot(false);
+        assertThat(snapshot.count()).isEqualTo(1_000_001);
+        assertThat(snapshot.min()).isZero();
+        assertThat(snapshot.max()).isEqualTo(1_000_000);
+        assertThat(snapshot.valueAtPercentile(0)).isZero();
+        assertThat(snapshot.valueAtPercentile(50)).isBetween(500_000L, 508_000L);
+        assertThat(snapshot.valueAtPercentile(99.9)).isBetween(999_000L, 1_000_000L);
+        assertThat(snapshot.valueAtPercentile(100)).isEqualTo(1_000_000);
+    }
+
+    @Test
+    void snapshot_reset_emptiesHistogram() {
+        StripedHistogram histogram = new StripedHistogram();
+        histogram.record(10);
+
+        assertThat(histogram.snapshot(true).count()).isEqualTo(1);
+        HistogramSnapshot empty = histogram.snapshot(false);
+        assertThat(empty.count()).isZero();
+        assertThat(empty.valueAtPercentile(99)).isZero();
+    }
+
+    @Test
+    void record_concurrentThreadsWithResets_noValueLostOrCountedTwice() {
+        StripedHistogram histogram = new StripedHistogram();
+        int threads = 8;
+        int valuesPerThread = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long total = 0;
+        try {
+            List<CompletableFuture<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < valuesPerThread; i++) {
+                        histogram.record(i);
+                    }
+                }, executor));
+            }
+            CompletableFuture<Void> all = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+            while (!all.isDone()) {
+                total += histogram.snapshot(true).count();
+            }
+            all.join();
+        } finally {
+            executor.shutdown();
+        }
+        total += histogram.snapshot(true).count();
+
+        assertThat(total).isEqualTo((long) threads * valuesPerThread);
+    }
+}
@@ -19,6 +19,9 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteItemsEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteResult;
 import software.amazon.awssdk.enhanced.dynamodb.model.CreateTableEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedResponse;
@@ -27,6 +30,7 @@ import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
@@ -785,6 +789,66 @@ public interface DynamoDbAsyncTable<T> extends MappedTableResource<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Scans the table with several segments in parallel and merges the pages of all segments into a single publisher. This
+     * is equivalent to running {@link #scan(ScanEnhancedRequest)} once per segment, with {@code segment} and
+     * {@code totalSegments} set, and merging the results.
+     * <p>
+     * The additional configuration parameters that the enhanced client supports are defined in the
+     * {@link ParallelScanEnhancedRequest}. Up to {@link ParallelScanEnhancedRequest#maxConcurrentSegments()} segments are scanned
+     * at the same time and at most {@link ParallelScanEnhancedRequest#maxBufferedPages()} pages are in flight or waiting for the
+     * subscriber, so a slow subscriber slows the scan down rather than growing an unbounded buffer. With
+     * {@link ParallelScanEnhancedRequest#adaptiveConcurrencyEnabled()}, throttled segments are resumed after a backoff and the
+     * number of concurrently scanned segments adapts to the throttling.
+     * <p>
+     * Pages are published in the order they arrive, so pages of different segments are interleaved and the order of items
+     * differs from a sequential scan. The {@link Page#lastEvaluatedKey()} of a page refers to the segment it came from.
+     * <p>
+     * This operation calls the low-level DynamoDB API Scan operation once per page, see
+     * {@link DynamoDbAsyncClient#scan(software.amazon.awssdk.services.dynamodb.model.ScanRequest)}.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * PagePublisher<MyItem> publisher = mappedTable.parallelScan(ParallelScanEnhancedRequest.builder()
+     *                                                                                      .totalSegments(16)
+     *                                                                                      .maxConcurrentSegments(8)
+     *                                                                                      .build());
+     * publisher.items().subscribe(item -> export(item)).join();
+     * }
+     * </pre>
+     *
+     * @param request A {@link ParallelScanEnhancedRequest} defining the segments and the shared scan settings.
+     * @return a publisher {@link PagePublisher} with the merged paginated results of all segments (see {@link Page}).
+     */
+    default PagePublisher<T> parallelScan(ParallelScanEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Scans the table with several segments in parallel and merges the pages of all segments into a single publisher. See
+     * {@link #parallelScan(ParallelScanEnhancedRequest)} for details.
+     * <p>
+     * <b>Note:</b> This is a convenience method that creates an instance of the request builder avoiding the need to create one
+     * manually via {@link ParallelScanEnhancedRequest#builder()}.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * PagePublisher<MyItem> publisher = mappedTable.parallelScan(r -> r.totalSegments(16).adaptiveConcurrencyEnabled(true));
+     * }
+     * </pre>
+     *
+     * @param requestConsumer A {@link Consumer} of {@link ParallelScanEnhancedRequest.Builder} defining the segments and the
+     *                        shared scan settings.
+     * @return a publisher {@link PagePublisher} with the merged paginated results of all segments (see {@link Page}).
+     */
+    default PagePublisher<T> parallelScan(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Updates an item in the mapped table, or adds it if it doesn't exist.
      * <p>
@@ -947,4 +1011,77 @@ public interface DynamoDbAsyncTable<T> extends MappedTableResource<T> {
     default CompletableFuture<DescribeTableEnhancedResponse> describeTable() {
         throw new UnsupportedOperationException();
     }
+
+    /**
+     * Puts and/or deletes a stream of items in the table managed by this {@link DynamoDbAsyncTable}, taking care of the
+     * bookkeeping that a single {@link DynamoDbEnhancedAsyncClient#batchWriteItem(BatchWriteItemEnhancedRequest)} call leaves to
+     * the caller:
+     * <ul>
+     *     <li>Actions are packed into low-level BatchWriteItem calls of up to 25 items and 16 MB. An action that touches a key
+     *     already present in the batch being packed starts a new batch, since DynamoDb rejects such batches. That batch is not
+     *     sent until the batch holding the earlier action on the key has finished, including its retries, so actions on the
+     *     same key are applied in the order of the stream.</li>
+     *     <li>At most {@link BulkWriteItemsEnhancedRequest#maxConcurrentBatches()} calls are in flight at the same time. The
+     *     stream of actions is only requested from while a slot is free.</li>
+     *     <li>Unprocessed items returned by DynamoDb are resubmitted after a jittered exponential backoff, until their batch has
+     *     used {@link BulkWriteItemsEnhancedRequest#maxAttempts()} calls.</li>
+     * </ul>
+     * <p>
+     * The returned {@link BulkWriteResult} contains any actions that were still unprocessed after the last attempt, together
+     * with the number of items written, the number of calls made and the number of items that were throttled. If a
+     * BatchWriteItem call fails, the returned future completes exceptionally and the stream of actions is cancelled; actions in
+     * batches that were already in flight may or may not have been written.
+     * <p>
+     * <b>Note: </b> Batches are written concurrently, so the order in which actions on different keys are applied is not
+     * guaranteed. If an earlier action on a key ends up unprocessed after the last attempt, later actions on that key are still
+     * written. The same conditions as for batchWriteItem apply: items cannot be updated and extensions must not add a
+     * condition expression to put actions.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * BulkWriteResult<MyItem> result = mappedTable.bulkWriteItems(
+     *     BulkWriteItemsEnhancedRequest.builder(MyItem.class)
+     *                                  .items(itemsToLoad.stream()
+     *                                                    .map(BulkWriteItem::putItem)
+     *                                                    .collect(Collectors.toList()))
+     *                                  .maxConcurrentBatches(16)
+     *                                  .build()).join();
+     * }
+     * </pre>
+     *
+     * @param request A {@link BulkWriteItemsEnhancedRequest} containing the stream of actions and the concurrency and retry
+     *                settings.
+     * @return a {@link CompletableFuture} of {@link BulkWriteResult}, containing any unprocessed actions and the throughput and
+     * throttling statistics of the bulk write.
+     */
+    default CompletableFuture<BulkWriteResult<T>> bulkWriteItems(BulkWriteItemsEnhancedRequest<T> request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Puts and/or deletes a stream of items in the table managed by this {@link DynamoDbAsyncTable}, packing them into
+     * concurrent, retried BatchWriteItem calls. See {@link #bulkWriteItems(BulkWriteItemsEnhancedRequest)} for details.
+     * <p>
+     * <b>Note:</b> This is a convenience method that creates an instance of the request builder avoiding the need to create one
+     * manually via {@link BulkWriteItemsEnhancedRequest#builder(Class)}.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * BulkWriteResult<MyItem> result = mappedTable.bulkWriteItems(r -> r.items(itemPublisher)).join();
+     * }
+     * </pre>
+     *
+     * @param requestConsumer A {@link Consumer} of {@link BulkWriteItemsEnhancedRequest.Builder} containing the stream of actions
+     *                        and the concurrency and retry settings.
+     * @return a {@link CompletableFuture} of {@link BulkWriteResult}, containing any unprocessed actions and the throughput and
+     * throttling statistics of the bulk write.
+     */
+    default CompletableFuture<BulkWriteResult<T>> bulkWriteItems(
+        Consumer<BulkWriteItemsEnhancedRequest.Builder<T>> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
 }
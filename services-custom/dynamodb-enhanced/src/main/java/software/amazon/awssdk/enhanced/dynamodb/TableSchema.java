@@ -16,7 +16,11 @@
 package software.amazon.awssdk.enhanced.dynamodb;
 
 import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import software.amazon.awssdk.annotations.SdkPublicApi;
@@ -212,6 +216,48 @@ public interface TableSchema<T> {
                                                "\"" + annotatedClass + "\"]");
     }
 
+    /**
+     * Resolves the {@link TableSchema}s of a set of annotated classes ahead of time. See {@link #warmUp(Collection)}.
+     *
+     * @param annotatedClasses Classes that have been annotated with DynamoDb enhanced client annotations.
+     * @return The time taken to resolve the schema of each class, in the order the classes were supplied.
+     */
+    static Map<Class<?>, Duration> warmUp(Class<?>... annotatedClasses) {
+        return warmUp(Arrays.asList(annotatedClasses));
+    }
+
+    /**
+     * Scans a set of classes that have been annotated with DynamoDb enhanced client annotations and resolves their
+     * {@link TableSchema}s ahead of time, in the same way as {@link #fromClass(Class)}. Resolved schemas are cached for
+     * the lifetime of the class and shared by every {@link DynamoDbEnhancedClient} in the process, so calling this at
+     * application start up moves the cost of introspecting the classes and generating their accessors off the path of
+     * the first request that uses each class.
+     * <p>
+     * Example warming up the schemas used by an AWS Lambda function during its initialization phase:
+     * {@snippet lang="java" :
+     * Map<Class<?>, Duration> introspectionTimes = TableSchema.warmUp(Arrays.asList(Customer.class, Order.class));
+     * introspectionTimes.forEach((c, d) -> log.info(c.getSimpleName() + " schema resolved in " + d.toMillis() + " ms"));
+     * }
+     *
+     * @param annotatedClasses Classes that have been annotated with DynamoDb enhanced client annotations.
+     * @return The time taken to resolve the schema of each class, in the order the classes were supplied. A class whose
+     * schema had already been resolved reports a near-zero time.
+     * @throws IllegalArgumentException if any of the classes is not a valid DynamoDb annotated class.
+     */
+    static Map<Class<?>, Duration> warmUp(Collection<? extends Class<?>> annotatedClasses) {
+        Map<Class<?>, Duration> introspectionTimes = new LinkedHashMap<>();
+
+        for (Class<?> annotatedClass : annotatedClasses) {
+            if (!introspectionTimes.containsKey(annotatedClass)) {
+                long startNanos = System.nanoTime();
+                fromClass(annotatedClass);
+                introspectionTimes.put(annotatedClass, Duration.ofNanos(System.nanoTime() - startNanos));
+            }
+        }
+
+        return Collections.unmodifiableMap(introspectionTimes);
+    }
+
     /**
      * Takes a raw DynamoDb SDK representation of a record in a table and maps it to a Java object. A new object is
      * created to fulfil this operation.
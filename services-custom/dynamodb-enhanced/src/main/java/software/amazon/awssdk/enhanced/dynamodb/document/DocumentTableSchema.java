@@ -87,11 +87,7 @@ public final class DocumentTableSchema implements TableSchema<EnhancedDocument>
         if (attributeMap == null) {
             return null;
         }
-        DefaultEnhancedDocument.DefaultBuilder builder =
-            (DefaultEnhancedDocument.DefaultBuilder) DefaultEnhancedDocument.builder();
-        attributeMap.forEach(builder::putObject);
-        return builder.attributeConverterProviders(attributeConverterProviders)
-                      .build();
+        return DefaultEnhancedDocument.fromAttributeValueMap(attributeMap, attributeConverterProviders);
     }
 
     /**
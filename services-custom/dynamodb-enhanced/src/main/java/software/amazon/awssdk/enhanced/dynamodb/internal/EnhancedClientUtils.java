@@ -17,6 +17,7 @@ package software.amazon.awssdk.enhanced.dynamodb.internal;
 
 import static software.amazon.awssdk.enhanced.dynamodb.internal.operations.UpdateItemOperation.NESTED_OBJECT_UPDATE;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -132,13 +133,12 @@ public final class EnhancedClientUtils {
         Function<ResponseT, Integer> scannedCount,
         Function<ResponseT, ConsumedCapacity> consumedCapacity) {
 
-        List<ItemT> collect = getItems.apply(response)
-                                      .stream()
-                                      .map(itemMap -> readAndTransformSingleItem(itemMap,
-                                                                                 tableSchema,
-                                                                                 operationContext,
-                                                                                 dynamoDbEnhancedClientExtension))
-                                      .collect(Collectors.toList());
+        List<Map<String, AttributeValue>> itemMaps = getItems.apply(response);
+        List<ItemT> collect = new ArrayList<>(itemMaps.size());
+
+        for (Map<String, AttributeValue> itemMap : itemMaps) {
+            collect.add(readAndTransformSingleItem(itemMap, tableSchema, operationContext, dynamoDbEnhancedClientExtension));
+        }
 
         Page.Builder<ItemT> pageBuilder = Page.builder(tableSchema.itemType().rawClass())
                                               .items(collect)
@@ -146,8 +146,9 @@ public final class EnhancedClientUtils {
                                               .scannedCount(scannedCount.apply(response))
                                               .consumedCapacity(consumedCapacity.apply(response));
 
-        if (getLastEvaluatedKey.apply(response) != null && !getLastEvaluatedKey.apply(response).isEmpty()) {
-            pageBuilder.lastEvaluatedKey(getLastEvaluatedKey.apply(response));
+        Map<String, AttributeValue> lastEvaluatedKey = getLastEvaluatedKey.apply(response);
+        if (lastEvaluatedKey != null && !lastEvaluatedKey.isEmpty()) {
+            pageBuilder.lastEvaluatedKey(lastEvaluatedKey);
         }
         return pageBuilder.build();
     }
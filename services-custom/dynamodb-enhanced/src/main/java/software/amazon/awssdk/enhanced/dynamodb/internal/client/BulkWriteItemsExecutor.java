@@ -0,0 +1,529 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import static software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils.createKeyFromMap;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils.readAndTransformSingleItem;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.OperationContext;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DefaultOperationContext;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DeleteItemOperation;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.PutItemOperation;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteItem;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteItemsEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Writes a stream of {@link BulkWriteItem}s to a single table. Actions are packed into {@code BatchWriteItem} calls of up to
+ * {@value #MAX_ITEMS_PER_BATCH} items and {@value #MAX_BATCH_SIZE_IN_BYTES} bytes, at most {@code maxConcurrentBatches} of
+ * which are in flight at any time. The stream is only requested from while a batch slot is free, so a slow table applies
+ * backpressure to the producer instead of buffering the whole stream in memory. A batch that is flushed early, because it
+ * already holds the key of the next item or is full in bytes, waits for a free slot like any other.
+ * <p>
+ * Ready batches are sent in order, and a batch that touches a key of a batch still in flight, including its retries, is held
+ * back until that batch has finished. Actions on the same key are therefore applied in the order of the stream, at the cost of
+ * sending no further batches while the held one waits.
+ * <p>
+ * Items that DynamoDb returns as unprocessed are resubmitted after a full-jitter exponential backoff until the batch runs out of
+ * attempts, after which they are reported through {@link BulkWriteResult}. A failed {@code BatchWriteItem} call (after the
+ * low-level client's own retries) fails the whole bulk write.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class BulkWriteItemsExecutor<T> implements Subscriber<BulkWriteItem<T>> {
+    static final int MAX_ITEMS_PER_BATCH = 25;
+    static final long MAX_BATCH_SIZE_IN_BYTES = 16L * 1024 * 1024;
+    static final int DEFAULT_MAX_CONCURRENT_BATCHES = 8;
+    static final int DEFAULT_MAX_ATTEMPTS = 10;
+    static final Duration DEFAULT_BASE_BACKOFF_DELAY = Duration.ofMillis(50);
+    static final Duration DEFAULT_MAX_BACKOFF_DELAY = Duration.ofSeconds(20);
+
+    private static final Logger log = Logger.loggerFor(BulkWriteItemsExecutor.class);
+
+    private final DynamoDbAsyncClient dynamoDbClient;
+    private final DynamoDbEnhancedClientExtension extension;
+    private final TableSchema<T> tableSchema;
+    private final String tableName;
+    private final OperationContext operationContext;
+    private final BulkWriteItemsEnhancedRequest<T> request;
+    private final ScheduledExecutorService scheduler;
+    private final int maxConcurrentBatches;
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+    private final CompletableFuture<BulkWriteResult<T>> resultFuture = new CompletableFuture<>();
+
+    private Subscription subscription;
+    private List<WriteRequest> currentBatch = new ArrayList<>(MAX_ITEMS_PER_BATCH);
+    private Set<Map<String, AttributeValue>> currentBatchKeys = new HashSet<>();
+    private long currentBatchSizeInBytes;
+    private final Queue<Batch> readyBatches = new ArrayDeque<>();
+    private final Set<Map<String, AttributeValue>> inFlightKeys = new HashSet<>();
+    private long outstandingDemand;
+    private int inFlightBatches;
+    private boolean upstreamDone;
+    private boolean terminated;
+    private long startNanos;
+
+    private long writtenItemCount;
+    private long batchRequestCount;
+    private long throttledItemCount;
+    private long retriedBatchCount;
+    private final List<WriteRequest> unprocessedRequests = new ArrayList<>();
+
+    BulkWriteItemsExecutor(DynamoDbAsyncClient dynamoDbClient,
+                           DynamoDbEnhancedClientExtension extension,
+                           TableSchema<T> tableSchema,
+                           String tableName,
+                           BulkWriteItemsEnhancedRequest<T> request) {
+        this(dynamoDbClient, extension, tableSchema, tableName, request, RetryScheduler.scheduler());
+    }
+
+    @SdkTestInternalApi
+    BulkWriteItemsExecutor(DynamoDbAsyncClient dynamoDbClient,
+                           DynamoDbEnhancedClientExtension extension,
+                           TableSchema<T> tableSchema,
+                           String tableName,
+                           BulkWriteItemsEnhancedRequest<T> request,
+                           ScheduledExecutorService scheduler) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.extension = extension;
+        this.tableSchema = tableSchema;
+        this.tableName = tableName;
+        this.operationContext = DefaultOperationContext.create(tableName);
+        this.request = request;
+        this.scheduler = scheduler;
+        this.maxConcurrentBatches = request.maxConcurrentBatches() != null ? request.maxConcurrentBatches()
+                                                                           : DEFAULT_MAX_CONCURRENT_BATCHES;
+        this.maxAttempts = request.maxAttempts() != null ? request.maxAttempts() : DEFAULT_MAX_ATTEMPTS;
+        this.baseBackoffMillis = (request.baseBackoffDelay() != null ? request.baseBackoffDelay()
+                                                                     : DEFAULT_BASE_BACKOFF_DELAY).toMillis();
+        this.maxBackoffMillis = (request.maxBackoffDelay() != null ? request.maxBackoffDelay()
+                                                                   : DEFAULT_MAX_BACKOFF_DELAY).toMillis();
+    }
+
+    /**
+     * Subscribes to the stream of actions and returns a future that completes once every batch has been written or has run out
+     * of attempts.
+     */
+    CompletableFuture<BulkWriteResult<T>> execute() {
+        synchronized (this) {
+            startNanos = System.nanoTime();
+        }
+        resultFuture.whenComplete((r, t) -> {
+            if (t != null) {
+                cancelUpstream();
+            }
+        });
+        request.items().subscribe(this);
+        return resultFuture;
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        synchronized (this) {
+            if (subscription != null) {
+                s.cancel();
+                return;
+            }
+            subscription = s;
+        }
+        requestMoreIfPossible();
+    }
+
+    @Override
+    public void onNext(BulkWriteItem<T> item) {
+        WriteRequest writeRequest;
+        try {
+            writeRequest = toWriteRequest(item);
+        } catch (RuntimeException e) {
+            fail(e, true);
+            return;
+        }
+
+        Map<String, AttributeValue> key = keyOf(writeRequest);
+        long sizeInBytes = sizeInBytes(writeRequest);
+
+        synchronized (this) {
+            if (terminated) {
+                return;
+            }
+            outstandingDemand--;
+
+            // DynamoDb rejects a batch that touches the same key twice, so start a new batch instead
+            if (!currentBatch.isEmpty()
+                && (currentBatchKeys.contains(key) || currentBatchSizeInBytes + sizeInBytes > MAX_BATCH_SIZE_IN_BYTES)) {
+                takeCurrentBatch();
+            }
+
+            currentBatch.add(writeRequest);
+            currentBatchKeys.add(key);
+            currentBatchSizeInBytes += sizeInBytes;
+
+            if (currentBatch.size() == MAX_ITEMS_PER_BATCH) {
+                takeCurrentBatch();
+            }
+        }
+
+        sendReadyBatches();
+        requestMoreIfPossible();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        fail(t, false);
+    }
+
+    @Override
+    public void onComplete() {
+        synchronized (this) {
+            upstreamDone = true;
+            if (!currentBatch.isEmpty()) {
+                takeCurrentBatch();
+            }
+        }
+
+        sendReadyBatches();
+        completeIfDone();
+    }
+
+    private WriteRequest toWriteRequest(BulkWriteItem<T> item) {
+        if (item.key() != null) {
+            DeleteItemOperation<T> operation = DeleteItemOperation.create(DeleteItemEnhancedRequest.builder()
+                                                                                                   .key(item.key())
+                                                                                                   .build());
+            return operation.generateWriteRequest(tableSchema, operationContext, extension);
+        }
+
+        PutItemOperation<T> operation = PutItemOperation.create(PutItemEnhancedRequest.builder(tableSchema.itemType().rawClass())
+                                                                                      .item(item.item())
+                                                                                      .build());
+        return operation.generateWriteRequest(tableSchema, operationContext, extension);
+    }
+
+    private Map<String, AttributeValue> keyOf(WriteRequest writeRequest) {
+        if (writeRequest.deleteRequest() != null) {
+            return writeRequest.deleteRequest().key();
+        }
+
+        Map<String, AttributeValue> item = writeRequest.putRequest().item();
+        Map<String, AttributeValue> key = new HashMap<>();
+        for (String keyName : tableSchema.tableMetadata().primaryKeys()) {
+            key.put(keyName, item.get(keyName));
+        }
+        return key;
+    }
+
+    /**
+     * Must be called while holding the lock. The taken batch is sent by {@link #sendReadyBatches()} once a slot is free.
+     */
+    private void takeCurrentBatch() {
+        readyBatches.add(new Batch(currentBatch, currentBatchKeys));
+        currentBatch = new ArrayList<>(MAX_ITEMS_PER_BATCH);
+        currentBatchKeys = new HashSet<>();
+        currentBatchSizeInBytes = 0;
+    }
+
+    /**
+     * Sends the ready batches in order while fewer than {@code maxConcurrentBatches} are in flight and the next batch touches
+     * no key of a batch in flight. A sent batch occupies its slot and holds its keys until it finishes, including its retries.
+     */
+    private void sendReadyBatches() {
+        while (true) {
+            Batch batch;
+            synchronized (this) {
+                if (terminated || inFlightBatches >= maxConcurrentBatches || readyBatches.isEmpty()
+                    || !Collections.disjoint(inFlightKeys, readyBatches.peek().keys)) {
+                    return;
+                }
+                batch = readyBatches.poll();
+                inFlightKeys.addAll(batch.keys);
+                inFlightBatches++;
+            }
+            sendBatch(batch, batch.requests, 1);
+        }
+    }
+
+    private void requestMoreIfPossible() {
+        Subscription s;
+        long n;
+        synchronized (this) {
+            if (terminated || upstreamDone || subscription == null || outstandingDemand > 0
+                || inFlightBatches >= maxConcurrentBatches || !readyBatches.isEmpty()) {
+                return;
+            }
+            n = MAX_ITEMS_PER_BATCH - currentBatch.size();
+            outstandingDemand = n;
+            s = subscription;
+        }
+        s.request(n);
+    }
+
+    private void sendBatch(Batch batch, List<WriteRequest> requests, int attempt) {
+        synchronized (this) {
+            if (terminated) {
+                return;
+            }
+            batchRequestCount++;
+        }
+
+        BatchWriteItemRequest batchWriteItemRequest =
+            BatchWriteItemRequest.builder()
+                                 .requestItems(Collections.singletonMap(tableName, requests))
+                                 .build();
+
+        CompletableFuture<BatchWriteItemResponse> responseFuture;
+        try {
+            responseFuture = dynamoDbClient.batchWriteItem(batchWriteItemRequest);
+        } catch (RuntimeException e) {
+            fail(e, true);
+            return;
+        }
+
+        responseFuture.whenComplete((response, t) -> {
+            if (t != null) {
+                fail(t, true);
+            } else {
+                onBatchResponse(batch, requests, attempt, response);
+            }
+        });
+    }
+
+    private void onBatchResponse(Batch batch, List<WriteRequest> requests, int attempt, BatchWriteItemResponse response) {
+        List<WriteRequest> unprocessed = response.hasUnprocessedItems()
+                                         ? response.unprocessedItems().getOrDefault(tableName, Collections.emptyList())
+                                         : Collections.emptyList();
+        boolean retry;
+        synchronized (this) {
+            writtenItemCount += requests.size() - unprocessed.size();
+            throttledItemCount += unprocessed.size();
+            retry = !unprocessed.isEmpty() && attempt < maxAttempts;
+            if (retry) {
+                retriedBatchCount++;
+            } else {
+                unprocessedRequests.addAll(unprocessed);
+                inFlightKeys.removeAll(batch.keys);
+                inFlightBatches--;
+            }
+        }
+
+        if (retry) {
+            long delayMillis = backoffDelayMillis(attempt);
+            log.debug(() -> String.format("%d items of a batch for table %s were not processed, resubmitting in %d ms "
+                                          + "(attempt %d of %d).", unprocessed.size(), tableName, delayMillis,
+                                          attempt + 1, maxAttempts));
+            scheduler.schedule(() -> sendBatch(batch, unprocessed, attempt + 1), delayMillis, TimeUnit.MILLISECONDS);
+            return;
+        }
+
+        sendReadyBatches();
+        requestMoreIfPossible();
+        completeIfDone();
+    }
+
+    private long backoffDelayMillis(int attempt) {
+        int shift = Math.min(attempt - 1, 30);
+        long ceiling = Math.min(maxBackoffMillis, baseBackoffMillis << shift);
+        if (ceiling < 0) {
+            ceiling = maxBackoffMillis;
+        }
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private void completeIfDone() {
+        BulkWriteResult<T> result;
+        synchronized (this) {
+            if (terminated || !upstreamDone || inFlightBatches > 0 || !readyBatches.isEmpty() || !currentBatch.isEmpty()) {
+                return;
+            }
+            terminated = true;
+            result = buildResult();
+        }
+
+        log.debug(() -> "Bulk write to table " + tableName + " completed: " + result);
+        resultFuture.complete(result);
+    }
+
+    /**
+     * Must be called while holding the lock.
+     */
+    private BulkWriteResult<T> buildResult() {
+        List<T> unprocessedPutItems = new ArrayList<>();
+        List<Key> unprocessedDeleteKeys = new ArrayList<>();
+        for (WriteRequest writeRequest : unprocessedRequests) {
+            if (writeRequest.putRequest() != null) {
+                unprocessedPutItems.add(readAndTransformSingleItem(writeRequest.putRequest().item(), tableSchema,
+                                                                   operationContext, extension));
+            } else if (writeRequest.deleteRequest() != null) {
+                unprocessedDeleteKeys.add(createKeyFromMap(writeRequest.deleteRequest().key(), tableSchema,
+                                                           TableMetadata.primaryIndexName()));
+            }
+        }
+
+        return BulkWriteResult.builder(tableSchema.itemType().rawClass())
+                              .unprocessedPutItems(unprocessedPutItems)
+                              .unprocessedDeleteKeys(unprocessedDeleteKeys)
+                              .writtenItemCount(writtenItemCount)
+                              .batchRequestCount(batchRequestCount)
+                              .throttledItemCount(throttledItemCount)
+                              .retriedBatchCount(retriedBatchCount)
+                              .duration(Duration.ofNanos(System.nanoTime() - startNanos))
+                              .build();
+    }
+
+    private void fail(Throwable t, boolean cancelUpstream) {
+        synchronized (this) {
+            if (terminated) {
+                return;
+            }
+            terminated = true;
+        }
+
+        if (cancelUpstream) {
+            cancelUpstream();
+        }
+        resultFuture.completeExceptionally(t);
+    }
+
+    private void cancelUpstream() {
+        Subscription s;
+        synchronized (this) {
+            terminated = true;
+            s = subscription;
+        }
+        if (s != null) {
+            s.cancel();
+        }
+    }
+
+    /**
+     * Estimates the size DynamoDb accounts for a write request: the UTF-8 length of every attribute name plus the size of its
+     * value.
+     */
+    static long sizeInBytes(WriteRequest writeRequest) {
+        if (writeRequest.putRequest() != null) {
+            return sizeInBytes(writeRequest.putRequest().item());
+        }
+        return sizeInBytes(writeRequest.deleteRequest().key());
+    }
+
+    private static long sizeInBytes(Map<String, AttributeValue> attributes) {
+        long size = 0;
+        for (Map.Entry<String, AttributeValue> entry : attributes.entrySet()) {
+            size += utf8Length(entry.getKey()) + sizeInBytes(entry.getValue());
+        }
+        return size;
+    }
+
+    private static long sizeInBytes(AttributeValue value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value.s() != null) {
+            return utf8Length(value.s());
+        }
+        if (value.n() != null) {
+            return value.n().length();
+        }
+        if (value.b() != null) {
+            return value.b().asByteBuffer().remaining();
+        }
+        if (value.hasSs()) {
+            long size = 0;
+            for (String s : value.ss()) {
+                size += utf8Length(s);
+            }
+            return size;
+        }
+        if (value.hasNs()) {
+            long size = 0;
+            for (String n : value.ns()) {
+                size += n.length();
+            }
+            return size;
+        }
+        if (value.hasBs()) {
+            long size = 0;
+            for (SdkBytes b : value.bs()) {
+                size += b.asByteBuffer().remaining();
+            }
+            return size;
+        }
+        if (value.hasM()) {
+            return 3 + sizeInBytes(value.m());
+        }
+        if (value.hasL()) {
+            long size = 3;
+            for (AttributeValue element : value.l()) {
+                size += 1 + sizeInBytes(element);
+            }
+            return size;
+        }
+        // BOOL and NULL
+        return 1;
+    }
+
+    private static long utf8Length(String s) {
+        return s.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * The write requests of a batch and the keys they touch.
+     */
+    private static final class Batch {
+        private final List<WriteRequest> requests;
+        private final Set<Map<String, AttributeValue>> keys;
+
+        private Batch(List<WriteRequest> requests, Set<Map<String, AttributeValue>> keys) {
+            this.requests = requests;
+            this.keys = keys;
+        }
+    }
+}
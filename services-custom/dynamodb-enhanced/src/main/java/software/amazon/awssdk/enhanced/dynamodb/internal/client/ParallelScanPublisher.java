@@ -0,0 +1,366 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
+import software.amazon.awssdk.enhanced.dynamodb.OperationContext;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DefaultOperationContext;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.ScanOperation;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.RequestLimitExceededException;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Scans the segments of a table concurrently and merges their pages, in completion order, into a single publisher.
+ * <p>
+ * Each segment is scanned page by page with its own exclusive start key. A page is only requested from DynamoDb while fewer
+ * than {@code maxBufferedPages} pages are in flight or waiting for the subscriber, so subscriber demand propagates back to the
+ * table instead of pages piling up in memory. With adaptive concurrency enabled, a throttled segment is resumed from its last
+ * key after a jittered backoff and the number of concurrently scanned segments is halved, then grown back additively.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class ParallelScanPublisher<T> implements SdkPublisher<Page<T>> {
+    static final int MAX_CONSECUTIVE_THROTTLES = 10;
+    static final Duration BASE_BACKOFF_DELAY = Duration.ofMillis(100);
+    static final Duration MAX_BACKOFF_DELAY = Duration.ofSeconds(10);
+
+    private static final Logger log = Logger.loggerFor(ParallelScanPublisher.class);
+
+    private final DynamoDbAsyncClient dynamoDbClient;
+    private final DynamoDbEnhancedClientExtension extension;
+    private final TableSchema<T> tableSchema;
+    private final String tableName;
+    private final ParallelScanEnhancedRequest request;
+    private final ScheduledExecutorService scheduler;
+
+    ParallelScanPublisher(DynamoDbAsyncClient dynamoDbClient,
+                          DynamoDbEnhancedClientExtension extension,
+                          TableSchema<T> tableSchema,
+                          String tableName,
+                          ParallelScanEnhancedRequest request) {
+        this(dynamoDbClient, extension, tableSchema, tableName, request, RetryScheduler.scheduler());
+    }
+
+    @SdkTestInternalApi
+    ParallelScanPublisher(DynamoDbAsyncClient dynamoDbClient,
+                          DynamoDbEnhancedClientExtension extension,
+                          TableSchema<T> tableSchema,
+                          String tableName,
+                          ParallelScanEnhancedRequest request,
+                          ScheduledExecutorService scheduler) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.extension = extension;
+        this.tableSchema = tableSchema;
+        this.tableName = tableName;
+        this.request = request;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Page<T>> subscriber) {
+        ParallelScanSubscription subscription = new ParallelScanSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    private static boolean isThrottlingException(Throwable t) {
+        return t instanceof ProvisionedThroughputExceededException
+               || t instanceof RequestLimitExceededException
+               || t instanceof SdkServiceException && ((SdkServiceException) t).isThrottlingException();
+    }
+
+    private static Throwable unwrap(Throwable t) {
+        return t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+    }
+
+    private static final class Segment {
+        private final ScanRequest scanRequest;
+        private Map<String, AttributeValue> exclusiveStartKey;
+        private int consecutiveThrottles;
+
+        private Segment(ScanRequest scanRequest) {
+            this.scanRequest = scanRequest;
+        }
+
+        private ScanRequest nextPageRequest() {
+            return exclusiveStartKey == null ? scanRequest : scanRequest.toBuilder().exclusiveStartKey(exclusiveStartKey).build();
+        }
+    }
+
+    private final class ParallelScanSubscription implements Subscription {
+        private final Subscriber<? super Page<T>> subscriber;
+        private final ScanOperation<T> pageTransformer;
+        private final OperationContext operationContext;
+        private final int maxConcurrentSegments;
+        private final int maxBufferedPages;
+        private final boolean adaptive;
+
+        private final Deque<Segment> readySegments = new ArrayDeque<>();
+        private final Deque<Page<T>> bufferedPages = new ArrayDeque<>();
+        private int remainingSegments;
+        private int inFlightScans;
+        private int concurrencyLimit;
+        private int successesSinceAdjustment;
+        private long demand;
+        private Throwable error;
+        private boolean cancelled;
+        private boolean terminated;
+        private boolean draining;
+        private boolean missed;
+
+        private ParallelScanSubscription(Subscriber<? super Page<T>> subscriber) {
+            this.subscriber = subscriber;
+            this.pageTransformer = ScanOperation.create(request.scanRequest());
+            this.operationContext = DefaultOperationContext.create(tableName, TableMetadata.primaryIndexName());
+            int totalSegments = request.totalSegments();
+            this.maxConcurrentSegments = request.maxConcurrentSegments() != null
+                                         ? Math.min(request.maxConcurrentSegments(), totalSegments)
+                                         : totalSegments;
+            this.maxBufferedPages = request.maxBufferedPages() != null ? request.maxBufferedPages()
+                                                                       : 2 * maxConcurrentSegments;
+            this.adaptive = Boolean.TRUE.equals(request.adaptiveConcurrencyEnabled());
+            this.concurrencyLimit = maxConcurrentSegments;
+            this.remainingSegments = totalSegments;
+
+            for (int i = 0; i < totalSegments; i++) {
+                ScanOperation<T> segmentOperation =
+                    ScanOperation.create(request.scanRequest().toBuilder().segment(i).totalSegments(totalSegments).build());
+                readySegments.add(new Segment(segmentOperation.generateRequest(tableSchema, operationContext, extension)));
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (terminated) {
+                    return;
+                }
+                if (n <= 0) {
+                    error = new IllegalArgumentException("Non-positive request signals are illegal");
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                cancelled = true;
+                terminated = true;
+                bufferedPages.clear();
+                readySegments.clear();
+            }
+        }
+
+        /**
+         * Delivers buffered pages up to the subscriber's demand and starts new page scans while the concurrency and
+         * buffering limits allow. Only one thread drains at a time; a thread that finds a drain in progress flags it to run
+         * again instead.
+         */
+        private void drain() {
+            synchronized (this) {
+                if (draining) {
+                    missed = true;
+                    return;
+                }
+                draining = true;
+            }
+
+            while (true) {
+                Page<T> page = null;
+                Throwable failure = null;
+                boolean complete = false;
+                List<Segment> toScan = Collections.emptyList();
+
+                synchronized (this) {
+                    if (cancelled) {
+                        draining = false;
+                        return;
+                    }
+                    if (error != null) {
+                        terminated = true;
+                        failure = error;
+                    } else if (demand > 0 && !bufferedPages.isEmpty()) {
+                        page = bufferedPages.poll();
+                        demand--;
+                    } else if (bufferedPages.isEmpty() && inFlightScans == 0 && remainingSegments == 0) {
+                        terminated = true;
+                        complete = true;
+                    } else {
+                        toScan = segmentsToScan();
+                        if (toScan.isEmpty() && !missed) {
+                            draining = false;
+                            return;
+                        }
+                        missed = false;
+                    }
+                }
+
+                if (failure != null) {
+                    subscriber.onError(failure);
+                    return;
+                }
+                if (complete) {
+                    subscriber.onComplete();
+                    return;
+                }
+                if (page != null) {
+                    subscriber.onNext(page);
+                }
+                for (Segment segment : toScan) {
+                    scanPage(segment);
+                }
+            }
+        }
+
+        /**
+         * Must be called while holding the lock.
+         */
+        private List<Segment> segmentsToScan() {
+            List<Segment> toScan = null;
+            while (!readySegments.isEmpty()
+                   && inFlightScans < concurrencyLimit
+                   && inFlightScans + bufferedPages.size() < maxBufferedPages) {
+                if (toScan == null) {
+                    toScan = new ArrayList<>();
+                }
+                toScan.add(readySegments.poll());
+                inFlightScans++;
+            }
+            return toScan != null ? toScan : Collections.emptyList();
+        }
+
+        private void scanPage(Segment segment) {
+            CompletableFuture<ScanResponse> responseFuture;
+            try {
+                responseFuture = dynamoDbClient.scan(segment.nextPageRequest());
+            } catch (RuntimeException e) {
+                onScanFailure(segment, e);
+                return;
+            }
+
+            responseFuture.whenComplete((response, t) -> {
+                if (t != null) {
+                    onScanFailure(segment, unwrap(t));
+                    return;
+                }
+                try {
+                    onScanSuccess(segment, response);
+                } catch (RuntimeException e) {
+                    onScanFailure(segment, e);
+                }
+            });
+        }
+
+        private void onScanSuccess(Segment segment, ScanResponse response) {
+            Page<T> page = pageTransformer.transformResponse(response, tableSchema, operationContext, extension);
+            Map<String, AttributeValue> lastEvaluatedKey = page.lastEvaluatedKey();
+
+            synchronized (this) {
+                inFlightScans--;
+                if (terminated) {
+                    return;
+                }
+                bufferedPages.add(page);
+                segment.consecutiveThrottles = 0;
+                if (lastEvaluatedKey != null && !lastEvaluatedKey.isEmpty()) {
+                    segment.exclusiveStartKey = lastEvaluatedKey;
+                    readySegments.add(segment);
+                } else {
+                    remainingSegments--;
+                }
+                if (adaptive && concurrencyLimit < maxConcurrentSegments && ++successesSinceAdjustment >= concurrencyLimit) {
+                    concurrencyLimit++;
+                    successesSinceAdjustment = 0;
+                }
+            }
+            drain();
+        }
+
+        private void onScanFailure(Segment segment, Throwable t) {
+            long delayMillis = -1;
+            int limit;
+            synchronized (this) {
+                inFlightScans--;
+                if (terminated) {
+                    return;
+                }
+                if (adaptive && isThrottlingException(t) && segment.consecutiveThrottles < MAX_CONSECUTIVE_THROTTLES) {
+                    segment.consecutiveThrottles++;
+                    concurrencyLimit = Math.max(1, concurrencyLimit / 2);
+                    successesSinceAdjustment = 0;
+                    delayMillis = backoffDelayMillis(segment.consecutiveThrottles);
+                } else if (error == null) {
+                    error = t;
+                }
+                limit = concurrencyLimit;
+            }
+
+            if (delayMillis >= 0) {
+                long delay = delayMillis;
+                log.debug(() -> String.format("Scan of table %s was throttled, resuming segment in %d ms with at most %d "
+                                              + "concurrent segments.", tableName, delay, limit), t);
+                scheduler.schedule(() -> resume(segment), delayMillis, TimeUnit.MILLISECONDS);
+            }
+            drain();
+        }
+
+        private void resume(Segment segment) {
+            synchronized (this) {
+                if (terminated) {
+                    return;
+                }
+                readySegments.add(segment);
+            }
+            drain();
+        }
+
+        private long backoffDelayMillis(int attempt) {
+            long ceiling = Math.min(MAX_BACKOFF_DELAY.toMillis(), BASE_BACKOFF_DELAY.toMillis() << Math.min(attempt - 1, 20));
+            return ThreadLocalRandom.current().nextLong(ceiling + 1);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * A shared, lazily created daemon scheduler used by the asynchronous enhanced client operations to delay resubmitting work
+ * after throttling. Scheduled tasks only issue the next non-blocking call, so a single thread is enough.
+ */
+@SdkInternalApi
+final class RetryScheduler {
+    private RetryScheduler() {
+    }
+
+    static ScheduledExecutorService scheduler() {
+        return Holder.SCHEDULER;
+    }
+
+    private static final class Holder {
+        private static final ScheduledExecutorService SCHEDULER =
+            Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().threadNamePrefix("dynamodb-enhanced-retry")
+                                                                                 .daemonThreads(true)
+                                                                                 .build());
+    }
+}
@@ -22,6 +22,7 @@ import static software.amazon.awssdk.enhanced.dynamodb.internal.document.JsonStr
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -78,16 +79,48 @@ public class DefaultEnhancedDocument implements EnhancedDocument {
     private final Lazy<Map<String, AttributeValue>> attributeValueMap = new Lazy<>(this::initializeAttributeValueMap);
 
     public DefaultEnhancedDocument(DefaultBuilder builder) {
-        this.nonAttributeValueMap = unmodifiableMap(new LinkedHashMap<>(builder.nonAttributeValueMap));
-        this.attributeConverterProviders = unmodifiableList(new ArrayList<>(builder.attributeConverterProviders));
-        this.attributeConverterChain = ChainConverterProvider.create(attributeConverterProviders);
-        this.enhancedTypeMap = unmodifiableMap(builder.enhancedTypeMap);
+        this(unmodifiableMap(new LinkedHashMap<>(builder.nonAttributeValueMap)),
+             builder.attributeConverterProviders,
+             unmodifiableMap(builder.enhancedTypeMap));
+    }
+
+    private DefaultEnhancedDocument(Map<String, Object> nonAttributeValueMap,
+                                    List<AttributeConverterProvider> attributeConverterProviders,
+                                    Map<String, EnhancedType> enhancedTypeMap) {
+        this.nonAttributeValueMap = nonAttributeValueMap;
+        this.attributeConverterProviders = unmodifiableList(new ArrayList<>(attributeConverterProviders));
+        this.attributeConverterChain = ChainConverterProvider.create(this.attributeConverterProviders);
+        this.enhancedTypeMap = enhancedTypeMap;
     }
 
     public static Builder builder() {
         return new DefaultBuilder();
     }
 
+    /**
+     * Creates a document from an item read from DynamoDb. This is equivalent to adding every entry of the attribute value
+     * map to a new builder with {@link Builder#putObject(String, Object)}, but copies the attributes into the document
+     * once rather than once into the builder and again into the document.
+     *
+     * @param attributeValueMap The attributes of the item.
+     * @param attributeConverterProviders The converter providers used to read attributes from the document.
+     * @return A new document holding the attributes of the item.
+     */
+    public static DefaultEnhancedDocument fromAttributeValueMap(Map<String, AttributeValue> attributeValueMap,
+                                                                List<AttributeConverterProvider> attributeConverterProviders) {
+        Validate.paramNotNull(attributeConverterProviders, "attributeConverterProviders");
+        Map<String, Object> nonAttributeValueMap = new LinkedHashMap<>((int) (attributeValueMap.size() / 0.75f) + 1);
+
+        attributeValueMap.forEach((attributeName, attributeValue) -> {
+            DefaultBuilder.checkInvalidAttribute(attributeName, attributeValue);
+            nonAttributeValueMap.put(attributeName, attributeValue);
+        });
+
+        return new DefaultEnhancedDocument(unmodifiableMap(nonAttributeValueMap),
+                                           attributeConverterProviders,
+                                           Collections.emptyMap());
+    }
+
     public static <T> AttributeConverter<T> converterForClass(EnhancedType<T> type,
                                                               ChainConverterProvider chainConverterProvider) {
 
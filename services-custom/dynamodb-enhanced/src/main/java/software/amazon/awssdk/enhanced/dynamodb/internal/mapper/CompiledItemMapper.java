@@ -0,0 +1,123 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.mapper;
+
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.nullAttributeValue;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils.isNullAttributeValue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * A mapper specialized for one table schema that is compiled once, when the schema is built, from its resolved
+ * attributes. The attribute names, getters and setters are laid out in parallel arrays so that mapping an item is a
+ * plain indexed loop with no per-call lambda allocation, and the maps it produces are sized up front for the number of
+ * attributes the schema declares so that they never need to rehash.
+ * <p>
+ * Only directly declared attributes are handled here; flattened attributes remain the responsibility of the owning
+ * schema.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class CompiledItemMapper<T, B> {
+    private final String[] attributeNames;
+    private final Function<T, AttributeValue>[] getters;
+    private final BiConsumer<B, AttributeValue>[] setters;
+    private final int initialMapCapacity;
+
+    @SuppressWarnings("unchecked")
+    private CompiledItemMapper(List<ResolvedImmutableAttribute<T, B>> attributes, int totalAttributeCount) {
+        int attributeCount = attributes.size();
+        this.attributeNames = new String[attributeCount];
+        this.getters = new Function[attributeCount];
+        this.setters = new BiConsumer[attributeCount];
+
+        for (int i = 0; i < attributeCount; i++) {
+            ResolvedImmutableAttribute<T, B> attribute = attributes.get(i);
+            this.attributeNames[i] = attribute.attributeName();
+            this.getters[i] = attribute.attributeGetterMethod();
+            this.setters[i] = attribute.updateItemMethod();
+        }
+
+        this.initialMapCapacity = mapCapacityFor(totalAttributeCount);
+    }
+
+    /**
+     * Compiles a mapper for the given resolved attributes.
+     *
+     * @param attributes The directly declared attributes of the schema, in declaration order.
+     * @param totalAttributeCount The total number of attributes the schema maps, including flattened attributes. Used to
+     * size the maps produced by {@link #itemToMap(Object, boolean)}.
+     */
+    public static <T, B> CompiledItemMapper<T, B> compile(List<ResolvedImmutableAttribute<T, B>> attributes,
+                                                          int totalAttributeCount) {
+        return new CompiledItemMapper<>(attributes, totalAttributeCount);
+    }
+
+    /**
+     * Converts the declared attributes of an item into a new, mutable map that has enough capacity to also receive any
+     * flattened attributes of the schema without being resized.
+     */
+    public Map<String, AttributeValue> itemToMap(T item, boolean ignoreNulls) {
+        Map<String, AttributeValue> attributeValueMap = new HashMap<>(initialMapCapacity);
+
+        for (int i = 0; i < attributeNames.length; i++) {
+            AttributeValue attributeValue = item == null ? nullAttributeValue() : getters[i].apply(item);
+
+            if (!ignoreNulls || !isNullAttributeValue(attributeValue)) {
+                attributeValueMap.put(attributeNames[i], attributeValue);
+            }
+        }
+
+        return attributeValueMap;
+    }
+
+    /**
+     * Applies the declared attributes found in the attribute map to a builder. The builder is only created, using the
+     * supplied constructor, once there is a non-null attribute to write to it.
+     *
+     * @param builder An existing builder, or null if one should be created lazily.
+     * @return The builder that the attributes were written to, or null if there were none and no builder was supplied.
+     */
+    public B mapToBuilder(Map<String, AttributeValue> attributeMap, B builder, Supplier<B> builderConstructor) {
+        for (int i = 0; i < attributeNames.length; i++) {
+            AttributeValue attributeValue = attributeMap.get(attributeNames[i]);
+
+            if (attributeValue != null && !isNullAttributeValue(attributeValue)) {
+                if (builder == null) {
+                    builder = builderConstructor.get();
+                }
+
+                setters[i].accept(builder, attributeValue);
+            }
+        }
+
+        return builder;
+    }
+
+    private static int mapCapacityFor(int expectedSize) {
+        // Matches the sizing used by HashMap(Map) so that inserting expectedSize entries never triggers a resize
+        return (int) (expectedSize / 0.75f) + 1;
+    }
+}
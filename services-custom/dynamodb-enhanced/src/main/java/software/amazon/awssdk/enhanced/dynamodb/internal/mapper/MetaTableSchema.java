@@ -35,7 +35,7 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
  */
 @SdkInternalApi
 public class MetaTableSchema<T> implements TableSchema<T> {
-    private TableSchema<T> concreteTableSchema;
+    private volatile TableSchema<T> concreteTableSchema;
 
     private MetaTableSchema() {
     }
@@ -89,7 +89,7 @@ public class MetaTableSchema<T> implements TableSchema<T> {
         return concreteTableSchema.converterForAttribute(key);
     }
 
-    public void initialize(TableSchema<T> realTableSchema) {
+    public synchronized void initialize(TableSchema<T> realTableSchema) {
         if (this.concreteTableSchema != null) {
             throw new IllegalStateException("A MetaTableSchema can only be initialized with a concrete TableSchema " +
                                                 "instance once.");
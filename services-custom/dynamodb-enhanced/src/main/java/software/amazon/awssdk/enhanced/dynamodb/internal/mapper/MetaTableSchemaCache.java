@@ -15,19 +15,22 @@
 
 package software.amazon.awssdk.enhanced.dynamodb.internal.mapper;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
 
 /**
  * A cache that can store lazily initialized MetaTableSchema objects used by the TableSchema creation classes to
- * facilitate self-referencing recursive builds.
+ * facilitate self-referencing recursive builds. The cache is safe to share between threads that build schemas
+ * concurrently.
  */
 @SdkInternalApi
+@ThreadSafe
 @SuppressWarnings("unchecked")
 public class MetaTableSchemaCache {
-    private final Map<Class<?>, MetaTableSchema<?>> cacheMap = new HashMap<>();
+    private final Map<Class<?>, MetaTableSchema<?>> cacheMap = new ConcurrentHashMap<>();
 
     public <T> MetaTableSchema<T> getOrCreate(Class<T> mappedClass) {
         return (MetaTableSchema<T>) cacheMap().computeIfAbsent(
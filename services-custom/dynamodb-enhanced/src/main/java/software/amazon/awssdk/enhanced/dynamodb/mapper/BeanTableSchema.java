@@ -30,6 +30,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -170,12 +171,15 @@ public final class BeanTableSchema<T> extends WrappedTableSchema<T, StaticTableS
     private static <T> BeanTableSchema<T> create(BeanTableSchemaParams<T> params, MetaTableSchemaCache metaTableSchemaCache) {
         Class<T> beanClass = params.beanClass();
         debugLog(beanClass, () -> "Creating bean schema");
+        long startNanos = System.nanoTime();
         // Fetch or create a new reference to this yet-to-be-created TableSchema in the cache
         MetaTableSchema<T> metaTableSchema = metaTableSchemaCache.getOrCreate(beanClass);
 
         BeanTableSchema<T> newTableSchema =
             new BeanTableSchema<>(createStaticTableSchema(params.beanClass(), params.lookup(), metaTableSchemaCache));
         metaTableSchema.initialize(newTableSchema);
+        Duration introspectionTime = Duration.ofNanos(System.nanoTime() - startNanos);
+        debugLog(beanClass, () -> "Created bean schema in " + introspectionTime.toMillis() + " ms");
         return newTableSchema;
     }
 
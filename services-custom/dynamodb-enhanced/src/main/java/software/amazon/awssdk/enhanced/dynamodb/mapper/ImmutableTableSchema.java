@@ -25,6 +25,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -164,6 +165,7 @@ public final class ImmutableTableSchema<T> extends WrappedTableSchema<T, StaticI
     private static <T> ImmutableTableSchema<T> create(ImmutableTableSchemaParams<T> params,
                                                       MetaTableSchemaCache metaTableSchemaCache) {
         debugLog(params.immutableClass(), () -> "Creating immutable schema");
+        long startNanos = System.nanoTime();
 
         // Fetch or create a new reference to this yet-to-be-created TableSchema in the cache
         MetaTableSchema<T> metaTableSchema = metaTableSchemaCache.getOrCreate(params.immutableClass());
@@ -173,6 +175,8 @@ public final class ImmutableTableSchema<T> extends WrappedTableSchema<T, StaticI
                                                                         params.lookup(),
                                                                         metaTableSchemaCache));
         metaTableSchema.initialize(newTableSchema);
+        Duration introspectionTime = Duration.ofNanos(System.nanoTime() - startNanos);
+        debugLog(params.immutableClass(), () -> "Created immutable schema in " + introspectionTime.toMillis() + " ms");
         return newTableSchema;
     }
 
@@ -42,6 +42,7 @@ import software.amazon.awssdk.enhanced.dynamodb.DefaultAttributeConverterProvide
 import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.internal.converter.ConverterProviderResolver;
+import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.CompiledItemMapper;
 import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.ResolvedImmutableAttribute;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
@@ -86,7 +87,9 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
     private final EnhancedType<T> itemType;
     private final AttributeConverterProvider attributeConverterProvider;
     private final Map<String, FlattenedMapper<T, B, ?>> indexedFlattenedMappers;
+    private final List<FlattenedMapper<T, B, ?>> flattenedMappers;
     private final List<String> attributeNames;
+    private final CompiledItemMapper<T, B> compiledItemMapper;
 
     private static class FlattenedMapper<T, B, T1> {
         private final Function<T, T1> otherItemGetter;
@@ -207,10 +210,12 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
         this.indexedMappers = Collections.unmodifiableMap(mutableIndexedMappers);
         this.attributeNames = Collections.unmodifiableList(new ArrayList<>(mutableAttributeNames));
         this.indexedFlattenedMappers = Collections.unmodifiableMap(mutableFlattenedMappers);
+        this.flattenedMappers = Collections.unmodifiableList(new ArrayList<>(builder.flattenedMappers));
         this.newBuilderSupplier = builder.newBuilderSupplier;
         this.buildItemFunction = builder.buildItemFunction;
         this.tableMetadata = tableMetadataBuilder.build();
         this.itemType = builder.itemType;
+        this.compiledItemMapper = CompiledItemMapper.compile(this.attributeMappers, this.attributeNames.size());
     }
 
     /**
@@ -432,7 +437,6 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
             return this;
         }
 
-
         /**
          * Builds a {@link StaticImmutableTableSchema} based on the values this builder has been configured with
          */
@@ -454,56 +458,30 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
 
     @Override
     public T mapToItem(Map<String, AttributeValue> attributeMap, boolean preserveEmptyObject) {
-        B builder = null;
+        B builder = preserveEmptyObject ? constructNewBuilder() : null;
+        builder = compiledItemMapper.mapToBuilder(attributeMap, builder, this::constructNewBuilder);
 
-        // Instantiate the builder right now if preserveEmtpyBean is true, otherwise lazily instantiate the builder once
-        // we have an attribute to write
-        if (preserveEmptyObject) {
-            builder = constructNewBuilder();
-        }
+        if (!indexedFlattenedMappers.isEmpty()) {
+            Map<FlattenedMapper<T, B, ?>, Map<String, AttributeValue>> flattenedAttributeValuesMap = new LinkedHashMap<>();
 
-        Map<FlattenedMapper<T, B, ?>, Map<String, AttributeValue>> flattenedAttributeValuesMap = new LinkedHashMap<>();
-        
-        for (Map.Entry<String, AttributeValue> entry : attributeMap.entrySet()) {
-            String key = entry.getKey();
-            AttributeValue value = entry.getValue();
-            
-            if (!isNullAttributeValue(value)) {
-                ResolvedImmutableAttribute<T, B> attributeMapper = indexedMappers.get(key);
-
-                if (attributeMapper != null) {
-                    if (builder == null) {
-                        builder = constructNewBuilder();
-                    }
+            for (Map.Entry<String, AttributeValue> entry : attributeMap.entrySet()) {
+                FlattenedMapper<T, B, ?> flattenedMapper = indexedFlattenedMappers.get(entry.getKey());
 
-                    attributeMapper.updateItemMethod().accept(builder, value);
-                } else {
-                    FlattenedMapper<T, B, ?> flattenedMapper = this.indexedFlattenedMappers.get(key);
-
-                    if (flattenedMapper != null) {
-                        Map<String, AttributeValue> flattenedAttributeValues = 
-                            flattenedAttributeValuesMap.get(flattenedMapper);
-                        
-                        if (flattenedAttributeValues == null) {
-                            flattenedAttributeValues = new HashMap<>();
-                        }
-                        
-                        flattenedAttributeValues.put(key, value);
-                        flattenedAttributeValuesMap.put(flattenedMapper, flattenedAttributeValues);
-                    }
+                if (flattenedMapper != null && !isNullAttributeValue(entry.getValue())) {
+                    flattenedAttributeValuesMap.computeIfAbsent(flattenedMapper, m -> new HashMap<>())
+                                               .put(entry.getKey(), entry.getValue());
                 }
             }
-        }
 
-        for (Map.Entry<FlattenedMapper<T, B, ?>, Map<String, AttributeValue>> entry :
-                flattenedAttributeValuesMap.entrySet()) {
-            builder = entry.getKey().mapToItem(builder, this::constructNewBuilder, entry.getValue());
+            for (Map.Entry<FlattenedMapper<T, B, ?>, Map<String, AttributeValue>> entry :
+                    flattenedAttributeValuesMap.entrySet()) {
+                builder = entry.getKey().mapToItem(builder, this::constructNewBuilder, entry.getValue());
+            }
         }
-        
+
         return builder == null ? null : buildItemFunction.apply(builder);
     }
 
-
     @Override
     public T mapToItem(Map<String, AttributeValue> attributeMap) {
         return mapToItem(attributeMap, false);
@@ -511,22 +489,11 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
 
     @Override
     public Map<String, AttributeValue> itemToMap(T item, boolean ignoreNulls) {
-        Map<String, AttributeValue> attributeValueMap = new HashMap<>();
-
-        attributeMappers.forEach(attributeMapper -> {
-            String attributeKey = attributeMapper.attributeName();
-            AttributeValue attributeValue = item == null ?
-                                            AttributeValue.fromNul(true) :
-                                            attributeMapper.attributeGetterMethod().apply(item);
-
-            if (!ignoreNulls || !isNullAttributeValue(attributeValue)) {
-                attributeValueMap.put(attributeKey, attributeValue);
-            }
-        });
+        Map<String, AttributeValue> attributeValueMap = compiledItemMapper.itemToMap(item, ignoreNulls);
 
-        indexedFlattenedMappers.forEach((name, flattenedMapper) -> {
-            attributeValueMap.putAll(flattenedMapper.itemToMap(item, ignoreNulls));
-        });
+        for (int i = 0; i < flattenedMappers.size(); i++) {
+            attributeValueMap.putAll(flattenedMappers.get(i).itemToMap(item, ignoreNulls));
+        }
 
         return unmodifiableMap(attributeValueMap);
     }
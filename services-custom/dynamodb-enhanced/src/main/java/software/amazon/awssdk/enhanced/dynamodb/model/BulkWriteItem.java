@@ -0,0 +1,100 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.util.Objects;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A single put or delete action submitted to a bulk write, such as
+ * {@link DynamoDbAsyncTable#bulkWriteItems(BulkWriteItemsEnhancedRequest)}. Exactly one of {@link #item()} and {@link #key()}
+ * is present: a put action carries the item to insert or overwrite, a delete action carries the primary {@link Key} of the item
+ * to delete.
+ *
+ * @param <T> The type of the modelled object.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class BulkWriteItem<T> {
+    private final T item;
+    private final Key key;
+
+    private BulkWriteItem(T item, Key key) {
+        this.item = item;
+        this.key = key;
+    }
+
+    /**
+     * Creates a put action for the given item.
+     *
+     * @param item the item to insert or overwrite in the database.
+     * @param <T> The type of the modelled object.
+     * @return a put action
+     */
+    public static <T> BulkWriteItem<T> putItem(T item) {
+        return new BulkWriteItem<>(Validate.paramNotNull(item, "item"), null);
+    }
+
+    /**
+     * Creates a delete action for the item with the given primary key.
+     *
+     * @param key a {@link Key} to match the item to be deleted from the database.
+     * @param <T> The type of the modelled object.
+     * @return a delete action
+     */
+    public static <T> BulkWriteItem<T> deleteItem(Key key) {
+        return new BulkWriteItem<>(null, Validate.paramNotNull(key, "key"));
+    }
+
+    /**
+     * Returns the item to put, or null if this is a delete action.
+     */
+    public T item() {
+        return item;
+    }
+
+    /**
+     * Returns the primary key of the item to delete, or null if this is a put action.
+     */
+    public Key key() {
+        return key;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BulkWriteItem<?> that = (BulkWriteItem<?>) o;
+        return Objects.equals(item, that.item) && Objects.equals(key, that.key);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(item);
+        result = 31 * result + Objects.hashCode(key);
+        return result;
+    }
+}
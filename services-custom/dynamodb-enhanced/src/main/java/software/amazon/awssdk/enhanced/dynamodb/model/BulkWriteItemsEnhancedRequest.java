@@ -0,0 +1,239 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.time.Duration;
+import java.util.Objects;
+import org.reactivestreams.Publisher;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Defines parameters used for the bulkWriteItems() operation, such as
+ * {@link DynamoDbAsyncTable#bulkWriteItems(BulkWriteItemsEnhancedRequest)}.
+ * <p>
+ * A request contains a stream of put and delete actions, see {@link BulkWriteItem}, together with settings that control how
+ * many {@code BatchWriteItem} calls may be in flight at the same time and how unprocessed items returned by DynamoDb are
+ * resubmitted.
+ *
+ * @param <T> The type of the modelled object.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class BulkWriteItemsEnhancedRequest<T> {
+    private final Publisher<BulkWriteItem<T>> items;
+    private final Integer maxConcurrentBatches;
+    private final Integer maxAttempts;
+    private final Duration baseBackoffDelay;
+    private final Duration maxBackoffDelay;
+
+    private BulkWriteItemsEnhancedRequest(Builder<T> builder) {
+        this.items = Validate.paramNotNull(builder.items, "items");
+        this.maxConcurrentBatches = Validate.isPositiveOrNull(builder.maxConcurrentBatches, "maxConcurrentBatches");
+        this.maxAttempts = Validate.isPositiveOrNull(builder.maxAttempts, "maxAttempts");
+        this.baseBackoffDelay = Validate.isPositiveOrNull(builder.baseBackoffDelay, "baseBackoffDelay");
+        this.maxBackoffDelay = Validate.isPositiveOrNull(builder.maxBackoffDelay, "maxBackoffDelay");
+    }
+
+    /**
+     * Creates a newly initialized builder for the request object.
+     *
+     * @param itemClass the class that items in this table map to
+     * @param <T> The type of the modelled object, corresponding to itemClass
+     * @return a BulkWriteItemsEnhancedRequest builder
+     */
+    public static <T> Builder<T> builder(Class<? extends T> itemClass) {
+        return new Builder<>();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values in the request object.
+     */
+    public Builder<T> toBuilder() {
+        return new Builder<T>().items(items)
+                               .maxConcurrentBatches(maxConcurrentBatches)
+                               .maxAttempts(maxAttempts)
+                               .baseBackoffDelay(baseBackoffDelay)
+                               .maxBackoffDelay(maxBackoffDelay);
+    }
+
+    /**
+     * Returns the stream of put and delete actions to write.
+     */
+    public Publisher<BulkWriteItem<T>> items() {
+        return items;
+    }
+
+    /**
+     * Returns the maximum number of {@code BatchWriteItem} calls that may be in flight at the same time, or null if the
+     * default should be used.
+     */
+    public Integer maxConcurrentBatches() {
+        return maxConcurrentBatches;
+    }
+
+    /**
+     * Returns the maximum number of {@code BatchWriteItem} calls made for a single batch, including the calls that resubmit its
+     * unprocessed items, or null if the default should be used.
+     */
+    public Integer maxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Returns the base delay of the jittered exponential backoff applied before resubmitting unprocessed items, or null if the
+     * default should be used.
+     */
+    public Duration baseBackoffDelay() {
+        return baseBackoffDelay;
+    }
+
+    /**
+     * Returns the upper bound of the jittered exponential backoff applied before resubmitting unprocessed items, or null if the
+     * default should be used.
+     */
+    public Duration maxBackoffDelay() {
+        return maxBackoffDelay;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BulkWriteItemsEnhancedRequest<?> that = (BulkWriteItemsEnhancedRequest<?>) o;
+        return Objects.equals(items, that.items)
+               && Objects.equals(maxConcurrentBatches, that.maxConcurrentBatches)
+               && Objects.equals(maxAttempts, that.maxAttempts)
+               && Objects.equals(baseBackoffDelay, that.baseBackoffDelay)
+               && Objects.equals(maxBackoffDelay, that.maxBackoffDelay);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(items);
+        result = 31 * result + Objects.hashCode(maxConcurrentBatches);
+        result = 31 * result + Objects.hashCode(maxAttempts);
+        result = 31 * result + Objects.hashCode(baseBackoffDelay);
+        result = 31 * result + Objects.hashCode(maxBackoffDelay);
+        return result;
+    }
+
+    /**
+     * A builder that is used to create a request with the desired parameters.
+     * <p>
+     * <b>Note</b>: A valid request builder must define a stream of {@link BulkWriteItem}s.
+     *
+     * @param <T> The type of the modelled object.
+     */
+    @NotThreadSafe
+    public static final class Builder<T> {
+        private Publisher<BulkWriteItem<T>> items;
+        private Integer maxConcurrentBatches;
+        private Integer maxAttempts;
+        private Duration baseBackoffDelay;
+        private Duration maxBackoffDelay;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the stream of put and delete actions to write. The stream is consumed with backpressure: new actions are only
+         * requested while fewer than {@link #maxConcurrentBatches(Integer)} batches are in flight.
+         *
+         * @param items a publisher of put and delete actions
+         * @return a builder of this type
+         */
+        public Builder<T> items(Publisher<BulkWriteItem<T>> items) {
+            this.items = items;
+            return this;
+        }
+
+        /**
+         * Sets the put and delete actions to write from an {@link Iterable}. The iterable is consumed lazily, in the same way as
+         * {@link #items(Publisher)}.
+         *
+         * @param items the put and delete actions
+         * @return a builder of this type
+         */
+        public Builder<T> items(Iterable<BulkWriteItem<T>> items) {
+            this.items = items != null ? SdkPublisher.fromIterable(items) : null;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of {@code BatchWriteItem} calls that may be in flight at the same time. Defaults to 8.
+         *
+         * @param maxConcurrentBatches the maximum number of concurrent batches
+         * @return a builder of this type
+         */
+        public Builder<T> maxConcurrentBatches(Integer maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of {@code BatchWriteItem} calls made for a single batch, including the calls that resubmit
+         * the unprocessed items DynamoDb returns for it. Items that are still unprocessed after the last attempt are reported
+         * through {@link BulkWriteResult}. Defaults to 10.
+         *
+         * @param maxAttempts the maximum number of attempts per batch
+         * @return a builder of this type
+         */
+        public Builder<T> maxAttempts(Integer maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Sets the base delay of the exponential backoff applied before resubmitting unprocessed items. The actual delay is
+         * chosen at random between zero and the exponential bound, so that throttled batches do not retry in lockstep.
+         * Defaults to 50 milliseconds.
+         *
+         * @param baseBackoffDelay the base backoff delay
+         * @return a builder of this type
+         */
+        public Builder<T> baseBackoffDelay(Duration baseBackoffDelay) {
+            this.baseBackoffDelay = baseBackoffDelay;
+            return this;
+        }
+
+        /**
+         * Sets the upper bound of the exponential backoff applied before resubmitting unprocessed items. Defaults to 20
+         * seconds.
+         *
+         * @param maxBackoffDelay the maximum backoff delay
+         * @return a builder of this type
+         */
+        public Builder<T> maxBackoffDelay(Duration maxBackoffDelay) {
+            this.maxBackoffDelay = maxBackoffDelay;
+            return this;
+        }
+
+        public BulkWriteItemsEnhancedRequest<T> build() {
+            return new BulkWriteItemsEnhancedRequest<>(this);
+        }
+    }
+}
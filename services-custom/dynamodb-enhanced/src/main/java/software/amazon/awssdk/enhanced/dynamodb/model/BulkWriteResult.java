@@ -0,0 +1,222 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * Defines the result of the bulkWriteItems() operation, such as
+ * {@link DynamoDbAsyncTable#bulkWriteItems(BulkWriteItemsEnhancedRequest)}. The result describes any items that were still
+ * unprocessed once their batch ran out of attempts, together with throughput and throttling statistics for the whole bulk
+ * write.
+ *
+ * @param <T> The type of the modelled object.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class BulkWriteResult<T> {
+    private final List<T> unprocessedPutItems;
+    private final List<Key> unprocessedDeleteKeys;
+    private final long writtenItemCount;
+    private final long batchRequestCount;
+    private final long throttledItemCount;
+    private final long retriedBatchCount;
+    private final Duration duration;
+
+    private BulkWriteResult(Builder<T> builder) {
+        this.unprocessedPutItems = builder.unprocessedPutItems == null ? Collections.emptyList() :
+                                   Collections.unmodifiableList(new ArrayList<>(builder.unprocessedPutItems));
+        this.unprocessedDeleteKeys = builder.unprocessedDeleteKeys == null ? Collections.emptyList() :
+                                     Collections.unmodifiableList(new ArrayList<>(builder.unprocessedDeleteKeys));
+        this.writtenItemCount = builder.writtenItemCount;
+        this.batchRequestCount = builder.batchRequestCount;
+        this.throttledItemCount = builder.throttledItemCount;
+        this.retriedBatchCount = builder.retriedBatchCount;
+        this.duration = builder.duration == null ? Duration.ZERO : builder.duration;
+    }
+
+    public static <T> Builder<T> builder(Class<? extends T> itemClass) {
+        return new Builder<>();
+    }
+
+    /**
+     * Returns the items from put actions that DynamoDb still reported as unprocessed after the last attempt of their batch.
+     */
+    public List<T> unprocessedPutItems() {
+        return unprocessedPutItems;
+    }
+
+    /**
+     * Returns the keys from delete actions that DynamoDb still reported as unprocessed after the last attempt of their batch.
+     */
+    public List<Key> unprocessedDeleteKeys() {
+        return unprocessedDeleteKeys;
+    }
+
+    /**
+     * Returns the number of put and delete actions that were successfully written.
+     */
+    public long writtenItemCount() {
+        return writtenItemCount;
+    }
+
+    /**
+     * Returns the number of {@code BatchWriteItem} calls made, including the calls that resubmitted unprocessed items.
+     */
+    public long batchRequestCount() {
+        return batchRequestCount;
+    }
+
+    /**
+     * Returns the number of times an action was returned as unprocessed by DynamoDb, typically because the table or partition
+     * was throttled. An action that is returned as unprocessed by several attempts is counted once per attempt.
+     */
+    public long throttledItemCount() {
+        return throttledItemCount;
+    }
+
+    /**
+     * Returns the number of times unprocessed items of a batch were resubmitted after a backoff delay.
+     */
+    public long retriedBatchCount() {
+        return retriedBatchCount;
+    }
+
+    /**
+     * Returns the time between subscribing to the stream of actions and completing the last batch.
+     */
+    public Duration duration() {
+        return duration;
+    }
+
+    /**
+     * Returns the average number of actions written per second over {@link #duration()}.
+     */
+    public double itemsPerSecond() {
+        long nanos = duration.toNanos();
+        if (nanos <= 0) {
+            return 0;
+        }
+        return writtenItemCount * 1_000_000_000.0 / nanos;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BulkWriteResult<?> that = (BulkWriteResult<?>) o;
+        return writtenItemCount == that.writtenItemCount
+               && batchRequestCount == that.batchRequestCount
+               && throttledItemCount == that.throttledItemCount
+               && retriedBatchCount == that.retriedBatchCount
+               && Objects.equals(unprocessedPutItems, that.unprocessedPutItems)
+               && Objects.equals(unprocessedDeleteKeys, that.unprocessedDeleteKeys)
+               && Objects.equals(duration, that.duration);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(unprocessedPutItems);
+        result = 31 * result + Objects.hashCode(unprocessedDeleteKeys);
+        result = 31 * result + Long.hashCode(writtenItemCount);
+        result = 31 * result + Long.hashCode(batchRequestCount);
+        result = 31 * result + Long.hashCode(throttledItemCount);
+        result = 31 * result + Long.hashCode(retriedBatchCount);
+        result = 31 * result + Objects.hashCode(duration);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("BulkWriteResult")
+                       .add("writtenItemCount", writtenItemCount)
+                       .add("unprocessedItemCount", unprocessedPutItems.size() + unprocessedDeleteKeys.size())
+                       .add("batchRequestCount", batchRequestCount)
+                       .add("throttledItemCount", throttledItemCount)
+                       .add("retriedBatchCount", retriedBatchCount)
+                       .add("duration", duration)
+                       .build();
+    }
+
+    @NotThreadSafe
+    public static final class Builder<T> {
+        private List<T> unprocessedPutItems;
+        private List<Key> unprocessedDeleteKeys;
+        private long writtenItemCount;
+        private long batchRequestCount;
+        private long throttledItemCount;
+        private long retriedBatchCount;
+        private Duration duration;
+
+        private Builder() {
+        }
+
+        public Builder<T> unprocessedPutItems(List<T> unprocessedPutItems) {
+            this.unprocessedPutItems = unprocessedPutItems;
+            return this;
+        }
+
+        public Builder<T> unprocessedDeleteKeys(List<Key> unprocessedDeleteKeys) {
+            this.unprocessedDeleteKeys = unprocessedDeleteKeys;
+            return this;
+        }
+
+        public Builder<T> writtenItemCount(long writtenItemCount) {
+            this.writtenItemCount = writtenItemCount;
+            return this;
+        }
+
+        public Builder<T> batchRequestCount(long batchRequestCount) {
+            this.batchRequestCount = batchRequestCount;
+            return this;
+        }
+
+        public Builder<T> throttledItemCount(long throttledItemCount) {
+            this.throttledItemCount = throttledItemCount;
+            return this;
+        }
+
+        public Builder<T> retriedBatchCount(long retriedBatchCount) {
+            this.retriedBatchCount = retriedBatchCount;
+            return this;
+        }
+
+        public Builder<T> duration(Duration duration) {
+            this.duration = duration;
+            return this;
+        }
+
+        public BulkWriteResult<T> build() {
+            return new BulkWriteResult<>(this);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Defines parameters used for the parallelScan() operation, such as
+ * {@link DynamoDbAsyncTable#parallelScan(ParallelScanEnhancedRequest)}.
+ * <p>
+ * A parallel scan splits the table into {@link #totalSegments()} segments and scans up to {@link #maxConcurrentSegments()} of
+ * them at the same time. The {@link ScanEnhancedRequest} supplies the settings shared by every segment, such as the filter
+ * expression, projection and page limit; it must not set a segment, a total number of segments or an exclusive start key.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class ParallelScanEnhancedRequest {
+    private final ScanEnhancedRequest scanRequest;
+    private final Integer totalSegments;
+    private final Integer maxConcurrentSegments;
+    private final Integer maxBufferedPages;
+    private final Boolean adaptiveConcurrencyEnabled;
+
+    private ParallelScanEnhancedRequest(Builder builder) {
+        this.scanRequest = builder.scanRequest != null ? builder.scanRequest : ScanEnhancedRequest.builder().build();
+        this.totalSegments = Validate.isPositive(Validate.paramNotNull(builder.totalSegments, "totalSegments"),
+                                                 "totalSegments");
+        this.maxConcurrentSegments = Validate.isPositiveOrNull(builder.maxConcurrentSegments, "maxConcurrentSegments");
+        this.maxBufferedPages = Validate.isPositiveOrNull(builder.maxBufferedPages, "maxBufferedPages");
+        this.adaptiveConcurrencyEnabled = builder.adaptiveConcurrencyEnabled;
+        Validate.isTrue(scanRequest.segment() == null && scanRequest.totalSegments() == null,
+                        "The scanRequest of a parallel scan must not set segment or totalSegments.");
+        Validate.isTrue(scanRequest.exclusiveStartKey() == null,
+                        "The scanRequest of a parallel scan must not set an exclusiveStartKey.");
+    }
+
+    /**
+     * Creates a newly initialized builder for a request object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values in the request object.
+     */
+    public Builder toBuilder() {
+        return builder().scanRequest(scanRequest)
+                        .totalSegments(totalSegments)
+                        .maxConcurrentSegments(maxConcurrentSegments)
+                        .maxBufferedPages(maxBufferedPages)
+                        .adaptiveConcurrencyEnabled(adaptiveConcurrencyEnabled);
+    }
+
+    /**
+     * Returns the scan settings shared by every segment.
+     */
+    public ScanEnhancedRequest scanRequest() {
+        return scanRequest;
+    }
+
+    /**
+     * Returns the number of segments the table is split into.
+     */
+    public Integer totalSegments() {
+        return totalSegments;
+    }
+
+    /**
+     * Returns the maximum number of segments scanned at the same time, or null if every segment may be scanned at once.
+     */
+    public Integer maxConcurrentSegments() {
+        return maxConcurrentSegments;
+    }
+
+    /**
+     * Returns the maximum number of pages that may be requested from DynamoDb or buffered ahead of the subscriber, or null if
+     * the default should be used.
+     */
+    public Integer maxBufferedPages() {
+        return maxBufferedPages;
+    }
+
+    /**
+     * Returns whether the number of segments scanned at the same time adapts to throttling, or null if not set.
+     */
+    public Boolean adaptiveConcurrencyEnabled() {
+        return adaptiveConcurrencyEnabled;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ParallelScanEnhancedRequest that = (ParallelScanEnhancedRequest) o;
+        return Objects.equals(scanRequest, that.scanRequest)
+               && Objects.equals(totalSegments, that.totalSegments)
+               && Objects.equals(maxConcurrentSegments, that.maxConcurrentSegments)
+               && Objects.equals(maxBufferedPages, that.maxBufferedPages)
+               && Objects.equals(adaptiveConcurrencyEnabled, that.adaptiveConcurrencyEnabled);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(scanRequest);
+        result = 31 * result + Objects.hashCode(totalSegments);
+        result = 31 * result + Objects.hashCode(maxConcurrentSegments);
+        result = 31 * result + Objects.hashCode(maxBufferedPages);
+        result = 31 * result + Objects.hashCode(adaptiveConcurrencyEnabled);
+        return result;
+    }
+
+    /**
+     * A builder that is used to create a request with the desired parameters.
+     * <p>
+     * <b>Note</b>: A valid request builder must define the total number of segments.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private ScanEnhancedRequest scanRequest;
+        private Integer totalSegments;
+        private Integer maxConcurrentSegments;
+        private Integer maxBufferedPages;
+        private Boolean adaptiveConcurrencyEnabled;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the scan settings shared by every segment. The request must not set a segment, a total number of segments or an
+         * exclusive start key. If not set, every segment scans all attributes of all items.
+         *
+         * @param scanRequest the shared scan settings
+         * @return a builder of this type
+         */
+        public Builder scanRequest(ScanEnhancedRequest scanRequest) {
+            this.scanRequest = scanRequest;
+            return this;
+        }
+
+        /**
+         * Sets the scan settings shared by every segment, see {@link #scanRequest(ScanEnhancedRequest)}.
+         *
+         * @param scanRequestConsumer a {@link Consumer} of {@link ScanEnhancedRequest.Builder}
+         * @return a builder of this type
+         */
+        public Builder scanRequest(Consumer<ScanEnhancedRequest.Builder> scanRequestConsumer) {
+            ScanEnhancedRequest.Builder builder = ScanEnhancedRequest.builder();
+            scanRequestConsumer.accept(builder);
+            return scanRequest(builder.build());
+        }
+
+        /**
+         * Sets the number of segments the table is split into. Each segment is scanned sequentially, page by page, so this is
+         * also the maximum useful concurrency.
+         *
+         * @param totalSegments the number of segments
+         * @return a builder of this type
+         */
+        public Builder totalSegments(Integer totalSegments) {
+            this.totalSegments = totalSegments;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of segments scanned at the same time. Defaults to {@link #totalSegments(Integer)}.
+         *
+         * @param maxConcurrentSegments the maximum number of concurrent segments
+         * @return a builder of this type
+         */
+        public Builder maxConcurrentSegments(Integer maxConcurrentSegments) {
+            this.maxConcurrentSegments = maxConcurrentSegments;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of pages that may be in flight, that is requested from DynamoDb or received but not yet
+         * delivered to the subscriber. A slow subscriber therefore holds back the scan instead of growing an unbounded buffer.
+         * Defaults to twice the maximum number of concurrent segments.
+         *
+         * @param maxBufferedPages the maximum number of in-flight pages
+         * @return a builder of this type
+         */
+        public Builder maxBufferedPages(Integer maxBufferedPages) {
+            this.maxBufferedPages = maxBufferedPages;
+            return this;
+        }
+
+        /**
+         * Sets whether the number of segments scanned at the same time adapts to throttling. When enabled, a segment whose scan
+         * fails with a throttling error, such as {@code ProvisionedThroughputExceededException}, is resumed after a jittered
+         * backoff and the concurrency is halved; it then grows back by one segment for every window of successful pages.
+         * When disabled, a throttling error that remains after the low-level client's retries fails the scan. Defaults to
+         * false.
+         *
+         * @param adaptiveConcurrencyEnabled whether to adapt concurrency to throttling
+         * @return a builder of this type
+         */
+        public Builder adaptiveConcurrencyEnabled(Boolean adaptiveConcurrencyEnabled) {
+            this.adaptiveConcurrencyEnabled = adaptiveConcurrencyEnabled;
+            return this;
+        }
+
+        public ParallelScanEnhancedRequest build() {
+            return new ParallelScanEnhancedRequest(this);
+        }
+    }
+}
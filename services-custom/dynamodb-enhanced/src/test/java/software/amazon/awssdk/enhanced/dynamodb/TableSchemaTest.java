@@ -17,6 +17,9 @@ package software.amazon.awssdk.enhanced.dynamodb;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -91,4 +94,21 @@ public class TableSchemaTest {
         exception.expectMessage("InvalidBean");
         TableSchema.fromClass(InvalidBean.class);
     }
+
+    @Test
+    public void warmUp_resolvesSchemasAndRecordsIntrospectionTimes() {
+        Map<Class<?>, Duration> introspectionTimes =
+            TableSchema.warmUp(Arrays.asList(SimpleBean.class, SimpleImmutable.class, SimpleBean.class));
+
+        assertThat(introspectionTimes).containsOnlyKeys(SimpleBean.class, SimpleImmutable.class);
+        assertThat(introspectionTimes.values()).allSatisfy(d -> assertThat(d).isGreaterThanOrEqualTo(Duration.ZERO));
+        assertThat(TableSchema.fromClass(SimpleBean.class)).isSameAs(TableSchema.fromBean(SimpleBean.class));
+    }
+
+    @Test
+    public void warmUp_invalidClassThrowsException() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("InvalidBean");
+        TableSchema.warmUp(SimpleBean.class, InvalidBean.class);
+    }
 }
@@ -147,6 +147,39 @@ class DocumentTableSchemaTest {
     }
 
 
+    @Test
+    void mapToItem_matchesDocumentBuiltFromSameAttributes() {
+        DocumentTableSchema documentTableSchema = DocumentTableSchema.builder().attributeConverterProviders(defaultProvider())
+                                                                     .build();
+        Map<String, AttributeValue> itemMap = new LinkedHashMap<>();
+        itemMap.put("id", AttributeValue.fromS("id-value"));
+        itemMap.put("count", AttributeValue.fromN("7"));
+        itemMap.put("nullKey", AttributeValue.fromNul(true));
+
+        EnhancedDocument enhancedDocument = documentTableSchema.mapToItem(itemMap);
+
+        EnhancedDocument expected = EnhancedDocument.builder()
+                                                    .attributeValueMap(itemMap)
+                                                    .attributeConverterProviders(defaultProvider())
+                                                    .build();
+        assertThat(enhancedDocument.toMap()).isEqualTo(expected.toMap());
+        assertThat(enhancedDocument.toJson()).isEqualTo(expected.toJson());
+        assertThat(enhancedDocument.getString("id")).isEqualTo("id-value");
+        assertThat(enhancedDocument.isNull("nullKey")).isTrue();
+        Assertions.assertThat(enhancedDocument.toMap().keySet()).containsExactly("id", "count", "nullKey");
+    }
+
+    @Test
+    void mapToItem_nullAttributeValue_throwsException() {
+        DocumentTableSchema documentTableSchema = DocumentTableSchema.builder().build();
+        Map<String, AttributeValue> itemMap = new LinkedHashMap<>();
+        itemMap.put("id", null);
+
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> documentTableSchema.mapToItem(itemMap))
+            .withMessageContaining("id");
+    }
+
     @Test
     void enhanceTypeOf_TableSchema() {
         assertThat(DocumentTableSchema.builder().build().itemType()).isEqualTo(EnhancedType.of(EnhancedDocument.class));
@@ -0,0 +1,366 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.stringValue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteItem;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteItemsEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteResult;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.InternalServerErrorException;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BulkWriteItemsExecutorTest {
+    private static final String TABLE_NAME = "table-name";
+
+    @Mock
+    private DynamoDbAsyncClient mockDynamoDbAsyncClient;
+
+    private ScheduledExecutorService scheduler;
+    private final List<BatchWriteItemRequest> requests = new CopyOnWriteArrayList<>();
+
+    @Before
+    public void setup() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @After
+    public void teardown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void bulkWrite_packsItemsIntoBatchesOfTwentyFive() {
+        respondWith(request -> BatchWriteItemResponse.builder().build());
+
+        BulkWriteResult<FakeItem> result = execute(requestFor(puts(60))).join();
+
+        assertThat(batchSizes(), contains(25, 25, 10));
+        assertThat(result.writtenItemCount(), is(60L));
+        assertThat(result.batchRequestCount(), is(3L));
+        assertThat(result.throttledItemCount(), is(0L));
+        assertThat(result.unprocessedPutItems(), is(empty()));
+    }
+
+    @Test
+    public void bulkWrite_unprocessedItems_areResubmitted() {
+        List<BulkWriteItem<FakeItem>> items = puts(5);
+        respondWith(request -> requests.size() == 1 ? unprocessed(request, 2) : BatchWriteItemResponse.builder().build());
+
+        BulkWriteResult<FakeItem> result = execute(requestFor(items)).join();
+
+        assertThat(batchSizes(), contains(5, 2));
+        assertThat(result.writtenItemCount(), is(5L));
+        assertThat(result.batchRequestCount(), is(2L));
+        assertThat(result.throttledItemCount(), is(2L));
+        assertThat(result.retriedBatchCount(), is(1L));
+        assertThat(result.unprocessedPutItems(), is(empty()));
+    }
+
+    @Test
+    public void bulkWrite_unprocessedItemsAfterMaxAttempts_areReturnedInResult() {
+        List<BulkWriteItem<FakeItem>> items = puts(3);
+        respondWith(request -> unprocessed(request, 1));
+
+        BulkWriteItemsEnhancedRequest<FakeItem> request = requestFor(items).toBuilder().maxAttempts(3).build();
+        BulkWriteResult<FakeItem> result = execute(request).join();
+
+        assertThat(batchSizes(), contains(3, 1, 1));
+        assertThat(result.writtenItemCount(), is(2L));
+        assertThat(result.throttledItemCount(), is(3L));
+        assertThat(result.retriedBatchCount(), is(2L));
+        assertThat(result.unprocessedPutItems(), contains(items.get(0).item()));
+    }
+
+    @Test
+    public void bulkWrite_boundsBatchesInFlight() {
+        List<CompletableFuture<BatchWriteItemResponse>> pending = new CopyOnWriteArrayList<>();
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            requests.add(invocation.getArgument(0));
+            CompletableFuture<BatchWriteItemResponse> future = new CompletableFuture<>();
+            pending.add(future);
+            return future;
+        });
+
+        BulkWriteItemsEnhancedRequest<FakeItem> request = requestFor(puts(100)).toBuilder().maxConcurrentBatches(2).build();
+        CompletableFuture<BulkWriteResult<FakeItem>> resultFuture = execute(request);
+
+        assertThat(requests.size(), is(2));
+        pending.get(0).complete(BatchWriteItemResponse.builder().build());
+        assertThat(requests.size(), is(3));
+
+        for (int i = 1; i < 4; i++) {
+            pending.get(i).complete(BatchWriteItemResponse.builder().build());
+        }
+
+        assertThat(resultFuture.join().writtenItemCount(), is(100L));
+        assertThat(batchSizes(), contains(25, 25, 25, 25));
+    }
+
+    @Test
+    public void bulkWrite_batchesFlushedForDuplicateKeysAtConcurrencyLimit_waitForFreeSlot() {
+        List<CompletableFuture<BatchWriteItemResponse>> pending = new CopyOnWriteArrayList<>();
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            requests.add(invocation.getArgument(0));
+            CompletableFuture<BatchWriteItemResponse> future = new CompletableFuture<>();
+            pending.add(future);
+            return future;
+        });
+        List<BulkWriteItem<FakeItem>> items = new ArrayList<>();
+        items.add(BulkWriteItem.putItem(FakeItem.createUniqueFakeItem()));
+        for (int i = 0; i < 3; i++) {
+            FakeItem duplicated = FakeItem.createUniqueFakeItem();
+            items.add(BulkWriteItem.putItem(duplicated));
+            items.add(BulkWriteItem.putItem(duplicated));
+        }
+        items.addAll(puts(10));
+
+        BulkWriteItemsEnhancedRequest<FakeItem> request = requestFor(items).toBuilder().maxConcurrentBatches(1).build();
+        CompletableFuture<BulkWriteResult<FakeItem>> resultFuture = execute(request);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(requests.size(), is(i + 1));
+            pending.get(i).complete(BatchWriteItemResponse.builder().build());
+        }
+        assertThat(requests.size(), is(4));
+        pending.get(3).complete(BatchWriteItemResponse.builder().build());
+
+        assertThat(resultFuture.join().writtenItemCount(), is(17L));
+        assertThat(batchSizes(), contains(2, 2, 2, 11));
+    }
+
+    @Test
+    public void bulkWrite_sameKeyTwice_isSplitAcrossBatches() {
+        respondWith(request -> BatchWriteItemResponse.builder().build());
+        FakeItem item = FakeItem.createUniqueFakeItem();
+        List<BulkWriteItem<FakeItem>> items = new ArrayList<>();
+        items.add(BulkWriteItem.putItem(item));
+        items.add(BulkWriteItem.putItem(FakeItem.createUniqueFakeItem()));
+        items.add(BulkWriteItem.deleteItem(Key.builder().partitionValue(item.getId()).build()));
+
+        BulkWriteResult<FakeItem> result = execute(requestFor(items)).join();
+
+        assertThat(batchSizes(), contains(2, 1));
+        WriteRequest delete = requests.get(1).requestItems().get(TABLE_NAME).get(0);
+        assertThat(delete.deleteRequest().key(), is(Collections.singletonMap("id", stringValue(item.getId()))));
+        assertThat(result.writtenItemCount(), is(3L));
+    }
+
+    @Test
+    public void bulkWrite_sameKeyInLaterBatch_waitsForEarlierBatchIncludingRetries() throws InterruptedException {
+        List<CompletableFuture<BatchWriteItemResponse>> pending = new CopyOnWriteArrayList<>();
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            requests.add(invocation.getArgument(0));
+            CompletableFuture<BatchWriteItemResponse> future = new CompletableFuture<>();
+            pending.add(future);
+            return future;
+        });
+        FakeItem item = FakeItem.createUniqueFakeItem();
+        List<BulkWriteItem<FakeItem>> items = new ArrayList<>();
+        items.add(BulkWriteItem.putItem(item));
+        items.add(BulkWriteItem.putItem(FakeItem.createUniqueFakeItem()));
+        items.add(BulkWriteItem.deleteItem(Key.builder().partitionValue(item.getId()).build()));
+
+        CompletableFuture<BulkWriteResult<FakeItem>> resultFuture = execute(requestFor(items));
+
+        assertThat(requests.size(), is(1));
+        pending.get(0).complete(unprocessed(requests.get(0), 1));
+        awaitRequests(2);
+        assertThat(requests.get(1).requestItems().get(TABLE_NAME).get(0).putRequest(), is(notNullValue()));
+        assertThat(requests.size(), is(2));
+
+        pending.get(1).complete(BatchWriteItemResponse.builder().build());
+
+        assertThat(requests.size(), is(3));
+        assertThat(requests.get(2).requestItems().get(TABLE_NAME).get(0).deleteRequest(), is(notNullValue()));
+        pending.get(2).complete(BatchWriteItemResponse.builder().build());
+        assertThat(resultFuture.join().writtenItemCount(), is(3L));
+    }
+
+    @Test
+    public void bulkWrite_unprocessedDelete_isReturnedAsKey() {
+        Key key = Key.builder().partitionValue("id-1").build();
+        respondWith(request -> unprocessed(request, 1));
+
+        BulkWriteItemsEnhancedRequest<FakeItem> request =
+            BulkWriteItemsEnhancedRequest.builder(FakeItem.class)
+                                         .items(Collections.singletonList(BulkWriteItem.deleteItem(key)))
+                                         .maxAttempts(1)
+                                         .build();
+        BulkWriteResult<FakeItem> result = execute(request).join();
+
+        assertThat(result.unprocessedDeleteKeys(), contains(key));
+        assertThat(result.writtenItemCount(), is(0L));
+    }
+
+    @Test
+    public void bulkWrite_failedCall_failsResultAndCancelsStream() {
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            requests.add(invocation.getArgument(0));
+            CompletableFuture<BatchWriteItemResponse> future = new CompletableFuture<>();
+            future.completeExceptionally(InternalServerErrorException.builder().message("boom").build());
+            return future;
+        });
+
+        List<Boolean> cancelled = new CopyOnWriteArrayList<>();
+        BulkWriteItemsEnhancedRequest<FakeItem> request =
+            BulkWriteItemsEnhancedRequest.<FakeItem>builder(FakeItem.class)
+                                         .items(subscriber -> subscriber.onSubscribe(new Subscription() {
+                                             @Override
+                                             public void request(long n) {
+                                                 for (int i = 0; i < n && cancelled.isEmpty(); i++) {
+                                                     subscriber.onNext(BulkWriteItem.putItem(FakeItem.createUniqueFakeItem()));
+                                                 }
+                                             }
+
+                                             @Override
+                                             public void cancel() {
+                                                 cancelled.add(true);
+                                             }
+                                         }))
+                                         .build();
+
+        try {
+            execute(request).join();
+            fail("Expected the bulk write to fail");
+        } catch (CompletionException e) {
+            assertThat(e.getCause(), instanceOf(InternalServerErrorException.class));
+        }
+        assertFalse(cancelled.isEmpty());
+        assertThat(requests.size(), is(1));
+    }
+
+    @Test
+    public void bulkWrite_reportsThroughput() {
+        respondWith(request -> BatchWriteItemResponse.builder().build());
+
+        BulkWriteResult<FakeItem> result = execute(requestFor(puts(10))).join();
+
+        assertThat(result.duration(), is(notNullValue()));
+        assertTrue(result.itemsPerSecond() > 0);
+    }
+
+    @Test
+    public void sizeInBytes_countsAttributeNamesAndValues() {
+        WriteRequest writeRequest =
+            WriteRequest.builder()
+                        .putRequest(PutRequest.builder()
+                                              .item(Collections.singletonMap("id", stringValue("ab")))
+                                              .build())
+                        .build();
+        assertThat(BulkWriteItemsExecutor.sizeInBytes(writeRequest), is(4L));
+
+        WriteRequest nested =
+            WriteRequest.builder()
+                        .putRequest(PutRequest.builder()
+                                              .item(Collections.singletonMap(
+                                                  "m", AttributeValue.builder()
+                                                                     .m(Collections.singletonMap(
+                                                                         "b", AttributeValue.fromB(SdkBytes.fromUtf8String("xyz"))))
+                                                                     .build()))
+                                              .build())
+                        .build();
+        assertThat(BulkWriteItemsExecutor.sizeInBytes(nested), is(1L + 3L + 1L + 3L));
+    }
+
+    private CompletableFuture<BulkWriteResult<FakeItem>> execute(BulkWriteItemsEnhancedRequest<FakeItem> request) {
+        return new BulkWriteItemsExecutor<>(mockDynamoDbAsyncClient, null, FakeItem.getTableSchema(), TABLE_NAME, request,
+                                            scheduler).execute();
+    }
+
+    private void awaitRequests(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (requests.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(requests.size(), is(count));
+    }
+
+    private void respondWith(Function<BatchWriteItemRequest, BatchWriteItemResponse> responder) {
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            BatchWriteItemRequest request = invocation.getArgument(0);
+            requests.add(request);
+            return CompletableFuture.completedFuture(responder.apply(request));
+        });
+    }
+
+    private List<Integer> batchSizes() {
+        return requests.stream().map(r -> r.requestItems().get(TABLE_NAME).size()).collect(Collectors.toList());
+    }
+
+    private static BatchWriteItemResponse unprocessed(BatchWriteItemRequest request, int count) {
+        List<WriteRequest> writeRequests = request.requestItems().get(TABLE_NAME);
+        return BatchWriteItemResponse.builder()
+                                     .unprocessedItems(Collections.singletonMap(TABLE_NAME,
+                                                                                writeRequests.subList(0, count)))
+                                     .build();
+    }
+
+    private static List<BulkWriteItem<FakeItem>> puts(int count) {
+        return IntStream.range(0, count)
+                        .mapToObj(i -> BulkWriteItem.putItem(FakeItem.createUniqueFakeItem()))
+                        .collect(Collectors.toList());
+    }
+
+    private static BulkWriteItemsEnhancedRequest<FakeItem> requestFor(List<BulkWriteItem<FakeItem>> items) {
+        return BulkWriteItemsEnhancedRequest.builder(FakeItem.class)
+                                            .items(items)
+                                            .baseBackoffDelay(Duration.ofMillis(1))
+                                            .maxBackoffDelay(Duration.ofMillis(5))
+                                            .build();
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.stringValue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ParallelScanPublisherTest {
+    private static final String TABLE_NAME = "table-name";
+
+    @Mock
+    private DynamoDbAsyncClient mockDynamoDbAsyncClient;
+
+    private ScheduledExecutorService scheduler;
+    private final List<ScanRequest> requests = new CopyOnWriteArrayList<>();
+
+    @Before
+    public void setup() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @After
+    public void teardown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void parallelScan_scansEverySegmentToTheEnd() {
+        respondWith(ParallelScanPublisherTest::twoPagesPerSegment);
+
+        List<Page<FakeItem>> pages = collect(publisher(ParallelScanEnhancedRequest.builder().totalSegments(3).build()));
+
+        assertThat(pages, hasSize(6));
+        assertThat(itemIds(pages), containsInAnyOrder("0-0", "0-1", "1-0", "1-1", "2-0", "2-1"));
+        assertThat(requests.stream().map(ScanRequest::segment).collect(Collectors.toList()),
+                   containsInAnyOrder(0, 0, 1, 1, 2, 2));
+        requests.forEach(r -> assertThat(r.totalSegments(), is(3)));
+        requests.stream()
+                .filter(r -> r.exclusiveStartKey() != null && !r.exclusiveStartKey().isEmpty())
+                .forEach(r -> assertThat(r.exclusiveStartKey().get("id").s(), is(r.segment() + "-0")));
+    }
+
+    @Test
+    public void parallelScan_appliesSharedScanSettings() {
+        respondWith(ParallelScanPublisherTest::twoPagesPerSegment);
+
+        collect(publisher(ParallelScanEnhancedRequest.builder()
+                                                     .totalSegments(2)
+                                                     .scanRequest(r -> r.limit(7).consistentRead(true))
+                                                     .build()));
+
+        requests.forEach(r -> {
+            assertThat(r.tableName(), is(TABLE_NAME));
+            assertThat(r.limit(), is(7));
+            assertThat(r.consistentRead(), is(true));
+        });
+    }
+
+    @Test
+    public void parallelScan_limitsConcurrentSegments() {
+        List<CompletableFuture<ScanResponse>> pending = pendingResponses();
+
+        TestSubscriber subscriber = new TestSubscriber();
+        publisher(ParallelScanEnhancedRequest.builder().totalSegments(4).maxConcurrentSegments(2).build())
+            .subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(requests, hasSize(2));
+        pending.get(0).complete(lastPage(requests.get(0)));
+        assertThat(requests, hasSize(3));
+    }
+
+    @Test
+    public void parallelScan_slowSubscriber_boundsPagesInFlight() {
+        List<CompletableFuture<ScanResponse>> pending = pendingResponses();
+
+        TestSubscriber subscriber = new TestSubscriber();
+        publisher(ParallelScanEnhancedRequest.builder().totalSegments(4).maxBufferedPages(2).build()).subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+
+        // Pages are prefetched up to the buffer limit, counting pages in flight and pages waiting for demand
+        assertThat(requests, hasSize(2));
+        pending.get(0).complete(lastPage(requests.get(0)));
+        pending.get(1).complete(lastPage(requests.get(1)));
+        assertThat(subscriber.pages, hasSize(1));
+        assertThat(requests, hasSize(3));
+
+        pending.get(2).complete(lastPage(requests.get(2)));
+        assertThat(subscriber.pages, hasSize(1));
+        assertThat(requests, hasSize(3));
+
+        subscriber.subscription.request(1);
+        assertThat(subscriber.pages, hasSize(2));
+        assertThat(requests, hasSize(4));
+    }
+
+    @Test
+    public void parallelScan_throttled_withoutAdaptiveConcurrency_fails() {
+        respondWith(r -> {
+            throw ProvisionedThroughputExceededException.builder().message("slow down").build();
+        });
+
+        try {
+            collect(publisher(ParallelScanEnhancedRequest.builder().totalSegments(2).build()));
+            fail("Expected the scan to fail");
+        } catch (CompletionException e) {
+            assertThat(e.getCause(), instanceOf(ProvisionedThroughputExceededException.class));
+        }
+    }
+
+    @Test
+    public void parallelScan_throttled_withAdaptiveConcurrency_resumesSegment() {
+        AtomicInteger calls = new AtomicInteger();
+        respondWith(r -> {
+            if (calls.getAndIncrement() == 1) {
+                throw ProvisionedThroughputExceededException.builder().message("slow down").build();
+            }
+            return twoPagesPerSegment(r);
+        });
+
+        List<Page<FakeItem>> pages = collect(publisher(ParallelScanEnhancedRequest.builder()
+                                                                                  .totalSegments(2)
+                                                                                  .adaptiveConcurrencyEnabled(true)
+                                                                                  .build()));
+
+        assertThat(itemIds(pages), containsInAnyOrder("0-0", "0-1", "1-0", "1-1"));
+        assertThat(requests, hasSize(5));
+    }
+
+    @Test
+    public void parallelScan_cancelled_stopsScanning() {
+        List<CompletableFuture<ScanResponse>> pending = pendingResponses();
+
+        TestSubscriber subscriber = new TestSubscriber();
+        publisher(ParallelScanEnhancedRequest.builder().totalSegments(4).maxConcurrentSegments(1).build())
+            .subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        subscriber.subscription.cancel();
+        pending.get(0).complete(twoPagesPerSegment(requests.get(0)));
+
+        assertThat(requests, hasSize(1));
+        assertThat(subscriber.pages, hasSize(0));
+        assertThat(subscriber.error, is(nullValue()));
+    }
+
+    @Test
+    public void request_segmentSetOnScanRequest_throws() {
+        try {
+            ParallelScanEnhancedRequest.builder().totalSegments(2).scanRequest(r -> r.segment(1)).build();
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    private ParallelScanPublisher<FakeItem> publisher(ParallelScanEnhancedRequest request) {
+        return new ParallelScanPublisher<>(mockDynamoDbAsyncClient, null, FakeItem.getTableSchema(), TABLE_NAME, request,
+                                           scheduler);
+    }
+
+    private void respondWith(Function<ScanRequest, ScanResponse> responder) {
+        when(mockDynamoDbAsyncClient.scan(any(ScanRequest.class))).thenAnswer(invocation -> {
+            ScanRequest request = invocation.getArgument(0);
+            requests.add(request);
+            CompletableFuture<ScanResponse> future = new CompletableFuture<>();
+            try {
+                future.complete(responder.apply(request));
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+            return future;
+        });
+    }
+
+    private List<CompletableFuture<ScanResponse>> pendingResponses() {
+        List<CompletableFuture<ScanResponse>> pending = new CopyOnWriteArrayList<>();
+        when(mockDynamoDbAsyncClient.scan(any(ScanRequest.class))).thenAnswer(invocation -> {
+            requests.add(invocation.getArgument(0));
+            CompletableFuture<ScanResponse> future = new CompletableFuture<>();
+            pending.add(future);
+            return future;
+        });
+        return pending;
+    }
+
+    private static List<Page<FakeItem>> collect(ParallelScanPublisher<FakeItem> publisher) {
+        List<Page<FakeItem>> pages = new CopyOnWriteArrayList<>();
+        publisher.subscribe(pages::add).join();
+        return pages;
+    }
+
+    private static List<String> itemIds(List<Page<FakeItem>> pages) {
+        return pages.stream().flatMap(p -> p.items().stream()).map(FakeItem::getId).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns page "segment-0" with a last evaluated key for the first call of a segment and page "segment-1" without one for
+     * the second call.
+     */
+    private static ScanResponse twoPagesPerSegment(ScanRequest request) {
+        boolean firstPage = request.exclusiveStartKey() == null || request.exclusiveStartKey().isEmpty();
+        String id = request.segment() + (firstPage ? "-0" : "-1");
+        Map<String, AttributeValue> item = Collections.singletonMap("id", stringValue(id));
+        ScanResponse.Builder response = ScanResponse.builder().items(Collections.singletonList(item));
+        if (firstPage) {
+            response.lastEvaluatedKey(item);
+        }
+        return response.build();
+    }
+
+    private static ScanResponse lastPage(ScanRequest request) {
+        return ScanResponse.builder()
+                           .items(Collections.singletonList(Collections.singletonMap("id", stringValue("id-" + request.segment()))))
+                           .build();
+    }
+
+    private static final class TestSubscriber implements Subscriber<Page<FakeItem>> {
+        private final List<Page<FakeItem>> pages = new ArrayList<>();
+        private Subscription subscription;
+        private Throwable error;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            this.subscription = s;
+        }
+
+        @Override
+        public void onNext(Page<FakeItem> page) {
+            pages.add(page);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            this.error = t;
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
@@ -17,6 +17,12 @@ package software.amazon.awssdk.enhanced.dynamodb.internal.mapper;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
 
@@ -43,4 +49,35 @@ public class MetaTableSchemaCacheTest {
 
         assertThat(metaTableSchemaCache.getOrCreate(FakeItem.class)).isSameAs(metaTableSchema);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void concurrentGetOrCreateReturnsSameObject() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<CompletableFuture<MetaTableSchema<FakeItem>>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RuntimeException(e);
+                    }
+                    return metaTableSchemaCache.getOrCreate(FakeItem.class);
+                }, executor));
+            }
+
+            start.countDown();
+
+            MetaTableSchema<FakeItem> expected = metaTableSchemaCache.getOrCreate(FakeItem.class);
+            for (CompletableFuture<MetaTableSchema<FakeItem>> future : futures) {
+                assertThat(future.get()).isSameAs(expected);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
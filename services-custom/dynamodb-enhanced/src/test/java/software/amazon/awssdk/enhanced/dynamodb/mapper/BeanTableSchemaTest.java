@@ -23,6 +23,7 @@ import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.binaryValue;
 import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.nullAttributeValue;
 import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.numberValue;
@@ -195,6 +196,37 @@ public class BeanTableSchemaTest {
         assertThat(itemMap, hasEntry("attribute2", stringValue("two")));
     }
 
+    @Test
+    public void dynamoDbFlatten_itemToMap_ignoreNullsTrue_omitsNullAttributes() {
+        BeanTableSchema<FlattenedBeanBean> beanTableSchema = BeanTableSchema.create(FlattenedBeanBean.class);
+        AbstractBean abstractBean = new AbstractBean();
+        abstractBean.setAttribute2("two");
+        FlattenedBeanBean flattenedBeanBean = new FlattenedBeanBean();
+        flattenedBeanBean.setId("id-value");
+        flattenedBeanBean.setAbstractBean(abstractBean);
+
+        Map<String, AttributeValue> itemMap = beanTableSchema.itemToMap(flattenedBeanBean, true);
+        assertThat(itemMap.size(), is(2));
+        assertThat(itemMap, hasEntry("id", stringValue("id-value")));
+        assertThat(itemMap, hasEntry("attribute2", stringValue("two")));
+    }
+
+    @Test
+    public void dynamoDbFlatten_mapToItem_ignoresUnknownAndNullAttributes() {
+        BeanTableSchema<FlattenedBeanBean> beanTableSchema = BeanTableSchema.create(FlattenedBeanBean.class);
+        Map<String, AttributeValue> itemMap = new HashMap<>();
+        itemMap.put("id", stringValue("id-value"));
+        itemMap.put("attribute1", nullAttributeValue());
+        itemMap.put("attribute2", stringValue("two"));
+        itemMap.put("unknownAttribute", stringValue("ignored"));
+
+        FlattenedBeanBean flattenedBeanBean = beanTableSchema.mapToItem(itemMap);
+
+        assertThat(flattenedBeanBean.getId(), is("id-value"));
+        assertThat(flattenedBeanBean.getAttribute1(), is(nullValue()));
+        assertThat(flattenedBeanBean.getAbstractBean().getAttribute2(), is("two"));
+    }
+
     @Test
     public void dynamoDbPreserveEmptyObject_shouldInitializeAsEmptyClass() {
         BeanTableSchema<NestedBean> beanTableSchema = BeanTableSchema.create(NestedBean.class);
@@ -0,0 +1,250 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.enhanced.dynamodb.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.nullAttributeValue;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.numberValue;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.stringValue;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Covers the item mapping of {@link StaticImmutableTableSchema}, which goes through the {@code CompiledItemMapper} the schema
+ * compiles when it is built, for declared and flattened attributes alike.
+ */
+public class StaticImmutableTableSchemaCompiledItemMapperTest {
+    private static final Record RECORD = Record.builder()
+                                               .id("id-value")
+                                               .count(7)
+                                               .child(Record.builder().name("child-name").build())
+                                               .build();
+
+    private static final StaticImmutableTableSchema<Record, Record.Builder> CHILD_SCHEMA =
+        StaticImmutableTableSchema.builder(Record.class, Record.Builder.class)
+                                  .newItemBuilder(Record::builder, Record.Builder::build)
+                                  .addAttribute(String.class, a -> a.name("name")
+                                                                    .getter(Record::name)
+                                                                    .setter(Record.Builder::name))
+                                  .build();
+
+    private static final StaticImmutableTableSchema<Record, Record.Builder> TABLE_SCHEMA =
+        StaticImmutableTableSchema.builder(Record.class, Record.Builder.class)
+                                  .newItemBuilder(Record::builder, Record.Builder::build)
+                                  .addAttribute(String.class, a -> a.name("id")
+                                                                    .getter(Record::id)
+                                                                    .setter(Record.Builder::id)
+                                                                    .tags(primaryPartitionKey()))
+                                  .addAttribute(Integer.class, a -> a.name("count")
+                                                                     .getter(Record::count)
+                                                                     .setter(Record.Builder::count))
+                                  .flatten(CHILD_SCHEMA, Record::child, Record.Builder::child)
+                                  .build();
+
+    @Test
+    public void itemToMap_completeRecord_includesFlattenedAttributes() {
+        Map<String, AttributeValue> expected = new HashMap<>();
+        expected.put("id", stringValue("id-value"));
+        expected.put("count", numberValue(7));
+        expected.put("name", stringValue("child-name"));
+
+        assertThat(TABLE_SCHEMA.itemToMap(RECORD, false)).isEqualTo(expected);
+        assertThat(TABLE_SCHEMA.itemToMap(RECORD, true)).isEqualTo(expected);
+    }
+
+    @Test
+    public void itemToMap_nullAttributes_ignoreNullsTrue_omitsThem() {
+        Record record = Record.builder().id("id-value").child(Record.builder().build()).build();
+
+        assertThat(TABLE_SCHEMA.itemToMap(record, true)).isEqualTo(Collections.singletonMap("id", stringValue("id-value")));
+    }
+
+    @Test
+    public void itemToMap_nullAttributes_ignoreNullsFalse_mapsThemToNull() {
+        Record record = Record.builder().id("id-value").child(Record.builder().build()).build();
+
+        Map<String, AttributeValue> expected = new HashMap<>();
+        expected.put("id", stringValue("id-value"));
+        expected.put("count", nullAttributeValue());
+        expected.put("name", nullAttributeValue());
+        assertThat(TABLE_SCHEMA.itemToMap(record, false)).isEqualTo(expected);
+    }
+
+    @Test
+    public void itemToMap_nullFlattenedItem() {
+        Record record = Record.builder().id("id-value").build();
+
+        assertThat(TABLE_SCHEMA.itemToMap(record, true)).isEqualTo(Collections.singletonMap("id", stringValue("id-value")));
+        assertThat(TABLE_SCHEMA.itemToMap(record, false)).containsEntry("name", nullAttributeValue());
+    }
+
+    @Test
+    public void itemToMap_nullItem() {
+        assertThat(CHILD_SCHEMA.itemToMap(null, true)).isEmpty();
+        assertThat(CHILD_SCHEMA.itemToMap(null, false)).isEqualTo(Collections.singletonMap("name", nullAttributeValue()));
+    }
+
+    @Test
+    public void itemToMap_returnsUnmodifiableMap() {
+        Map<String, AttributeValue> itemMap = TABLE_SCHEMA.itemToMap(RECORD, false);
+
+        assertThatThrownBy(() -> itemMap.put("other", stringValue("value"))).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void mapToItem_completeRecord_ignoresUnmappedAttributes() {
+        Map<String, AttributeValue> itemMap = new HashMap<>();
+        itemMap.put("id", stringValue("id-value"));
+        itemMap.put("count", numberValue(7));
+        itemMap.put("name", stringValue("child-name"));
+        itemMap.put("unmapped", stringValue("ignored"));
+
+        assertThat(TABLE_SCHEMA.mapToItem(itemMap)).isEqualTo(RECORD);
+        assertThat(TABLE_SCHEMA.mapToItem(itemMap, true)).isEqualTo(RECORD);
+    }
+
+    @Test
+    public void mapToItem_nullAttributeValues_areSkipped() {
+        Map<String, AttributeValue> itemMap = new HashMap<>();
+        itemMap.put("id", stringValue("id-value"));
+        itemMap.put("count", nullAttributeValue());
+        itemMap.put("name", nullAttributeValue());
+
+        assertThat(TABLE_SCHEMA.mapToItem(itemMap)).isEqualTo(Record.builder().id("id-value").build());
+    }
+
+    @Test
+    public void mapToItem_onlyNullAttributes_preserveEmptyObjectFalse_returnsNull() {
+        Map<String, AttributeValue> itemMap = new HashMap<>();
+        itemMap.put("id", nullAttributeValue());
+        itemMap.put("name", nullAttributeValue());
+
+        assertThat(TABLE_SCHEMA.mapToItem(itemMap, false)).isNull();
+        assertThat(TABLE_SCHEMA.mapToItem(Collections.emptyMap(), false)).isNull();
+    }
+
+    @Test
+    public void mapToItem_onlyNullAttributes_preserveEmptyObjectTrue_returnsEmptyItem() {
+        Map<String, AttributeValue> itemMap = new HashMap<>();
+        itemMap.put("id", nullAttributeValue());
+        itemMap.put("name", nullAttributeValue());
+
+        assertThat(TABLE_SCHEMA.mapToItem(itemMap, true)).isEqualTo(Record.builder().build());
+        assertThat(TABLE_SCHEMA.mapToItem(Collections.emptyMap(), true)).isEqualTo(Record.builder().build());
+    }
+
+    @Test
+    public void mapToItem_onlyFlattenedAttribute_createsItem() {
+        Map<String, AttributeValue> itemMap = Collections.singletonMap("name", stringValue("child-name"));
+
+        assertThat(TABLE_SCHEMA.mapToItem(itemMap))
+            .isEqualTo(Record.builder().child(Record.builder().name("child-name").build()).build());
+    }
+
+    private static final class Record {
+        private final String id;
+        private final Integer count;
+        private final String name;
+        private final Record child;
+
+        private Record(Builder b) {
+            this.id = b.id;
+            this.count = b.count;
+            this.name = b.name;
+            this.child = b.child;
+        }
+
+        private static Builder builder() {
+            return new Builder();
+        }
+
+        private String id() {
+            return id;
+        }
+
+        private Integer count() {
+            return count;
+        }
+
+        private String name() {
+            return name;
+        }
+
+        private Record child() {
+            return child;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Record that = (Record) o;
+
+            if (id != null ? !id.equals(that.id) : that.id != null) return false;
+            if (count != null ? !count.equals(that.count) : that.count != null) return false;
+            if (name != null ? !name.equals(that.name) : that.name != null) return false;
+            return child != null ? child.equals(that.child) : that.child == null;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = id != null ? id.hashCode() : 0;
+            result = 31 * result + (count != null ? count.hashCode() : 0);
+            result = 31 * result + (name != null ? name.hashCode() : 0);
+            result = 31 * result + (child != null ? child.hashCode() : 0);
+            return result;
+        }
+
+        private static final class Builder {
+            private String id;
+            private Integer count;
+            private String name;
+            private Record child;
+
+            private Builder id(String id) {
+                this.id = id;
+                return this;
+            }
+
+            private Builder count(Integer count) {
+                this.count = count;
+                return this;
+            }
+
+            private Builder name(String name) {
+                this.name = name;
+                return this;
+            }
+
+            private Builder child(Record child) {
+                this.child = child;
+                return this;
+            }
+
+            private Record build() {
+                return new Record(this);
+            }
+        }
+    }
+}
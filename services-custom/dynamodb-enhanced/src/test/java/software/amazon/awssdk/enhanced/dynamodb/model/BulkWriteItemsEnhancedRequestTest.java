@@ -0,0 +1,109 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem.createUniqueFakeItem;
+
+import java.time.Duration;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
+
+public class BulkWriteItemsEnhancedRequestTest {
+    private static final Publisher<BulkWriteItem<FakeItem>> ITEMS =
+        SdkPublisher.fromIterable(Collections.singletonList(BulkWriteItem.putItem(createUniqueFakeItem())));
+
+    @Test
+    public void builder_minimal() {
+        BulkWriteItemsEnhancedRequest<FakeItem> builtObject = BulkWriteItemsEnhancedRequest.builder(FakeItem.class)
+                                                                                           .items(ITEMS)
+                                                                                           .build();
+
+        assertThat(builtObject.items()).isSameAs(ITEMS);
+        assertThat(builtObject.maxConcurrentBatches()).isNull();
+        assertThat(builtObject.maxAttempts()).isNull();
+        assertThat(builtObject.baseBackoffDelay()).isNull();
+        assertThat(builtObject.maxBackoffDelay()).isNull();
+    }
+
+    @Test
+    public void builder_maximal() {
+        BulkWriteItemsEnhancedRequest<FakeItem> builtObject = BulkWriteItemsEnhancedRequest.builder(FakeItem.class)
+                                                                                           .items(ITEMS)
+                                                                                           .maxConcurrentBatches(4)
+                                                                                           .maxAttempts(3)
+                                                                                           .baseBackoffDelay(Duration.ofMillis(10))
+                                                                                           .maxBackoffDelay(Duration.ofSeconds(1))
+                                                                                           .build();
+
+        assertThat(builtObject.maxConcurrentBatches()).isEqualTo(4);
+        assertThat(builtObject.maxAttempts()).isEqualTo(3);
+        assertThat(builtObject.baseBackoffDelay()).isEqualTo(Duration.ofMillis(10));
+        assertThat(builtObject.maxBackoffDelay()).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    public void builder_noItems_throws() {
+        assertThatThrownBy(() -> BulkWriteItemsEnhancedRequest.builder(FakeItem.class).build())
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("items");
+    }
+
+    @Test
+    public void builder_nonPositiveConcurrency_throws() {
+        assertThatThrownBy(() -> BulkWriteItemsEnhancedRequest.builder(FakeItem.class)
+                                                              .items(ITEMS)
+                                                              .maxConcurrentBatches(0)
+                                                              .build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxConcurrentBatches");
+    }
+
+    @Test
+    public void toBuilder() {
+        BulkWriteItemsEnhancedRequest<FakeItem> builtObject = BulkWriteItemsEnhancedRequest.builder(FakeItem.class)
+                                                                                           .items(ITEMS)
+                                                                                           .maxAttempts(5)
+                                                                                           .build();
+
+        BulkWriteItemsEnhancedRequest<FakeItem> copiedObject = builtObject.toBuilder().build();
+
+        assertThat(copiedObject).isEqualTo(builtObject);
+        assertThat(copiedObject.hashCode()).isEqualTo(builtObject.hashCode());
+    }
+
+    @Test
+    public void bulkWriteItem_putAndDelete() {
+        FakeItem fakeItem = createUniqueFakeItem();
+        Key key = Key.builder().partitionValue(fakeItem.getId()).build();
+
+        BulkWriteItem<FakeItem> put = BulkWriteItem.putItem(fakeItem);
+        BulkWriteItem<FakeItem> delete = BulkWriteItem.deleteItem(key);
+
+        assertThat(put.item()).isEqualTo(fakeItem);
+        assertThat(put.key()).isNull();
+        assertThat(delete.item()).isNull();
+        assertThat(delete.key()).isEqualTo(key);
+        assertThat(put).isNotEqualTo(delete);
+        assertThat(put).isEqualTo(BulkWriteItem.putItem(fakeItem));
+    }
+}
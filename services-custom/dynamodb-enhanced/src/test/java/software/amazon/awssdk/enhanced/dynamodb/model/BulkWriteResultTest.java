@@ -0,0 +1,80 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem.createUniqueFakeItem;
+
+import java.time.Duration;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
+
+public class BulkWriteResultTest {
+    @Test
+    public void builder_minimal() {
+        BulkWriteResult<FakeItem> builtObject = BulkWriteResult.builder(FakeItem.class).build();
+
+        assertThat(builtObject.unprocessedPutItems()).isEmpty();
+        assertThat(builtObject.unprocessedDeleteKeys()).isEmpty();
+        assertThat(builtObject.writtenItemCount()).isZero();
+        assertThat(builtObject.duration()).isEqualTo(Duration.ZERO);
+        assertThat(builtObject.itemsPerSecond()).isZero();
+    }
+
+    @Test
+    public void builder_maximal() {
+        FakeItem fakeItem = createUniqueFakeItem();
+        Key key = Key.builder().partitionValue("id").build();
+
+        BulkWriteResult<FakeItem> builtObject = BulkWriteResult.builder(FakeItem.class)
+                                                               .unprocessedPutItems(Collections.singletonList(fakeItem))
+                                                               .unprocessedDeleteKeys(Collections.singletonList(key))
+                                                               .writtenItemCount(500)
+                                                               .batchRequestCount(22)
+                                                               .throttledItemCount(40)
+                                                               .retriedBatchCount(2)
+                                                               .duration(Duration.ofSeconds(2))
+                                                               .build();
+
+        assertThat(builtObject.unprocessedPutItems()).containsExactly(fakeItem);
+        assertThat(builtObject.unprocessedDeleteKeys()).containsExactly(key);
+        assertThat(builtObject.writtenItemCount()).isEqualTo(500);
+        assertThat(builtObject.batchRequestCount()).isEqualTo(22);
+        assertThat(builtObject.throttledItemCount()).isEqualTo(40);
+        assertThat(builtObject.retriedBatchCount()).isEqualTo(2);
+        assertThat(builtObject.itemsPerSecond()).isEqualTo(250.0);
+    }
+
+    @Test
+    public void equals_countsNotEqual() {
+        BulkWriteResult<FakeItem> builtObject1 = BulkWriteResult.builder(FakeItem.class).writtenItemCount(1).build();
+        BulkWriteResult<FakeItem> builtObject2 = BulkWriteResult.builder(FakeItem.class).writtenItemCount(2).build();
+
+        assertThat(builtObject1).isNotEqualTo(builtObject2);
+    }
+
+    @Test
+    public void hashCode_sameValues() {
+        BulkWriteResult<FakeItem> builtObject1 = BulkWriteResult.builder(FakeItem.class).throttledItemCount(3).build();
+        BulkWriteResult<FakeItem> builtObject2 = BulkWriteResult.builder(FakeItem.class).throttledItemCount(3).build();
+
+        assertThat(builtObject1).isEqualTo(builtObject2);
+        assertThat(builtObject1.hashCode()).isEqualTo(builtObject2.hashCode());
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.stringValue;
+
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+public class ParallelScanEnhancedRequestTest {
+    @Test
+    public void builder_minimal() {
+        ParallelScanEnhancedRequest builtObject = ParallelScanEnhancedRequest.builder().totalSegments(4).build();
+
+        assertThat(builtObject.totalSegments()).isEqualTo(4);
+        assertThat(builtObject.scanRequest()).isEqualTo(ScanEnhancedRequest.builder().build());
+        assertThat(builtObject.maxConcurrentSegments()).isNull();
+        assertThat(builtObject.maxBufferedPages()).isNull();
+        assertThat(builtObject.adaptiveConcurrencyEnabled()).isNull();
+    }
+
+    @Test
+    public void builder_maximal() {
+        ScanEnhancedRequest scanRequest = ScanEnhancedRequest.builder().limit(10).build();
+
+        ParallelScanEnhancedRequest builtObject = ParallelScanEnhancedRequest.builder()
+                                                                             .scanRequest(scanRequest)
+                                                                             .totalSegments(8)
+                                                                             .maxConcurrentSegments(4)
+                                                                             .maxBufferedPages(16)
+                                                                             .adaptiveConcurrencyEnabled(true)
+                                                                             .build();
+
+        assertThat(builtObject.scanRequest()).isEqualTo(scanRequest);
+        assertThat(builtObject.totalSegments()).isEqualTo(8);
+        assertThat(builtObject.maxConcurrentSegments()).isEqualTo(4);
+        assertThat(builtObject.maxBufferedPages()).isEqualTo(16);
+        assertThat(builtObject.adaptiveConcurrencyEnabled()).isTrue();
+    }
+
+    @Test
+    public void builder_noTotalSegments_throws() {
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder().build())
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("totalSegments");
+    }
+
+    @Test
+    public void builder_exclusiveStartKeyOnScanRequest_throws() {
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder()
+                                                            .totalSegments(2)
+                                                            .scanRequest(r -> r.exclusiveStartKey(
+                                                                Collections.singletonMap("id", stringValue("a"))))
+                                                            .build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("exclusiveStartKey");
+    }
+
+    @Test
+    public void toBuilder() {
+        ParallelScanEnhancedRequest builtObject = ParallelScanEnhancedRequest.builder()
+                                                                             .totalSegments(3)
+                                                                             .maxBufferedPages(6)
+                                                                             .build();
+
+        ParallelScanEnhancedRequest copiedObject = builtObject.toBuilder().build();
+
+        assertThat(copiedObject).isEqualTo(builtObject);
+        assertThat(copiedObject.hashCode()).isEqualTo(builtObject.hashCode());
+    }
+}
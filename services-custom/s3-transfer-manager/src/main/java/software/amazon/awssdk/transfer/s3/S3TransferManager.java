@@ -28,6 +28,7 @@ import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.UploadPartCopyRequest;
+import software.amazon.awssdk.transfer.s3.config.TransferSchedulerConfiguration;
 import software.amazon.awssdk.transfer.s3.internal.TransferManagerFactory;
 import software.amazon.awssdk.transfer.s3.model.CompletedDirectoryDownload;
 import software.amazon.awssdk.transfer.s3.model.CompletedDirectoryUpload;
@@ -780,6 +781,36 @@ public interface S3TransferManager extends SdkAutoCloseable {
          */
         Builder uploadDirectoryMaxDepth(Integer uploadDirectoryMaxDepth);
 
+        /**
+         * Configures a scheduler that is shared by all uploads and downloads of this transfer manager. The scheduler bounds the
+         * number of bytes and the number of transfers in flight, and queues the transfers that would exceed those bounds until
+         * earlier transfers complete. Queued transfers are admitted by priority, then according to the configured
+         * {@link TransferSchedulerConfiguration#schedulingPolicy()}.
+         *
+         * <p>
+         * By default, no scheduler is configured and every transfer starts immediately.
+         *
+         * @param transferScheduler the transfer scheduler configuration
+         * @return This builder for method chaining.
+         * @see TransferSchedulerConfiguration
+         */
+        Builder transferScheduler(TransferSchedulerConfiguration transferScheduler);
+
+        /**
+         * Configures a scheduler that is shared by all uploads and downloads of this transfer manager.
+         *
+         * <p>
+         * This is a convenience method that creates an instance of the {@link TransferSchedulerConfiguration} builder, avoiding
+         * the need to create one manually via {@link TransferSchedulerConfiguration#builder()}.
+         *
+         * @param transferScheduler the transfer scheduler configuration consumer builder
+         * @return This builder for method chaining.
+         * @see #transferScheduler(TransferSchedulerConfiguration)
+         */
+        default Builder transferScheduler(Consumer<TransferSchedulerConfiguration.Builder> transferScheduler) {
+            return transferScheduler(TransferSchedulerConfiguration.builder().applyMutation(transferScheduler).build());
+        }
+
         /**
          * Builds an instance of {@link S3TransferManager} based on the settings supplied to this builder
          *
@@ -0,0 +1,69 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.transfer.s3.config.TransferSchedulerConfiguration;
+
+/**
+ * Metrics collected by the transfer scheduler configured with
+ * {@link S3TransferManager.Builder#transferScheduler(TransferSchedulerConfiguration)}. One metric collection is published to
+ * the configured {@link TransferSchedulerConfiguration#metricPublishers()} for each transfer, when it is admitted.
+ */
+@SdkPublicApi
+public final class TransferManagerMetric {
+
+    /**
+     * How long the transfer was queued by the scheduler before it was started.
+     */
+    public static final SdkMetric<Duration> SCHEDULER_QUEUE_DURATION =
+        metric("SchedulerQueueDuration", Duration.class, MetricLevel.INFO);
+
+    /**
+     * The number of bytes the transfer accounts for in the scheduler.
+     */
+    public static final SdkMetric<Long> SCHEDULED_BYTES =
+        metric("ScheduledBytes", Long.class, MetricLevel.INFO);
+
+    /**
+     * The number of bytes in flight across all transfers after the transfer was admitted.
+     */
+    public static final SdkMetric<Long> BYTES_IN_FLIGHT =
+        metric("BytesInFlight", Long.class, MetricLevel.INFO);
+
+    /**
+     * The number of transfers in flight after the transfer was admitted.
+     */
+    public static final SdkMetric<Integer> TRANSFERS_IN_FLIGHT =
+        metric("TransfersInFlight", Integer.class, MetricLevel.INFO);
+
+    /**
+     * The number of transfers still queued by the scheduler after the transfer was admitted.
+     */
+    public static final SdkMetric<Integer> QUEUED_TRANSFERS =
+        metric("QueuedTransfers", Integer.class, MetricLevel.INFO);
+
+    private TransferManagerMetric() {
+    }
+
+    private static <T> SdkMetric<T> metric(String name, Class<T> clzz, MetricLevel level) {
+        return SdkMetric.create(name, clzz, level, MetricCategory.CUSTOM);
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.TransferManagerMetric;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configuration of the scheduler that is shared by all uploads and downloads of an {@link S3TransferManager}. The scheduler
+ * bounds the number of bytes and the number of transfers in flight across all transfers of the transfer manager, and queues
+ * the transfers that would exceed those bounds until earlier transfers complete.
+ *
+ * <p>Queued transfers are admitted in order of their priority (see for example
+ * {@link software.amazon.awssdk.transfer.s3.model.UploadFileRequest.Builder#priority(Integer)}), and then according to the
+ * configured {@link TransferSchedulingPolicy}. Copies are not scheduled, because their bytes are transferred by the service.
+ *
+ * <p>Use {@link #builder()} to create a set of options.
+ *
+ * @see S3TransferManager.Builder#transferScheduler(TransferSchedulerConfiguration)
+ */
+@SdkPublicApi
+public final class TransferSchedulerConfiguration
+    implements ToCopyableBuilder<TransferSchedulerConfiguration.Builder, TransferSchedulerConfiguration> {
+
+    private final Long maxBytesInFlight;
+    private final Integer maxTransfersInFlight;
+    private final TransferSchedulingPolicy schedulingPolicy;
+    private final List<MetricPublisher> metricPublishers;
+
+    private TransferSchedulerConfiguration(DefaultBuilder builder) {
+        this.maxBytesInFlight = Validate.isPositiveOrNull(builder.maxBytesInFlight, "maxBytesInFlight");
+        this.maxTransfersInFlight = Validate.isPositiveOrNull(builder.maxTransfersInFlight, "maxTransfersInFlight");
+        this.schedulingPolicy = builder.schedulingPolicy;
+        this.metricPublishers = builder.metricPublishers != null ? Collections.unmodifiableList(builder.metricPublishers)
+                                                                 : Collections.emptyList();
+    }
+
+    /**
+     * @return the maximum number of bytes in flight across all transfers, or null if not bounded.
+     * @see Builder#maxBytesInFlight(Long)
+     */
+    public Long maxBytesInFlight() {
+        return maxBytesInFlight;
+    }
+
+    /**
+     * @return the maximum number of transfers in flight, or null if not bounded.
+     * @see Builder#maxTransfersInFlight(Integer)
+     */
+    public Integer maxTransfersInFlight() {
+        return maxTransfersInFlight;
+    }
+
+    /**
+     * @return the order in which queued transfers of equal priority are admitted, or null if not set.
+     * @see Builder#schedulingPolicy(TransferSchedulingPolicy)
+     */
+    public TransferSchedulingPolicy schedulingPolicy() {
+        return schedulingPolicy;
+    }
+
+    /**
+     * @return the metric publishers that receive the scheduling metrics of each transfer.
+     * @see Builder#metricPublishers(List)
+     */
+    public List<MetricPublisher> metricPublishers() {
+        return metricPublishers;
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    public static Class<? extends Builder> serializableBuilderClass() {
+        return DefaultBuilder.class;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new DefaultBuilder(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        TransferSchedulerConfiguration that = (TransferSchedulerConfiguration) o;
+
+        if (!Objects.equals(maxBytesInFlight, that.maxBytesInFlight)) {
+            return false;
+        }
+        if (!Objects.equals(maxTransfersInFlight, that.maxTransfersInFlight)) {
+            return false;
+        }
+        if (schedulingPolicy != that.schedulingPolicy) {
+            return false;
+        }
+        return Objects.equals(metricPublishers, that.metricPublishers);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = maxBytesInFlight != null ? maxBytesInFlight.hashCode() : 0;
+        result = 31 * result + (maxTransfersInFlight != null ? maxTransfersInFlight.hashCode() : 0);
+        result = 31 * result + (schedulingPolicy != null ? schedulingPolicy.hashCode() : 0);
+        result = 31 * result + (metricPublishers != null ? metricPublishers.hashCode() : 0);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("TransferSchedulerConfiguration")
+                       .add("maxBytesInFlight", maxBytesInFlight)
+                       .add("maxTransfersInFlight", maxTransfersInFlight)
+                       .add("schedulingPolicy", schedulingPolicy)
+                       .add("metricPublishers", metricPublishers)
+                       .build();
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, TransferSchedulerConfiguration> {
+
+        /**
+         * The maximum number of bytes that may be in flight across all uploads and downloads of the transfer manager. Because a
+         * multipart transfer only buffers a window of parts at a time, a transfer accounts for its size up to 32 MiB, the parts
+         * buffered by the default multipart configuration, and never for more than this limit. The size is known before the
+         * transfer starts for {@link S3TransferManager#uploadFile} and for {@link S3TransferManager#upload} with a request body
+         * of known length. Downloads account for 32 MiB until the first response reports the size of the object, and uploads of
+         * unknown length account for 32 MiB throughout.
+         *
+         * <p>By default, the number of bytes in flight is not bounded.
+         *
+         * @param maxBytesInFlight the maximum number of bytes in flight
+         * @return Returns a reference to this object so that method calls can be chained together.
+         */
+        Builder maxBytesInFlight(Long maxBytesInFlight);
+
+        /**
+         * The maximum number of uploads and downloads of the transfer manager that may be in flight at the same time. Each
+         * transfer may itself issue several concurrent part requests, which remain bounded by the configuration of the
+         * underlying {@code S3AsyncClient}.
+         *
+         * <p>By default, the number of transfers in flight is not bounded.
+         *
+         * @param maxTransfersInFlight the maximum number of transfers in flight
+         * @return Returns a reference to this object so that method calls can be chained together.
+         */
+        Builder maxTransfersInFlight(Integer maxTransfersInFlight);
+
+        /**
+         * The order in which queued transfers of equal priority are admitted.
+         *
+         * <p>By default, this is {@link TransferSchedulingPolicy#FIRST_IN_FIRST_OUT}.
+         *
+         * @param schedulingPolicy the scheduling policy
+         * @return Returns a reference to this object so that method calls can be chained together.
+         */
+        Builder schedulingPolicy(TransferSchedulingPolicy schedulingPolicy);
+
+        /**
+         * The metric publishers that receive the {@link TransferManagerMetric}s collected when each transfer is admitted by the
+         * scheduler. This method overrides and replaces any metric publishers that have already been set.
+         *
+         * @param metricPublishers the metric publishers
+         * @return Returns a reference to this object so that method calls can be chained together.
+         */
+        Builder metricPublishers(List<MetricPublisher> metricPublishers);
+
+        /**
+         * Add a metric publisher that receives the {@link TransferManagerMetric}s collected when each transfer is admitted by the
+         * scheduler.
+         *
+         * @param metricPublisher the metric publisher to add
+         * @return Returns a reference to this object so that method calls can be chained together.
+         */
+        Builder addMetricPublisher(MetricPublisher metricPublisher);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private Long maxBytesInFlight;
+        private Integer maxTransfersInFlight;
+        private TransferSchedulingPolicy schedulingPolicy;
+        private List<MetricPublisher> metricPublishers;
+
+        private DefaultBuilder() {
+        }
+
+        private DefaultBuilder(TransferSchedulerConfiguration configuration) {
+            this.maxBytesInFlight = configuration.maxBytesInFlight;
+            this.maxTransfersInFlight = configuration.maxTransfersInFlight;
+            this.schedulingPolicy = configuration.schedulingPolicy;
+            this.metricPublishers = new ArrayList<>(configuration.metricPublishers);
+        }
+
+        @Override
+        public Builder maxBytesInFlight(Long maxBytesInFlight) {
+            this.maxBytesInFlight = maxBytesInFlight;
+            return this;
+        }
+
+        public Long getMaxBytesInFlight() {
+            return maxBytesInFlight;
+        }
+
+        public void setMaxBytesInFlight(Long maxBytesInFlight) {
+            maxBytesInFlight(maxBytesInFlight);
+        }
+
+        @Override
+        public Builder maxTransfersInFlight(Integer maxTransfersInFlight) {
+            this.maxTransfersInFlight = maxTransfersInFlight;
+            return this;
+        }
+
+        public Integer getMaxTransfersInFlight() {
+            return maxTransfersInFlight;
+        }
+
+        public void setMaxTransfersInFlight(Integer maxTransfersInFlight) {
+            maxTransfersInFlight(maxTransfersInFlight);
+        }
+
+        @Override
+        public Builder schedulingPolicy(TransferSchedulingPolicy schedulingPolicy) {
+            this.schedulingPolicy = schedulingPolicy;
+            return this;
+        }
+
+        public TransferSchedulingPolicy getSchedulingPolicy() {
+            return schedulingPolicy;
+        }
+
+        public void setSchedulingPolicy(TransferSchedulingPolicy schedulingPolicy) {
+            schedulingPolicy(schedulingPolicy);
+        }
+
+        @Override
+        public Builder metricPublishers(List<MetricPublisher> metricPublishers) {
+            this.metricPublishers = metricPublishers != null ? new ArrayList<>(metricPublishers) : null;
+            return this;
+        }
+
+        @Override
+        public Builder addMetricPublisher(MetricPublisher metricPublisher) {
+            if (metricPublishers == null) {
+                metricPublishers = new ArrayList<>();
+            }
+            metricPublishers.add(metricPublisher);
+            return this;
+        }
+
+        public List<MetricPublisher> getMetricPublishers() {
+            return metricPublishers;
+        }
+
+        public void setMetricPublishers(List<MetricPublisher> metricPublishers) {
+            metricPublishers(metricPublishers);
+        }
+
+        @Override
+        public TransferSchedulerConfiguration build() {
+            return new TransferSchedulerConfiguration(this);
+        }
+    }
+}
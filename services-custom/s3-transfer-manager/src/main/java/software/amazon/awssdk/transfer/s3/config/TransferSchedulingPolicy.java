@@ -0,0 +1,39 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.config;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * The order in which queued transfers of equal priority are admitted by the transfer scheduler configured with
+ * {@link TransferSchedulerConfiguration}.
+ */
+@SdkPublicApi
+public enum TransferSchedulingPolicy {
+
+    /**
+     * Queued transfers are admitted in the order in which they were submitted.
+     */
+    FIRST_IN_FIRST_OUT,
+
+    /**
+     * Queued transfers with the fewest bytes to transfer are admitted first, so that small objects are not delayed behind
+     * large ones. Transfers of the same size, and transfers of 32 MiB or more, are admitted in the order in which they were
+     * submitted. So that a large transfer is not passed over indefinitely, a transfer that has waited while 16 other
+     * transfers were admitted is admitted next, and later transfers wait until it fits within the limits.
+     */
+    SMALLEST_FIRST
+}
@@ -77,7 +77,8 @@ class CrtS3TransferManager extends GenericS3TransferManager {
             assertNotUnsupportedArn(putObjectRequest.bucket(), "upload");
 
             CompletableFuture<PutObjectResponse> crtFuture =
-                s3AsyncClient.putObject(putObjectRequest, uploadFileRequest.source());
+                schedule(uploadFileRequest, fileContentLength,
+                         () -> s3AsyncClient.putObject(putObjectRequest, uploadFileRequest.source()));
 
             // Forward upload cancellation to CRT future
             CompletableFutureUtils.forwardExceptionTo(returnFuture, crtFuture);
@@ -24,12 +24,14 @@ import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
@@ -111,9 +113,8 @@ public class DownloadDirectoryHelper {
                                                               failedFileDownloads),
                                            allOfFutures,
                                            DEFAULT_DIRECTORY_TRANSFER_MAX_CONCURRENCY);
-        listObjectsHelper.listS3ObjectsRecursively(request)
-                         .filter(downloadDirectoryRequest.filter())
-                         .subscribe(asyncBufferingSubscriber);
+        listS3Objects(downloadDirectoryRequest, request).filter(downloadDirectoryRequest.filter())
+                                                        .subscribe(asyncBufferingSubscriber);
         CompletableFutureUtils.forwardExceptionTo(returnFuture, allOfFutures);
 
         allOfFutures.whenComplete((r, t) -> {
@@ -127,6 +128,17 @@ public class DownloadDirectoryHelper {
         });
     }
 
+    private SdkPublisher<S3Object> listS3Objects(DownloadDirectoryRequest downloadDirectoryRequest,
+                                                 ListObjectsV2Request request) {
+        Integer maxConcurrency = downloadDirectoryRequest.listObjectsMaxConcurrency();
+        List<String> shardBoundaries = downloadDirectoryRequest.listObjectsShardBoundaries();
+        if ((maxConcurrency == null || maxConcurrency == 1) && shardBoundaries.isEmpty()) {
+            return listObjectsHelper.listS3ObjectsRecursively(request);
+        }
+        return listObjectsHelper.listS3ObjectsInParallel(request, maxConcurrency == null ? 1 : maxConcurrency,
+                                                         shardBoundaries);
+    }
+
     private Function<S3Object, CompletableFuture<?>> downloadSingleFile(
         DownloadDirectoryRequest downloadDirectoryRequest,
         ListObjectsV2Request listRequest,
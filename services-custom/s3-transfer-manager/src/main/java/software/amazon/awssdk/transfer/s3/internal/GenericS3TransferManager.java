@@ -22,10 +22,12 @@ import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionA
 import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionAttribute.RESUME_TOKEN;
 import static software.amazon.awssdk.transfer.s3.internal.utils.ResumableRequestConverter.toDownloadFileRequestAndTransformer;
 
+import java.nio.ByteBuffer;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.arns.Arn;
@@ -33,6 +35,8 @@ import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
 import software.amazon.awssdk.core.FileTransformerConfiguration;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.async.listener.AsyncResponseTransformerListener;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.internal.async.FileAsyncRequestBody;
@@ -80,6 +84,7 @@ import software.amazon.awssdk.transfer.s3.model.FileDownload;
 import software.amazon.awssdk.transfer.s3.model.FileUpload;
 import software.amazon.awssdk.transfer.s3.model.ResumableFileDownload;
 import software.amazon.awssdk.transfer.s3.model.ResumableFileUpload;
+import software.amazon.awssdk.transfer.s3.model.TransferObjectRequest;
 import software.amazon.awssdk.transfer.s3.model.Upload;
 import software.amazon.awssdk.transfer.s3.model.UploadDirectoryRequest;
 import software.amazon.awssdk.transfer.s3.model.UploadFileRequest;
@@ -101,12 +106,15 @@ class GenericS3TransferManager implements S3TransferManager {
     private final boolean isDefaultS3AsyncClient;
 
     private final TransferManagerConfiguration transferConfiguration;
+    private final TransferScheduler transferScheduler;
 
     GenericS3TransferManager(TransferManagerConfiguration transferConfiguration,
                              S3AsyncClient s3AsyncClient,
                              boolean isDefaultS3AsyncClient) {
         this.s3AsyncClient = s3AsyncClient;
         this.transferConfiguration = transferConfiguration;
+        this.transferScheduler = TransferScheduler.create(
+            transferConfiguration.option(TransferConfigurationOption.TRANSFER_SCHEDULER));
         uploadDirectoryHelper = new UploadDirectoryHelper(transferConfiguration, this::uploadFile);
         ListObjectsHelper listObjectsHelper = new ListObjectsHelper(s3AsyncClient::listObjectsV2);
         downloadDirectoryHelper = new DownloadDirectoryHelper(transferConfiguration,
@@ -123,6 +131,7 @@ class GenericS3TransferManager implements S3TransferManager {
         this.s3AsyncClient = s3AsyncClient;
         this.isDefaultS3AsyncClient = false;
         this.transferConfiguration = configuration;
+        this.transferScheduler = TransferScheduler.create(configuration.option(TransferConfigurationOption.TRANSFER_SCHEDULER));
         this.uploadDirectoryHelper = uploadDirectoryHelper;
         this.downloadDirectoryHelper = downloadDirectoryHelper;
     }
@@ -151,8 +160,11 @@ class GenericS3TransferManager implements S3TransferManager {
         try {
             assertNotUnsupportedArn(uploadRequest.putObjectRequest().bucket(), "upload");
 
+            PutObjectRequest finalPutObjectRequest = putObjectRequest;
+            AsyncRequestBody finalRequestBody = requestBody;
             CompletableFuture<PutObjectResponse> future =
-                s3AsyncClient.putObject(putObjectRequest, requestBody);
+                schedule(uploadRequest, requestBody.contentLength().orElse(null),
+                         () -> s3AsyncClient.putObject(finalPutObjectRequest, finalRequestBody));
 
             // Forward upload cancellation to future
             CompletableFutureUtils.forwardExceptionTo(returnFuture, future);
@@ -203,8 +215,11 @@ class GenericS3TransferManager implements S3TransferManager {
         try {
             assertNotUnsupportedArn(putObjectRequest.bucket(), "upload");
 
+            PutObjectRequest finalPutObjectRequest = putObjectRequest;
+            AsyncRequestBody finalRequestBody = requestBody;
             CompletableFuture<PutObjectResponse> putObjectFuture =
-                s3AsyncClient.putObject(putObjectRequest, requestBody);
+                schedule(uploadFileRequest, requestBody.contentLength().orElse(null),
+                         () -> s3AsyncClient.putObject(finalPutObjectRequest, finalRequestBody));
 
             // Forward upload cancellation to putObjectFuture
             CompletableFutureUtils.forwardExceptionTo(returnFuture, putObjectFuture);
@@ -350,7 +365,10 @@ class GenericS3TransferManager implements S3TransferManager {
         try {
             assertNotUnsupportedArn(downloadRequest.getObjectRequest().bucket(), "download");
 
-            CompletableFuture<ResultT> future = s3AsyncClient.getObject(downloadRequest.getObjectRequest(), responseTransformer);
+            AsyncResponseTransformer<GetObjectResponse, ResultT> finalResponseTransformer = responseTransformer;
+            CompletableFuture<ResultT> future =
+                scheduleDownload(downloadRequest, downloadRequest.getObjectRequest(), finalResponseTransformer,
+                                 progressUpdater);
 
             // Forward download cancellation to future
             CompletableFutureUtils.forwardExceptionTo(returnFuture, future);
@@ -402,8 +420,10 @@ class GenericS3TransferManager implements S3TransferManager {
 
             assertNotUnsupportedArn(downloadRequest.getObjectRequest().bucket(), "download");
 
-            CompletableFuture<GetObjectResponse> future = s3AsyncClient.getObject(
-                downloadRequest.getObjectRequest(), responseTransformer);
+            AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> finalResponseTransformer = responseTransformer;
+            CompletableFuture<GetObjectResponse> future =
+                scheduleDownload(downloadRequest, downloadRequest.getObjectRequest(), finalResponseTransformer,
+                                 progressUpdater);
 
             // Forward download cancellation to future
             CompletableFutureUtils.forwardExceptionTo(returnFuture, future);
@@ -562,6 +582,39 @@ class GenericS3TransferManager implements S3TransferManager {
         return new DefaultCopy(returnFuture, progressUpdater.progress());
     }
 
+    /**
+     * Start the transfer once it is admitted by the transfer scheduler of this transfer manager.
+     *
+     * @param request the transfer request, which provides the scheduling priority
+     * @param sizeInBytes the number of bytes of the transfer, or null if not known before it starts
+     * @param transfer starts the transfer
+     */
+    <T> CompletableFuture<T> schedule(TransferObjectRequest request, Long sizeInBytes, Supplier<CompletableFuture<T>> transfer) {
+        return transferScheduler.schedule(sizeInBytes, request.priority(), transfer);
+    }
+
+    /**
+     * Start the download once it is admitted by the transfer scheduler of this transfer manager. The size of the object is
+     * reported to the scheduler once the first response is received, because it is not known before the download starts.
+     */
+    private <ResultT> CompletableFuture<ResultT> scheduleDownload(
+        TransferObjectRequest request,
+        GetObjectRequest getObjectRequest,
+        AsyncResponseTransformer<GetObjectResponse, ResultT> responseTransformer,
+        TransferProgressUpdater progressUpdater) {
+        return transferScheduler.scheduleWithUnknownSize(request.priority(), sizeKnown -> {
+            AsyncResponseTransformer<GetObjectResponse, ResultT> sizeReportingTransformer = AsyncResponseTransformerListener.wrap(
+                responseTransformer,
+                new AsyncResponseTransformerListener<GetObjectResponse>() {
+                    @Override
+                    public void transformerOnStream(SdkPublisher<ByteBuffer> publisher) {
+                        progressUpdater.progress().snapshot().totalBytes().ifPresent(sizeKnown);
+                    }
+                });
+            return s3AsyncClient.getObject(getObjectRequest, sizeReportingTransformer);
+        });
+    }
+
     @Override
     public final void close() {
         if (isDefaultS3AsyncClient) {
@@ -55,6 +55,18 @@ public class ListObjectsHelper {
                                       .iteratorFunction(objectsIteratorFunction).isLastPage(false).build();
     }
 
+    /**
+     * Returns all objects within a bucket given a {@link ListObjectsV2Request}, listing up to {@code maxConcurrency} common
+     * prefixes and key ranges delimited by {@code shardBoundaries} concurrently.
+     *
+     * @see ParallelListObjectsPublisher
+     */
+    public SdkPublisher<S3Object> listS3ObjectsInParallel(ListObjectsV2Request firstRequest,
+                                                          int maxConcurrency,
+                                                          List<String> shardBoundaries) {
+        return new ParallelListObjectsPublisher(listObjectsFunction, firstRequest, maxConcurrency, shardBoundaries);
+    }
+
     private static final class S3ObjectsIteratorFunction implements Function<ListObjectsV2Response, Iterator<S3Object>> {
 
         @Override
@@ -0,0 +1,254 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+
+/**
+ * Traverses a file tree with a {@link ForkJoinPool}, visiting subdirectories in parallel. The attributes of every entry are
+ * read once while its directory is listed, and the regular files found are handed to the consumer of the returned
+ * {@link Stream} through a bounded queue, so that the traversal does not get ahead of the uploads by more than
+ * {@link #QUEUE_CAPACITY} files.
+ *
+ * <p>This visits the same files as {@link Files#walk(Path, int, java.nio.file.FileVisitOption...)} filtered to regular
+ * files, in an unspecified order. As with {@code Files.walk}, an error while listing a directory, or a file system loop when
+ * following symbolic links, terminates the stream with an {@link UncheckedIOException}.
+ */
+@SdkInternalApi
+public final class ParallelFileTreeWalker {
+    static final int QUEUE_CAPACITY = 10_000;
+
+    private static final Object END = new Object();
+    private static final LinkOption[] NO_LINK_OPTIONS = new LinkOption[0];
+    private static final LinkOption[] NOFOLLOW_LINKS = {LinkOption.NOFOLLOW_LINKS};
+
+    private final Path root;
+    private final int maxDepth;
+    private final boolean followSymbolicLinks;
+    private final ForkJoinPool pool;
+    private final BlockingQueue<Object> queue;
+    private volatile boolean closed;
+
+    private ParallelFileTreeWalker(Path root, int maxDepth, boolean followSymbolicLinks, int parallelism, int queueCapacity) {
+        this.root = root;
+        this.maxDepth = maxDepth;
+        this.followSymbolicLinks = followSymbolicLinks;
+        this.pool = new ForkJoinPool(parallelism);
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * Start traversing the file tree rooted at the given directory.
+     *
+     * @param root the directory to traverse
+     * @param maxDepth the maximum number of directory levels to visit, as in {@code Files.walk}
+     * @param followSymbolicLinks whether to follow symbolic links
+     * @param parallelism the number of threads used to traverse the file tree
+     * @return the regular files of the file tree. The stream must be closed to stop the traversal and release its threads.
+     */
+    public static Stream<SourceFile> walk(Path root, int maxDepth, boolean followSymbolicLinks, int parallelism) {
+        return walk(root, maxDepth, followSymbolicLinks, parallelism, QUEUE_CAPACITY);
+    }
+
+    @SdkTestInternalApi
+    static Stream<SourceFile> walk(Path root, int maxDepth, boolean followSymbolicLinks, int parallelism, int queueCapacity) {
+        ParallelFileTreeWalker walker = new ParallelFileTreeWalker(root, maxDepth, followSymbolicLinks, parallelism,
+                                                                   queueCapacity);
+        walker.start();
+        Iterator<SourceFile> iterator = walker.new QueueIterator();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.NONNULL), false)
+                            .onClose(walker::close);
+    }
+
+    private void start() {
+        pool.execute(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                Object last = END;
+                try {
+                    if (maxDepth > 0) {
+                        new VisitDirectory(root, 0, new Ancestor(fileKey(root), null)).invoke();
+                    }
+                } catch (Throwable t) {
+                    last = t;
+                }
+                put(last);
+            }
+        });
+    }
+
+    private void close() {
+        closed = true;
+        pool.shutdownNow();
+        queue.clear();
+    }
+
+    private void put(Object element) {
+        try {
+            while (!closed) {
+                if (queue.offer(element, 100, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Object fileKey(Path directory) throws IOException {
+        return followSymbolicLinks ? Files.readAttributes(directory, BasicFileAttributes.class).fileKey() : null;
+    }
+
+    private BasicFileAttributes readAttributes(Path path) throws IOException {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class, followSymbolicLinks ? NO_LINK_OPTIONS : NOFOLLOW_LINKS);
+        } catch (NoSuchFileException e) {
+            if (followSymbolicLinks) {
+                // A broken symbolic link, which Files.walk reports as a link rather than a regular file
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    private final class VisitDirectory extends RecursiveAction {
+        private final Path directory;
+        private final int depth;
+        private final Ancestor ancestors;
+
+        private VisitDirectory(Path directory, int depth, Ancestor ancestors) {
+            this.directory = directory;
+            this.depth = depth;
+            this.ancestors = ancestors;
+        }
+
+        @Override
+        protected void compute() {
+            if (closed) {
+                return;
+            }
+            List<VisitDirectory> subdirectories = new ArrayList<>();
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+                for (Path entry : entries) {
+                    if (closed) {
+                        return;
+                    }
+                    BasicFileAttributes attributes = readAttributes(entry);
+                    if (attributes == null) {
+                        continue;
+                    }
+                    if (attributes.isRegularFile()) {
+                        put(new SourceFile(entry, attributes.size()));
+                    } else if (attributes.isDirectory() && depth + 1 < maxDepth) {
+                        subdirectories.add(new VisitDirectory(entry, depth + 1, descend(entry, attributes)));
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            ForkJoinTask.invokeAll(subdirectories);
+        }
+
+        private Ancestor descend(Path entry, BasicFileAttributes attributes) throws IOException {
+            Object fileKey = attributes.fileKey();
+            if (followSymbolicLinks && fileKey != null && ancestors.contains(fileKey)) {
+                throw new FileSystemLoopException(entry.toString());
+            }
+            return new Ancestor(fileKey, ancestors);
+        }
+    }
+
+    /**
+     * The file keys of the directories from the root to the directory being visited, used to detect file system loops when
+     * following symbolic links.
+     */
+    private static final class Ancestor {
+        private final Object fileKey;
+        private final Ancestor parent;
+
+        private Ancestor(Object fileKey, Ancestor parent) {
+            this.fileKey = fileKey;
+            this.parent = parent;
+        }
+
+        private boolean contains(Object key) {
+            for (Ancestor a = this; a != null; a = a.parent) {
+                if (key.equals(a.fileKey)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private final class QueueIterator implements Iterator<SourceFile> {
+        private Object next;
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                try {
+                    next = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw SdkClientException.create("Interrupted while traversing the directory: " + root, e);
+                }
+            }
+            if (next instanceof UncheckedIOException) {
+                throw (UncheckedIOException) next;
+            }
+            if (next instanceof Throwable) {
+                throw SdkClientException.create("Failed to traverse the directory: " + root, (Throwable) next);
+            }
+            return next != END;
+        }
+
+        @Override
+        public SourceFile next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            SourceFile file = (SourceFile) next;
+            next = null;
+            return file;
+        }
+    }
+}
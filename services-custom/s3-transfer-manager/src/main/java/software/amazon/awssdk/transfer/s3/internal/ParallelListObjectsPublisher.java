@@ -0,0 +1,235 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.util.PaginatorUtils;
+import software.amazon.awssdk.services.s3.model.CommonPrefix;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.async.SimplePublisher;
+
+/**
+ * Publishes the objects of a bucket by listing independent shards of it concurrently: the key ranges delimited by the
+ * provided boundaries, and the common prefixes discovered while listing them.
+ * <p>
+ * Each shard is listed one page after another, and the next page is only requested once all the objects of the previous
+ * page have been delivered to the subscriber, so the number of listed but not yet consumed objects is bounded by the
+ * maximum concurrency.
+ */
+@SdkInternalApi
+public final class ParallelListObjectsPublisher implements SdkPublisher<S3Object> {
+    /**
+     * The delimiter used to discover the common prefixes to fan out across when the request doesn't have a delimiter.
+     */
+    static final String DISCOVERY_DELIMITER = "/";
+
+    private static final Logger logger = Logger.loggerFor(S3TransferManager.class);
+
+    private final Function<ListObjectsV2Request, CompletableFuture<ListObjectsV2Response>> listObjectsFunction;
+    private final int maxConcurrency;
+    private final String rootPrefix;
+    private final String childDelimiter;
+    private final SimplePublisher<S3Object> downstream = new SimplePublisher<>();
+    private final Queue<Shard> pendingShards = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean done = new AtomicBoolean(false);
+    private final Object lock = new Object();
+    private int shardsInProgress;
+
+    public ParallelListObjectsPublisher(Function<ListObjectsV2Request, CompletableFuture<ListObjectsV2Response>>
+                                            listObjectsFunction,
+                                        ListObjectsV2Request request,
+                                        int maxConcurrency,
+                                        List<String> shardBoundaries) {
+        this.listObjectsFunction = listObjectsFunction;
+        this.maxConcurrency = Validate.isPositive(maxConcurrency, "maxConcurrency");
+        this.rootPrefix = request.prefix();
+        this.childDelimiter = request.delimiter();
+
+        // Without a delimiter, the top level is listed with one to discover the prefixes to fan out across, and the prefixes
+        // are then listed without a delimiter to keep the objects and directory structure of a sequential listing
+        String delimiter = request.delimiter() == null && maxConcurrency > 1 ? DISCOVERY_DELIMITER : request.delimiter();
+        ListObjectsV2Request base = request.toBuilder().delimiter(delimiter).continuationToken(null).build();
+        String startAfter = request.startAfter();
+        for (int i = 0; i <= shardBoundaries.size(); i++) {
+            String endKey = i < shardBoundaries.size() ? shardBoundaries.get(i) : null;
+            if (i > 0) {
+                String previousEndKey = shardBoundaries.get(i - 1);
+                Validate.isTrue(endKey == null || compareKeys(previousEndKey, endKey) < 0,
+                                "Shard boundaries must be in ascending order: %s, %s", previousEndKey, endKey);
+                startAfter = startAfter == null || compareKeys(previousEndKey, startAfter) > 0 ? previousEndKey : startAfter;
+            }
+            if (endKey != null && startAfter != null && compareKeys(endKey, startAfter) <= 0) {
+                // The whole range is before the start of the listing
+                continue;
+            }
+            pendingShards.add(new Shard(base.toBuilder().startAfter(startAfter).build(), endKey));
+        }
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super S3Object> subscriber) {
+        downstream.subscribe(subscriber);
+        startPendingShards();
+    }
+
+    /**
+     * Compares keys the way S3 orders them, by the binary value of their UTF-8 encoding, i.e. by code point.
+     */
+    static int compareKeys(String a, String b) {
+        int i = 0;
+        int j = 0;
+        while (i < a.length() && j < b.length()) {
+            int codePointA = a.codePointAt(i);
+            int codePointB = b.codePointAt(j);
+            if (codePointA != codePointB) {
+                return Integer.compare(codePointA, codePointB);
+            }
+            i += Character.charCount(codePointA);
+            j += Character.charCount(codePointB);
+        }
+        return Integer.compare(a.length() - i, b.length() - j);
+    }
+
+    private void startPendingShards() {
+        List<Shard> toStart = new ArrayList<>();
+        synchronized (lock) {
+            Shard shard;
+            while (!done.get() && shardsInProgress < maxConcurrency && (shard = pendingShards.poll()) != null) {
+                shardsInProgress++;
+                toStart.add(shard);
+            }
+            if (shardsInProgress == 0 && pendingShards.isEmpty() && done.compareAndSet(false, true)) {
+                downstream.complete();
+                return;
+            }
+        }
+        toStart.forEach(shard -> listPage(shard, shard.request));
+    }
+
+    private void listPage(Shard shard, ListObjectsV2Request request) {
+        if (done.get()) {
+            return;
+        }
+        listObjectsFunction.apply(request).whenComplete((response, t) -> {
+            if (t != null) {
+                fail(t);
+                return;
+            }
+            try {
+                onPage(shard, request, response);
+            } catch (Throwable e) {
+                fail(e);
+            }
+        });
+    }
+
+    private void onPage(Shard shard, ListObjectsV2Request request, ListObjectsV2Response response) {
+        boolean pastEndKey = false;
+        List<CompletableFuture<Void>> sent = new ArrayList<>(response.contents().size());
+        for (S3Object object : response.contents()) {
+            if (shard.isPastEndKey(object.key())) {
+                pastEndKey = true;
+            } else if (isVirtualDirectory(object.key(), response.prefix())) {
+                logger.debug(() -> "Skipping download for object (" + object.key() + ") since it is a virtual directory");
+            } else {
+                sent.add(downstream.send(object));
+            }
+        }
+
+        boolean discoveredShards = false;
+        for (CommonPrefix commonPrefix : response.commonPrefixes()) {
+            if (shard.isPastEndKey(commonPrefix.prefix())) {
+                pastEndKey = true;
+            } else {
+                pendingShards.add(shard.child(commonPrefix.prefix(), childDelimiter));
+                discoveredShards = true;
+            }
+        }
+        if (discoveredShards) {
+            startPendingShards();
+        }
+
+        boolean hasNextPage = !pastEndKey && PaginatorUtils.isOutputTokenAvailable(response.nextContinuationToken());
+        CompletableFuture.allOf(sent.toArray(new CompletableFuture[0])).whenComplete((r, t) -> {
+            if (t != null) {
+                fail(t);
+            } else if (hasNextPage) {
+                listPage(shard, request.toBuilder().continuationToken(response.nextContinuationToken()).build());
+            } else {
+                synchronized (lock) {
+                    shardsInProgress--;
+                }
+                startPendingShards();
+            }
+        });
+    }
+
+    private boolean isVirtualDirectory(String key, String listedPrefix) {
+        // Prefixes discovered with the discovery delimiter are listed as they would be by a single listing of the root prefix
+        String directory = childDelimiter != null ? listedPrefix : rootPrefix;
+        return directory != null && directory.equals(key);
+    }
+
+    private void fail(Throwable t) {
+        if (done.compareAndSet(false, true)) {
+            downstream.error(t);
+        }
+    }
+
+    /**
+     * A range of keys listed independently: the keys of a prefix after {@code startAfter}, up to and including
+     * {@code endKey}.
+     */
+    private static final class Shard {
+        private final ListObjectsV2Request request;
+        private final String endKey;
+
+        private Shard(ListObjectsV2Request request, String endKey) {
+            this.request = request;
+            this.endKey = endKey;
+        }
+
+        private boolean isPastEndKey(String key) {
+            return endKey != null && compareKeys(key, endKey) > 0;
+        }
+
+        private Shard child(String prefix, String delimiter) {
+            String startAfter = request.startAfter();
+            ListObjectsV2Request childRequest =
+                request.toBuilder()
+                       .prefix(prefix)
+                       .delimiter(delimiter)
+                       .startAfter(startAfter != null && compareKeys(startAfter, prefix) > 0 ? startAfter : null)
+                       .continuationToken(null)
+                       .build();
+            return new Shard(childRequest, endKey);
+        }
+    }
+}
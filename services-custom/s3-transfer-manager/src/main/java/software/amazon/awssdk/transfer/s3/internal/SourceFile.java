@@ -0,0 +1,60 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A regular file found while traversing the source directory of an upload directory operation, along with its size when
+ * it was read as part of the traversal.
+ */
+@SdkInternalApi
+public final class SourceFile {
+    private final Path path;
+    private Long size;
+
+    SourceFile(Path path, Long size) {
+        this.path = path;
+        this.size = size;
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * @return the size of the file, reading it from the file system if it was not read during the traversal, or
+     * {@link Long#MAX_VALUE} if it cannot be read.
+     */
+    public long size() {
+        if (size == null) {
+            try {
+                size = Files.size(path);
+            } catch (IOException e) {
+                size = Long.MAX_VALUE;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return path.toString();
+    }
+}
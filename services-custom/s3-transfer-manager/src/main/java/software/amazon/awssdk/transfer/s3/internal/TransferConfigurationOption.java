@@ -17,6 +17,7 @@ package software.amazon.awssdk.transfer.s3.internal;
 
 import java.util.concurrent.Executor;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.transfer.s3.config.TransferSchedulerConfiguration;
 import software.amazon.awssdk.utils.AttributeMap;
 
 /**
@@ -35,6 +36,9 @@ public final class TransferConfigurationOption<T> extends AttributeMap.Key<T> {
     public static final TransferConfigurationOption<Executor> EXECUTOR =
         new TransferConfigurationOption<>("Executor", Executor.class);
 
+    public static final TransferConfigurationOption<TransferSchedulerConfiguration> TRANSFER_SCHEDULER =
+        new TransferConfigurationOption<>("TransferScheduler", TransferSchedulerConfiguration.class);
+
     public static final String DEFAULT_DELIMITER = "/";
     public static final String DEFAULT_PREFIX = "";
     public static final int DEFAULT_DIRECTORY_TRANSFER_MAX_CONCURRENCY = 100;
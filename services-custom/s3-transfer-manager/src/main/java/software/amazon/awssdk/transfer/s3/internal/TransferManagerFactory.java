@@ -22,6 +22,7 @@ import software.amazon.awssdk.core.internal.util.ClassLoaderHelper;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.internal.crt.S3CrtAsyncClient;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.config.TransferSchedulerConfiguration;
 import software.amazon.awssdk.utils.Logger;
 
 
@@ -87,6 +88,7 @@ public final class TransferManagerFactory {
         transferConfigBuilder.uploadDirectoryFollowSymbolicLinks(tmBuilder.uploadDirectoryFollowSymbolicLinks);
         transferConfigBuilder.uploadDirectoryMaxDepth(tmBuilder.uploadDirectoryMaxDepth);
         transferConfigBuilder.executor(tmBuilder.executor);
+        transferConfigBuilder.transferScheduler(tmBuilder.transferScheduler);
         return transferConfigBuilder.build();
     }
 
@@ -95,6 +97,7 @@ public final class TransferManagerFactory {
         private Executor executor;
         private Boolean uploadDirectoryFollowSymbolicLinks;
         private Integer uploadDirectoryMaxDepth;
+        private TransferSchedulerConfiguration transferScheduler;
 
         @Override
         public DefaultBuilder s3Client(S3AsyncClient s3AsyncClient) {
@@ -136,6 +139,20 @@ public final class TransferManagerFactory {
             return uploadDirectoryMaxDepth;
         }
 
+        @Override
+        public DefaultBuilder transferScheduler(TransferSchedulerConfiguration transferScheduler) {
+            this.transferScheduler = transferScheduler;
+            return this;
+        }
+
+        public void setTransferScheduler(TransferSchedulerConfiguration transferScheduler) {
+            transferScheduler(transferScheduler);
+        }
+
+        public TransferSchedulerConfiguration getTransferScheduler() {
+            return transferScheduler;
+        }
+
         @Override
         public S3TransferManager build() {
             return createTransferManager(this);
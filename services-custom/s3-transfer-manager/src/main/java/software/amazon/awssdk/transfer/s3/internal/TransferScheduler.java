@@ -0,0 +1,350 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.transfer.s3.TransferManagerMetric;
+import software.amazon.awssdk.transfer.s3.config.TransferSchedulerConfiguration;
+import software.amazon.awssdk.transfer.s3.config.TransferSchedulingPolicy;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Admits the uploads and downloads of a transfer manager so that the number of bytes and the number of transfers in flight
+ * across all of them stay within the limits of the {@link TransferSchedulerConfiguration}.
+ *
+ * <p>A transfer accounts for the bytes it can hold in flight at a time rather than for its whole size: a multipart transfer
+ * only buffers a window of parts, so a transfer counts at most {@link #TRANSFER_WINDOW_IN_BYTES}, and never more than the
+ * configured maximum. A transfer whose size is not known when it is admitted counts the whole window until its size is
+ * reported, for example once the first response of a download is received. A transfer releases its bytes when the future
+ * returned by the transfer completes.
+ *
+ * <p>Transfers that cannot be admitted are queued, ordered by priority, then by the {@link TransferSchedulingPolicy}, then by
+ * arrival. Only one queued transfer is considered for admission at a time, and later transfers wait behind it until it fits.
+ * This is normally the head of the queue, but once the oldest queued transfer of the same priority has been overtaken by
+ * {@link #MAX_OVERTAKES} admissions, it is considered instead. This bounds how long a large transfer can be passed over by
+ * smaller ones under {@link TransferSchedulingPolicy#SMALLEST_FIRST}. Transfers of a lower priority are not protected from
+ * a steady stream of transfers of a higher priority.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class TransferScheduler {
+    /**
+     * The most bytes a single transfer accounts for. This matches the parts the default multipart configuration buffers for
+     * one transfer: four parts of 8 MiB.
+     */
+    static final long TRANSFER_WINDOW_IN_BYTES = 32L * 1024 * 1024;
+
+    /**
+     * The number of admissions after which the oldest queued transfer of a priority is admitted next.
+     */
+    static final int MAX_OVERTAKES = 16;
+
+    private static final Logger log = Logger.loggerFor(TransferScheduler.class);
+    private static final String METRIC_COLLECTOR_NAME = "TransferScheduler";
+    private static final TransferScheduler UNBOUNDED = new TransferScheduler(null);
+
+    private final boolean enabled;
+    private final long maxBytesInFlight;
+    private final int maxTransfersInFlight;
+    private final List<MetricPublisher> metricPublishers;
+    private final TreeSet<ScheduledTransfer> queue;
+    private final TreeSet<ScheduledTransfer> arrivals;
+    private final Object lock = new Object();
+
+    private long bytesInFlight;
+    private int transfersInFlight;
+    private long sequence;
+    private long admissions;
+
+    private TransferScheduler(TransferSchedulerConfiguration configuration) {
+        this.enabled = configuration != null;
+        if (configuration == null) {
+            configuration = TransferSchedulerConfiguration.builder().build();
+        }
+        this.maxBytesInFlight = configuration.maxBytesInFlight() != null ? configuration.maxBytesInFlight() : Long.MAX_VALUE;
+        this.maxTransfersInFlight = configuration.maxTransfersInFlight() != null ? configuration.maxTransfersInFlight()
+                                                                                 : Integer.MAX_VALUE;
+        this.metricPublishers = configuration.metricPublishers();
+        this.queue = new TreeSet<>(comparator(configuration.schedulingPolicy()));
+        this.arrivals = new TreeSet<>(comparator(TransferSchedulingPolicy.FIRST_IN_FIRST_OUT));
+    }
+
+    /**
+     * Create a scheduler for the given configuration. If the configuration is null, the returned scheduler starts every
+     * transfer immediately.
+     */
+    public static TransferScheduler create(TransferSchedulerConfiguration configuration) {
+        return configuration == null ? UNBOUNDED : new TransferScheduler(configuration);
+    }
+
+    /**
+     * Start the transfer once it is admitted.
+     *
+     * @param sizeInBytes the number of bytes of the transfer, or null if not known before it starts
+     * @param priority the priority of the transfer, or null for the default priority
+     * @param transfer starts the transfer and returns a future that completes when it is finished
+     * @return a future that completes with the result of the transfer. Cancelling it before the transfer is admitted removes
+     * the transfer from the queue, and cancelling it afterwards cancels the future returned by the transfer.
+     */
+    public <T> CompletableFuture<T> schedule(Long sizeInBytes, Integer priority, Supplier<CompletableFuture<T>> transfer) {
+        return schedule(sizeInBytes, priority, sizeKnown -> transfer.get());
+    }
+
+    /**
+     * Start a transfer whose size is not known before it starts once it is admitted.
+     *
+     * @param priority the priority of the transfer, or null for the default priority
+     * @param transfer starts the transfer and returns a future that completes when it is finished. It is given a callback to
+     * report the number of bytes of the transfer once known, which releases the bytes accounted for beyond that size.
+     * @return a future that completes with the result of the transfer, as for {@link #schedule(Long, Integer, Supplier)}
+     */
+    public <T> CompletableFuture<T> scheduleWithUnknownSize(Integer priority,
+                                                            Function<LongConsumer, CompletableFuture<T>> transfer) {
+        return schedule(null, priority, transfer);
+    }
+
+    private <T> CompletableFuture<T> schedule(Long sizeInBytes, Integer priority,
+                                              Function<LongConsumer, CompletableFuture<T>> transfer) {
+        if (!enabled) {
+            return transfer.apply(sizeKnown -> { });
+        }
+
+        ScheduledTransfer scheduledTransfer = new ScheduledTransfer(weight(sizeInBytes),
+                                                                    priority != null ? priority : 0,
+                                                                    System.nanoTime());
+        CompletableFuture<T> result = new CompletableFuture<>();
+
+        scheduledTransfer.admitFuture.whenComplete((r, t) -> {
+            if (t != null || result.isDone()) {
+                release(scheduledTransfer);
+                return;
+            }
+            publishMetrics(scheduledTransfer);
+            start(scheduledTransfer, transfer, result);
+        });
+
+        result.whenComplete((r, t) -> {
+            if (!scheduledTransfer.admitFuture.isDone()) {
+                dequeue(scheduledTransfer);
+            }
+        });
+
+        List<ScheduledTransfer> admitted;
+        synchronized (lock) {
+            scheduledTransfer.sequence = sequence++;
+            scheduledTransfer.admissionsOnEnqueue = admissions;
+            queue.add(scheduledTransfer);
+            arrivals.add(scheduledTransfer);
+            admitted = admitQueued();
+        }
+        complete(admitted);
+        return result;
+    }
+
+    private <T> void start(ScheduledTransfer scheduledTransfer,
+                           Function<LongConsumer, CompletableFuture<T>> transfer,
+                           CompletableFuture<T> result) {
+        CompletableFuture<T> transferFuture;
+        try {
+            transferFuture = transfer.apply(sizeInBytes -> resize(scheduledTransfer, sizeInBytes));
+        } catch (Throwable t) {
+            release(scheduledTransfer);
+            result.completeExceptionally(t);
+            return;
+        }
+
+        transferFuture.whenComplete((r, t) -> release(scheduledTransfer));
+        CompletableFutureUtils.forwardExceptionTo(result, transferFuture);
+        CompletableFutureUtils.forwardResultTo(transferFuture, result);
+    }
+
+    private void dequeue(ScheduledTransfer scheduledTransfer) {
+        boolean removed;
+        synchronized (lock) {
+            removed = queue.remove(scheduledTransfer);
+            arrivals.remove(scheduledTransfer);
+        }
+        if (removed) {
+            scheduledTransfer.admitFuture.completeExceptionally(
+                new CancellationException("The transfer was cancelled before it was started."));
+        }
+    }
+
+    private void release(ScheduledTransfer scheduledTransfer) {
+        List<ScheduledTransfer> admitted;
+        synchronized (lock) {
+            if (scheduledTransfer.released || !scheduledTransfer.admitted) {
+                return;
+            }
+            scheduledTransfer.released = true;
+            bytesInFlight -= scheduledTransfer.weight;
+            transfersInFlight--;
+            admitted = admitQueued();
+        }
+        complete(admitted);
+    }
+
+    /**
+     * Release the bytes accounted for an admitted transfer beyond its size, once the size is known.
+     */
+    private void resize(ScheduledTransfer scheduledTransfer, long sizeInBytes) {
+        List<ScheduledTransfer> admitted;
+        synchronized (lock) {
+            long weight = weight(sizeInBytes);
+            if (scheduledTransfer.released || !scheduledTransfer.admitted || weight >= scheduledTransfer.weight) {
+                return;
+            }
+            bytesInFlight -= scheduledTransfer.weight - weight;
+            scheduledTransfer.weight = weight;
+            admitted = admitQueued();
+        }
+        complete(admitted);
+    }
+
+    /**
+     * Admit queued transfers while the next one fits in the limits. Must be called while holding the lock.
+     */
+    private List<ScheduledTransfer> admitQueued() {
+        List<ScheduledTransfer> admitted = new ArrayList<>();
+        while (!queue.isEmpty()) {
+            ScheduledTransfer next = next();
+            boolean fits = transfersInFlight == 0 || bytesInFlight + next.weight <= maxBytesInFlight;
+            if (!fits || transfersInFlight >= maxTransfersInFlight) {
+                break;
+            }
+            queue.remove(next);
+            arrivals.remove(next);
+            admissions++;
+            bytesInFlight += next.weight;
+            transfersInFlight++;
+            next.admitted = true;
+            next.bytesInFlightOnAdmission = bytesInFlight;
+            next.transfersInFlightOnAdmission = transfersInFlight;
+            admitted.add(next);
+        }
+        admitted.forEach(t -> t.queuedTransfersOnAdmission = queue.size());
+        return admitted;
+    }
+
+    /**
+     * The queued transfer to admit next: the head of the queue, unless the oldest queued transfer of the same priority has been
+     * overtaken too many times. Must be called while holding the lock.
+     */
+    private ScheduledTransfer next() {
+        ScheduledTransfer oldest = arrivals.first();
+        return admissions - oldest.admissionsOnEnqueue >= MAX_OVERTAKES ? oldest : queue.first();
+    }
+
+    /**
+     * Start the admitted transfers. Must be called without holding the lock, because the transfers are started on the calling
+     * thread.
+     */
+    private static void complete(List<ScheduledTransfer> admitted) {
+        admitted.forEach(t -> t.admitFuture.complete(null));
+    }
+
+    private void publishMetrics(ScheduledTransfer scheduledTransfer) {
+        if (metricPublishers.isEmpty()) {
+            return;
+        }
+        MetricCollector collector = MetricCollector.create(METRIC_COLLECTOR_NAME);
+        collector.reportMetric(TransferManagerMetric.SCHEDULER_QUEUE_DURATION,
+                               Duration.ofNanos(System.nanoTime() - scheduledTransfer.enqueuedNanos));
+        collector.reportMetric(TransferManagerMetric.SCHEDULED_BYTES, scheduledTransfer.weight);
+        collector.reportMetric(TransferManagerMetric.BYTES_IN_FLIGHT, scheduledTransfer.bytesInFlightOnAdmission);
+        collector.reportMetric(TransferManagerMetric.TRANSFERS_IN_FLIGHT, scheduledTransfer.transfersInFlightOnAdmission);
+        collector.reportMetric(TransferManagerMetric.QUEUED_TRANSFERS, scheduledTransfer.queuedTransfersOnAdmission);
+        MetricCollection metrics = collector.collect();
+        for (MetricPublisher publisher : metricPublishers) {
+            try {
+                publisher.publish(metrics);
+            } catch (RuntimeException e) {
+                log.warn(() -> "Failed to publish transfer scheduler metrics to " + publisher, e);
+            }
+        }
+    }
+
+    private long weight(Long sizeInBytes) {
+        long size = sizeInBytes != null && sizeInBytes >= 0 ? Math.min(sizeInBytes, TRANSFER_WINDOW_IN_BYTES)
+                                                            : TRANSFER_WINDOW_IN_BYTES;
+        return Math.min(size, maxBytesInFlight);
+    }
+
+    private static Comparator<ScheduledTransfer> comparator(TransferSchedulingPolicy policy) {
+        Comparator<ScheduledTransfer> byPriority = Comparator.comparingInt((ScheduledTransfer t) -> t.priority).reversed();
+        if (policy == TransferSchedulingPolicy.SMALLEST_FIRST) {
+            byPriority = byPriority.thenComparingLong(t -> t.weight);
+        }
+        return byPriority.thenComparingLong(t -> t.sequence);
+    }
+
+    @SdkTestInternalApi
+    long bytesInFlight() {
+        synchronized (lock) {
+            return bytesInFlight;
+        }
+    }
+
+    @SdkTestInternalApi
+    int transfersInFlight() {
+        synchronized (lock) {
+            return transfersInFlight;
+        }
+    }
+
+    @SdkTestInternalApi
+    int queuedTransfers() {
+        synchronized (lock) {
+            return queue.size();
+        }
+    }
+
+    private static final class ScheduledTransfer {
+        private final CompletableFuture<Void> admitFuture = new CompletableFuture<>();
+        private final int priority;
+        private final long enqueuedNanos;
+        private long weight;
+        private long sequence;
+        private long admissionsOnEnqueue;
+        private boolean admitted;
+        private boolean released;
+        private long bytesInFlightOnAdmission;
+        private int transfersInFlightOnAdmission;
+        private int queuedTransfersOnAdmission;
+
+        private ScheduledTransfer(long weight, int priority, long enqueuedNanos) {
+            this.weight = weight;
+            this.priority = priority;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+    }
+}
@@ -24,7 +24,13 @@ import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -54,6 +60,8 @@ import software.amazon.awssdk.utils.Validate;
  */
 @SdkInternalApi
 public class UploadDirectoryHelper {
+    static final int SMALL_FILES_FIRST_WINDOW = 10_000;
+
     private static final Logger log = Logger.loggerFor(S3TransferManager.class);
 
     private final TransferManagerConfiguration transferConfiguration;
@@ -91,9 +99,10 @@ public class UploadDirectoryHelper {
 
         Collection<FailedFileUpload> failedFileUploads = new ConcurrentLinkedQueue<>();
 
-        Stream<Path> stream = listFiles(directory, uploadDirectoryRequest);
+        Stream<SourceFile> stream = listFiles(directory, uploadDirectoryRequest);
+        boolean smallFilesFirst = uploadDirectoryRequest.smallFilesFirst().orElse(false);
 
-        SdkPublisher<Path> iterablePublisher = SdkPublisher.fromIterable(() -> stream.iterator())
+        SdkPublisher<Path> iterablePublisher = SdkPublisher.fromIterable(() -> filePaths(stream, smallFilesFirst))
                                                            .doAfterOnCancel(() -> stream.close())
                                                            .doAfterOnError(t -> stream.close())
                                                            .doAfterOnComplete(() -> stream.close());
@@ -151,25 +160,67 @@ public class UploadDirectoryHelper {
         return future;
     }
 
-    private Stream<Path> listFiles(Path directory, UploadDirectoryRequest request) {
+    private Stream<SourceFile> listFiles(Path directory, UploadDirectoryRequest request) {
 
         try {
             boolean followSymbolicLinks = transferConfiguration.resolveUploadDirectoryFollowSymbolicLinks(request);
             int maxDepth = transferConfiguration.resolveUploadDirectoryMaxDepth(request);
+            int parallelism = request.fileTreeWalkParallelism().orElse(1);
+
+            if (parallelism > 1) {
+                return ParallelFileTreeWalker.walk(directory, maxDepth, followSymbolicLinks, parallelism);
+            }
 
             if (followSymbolicLinks) {
                 return Files.walk(directory, maxDepth, FileVisitOption.FOLLOW_LINKS)
-                            .filter(path -> isRegularFile(path, true));
+                            .filter(path -> isRegularFile(path, true))
+                            .map(path -> new SourceFile(path, null));
             }
 
             return Files.walk(directory, maxDepth)
-                        .filter(path -> isRegularFile(path, false));
+                        .filter(path -> isRegularFile(path, false))
+                        .map(path -> new SourceFile(path, null));
 
         } catch (IOException e) {
             throw SdkClientException.create("Failed to list files within the provided directory: " + directory, e);
         }
     }
 
+    /**
+     * Returns the paths of the given files, ordered by size within consecutive windows of {@link #SMALL_FILES_FIRST_WINDOW}
+     * files if {@code smallFilesFirst} is true, so that the ordering never holds more than one window of paths in memory.
+     */
+    private static Iterator<Path> filePaths(Stream<SourceFile> stream, boolean smallFilesFirst) {
+        if (!smallFilesFirst) {
+            return stream.map(SourceFile::path).iterator();
+        }
+        Iterator<SourceFile> files = stream.iterator();
+        return new Iterator<Path>() {
+            private Iterator<SourceFile> window = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                if (!window.hasNext() && files.hasNext()) {
+                    List<SourceFile> nextWindow = new ArrayList<>();
+                    while (files.hasNext() && nextWindow.size() < SMALL_FILES_FIRST_WINDOW) {
+                        nextWindow.add(files.next());
+                    }
+                    nextWindow.sort(Comparator.comparingLong(SourceFile::size));
+                    window = nextWindow.iterator();
+                }
+                return window.hasNext();
+            }
+
+            @Override
+            public Path next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return window.next().path();
+            }
+        };
+    }
+
     private boolean isRegularFile(Path path, boolean followSymlinks) {
         if (followSymlinks) {
             return Files.isRegularFile(path);
@@ -17,6 +17,9 @@ package software.amazon.awssdk.transfer.s3.model;
 
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
@@ -44,6 +47,8 @@ public final class DownloadDirectoryRequest
     private final DownloadFilter filter;
     private final Consumer<DownloadFileRequest.Builder> downloadFileRequestTransformer;
     private final Consumer<ListObjectsV2Request.Builder> listObjectsRequestTransformer;
+    private final Integer listObjectsMaxConcurrency;
+    private final List<String> listObjectsShardBoundaries;
 
     public DownloadDirectoryRequest(DefaultBuilder builder) {
         this.destination = Validate.paramNotNull(builder.destination, "destination");
@@ -51,6 +56,11 @@ public final class DownloadDirectoryRequest
         this.filter = builder.filter;
         this.downloadFileRequestTransformer = builder.downloadFileRequestTransformer;
         this.listObjectsRequestTransformer = builder.listObjectsRequestTransformer;
+        this.listObjectsMaxConcurrency = Validate.isPositiveOrNull(builder.listObjectsMaxConcurrency,
+                                                                   "listObjectsMaxConcurrency");
+        this.listObjectsShardBoundaries = builder.listObjectsShardBoundaries == null
+                                          ? null
+                                          : Collections.unmodifiableList(new ArrayList<>(builder.listObjectsShardBoundaries));
     }
 
     /**
@@ -97,6 +107,23 @@ public final class DownloadDirectoryRequest
         return downloadFileRequestTransformer == null ? ignore -> { } : downloadFileRequestTransformer;
     }
 
+    /**
+     * @return the maximum number of {@link ListObjectsV2Request}s sent concurrently to list the objects to download, or null
+     * to list them sequentially
+     * @see Builder#listObjectsMaxConcurrency(Integer)
+     */
+    public Integer listObjectsMaxConcurrency() {
+        return listObjectsMaxConcurrency;
+    }
+
+    /**
+     * @return the keys splitting the listing into independently listed ranges, or an empty list if not provided
+     * @see Builder#listObjectsShardBoundaries(List)
+     */
+    public List<String> listObjectsShardBoundaries() {
+        return listObjectsShardBoundaries == null ? Collections.emptyList() : listObjectsShardBoundaries;
+    }
+
     public static Builder builder() {
         return new DefaultBuilder();
     }
@@ -133,6 +160,12 @@ public final class DownloadDirectoryRequest
         if (!Objects.equals(listObjectsRequestTransformer, that.listObjectsRequestTransformer)) {
             return false;
         }
+        if (!Objects.equals(listObjectsMaxConcurrency, that.listObjectsMaxConcurrency)) {
+            return false;
+        }
+        if (!Objects.equals(listObjectsShardBoundaries, that.listObjectsShardBoundaries)) {
+            return false;
+        }
         return Objects.equals(filter, that.filter);
     }
 
@@ -143,6 +176,8 @@ public final class DownloadDirectoryRequest
         result = 31 * result + (filter != null ? filter.hashCode() : 0);
         result = 31 * result + (downloadFileRequestTransformer != null ? downloadFileRequestTransformer.hashCode() : 0);
         result = 31 * result + (listObjectsRequestTransformer != null ? listObjectsRequestTransformer.hashCode() : 0);
+        result = 31 * result + (listObjectsMaxConcurrency != null ? listObjectsMaxConcurrency.hashCode() : 0);
+        result = 31 * result + (listObjectsShardBoundaries != null ? listObjectsShardBoundaries.hashCode() : 0);
         return result;
     }
 
@@ -154,6 +189,8 @@ public final class DownloadDirectoryRequest
                        .add("filter", filter)
                        .add("downloadFileRequestTransformer", downloadFileRequestTransformer)
                        .add("listObjectsRequestTransformer", listObjectsRequestTransformer)
+                       .add("listObjectsMaxConcurrency", listObjectsMaxConcurrency)
+                       .add("listObjectsShardBoundaries", listObjectsShardBoundaries)
                        .build();
     }
 
@@ -328,6 +365,37 @@ public final class DownloadDirectoryRequest
          */
         Builder listObjectsV2RequestTransformer(Consumer<ListObjectsV2Request.Builder> listObjectsV2RequestTransformer);
 
+        /**
+         * Specifies the maximum number of {@link ListObjectsV2Request}s sent concurrently to list the objects to download.
+         * <p>
+         * By default, the objects are listed one page after another, which can become the bottleneck of downloading
+         * buckets with many objects. When this is greater than one, the listing fans out across the common prefixes of the
+         * bucket, and across the ranges configured with {@link #listObjectsShardBoundaries(List)}, and lists them
+         * concurrently. Objects start downloading as soon as they are listed, in no particular order.
+         * <p>
+         * When no delimiter is configured, the prefixes at the top level of the directory, using {@code /} as the
+         * delimiter, are discovered first, and each of them is then listed concurrently. When a delimiter is configured,
+         * each common prefix found at any level is listed concurrently.
+         *
+         * @param listObjectsMaxConcurrency the maximum number of concurrent list requests
+         * @return This builder for method chaining
+         */
+        Builder listObjectsMaxConcurrency(Integer listObjectsMaxConcurrency);
+
+        /**
+         * Specifies keys splitting the objects to download into ranges that are listed independently, and concurrently
+         * up to {@link #listObjectsMaxConcurrency(Integer)}. This is useful when the distribution of the keys is known and
+         * they don't share common prefixes to fan out across, for example keys starting with a hash or a timestamp.
+         * <p>
+         * Given boundaries {@code [b1, b2]}, the ranges are the keys up to and including {@code b1}, the keys after {@code b1}
+         * up to and including {@code b2}, and the keys after {@code b2}. Each range is listed using {@code StartAfter}.
+         * Boundaries must be in ascending order.
+         *
+         * @param listObjectsShardBoundaries the keys splitting the listing into ranges
+         * @return This builder for method chaining
+         */
+        Builder listObjectsShardBoundaries(List<String> listObjectsShardBoundaries);
+
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -337,6 +405,8 @@ public final class DownloadDirectoryRequest
         private DownloadFilter filter;
         private Consumer<DownloadFileRequest.Builder> downloadFileRequestTransformer;
         private Consumer<ListObjectsV2Request.Builder> listObjectsRequestTransformer;
+        private Integer listObjectsMaxConcurrency;
+        private List<String> listObjectsShardBoundaries;
 
         private DefaultBuilder() {
         }
@@ -347,6 +417,8 @@ public final class DownloadDirectoryRequest
             this.filter = request.filter;
             this.downloadFileRequestTransformer = request.downloadFileRequestTransformer;
             this.listObjectsRequestTransformer = request.listObjectsRequestTransformer;
+            this.listObjectsMaxConcurrency = request.listObjectsMaxConcurrency;
+            this.listObjectsShardBoundaries = request.listObjectsShardBoundaries;
         }
 
         @Override
@@ -395,6 +467,34 @@ public final class DownloadDirectoryRequest
             return this;
         }
 
+        @Override
+        public Builder listObjectsMaxConcurrency(Integer listObjectsMaxConcurrency) {
+            this.listObjectsMaxConcurrency = listObjectsMaxConcurrency;
+            return this;
+        }
+
+        public void setListObjectsMaxConcurrency(Integer listObjectsMaxConcurrency) {
+            listObjectsMaxConcurrency(listObjectsMaxConcurrency);
+        }
+
+        public Integer getListObjectsMaxConcurrency() {
+            return listObjectsMaxConcurrency;
+        }
+
+        @Override
+        public Builder listObjectsShardBoundaries(List<String> listObjectsShardBoundaries) {
+            this.listObjectsShardBoundaries = listObjectsShardBoundaries;
+            return this;
+        }
+
+        public void setListObjectsShardBoundaries(List<String> listObjectsShardBoundaries) {
+            listObjectsShardBoundaries(listObjectsShardBoundaries);
+        }
+
+        public List<String> getListObjectsShardBoundaries() {
+            return listObjectsShardBoundaries;
+        }
+
         public void setFilter(DownloadFilter filter) {
             filter(filter);
         }
@@ -26,6 +26,7 @@ import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.config.TransferSchedulerConfiguration;
 import software.amazon.awssdk.transfer.s3.progress.TransferListener;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.Validate;
@@ -45,11 +46,13 @@ public final class DownloadFileRequest
     private final Path destination;
     private final GetObjectRequest getObjectRequest;
     private final List<TransferListener> transferListeners;
+    private final Integer priority;
 
     private DownloadFileRequest(DefaultBuilder builder) {
         this.destination = Validate.paramNotNull(builder.destination, "destination");
         this.getObjectRequest = Validate.paramNotNull(builder.getObjectRequest, "getObjectRequest");
         this.transferListeners = builder.transferListeners;
+        this.priority = builder.priority;
     }
 
     /**
@@ -92,6 +95,15 @@ public final class DownloadFileRequest
         return transferListeners;
     }
 
+    /**
+     * @return the scheduling priority of this download, or null if not set.
+     * @see Builder#priority(Integer)
+     */
+    @Override
+    public Integer priority() {
+        return priority;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -109,7 +121,10 @@ public final class DownloadFileRequest
         if (!Objects.equals(getObjectRequest, that.getObjectRequest)) {
             return false;
         }
-        return Objects.equals(transferListeners, that.transferListeners);
+        if (!Objects.equals(transferListeners, that.transferListeners)) {
+            return false;
+        }
+        return Objects.equals(priority, that.priority);
     }
 
     @Override
@@ -117,6 +132,7 @@ public final class DownloadFileRequest
         int result = destination != null ? destination.hashCode() : 0;
         result = 31 * result + (getObjectRequest != null ? getObjectRequest.hashCode() : 0);
         result = 31 * result + (transferListeners != null ? transferListeners.hashCode() : 0);
+        result = 31 * result + (priority != null ? priority.hashCode() : 0);
         return result;
     }
 
@@ -126,6 +142,7 @@ public final class DownloadFileRequest
                        .add("destination", destination)
                        .add("getObjectRequest", getObjectRequest)
                        .add("transferListeners", transferListeners)
+                       .add("priority", priority)
                        .build();
     }
 
@@ -209,12 +226,24 @@ public final class DownloadFileRequest
          */
         Builder addTransferListener(TransferListener transferListener);
 
+        /**
+         * The scheduling priority of this download when the transfer manager is configured with a
+         * {@link S3TransferManager.Builder#transferScheduler(TransferSchedulerConfiguration) transfer scheduler}. Queued
+         * transfers with a higher priority are admitted before queued transfers with a lower priority. Defaults to 0 when not
+         * set. This has no effect if no transfer scheduler is configured.
+         *
+         * @param priority the scheduling priority
+         * @return Returns a reference to this object so that method calls can be chained together.
+         */
+        Builder priority(Integer priority);
+
     }
 
     private static final class DefaultBuilder implements Builder {
         private Path destination;
         private GetObjectRequest getObjectRequest;
         private List<TransferListener> transferListeners;
+        private Integer priority;
 
         private DefaultBuilder() {
         }
@@ -223,6 +252,7 @@ public final class DownloadFileRequest
             this.destination = downloadFileRequest.destination;
             this.getObjectRequest = downloadFileRequest.getObjectRequest;
             this.transferListeners = downloadFileRequest.transferListeners;
+            this.priority = downloadFileRequest.priority;
         }
 
         @Override
@@ -276,6 +306,20 @@ public final class DownloadFileRequest
             transferListeners(transferListeners);
         }
 
+        @Override
+        public Builder priority(Integer priority) {
+            this.priority = priority;
+            return this;
+        }
+
+        public Integer getPriority() {
+            return priority;
+        }
+
+        public void setPriority(Integer priority) {
+            priority(priority);
+        }
+
         @Override
         public DownloadFileRequest build() {
             return new DownloadFileRequest(this);
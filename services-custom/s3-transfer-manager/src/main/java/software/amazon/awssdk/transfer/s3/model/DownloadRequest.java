@@ -26,6 +26,7 @@ import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.config.TransferSchedulerConfiguration;
 import software.amazon.awssdk.transfer.s3.model.DownloadRequest.TypedBuilder;
 import software.amazon.awssdk.transfer.s3.progress.TransferListener;
 import software.amazon.awssdk.utils.ToString;
@@ -48,11 +49,13 @@ public final class DownloadRequest<ReturnT>
     private final AsyncResponseTransformer<GetObjectResponse, ReturnT> responseTransformer;
     private final GetObjectRequest getObjectRequest;
     private final List<TransferListener> transferListeners;
+    private final Integer priority;
 
     private DownloadRequest(DefaultTypedBuilder<ReturnT> builder) {
         this.responseTransformer = Validate.paramNotNull(builder.responseTransformer, "responseTransformer");
         this.getObjectRequest = Validate.paramNotNull(builder.getObjectRequest, "getObjectRequest");
         this.transferListeners = builder.transferListeners;
+        this.priority = builder.priority;
     }
 
     /**
@@ -96,6 +99,15 @@ public final class DownloadRequest<ReturnT>
         return transferListeners;
     }
 
+    /**
+     * @return the scheduling priority of this download, or null if not set.
+     * @see TypedBuilder#priority(Integer)
+     */
+    @Override
+    public Integer priority() {
+        return priority;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -113,7 +125,10 @@ public final class DownloadRequest<ReturnT>
         if (!Objects.equals(getObjectRequest, that.getObjectRequest)) {
             return false;
         }
-        return Objects.equals(transferListeners, that.transferListeners);
+        if (!Objects.equals(transferListeners, that.transferListeners)) {
+            return false;
+        }
+        return Objects.equals(priority, that.priority);
     }
 
     @Override
@@ -121,6 +136,7 @@ public final class DownloadRequest<ReturnT>
         int result = responseTransformer != null ? responseTransformer.hashCode() : 0;
         result = 31 * result + (getObjectRequest != null ? getObjectRequest.hashCode() : 0);
         result = 31 * result + (transferListeners != null ? transferListeners.hashCode() : 0);
+        result = 31 * result + (priority != null ? priority.hashCode() : 0);
         return result;
     }
 
@@ -130,6 +146,7 @@ public final class DownloadRequest<ReturnT>
                        .add("responseTransformer", responseTransformer)
                        .add("getObjectRequest", getObjectRequest)
                        .add("transferListeners", transferListeners)
+                       .add("priority", priority)
                        .build();
     }
 
@@ -192,6 +209,17 @@ public final class DownloadRequest<ReturnT>
          */
         UntypedBuilder addTransferListener(TransferListener transferListener);
 
+        /**
+         * The scheduling priority of this download when the transfer manager is configured with a
+         * {@link S3TransferManager.Builder#transferScheduler(TransferSchedulerConfiguration) transfer scheduler}. Queued
+         * transfers with a higher priority are admitted before queued transfers with a lower priority. Defaults to 0 when not
+         * set. This has no effect if no transfer scheduler is configured.
+         *
+         * @param priority the scheduling priority
+         * @return Returns a reference to this object so that method calls can be chained together.
+         */
+        UntypedBuilder priority(Integer priority);
+
         /**
          * Specifies the {@link AsyncResponseTransformer} that should be used for the download. This method also infers the
          * generic type of {@link DownloadRequest} to create, inferred from the second type parameter of the provided {@link
@@ -210,6 +238,7 @@ public final class DownloadRequest<ReturnT>
     private static final class DefaultUntypedBuilder implements UntypedBuilder {
         private GetObjectRequest getObjectRequest;
         private List<TransferListener> transferListeners;
+        private Integer priority;
 
         private DefaultUntypedBuilder() {
         }
@@ -243,11 +272,26 @@ public final class DownloadRequest<ReturnT>
             transferListeners(transferListeners);
         }
 
+        @Override
+        public UntypedBuilder priority(Integer priority) {
+            this.priority = priority;
+            return this;
+        }
+
+        public Integer getPriority() {
+            return priority;
+        }
+
+        public void setPriority(Integer priority) {
+            priority(priority);
+        }
+
         @Override
         public <T> TypedBuilder<T> responseTransformer(AsyncResponseTransformer<GetObjectResponse, T> responseTransformer) {
             return new DefaultTypedBuilder<T>()
                 .getObjectRequest(getObjectRequest)
                 .transferListeners(transferListeners)
+                .priority(priority)
                 .responseTransformer(responseTransformer);
         }
     }
@@ -306,6 +350,17 @@ public final class DownloadRequest<ReturnT>
          */
         TypedBuilder<T> addTransferListener(TransferListener transferListener);
 
+        /**
+         * The scheduling priority of this download when the transfer manager is configured with a
+         * {@link S3TransferManager.Builder#transferScheduler(TransferSchedulerConfiguration) transfer scheduler}. Queued
+         * transfers with a higher priority are admitted before queued transfers with a lower priority. Defaults to 0 when not
+         * set. This has no effect if no transfer scheduler is configured.
+         *
+         * @param priority the scheduling priority
+         * @return Returns a reference to this object so that method calls can be chained together.
+         */
+        TypedBuilder<T> priority(Integer priority);
+
         /**
          * Specifies the {@link AsyncResponseTransformer} that should be used for the download. The generic type used is
          * constrained by the {@link UntypedBuilder#responseTransformer(AsyncResponseTransformer)} that was previously used to
@@ -322,6 +377,7 @@ public final class DownloadRequest<ReturnT>
         private GetObjectRequest getObjectRequest;
         private List<TransferListener> transferListeners;
         private AsyncResponseTransformer<GetObjectResponse, T> responseTransformer;
+        private Integer priority;
 
         private DefaultTypedBuilder() {
         }
@@ -330,6 +386,7 @@ public final class DownloadRequest<ReturnT>
             this.getObjectRequest = request.getObjectRequest;
             this.responseTransformer = request.responseTransformer;
             this.transferListeners = request.transferListeners;
+            this.priority = request.priority;
         }
 
         @Override
@@ -367,6 +424,20 @@ public final class DownloadRequest<ReturnT>
             transferListeners(transferListeners);
         }
 
+        @Override
+        public TypedBuilder<T> priority(Integer priority) {
+            this.priority = priority;
+            return this;
+        }
+
+        public Integer getPriority() {
+            return priority;
+        }
+
+        public void setPriority(Integer priority) {
+            priority(priority);
+        }
+
         @Override
         public DownloadRequest<T> build() {
             return new DownloadRequest<>(this);
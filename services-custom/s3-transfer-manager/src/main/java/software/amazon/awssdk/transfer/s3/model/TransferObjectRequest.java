@@ -31,4 +31,14 @@ import software.amazon.awssdk.transfer.s3.progress.TransferListener;
 public interface TransferObjectRequest extends TransferRequest {
 
     List<TransferListener> transferListeners();
+
+    /**
+     * The scheduling priority of this transfer when the transfer manager is configured with a transfer scheduler. Higher values
+     * are admitted first. A null value is treated as a priority of 0.
+     *
+     * @return the scheduling priority, or null if not set.
+     */
+    default Integer priority() {
+        return null;
+    }
 }
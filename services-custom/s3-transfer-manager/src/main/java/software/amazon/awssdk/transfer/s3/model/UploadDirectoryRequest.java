@@ -45,6 +45,8 @@ public final class UploadDirectoryRequest
     private final String s3Delimiter;
     private final Boolean followSymbolicLinks;
     private final Integer maxDepth;
+    private final Integer fileTreeWalkParallelism;
+    private final Boolean smallFilesFirst;
     private final Consumer<UploadFileRequest.Builder> uploadFileRequestTransformer;
 
 
@@ -55,6 +57,8 @@ public final class UploadDirectoryRequest
         this.s3Delimiter = builder.s3Delimiter;
         this.followSymbolicLinks = builder.followSymbolicLinks;
         this.maxDepth = builder.maxDepth;
+        this.fileTreeWalkParallelism = Validate.isPositiveOrNull(builder.fileTreeWalkParallelism, "fileTreeWalkParallelism");
+        this.smallFilesFirst = builder.smallFilesFirst;
         this.uploadFileRequestTransformer = builder.uploadFileRequestTransformer;
     }
 
@@ -111,6 +115,22 @@ public final class UploadDirectoryRequest
         return maxDepth == null ? OptionalInt.empty() : OptionalInt.of(maxDepth);
     }
 
+    /**
+     * @return the number of threads used to traverse the file tree
+     * @see Builder#fileTreeWalkParallelism(Integer)
+     */
+    public OptionalInt fileTreeWalkParallelism() {
+        return fileTreeWalkParallelism == null ? OptionalInt.empty() : OptionalInt.of(fileTreeWalkParallelism);
+    }
+
+    /**
+     * @return whether smaller files are uploaded before larger ones
+     * @see Builder#smallFilesFirst(Boolean)
+     */
+    public Optional<Boolean> smallFilesFirst() {
+        return Optional.ofNullable(smallFilesFirst);
+    }
+
     /**
      * @return the upload request transformer if not null, otherwise no-op
      * @see Builder#uploadFileRequestTransformer(Consumer)
@@ -159,6 +179,12 @@ public final class UploadDirectoryRequest
         if (!Objects.equals(maxDepth, that.maxDepth)) {
             return false;
         }
+        if (!Objects.equals(fileTreeWalkParallelism, that.fileTreeWalkParallelism)) {
+            return false;
+        }
+        if (!Objects.equals(smallFilesFirst, that.smallFilesFirst)) {
+            return false;
+        }
         if (!Objects.equals(uploadFileRequestTransformer, that.uploadFileRequestTransformer)) {
             return false;
         }
@@ -173,6 +199,8 @@ public final class UploadDirectoryRequest
         result = 31 * result + (s3Delimiter != null ? s3Delimiter.hashCode() : 0);
         result = 31 * result + (followSymbolicLinks != null ? followSymbolicLinks.hashCode() : 0);
         result = 31 * result + (maxDepth != null ? maxDepth.hashCode() : 0);
+        result = 31 * result + (fileTreeWalkParallelism != null ? fileTreeWalkParallelism.hashCode() : 0);
+        result = 31 * result + (smallFilesFirst != null ? smallFilesFirst.hashCode() : 0);
         result = 31 * result + (uploadFileRequestTransformer != null ? uploadFileRequestTransformer.hashCode() : 0);
         return result;
     }
@@ -186,6 +214,8 @@ public final class UploadDirectoryRequest
                        .add("s3Delimiter", s3Delimiter)
                        .add("followSymbolicLinks", followSymbolicLinks)
                        .add("maxDepth", maxDepth)
+                       .add("fileTreeWalkParallelism", fileTreeWalkParallelism)
+                       .add("smallFilesFirst", smallFilesFirst)
                        .add("uploadFileRequestTransformer", uploadFileRequestTransformer)
                        .build();
     }
@@ -288,6 +318,33 @@ public final class UploadDirectoryRequest
          */
         Builder maxDepth(Integer maxDepth);
 
+        /**
+         * Specifies the number of threads used to traverse the file tree. When greater than 1, subdirectories are visited in
+         * parallel using a fork/join pool, and the attributes of each file are read once while its directory is listed. This
+         * reduces the time spent listing directories that contain a large number of files, at the cost of visiting files in an
+         * unspecified order. Must be positive.
+         *
+         * <p>
+         * Default to 1, which traverses the file tree sequentially on the transfer manager executor.
+         *
+         * @param fileTreeWalkParallelism the number of threads used to traverse the file tree
+         * @return This builder for method chaining.
+         */
+        Builder fileTreeWalkParallelism(Integer fileTreeWalkParallelism);
+
+        /**
+         * Specifies whether smaller files should be uploaded before larger ones. Files are ordered by size within consecutive
+         * windows of 10,000 files, in the order they are found, so that memory use stays bounded for very large directories.
+         * Uploading small files first keeps many requests in flight while the file tree is still being traversed.
+         *
+         * <p>
+         * Default to false
+         *
+         * @param smallFilesFirst whether to upload smaller files first
+         * @return This builder for method chaining.
+         */
+        Builder smallFilesFirst(Boolean smallFilesFirst);
+
         /**
          * Specifies a function used to transform the {@link UploadFileRequest}s generated by this {@link UploadDirectoryRequest}.
          * The provided function is called once for each file that is uploaded, allowing you to modify the paths resolved by
@@ -346,6 +403,8 @@ public final class UploadDirectoryRequest
         private String s3Delimiter;
         private Boolean followSymbolicLinks;
         private Integer maxDepth;
+        private Integer fileTreeWalkParallelism;
+        private Boolean smallFilesFirst;
         private Consumer<UploadFileRequest.Builder> uploadFileRequestTransformer;
 
         private DefaultBuilder() {
@@ -358,6 +417,8 @@ public final class UploadDirectoryRequest
             this.s3Delimiter = request.s3Delimiter;
             this.followSymbolicLinks = request.followSymbolicLinks;
             this.maxDepth = request.maxDepth;
+            this.fileTreeWalkParallelism = request.fileTreeWalkParallelism;
+            this.smallFilesFirst = request.smallFilesFirst;
             this.uploadFileRequestTransformer = request.uploadFileRequestTransformer;
         }
 
@@ -445,6 +506,34 @@ public final class UploadDirectoryRequest
             return maxDepth;
         }
 
+        @Override
+        public Builder fileTreeWalkParallelism(Integer fileTreeWalkParallelism) {
+            this.fileTreeWalkParallelism = fileTreeWalkParallelism;
+            return this;
+        }
+
+        public void setFileTreeWalkParallelism(Integer fileTreeWalkParallelism) {
+            fileTreeWalkParallelism(fileTreeWalkParallelism);
+        }
+
+        public Integer getFileTreeWalkParallelism() {
+            return fileTreeWalkParallelism;
+        }
+
+        @Override
+        public Builder smallFilesFirst(Boolean smallFilesFirst) {
+            this.smallFilesFirst = smallFilesFirst;
+            return this;
+        }
+
+        public void setSmallFilesFirst(Boolean smallFilesFirst) {
+            smallFilesFirst(smallFilesFirst);
+        }
+
+        public Boolean getSmallFilesFirst() {
+            return smallFilesFirst;
+        }
+
         @Override
         public Builder uploadFileRequestTransformer(Consumer<UploadFileRequest.Builder> uploadFileRequestTransformer) {
             this.uploadFileRequestTransformer = uploadFileRequestTransformer;
@@ -28,6 +28,7 @@ import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.config.TransferSchedulerConfiguration;
 import software.amazon.awssdk.transfer.s3.progress.TransferListener;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.Validate;
@@ -48,11 +49,13 @@ public final class UploadFileRequest
     private final PutObjectRequest putObjectRequest;
     private final Path source;
     private final List<TransferListener> listeners;
+    private final Integer priority;
 
     private UploadFileRequest(DefaultBuilder builder) {
         this.putObjectRequest = paramNotNull(builder.putObjectRequest, "putObjectRequest");
         this.source = paramNotNull(builder.source, "source");
         this.listeners = builder.listeners;
+        this.priority = builder.priority;
     }
 
     /**
@@ -79,6 +82,15 @@ public final class UploadFileRequest
         return listeners;
     }
 
+    /**
+     * @return the scheduling priority of this upload, or null if not set.
+     * @see Builder#priority(Integer)
+     */
+    @Override
+    public Integer priority() {
+        return priority;
+    }
+
     /**
      * Creates a builder that can be used to create a {@link UploadFileRequest}.
      *
@@ -114,7 +126,10 @@ public final class UploadFileRequest
         if (!Objects.equals(source, that.source)) {
             return false;
         }
-        return Objects.equals(listeners, that.listeners);
+        if (!Objects.equals(listeners, that.listeners)) {
+            return false;
+        }
+        return Objects.equals(priority, that.priority);
     }
 
     @Override
@@ -122,6 +137,7 @@ public final class UploadFileRequest
         int result = putObjectRequest != null ? putObjectRequest.hashCode() : 0;
         result = 31 * result + (source != null ? source.hashCode() : 0);
         result = 31 * result + (listeners != null ? listeners.hashCode() : 0);
+        result = 31 * result + (priority != null ? priority.hashCode() : 0);
         return result;
     }
 
@@ -131,6 +147,7 @@ public final class UploadFileRequest
                        .add("putObjectRequest", putObjectRequest)
                        .add("source", source)
                        .add("configuration", listeners)
+                       .add("priority", priority)
                        .build();
     }
 
@@ -210,12 +227,24 @@ public final class UploadFileRequest
          */
         Builder addTransferListener(TransferListener transferListener);
 
+        /**
+         * The scheduling priority of this upload when the transfer manager is configured with a
+         * {@link S3TransferManager.Builder#transferScheduler(TransferSchedulerConfiguration) transfer scheduler}. Queued
+         * transfers with a higher priority are admitted before queued transfers with a lower priority. Defaults to 0 when not
+         * set. This has no effect if no transfer scheduler is configured.
+         *
+         * @param priority the scheduling priority
+         * @return Returns a reference to this object so that method calls can be chained together.
+         */
+        Builder priority(Integer priority);
+
     }
 
     private static class DefaultBuilder implements Builder {
         private PutObjectRequest putObjectRequest;
         private Path source;
         private List<TransferListener> listeners;
+        private Integer priority;
 
         private DefaultBuilder() {
         }
@@ -224,6 +253,7 @@ public final class UploadFileRequest
             this.source = uploadFileRequest.source;
             this.putObjectRequest = uploadFileRequest.putObjectRequest;
             this.listeners = uploadFileRequest.listeners;
+            this.priority = uploadFileRequest.priority;
         }
 
         @Override
@@ -277,6 +307,20 @@ public final class UploadFileRequest
             transferListeners(listeners);
         }
 
+        @Override
+        public Builder priority(Integer priority) {
+            this.priority = priority;
+            return this;
+        }
+
+        public Integer getPriority() {
+            return priority;
+        }
+
+        public void setPriority(Integer priority) {
+            priority(priority);
+        }
+
         @Override
         public UploadFileRequest build() {
             return new UploadFileRequest(this);
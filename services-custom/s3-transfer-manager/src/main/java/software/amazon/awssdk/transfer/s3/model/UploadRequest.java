@@ -27,6 +27,7 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.config.TransferSchedulerConfiguration;
 import software.amazon.awssdk.transfer.s3.progress.TransferListener;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.Validate;
@@ -47,11 +48,13 @@ public final class UploadRequest
     private final PutObjectRequest putObjectRequest;
     private final AsyncRequestBody requestBody;
     private final List<TransferListener> listeners;
+    private final Integer priority;
 
     private UploadRequest(DefaultBuilder builder) {
         this.putObjectRequest = paramNotNull(builder.putObjectRequest, "putObjectRequest");
         this.requestBody = paramNotNull(builder.requestBody, "requestBody");
         this.listeners = builder.listeners;
+        this.priority = builder.priority;
     }
 
     /**
@@ -78,6 +81,15 @@ public final class UploadRequest
         return listeners;
     }
 
+    /**
+     * @return the scheduling priority of this upload, or null if not set.
+     * @see Builder#priority(Integer)
+     */
+    @Override
+    public Integer priority() {
+        return priority;
+    }
+
     /**
      * Creates a builder that can be used to create a {@link UploadRequest}.
      *
@@ -113,7 +125,10 @@ public final class UploadRequest
         if (!Objects.equals(requestBody, that.requestBody)) {
             return false;
         }
-        return Objects.equals(listeners, that.listeners);
+        if (!Objects.equals(listeners, that.listeners)) {
+            return false;
+        }
+        return Objects.equals(priority, that.priority);
     }
 
     @Override
@@ -121,6 +136,7 @@ public final class UploadRequest
         int result = putObjectRequest != null ? putObjectRequest.hashCode() : 0;
         result = 31 * result + (requestBody != null ? requestBody.hashCode() : 0);
         result = 31 * result + (listeners != null ? listeners.hashCode() : 0);
+        result = 31 * result + (priority != null ? priority.hashCode() : 0);
         return result;
     }
 
@@ -130,6 +146,7 @@ public final class UploadRequest
                        .add("putObjectRequest", putObjectRequest)
                        .add("requestBody", requestBody)
                        .add("configuration", listeners)
+                       .add("priority", priority)
                        .build();
     }
 
@@ -196,6 +213,17 @@ public final class UploadRequest
          */
         Builder addTransferListener(TransferListener transferListener);
 
+        /**
+         * The scheduling priority of this upload when the transfer manager is configured with a
+         * {@link S3TransferManager.Builder#transferScheduler(TransferSchedulerConfiguration) transfer scheduler}. Queued
+         * transfers with a higher priority are admitted before queued transfers with a lower priority. Defaults to 0 when not
+         * set. This has no effect if no transfer scheduler is configured.
+         *
+         * @param priority the scheduling priority
+         * @return Returns a reference to this object so that method calls can be chained together.
+         */
+        Builder priority(Integer priority);
+
         /**
          * @return The built request.
          */
@@ -207,6 +235,7 @@ public final class UploadRequest
         private PutObjectRequest putObjectRequest;
         private AsyncRequestBody requestBody;
         private List<TransferListener> listeners;
+        private Integer priority;
 
         private DefaultBuilder() {
         }
@@ -215,6 +244,7 @@ public final class UploadRequest
             this.putObjectRequest = uploadRequest.putObjectRequest;
             this.requestBody = uploadRequest.requestBody;
             this.listeners = uploadRequest.listeners;
+            this.priority = uploadRequest.priority;
         }
 
         @Override
@@ -268,6 +298,20 @@ public final class UploadRequest
             transferListeners(listeners);
         }
 
+        @Override
+        public Builder priority(Integer priority) {
+            this.priority = priority;
+            return this;
+        }
+
+        public Integer getPriority() {
+            return priority;
+        }
+
+        public void setPriority(Integer priority) {
+            priority(priority);
+        }
+
         @Override
         public UploadRequest build() {
             return new UploadRequest(this);
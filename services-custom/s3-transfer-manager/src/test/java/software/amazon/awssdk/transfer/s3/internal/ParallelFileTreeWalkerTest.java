@@ -0,0 +1,141 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ParallelFileTreeWalkerTest {
+    private FileSystem jimfs;
+    private Path root;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        jimfs = Jimfs.newFileSystem(Configuration.unix());
+        root = jimfs.getPath("/root");
+        for (int i = 0; i < 5; i++) {
+            Path level1 = Files.createDirectories(root.resolve("dir" + i));
+            Files.write(root.resolve("file" + i), new byte[i]);
+            for (int j = 0; j < 5; j++) {
+                Path level2 = Files.createDirectories(level1.resolve("dir" + j));
+                Files.write(level1.resolve("file" + j), new byte[j]);
+                for (int k = 0; k < 5; k++) {
+                    Files.write(level2.resolve("file" + k), new byte[k]);
+                }
+            }
+        }
+        Files.createDirectories(root.resolve("empty"));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        jimfs.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3, Integer.MAX_VALUE})
+    void walk_shouldVisitSameFilesAsFilesWalk(int maxDepth) throws IOException {
+        List<Path> expected;
+        try (Stream<Path> stream = Files.walk(root, maxDepth)) {
+            expected = stream.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+
+        try (Stream<SourceFile> stream = ParallelFileTreeWalker.walk(root, maxDepth, false, 4)) {
+            assertThat(stream.map(SourceFile::path)).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    @Test
+    void walk_shouldPrefetchFileSizes() throws IOException {
+        try (Stream<SourceFile> stream = ParallelFileTreeWalker.walk(root, 1, false, 2)) {
+            stream.forEach(f -> assertThat(f.size()).isEqualTo(Long.parseLong(f.path().getFileName().toString().substring(4))));
+        }
+    }
+
+    @Test
+    void walk_queueSmallerThanTree_shouldVisitAllFiles() {
+        try (Stream<SourceFile> stream = ParallelFileTreeWalker.walk(root, Integer.MAX_VALUE, false, 4, 2)) {
+            assertThat(stream.count()).isEqualTo(5 + 25 + 125);
+        }
+    }
+
+    @Test
+    void close_beforeWalkCompletes_shouldStopWalk() {
+        Stream<SourceFile> stream = ParallelFileTreeWalker.walk(root, Integer.MAX_VALUE, false, 2, 1);
+        Iterator<SourceFile> iterator = stream.iterator();
+        assertThat(iterator.hasNext()).isTrue();
+        iterator.next();
+
+        stream.close();
+    }
+
+    @Test
+    void walk_followSymbolicLinks_shouldVisitLinkedDirectories(@TempDir Path tempDir) throws IOException {
+        Path source = Files.createDirectories(tempDir.resolve("source"));
+        Path target = Files.createDirectories(tempDir.resolve("target"));
+        Files.write(source.resolve("a.txt"), new byte[1]);
+        Files.write(target.resolve("b.txt"), new byte[2]);
+        Files.createSymbolicLink(source.resolve("link"), target);
+        Files.createSymbolicLink(source.resolve("broken"), tempDir.resolve("missing"));
+
+        try (Stream<SourceFile> stream = ParallelFileTreeWalker.walk(source, Integer.MAX_VALUE, true, 2)) {
+            assertThat(stream.map(f -> source.relativize(f.path()).toString()))
+                .containsExactlyInAnyOrder("a.txt", "link/b.txt");
+        }
+
+        try (Stream<SourceFile> stream = ParallelFileTreeWalker.walk(source, Integer.MAX_VALUE, false, 2)) {
+            assertThat(stream.map(f -> source.relativize(f.path()).toString())).containsExactly("a.txt");
+        }
+    }
+
+    @Test
+    void walk_followSymbolicLinksWithLoop_shouldFailLikeFilesWalk(@TempDir Path tempDir) throws IOException {
+        Path source = Files.createDirectories(tempDir.resolve("source").resolve("nested"));
+        Files.createSymbolicLink(source.resolve("loop"), tempDir.resolve("source"));
+
+        assertThatThrownBy(() -> {
+            try (Stream<Path> stream = Files.walk(tempDir.resolve("source"), FileVisitOption.FOLLOW_LINKS)) {
+                stream.count();
+            }
+        }).isInstanceOf(UncheckedIOException.class).hasCauseInstanceOf(FileSystemLoopException.class);
+
+        assertThatThrownBy(() -> {
+            try (Stream<SourceFile> stream = ParallelFileTreeWalker.walk(tempDir.resolve("source"), Integer.MAX_VALUE, true, 2)) {
+                stream.count();
+            }
+        }).isInstanceOf(UncheckedIOException.class).hasCauseInstanceOf(FileSystemLoopException.class);
+    }
+}
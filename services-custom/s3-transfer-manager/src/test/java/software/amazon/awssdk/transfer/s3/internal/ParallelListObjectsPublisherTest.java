@@ -0,0 +1,231 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.model.CommonPrefix;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+
+class ParallelListObjectsPublisherTest {
+    private static final ListObjectsV2Request REQUEST = ListObjectsV2Request.builder().bucket("bucket").build();
+    private static final List<String> KEYS = keys();
+
+    private static ExecutorService executor;
+
+    @BeforeAll
+    static void setup() {
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterAll
+    static void teardown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void noDelimiter_shouldDiscoverTopLevelPrefixesAndListThemConcurrently() {
+        FakeBucket bucket = new FakeBucket(KEYS);
+
+        List<String> listed = list(bucket, REQUEST, 4, Collections.emptyList());
+
+        assertThat(listed).containsExactlyInAnyOrderElementsOf(KEYS);
+        assertThat(bucket.requests).anySatisfy(r -> assertThat(r.delimiter()).isEqualTo("/"));
+        assertThat(bucket.requests).filteredOn(r -> r.prefix() != null).allSatisfy(r -> assertThat(r.delimiter()).isNull());
+        assertThat(bucket.maxInFlight.get()).isGreaterThan(1).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    void delimiter_shouldListCommonPrefixesRecursively() {
+        FakeBucket bucket = new FakeBucket(KEYS);
+
+        List<String> listed = list(bucket, REQUEST.toBuilder().delimiter("/").build(), 3, Collections.emptyList());
+
+        // Like a sequential listing, the virtual directory object of a listed prefix is skipped
+        assertThat(listed).containsExactlyInAnyOrderElementsOf(
+            KEYS.stream().filter(k -> !k.equals("docs/")).collect(Collectors.toList()));
+        assertThat(bucket.requests).extracting(ListObjectsV2Request::prefix).contains("photos/2022/");
+        assertThat(bucket.maxInFlight.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void shardBoundaries_shouldListEachRangeOnce() {
+        FakeBucket bucket = new FakeBucket(KEYS);
+
+        List<String> listed = list(bucket, REQUEST, 3, Arrays.asList("docs/3", "photos/2022/b", "photos/2023"));
+
+        assertThat(listed).containsExactlyInAnyOrderElementsOf(KEYS);
+        assertThat(bucket.requests).extracting(ListObjectsV2Request::startAfter)
+                                   .contains("docs/3", "photos/2022/b", "photos/2023");
+    }
+
+    @Test
+    void shardBoundariesWithoutConcurrency_shouldListRangesSequentially() {
+        FakeBucket bucket = new FakeBucket(KEYS);
+
+        List<String> listed = list(bucket, REQUEST.toBuilder().startAfter("docs/5").build(), 1,
+                                   Arrays.asList("docs/3", "photos/2022/b"));
+
+        assertThat(listed).containsExactlyInAnyOrderElementsOf(
+            KEYS.stream().filter(k -> ParallelListObjectsPublisher.compareKeys(k, "docs/5") > 0).collect(Collectors.toList()));
+        assertThat(bucket.maxInFlight.get()).isEqualTo(1);
+        assertThat(bucket.requests).allSatisfy(r -> assertThat(r.delimiter()).isNull());
+    }
+
+    @Test
+    void shardBoundariesNotAscending_shouldThrow() {
+        assertThatThrownBy(() -> new ParallelListObjectsPublisher(new FakeBucket(KEYS), REQUEST, 2,
+                                                                  Arrays.asList("b", "a")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void listFails_shouldFailPublisher() {
+        Function<ListObjectsV2Request, CompletableFuture<ListObjectsV2Response>> failing =
+            r -> CompletableFutureUtils.failedFuture(SdkClientException.create("boom"));
+
+        CompletableFuture<Void> done = new ParallelListObjectsPublisher(failing, REQUEST, 2, Collections.emptyList())
+            .subscribe(o -> { });
+
+        assertThatThrownBy(() -> done.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("boom");
+    }
+
+    @Test
+    void compareKeys_shouldOrderByCodePoint() {
+        assertThat(ParallelListObjectsPublisher.compareKeys("a", "b")).isNegative();
+        assertThat(ParallelListObjectsPublisher.compareKeys("ab", "a")).isPositive();
+        assertThat(ParallelListObjectsPublisher.compareKeys("a", "a")).isZero();
+        // U+1F600 is encoded as a surrogate pair, which String.compareTo orders before U+FFFD
+        assertThat(ParallelListObjectsPublisher.compareKeys("\uD83D\uDE00", "\uFFFD")).isPositive();
+    }
+
+    private static List<String> list(FakeBucket bucket, ListObjectsV2Request request, int maxConcurrency,
+                                     List<String> shardBoundaries) {
+        List<String> listed = Collections.synchronizedList(new ArrayList<>());
+        new ParallelListObjectsPublisher(bucket, request, maxConcurrency, shardBoundaries)
+            .subscribe(o -> listed.add(o.key()))
+            .join();
+        return listed;
+    }
+
+    private static List<String> keys() {
+        List<String> keys = new ArrayList<>(Arrays.asList("a.txt", "b.txt", "docs/"));
+        IntStream.range(0, 10).forEach(i -> keys.add("docs/" + i));
+        IntStream.range(0, 8).forEach(i -> keys.add("photos/2022/" + (char) ('a' + i)));
+        IntStream.range(0, 5).forEach(i -> keys.add("photos/2023/" + i));
+        IntStream.range(0, 4).forEach(i -> keys.add("videos/" + i));
+        keys.sort(ParallelListObjectsPublisher::compareKeys);
+        return keys;
+    }
+
+    /**
+     * Lists keys like S3 does, asynchronously, in pages of at most 3 entries.
+     */
+    private static final class FakeBucket implements Function<ListObjectsV2Request, CompletableFuture<ListObjectsV2Response>> {
+        private static final int PAGE_SIZE = 3;
+
+        private final List<String> keys;
+        private final List<ListObjectsV2Request> requests = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        private FakeBucket(List<String> keys) {
+            this.keys = keys;
+        }
+
+        @Override
+        public CompletableFuture<ListObjectsV2Response> apply(ListObjectsV2Request request) {
+            requests.add(request);
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return CompletableFuture.supplyAsync(() -> {
+                sleep();
+                inFlight.decrementAndGet();
+                return list(request);
+            }, executor);
+        }
+
+        private ListObjectsV2Response list(ListObjectsV2Request request) {
+            String prefix = request.prefix() == null ? "" : request.prefix();
+            String after = request.continuationToken() != null ? request.continuationToken() : request.startAfter();
+            List<S3Object> contents = new ArrayList<>();
+            Set<String> commonPrefixes = new LinkedHashSet<>();
+            String last = null;
+            boolean truncated = false;
+            for (String key : keys) {
+                if ((after != null && ParallelListObjectsPublisher.compareKeys(key, after) <= 0) || !key.startsWith(prefix)) {
+                    continue;
+                }
+                String commonPrefix = null;
+                if (request.delimiter() != null) {
+                    int index = key.indexOf(request.delimiter(), prefix.length());
+                    commonPrefix = index >= 0 ? key.substring(0, index + request.delimiter().length()) : null;
+                }
+                if (commonPrefix != null && commonPrefixes.contains(commonPrefix)) {
+                    last = key;
+                    continue;
+                }
+                if (contents.size() + commonPrefixes.size() == PAGE_SIZE) {
+                    truncated = true;
+                    break;
+                }
+                if (commonPrefix != null) {
+                    commonPrefixes.add(commonPrefix);
+                } else {
+                    contents.add(S3Object.builder().key(key).build());
+                }
+                last = key;
+            }
+            return ListObjectsV2Response.builder()
+                                        .prefix(request.prefix())
+                                        .contents(contents)
+                                        .commonPrefixes(commonPrefixes.stream()
+                                                                      .map(p -> CommonPrefix.builder().prefix(p).build())
+                                                                      .collect(Collectors.toList()))
+                                        .nextContinuationToken(truncated ? last : null)
+                                        .build();
+        }
+
+        private static void sleep() {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -30,6 +30,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import org.mockito.ArgumentCaptor;
 import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
@@ -49,6 +50,7 @@ import software.amazon.awssdk.transfer.s3.model.CopyRequest;
 import software.amazon.awssdk.transfer.s3.model.DownloadDirectoryRequest;
 import software.amazon.awssdk.transfer.s3.model.DownloadFileRequest;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.config.TransferSchedulerConfiguration;
 import software.amazon.awssdk.transfer.s3.model.DownloadRequest;
 import software.amazon.awssdk.transfer.s3.model.UploadDirectoryRequest;
 import software.amazon.awssdk.transfer.s3.model.UploadFileRequest;
@@ -126,6 +128,66 @@ class S3TransferManagerTest {
         assertThat(completedCopy.response()).isEqualTo(response);
     }
 
+    @Test
+    void upload_withTransferScheduler_startsQueuedUploadWhenEarlierOneCompletes() {
+        when(configuration.option(TransferConfigurationOption.TRANSFER_SCHEDULER))
+            .thenReturn(TransferSchedulerConfiguration.builder().maxTransfersInFlight(1).build());
+        S3TransferManager scheduledTm = new GenericS3TransferManager(mockS3Crt, uploadDirectoryHelper, configuration,
+                                                                     downloadDirectoryHelper);
+        CompletableFuture<PutObjectResponse> firstFuture = new CompletableFuture<>();
+        when(mockS3Crt.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+            .thenReturn(firstFuture)
+            .thenReturn(CompletableFuture.completedFuture(PutObjectResponse.builder().build()));
+
+        CompletableFuture<CompletedUpload> first =
+            scheduledTm.upload(u -> u.putObjectRequest(p -> p.bucket("bucket").key("key1"))
+                                     .requestBody(AsyncRequestBody.fromString("foo")))
+                       .completionFuture();
+        CompletableFuture<CompletedUpload> second =
+            scheduledTm.upload(u -> u.putObjectRequest(p -> p.bucket("bucket").key("key2"))
+                                     .requestBody(AsyncRequestBody.fromString("bar")))
+                       .completionFuture();
+
+        verify(mockS3Crt, times(1)).putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class));
+        assertThat(second).isNotDone();
+
+        firstFuture.complete(PutObjectResponse.builder().build());
+
+        verify(mockS3Crt, times(2)).putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class));
+        assertThat(first).isCompleted();
+        assertThat(second).isCompleted();
+    }
+
+    @Test
+    void download_withTransferScheduler_releasesBytesBeyondObjectSizeOnResponse() {
+        when(configuration.option(TransferConfigurationOption.TRANSFER_SCHEDULER))
+            .thenReturn(TransferSchedulerConfiguration.builder()
+                                                      .maxBytesInFlight(TransferScheduler.TRANSFER_WINDOW_IN_BYTES + 2)
+                                                      .build());
+        S3TransferManager scheduledTm = new GenericS3TransferManager(mockS3Crt, uploadDirectoryHelper, configuration,
+                                                                     downloadDirectoryHelper);
+        ArgumentCaptor<AsyncResponseTransformer<GetObjectResponse, ResponseBytes<GetObjectResponse>>> transformer =
+            ArgumentCaptor.forClass(AsyncResponseTransformer.class);
+        when(mockS3Crt.getObject(any(GetObjectRequest.class), transformer.capture())).thenReturn(new CompletableFuture<>());
+        when(mockS3Crt.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+            .thenReturn(new CompletableFuture<>());
+
+        scheduledTm.download(DownloadRequest.builder()
+                                            .getObjectRequest(g -> g.bucket("bucket").key("key"))
+                                            .responseTransformer(AsyncResponseTransformer.toBytes())
+                                            .build());
+        scheduledTm.upload(u -> u.putObjectRequest(p -> p.bucket("bucket").key("key2"))
+                                 .requestBody(AsyncRequestBody.fromString("bar")));
+
+        verify(mockS3Crt, times(0)).putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class));
+
+        transformer.getValue().prepare();
+        transformer.getValue().onResponse(GetObjectResponse.builder().contentLength(3L).build());
+        transformer.getValue().onStream(AsyncRequestBody.fromString("foo"));
+
+        verify(mockS3Crt, times(1)).putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class));
+    }
+
     @Test
     void uploadFile_cancel_shouldForwardCancellation() {
         CompletableFuture<PutObjectResponse> s3CrtFuture = new CompletableFuture<>();
@@ -0,0 +1,350 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.transfer.s3.TransferManagerMetric;
+import software.amazon.awssdk.transfer.s3.config.TransferSchedulerConfiguration;
+import software.amazon.awssdk.transfer.s3.config.TransferSchedulingPolicy;
+
+class TransferSchedulerTest {
+
+    @Test
+    void noConfiguration_startsTransferImmediately() {
+        TransferScheduler scheduler = TransferScheduler.create(null);
+        CompletableFuture<String> transferFuture = new CompletableFuture<>();
+
+        assertThat(scheduler.schedule(10L, null, () -> transferFuture)).isSameAs(transferFuture);
+    }
+
+    @Test
+    void maxTransfersInFlight_queuesTransfersUntilEarlierOnesComplete() {
+        TransferScheduler scheduler = TransferScheduler.create(TransferSchedulerConfiguration.builder()
+                                                                                             .maxTransfersInFlight(2)
+                                                                                             .build());
+        List<String> started = new ArrayList<>();
+        List<CompletableFuture<String>> transfers = new ArrayList<>();
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            CompletableFuture<String> transfer = new CompletableFuture<>();
+            transfers.add(transfer);
+            results.add(scheduler.schedule(1L, null, recording(started, "t" + i, transfer)));
+        }
+
+        assertThat(started).containsExactly("t0", "t1");
+        assertThat(scheduler.queuedTransfers()).isEqualTo(1);
+
+        transfers.get(0).complete("r0");
+
+        assertThat(results.get(0)).isCompletedWithValue("r0");
+        assertThat(started).containsExactly("t0", "t1", "t2");
+        assertThat(scheduler.transfersInFlight()).isEqualTo(2);
+        assertThat(scheduler.queuedTransfers()).isZero();
+    }
+
+    @Test
+    void maxBytesInFlight_admitsHeadOfQueueOnlyWhenItFits() {
+        TransferScheduler scheduler = TransferScheduler.create(TransferSchedulerConfiguration.builder()
+                                                                                             .maxBytesInFlight(100L)
+                                                                                             .build());
+        List<String> started = new ArrayList<>();
+        CompletableFuture<String> first = new CompletableFuture<>();
+        scheduler.schedule(60L, null, recording(started, "first", first));
+        scheduler.schedule(60L, null, recording(started, "second", new CompletableFuture<>()));
+        scheduler.schedule(10L, null, recording(started, "third", new CompletableFuture<>()));
+
+        assertThat(started).containsExactly("first");
+        assertThat(scheduler.bytesInFlight()).isEqualTo(60L);
+
+        first.complete("done");
+
+        assertThat(started).containsExactly("first", "second", "third");
+        assertThat(scheduler.bytesInFlight()).isEqualTo(70L);
+    }
+
+    @Test
+    void transferLargerThanMaxBytesInFlight_isAdmittedWhenNothingElseIsInFlight() {
+        TransferScheduler scheduler = TransferScheduler.create(TransferSchedulerConfiguration.builder()
+                                                                                             .maxBytesInFlight(100L)
+                                                                                             .build());
+        List<String> started = new ArrayList<>();
+        CompletableFuture<String> small = new CompletableFuture<>();
+        scheduler.schedule(10L, null, recording(started, "small", small));
+        scheduler.schedule(1000L, null, recording(started, "large", new CompletableFuture<>()));
+
+        assertThat(started).containsExactly("small");
+
+        small.complete("done");
+
+        assertThat(started).containsExactly("small", "large");
+        assertThat(scheduler.bytesInFlight()).isEqualTo(100L);
+    }
+
+    @Test
+    void unknownSize_accountsForTransferWindow() {
+        TransferScheduler scheduler = TransferScheduler.create(TransferSchedulerConfiguration.builder()
+                                                                                             .maxBytesInFlight(1024L * 1024 * 1024)
+                                                                                             .build());
+        scheduler.schedule(null, null, CompletableFuture::new);
+
+        assertThat(scheduler.bytesInFlight()).isEqualTo(TransferScheduler.TRANSFER_WINDOW_IN_BYTES);
+    }
+
+    @Test
+    void transfersLargerThanTransferWindow_accountForTransferWindowOnly() {
+        long window = TransferScheduler.TRANSFER_WINDOW_IN_BYTES;
+        TransferScheduler scheduler = TransferScheduler.create(TransferSchedulerConfiguration.builder()
+                                                                                             .maxBytesInFlight(2 * window)
+                                                                                             .build());
+        List<String> started = new ArrayList<>();
+        scheduler.schedule(10 * window, null, recording(started, "first", new CompletableFuture<>()));
+        scheduler.schedule(10 * window, null, recording(started, "second", new CompletableFuture<>()));
+
+        assertThat(started).containsExactly("first", "second");
+        assertThat(scheduler.bytesInFlight()).isEqualTo(2 * window);
+    }
+
+    @Test
+    void scheduleWithUnknownSize_reportedSize_releasesBytesBeyondIt() {
+        long window = TransferScheduler.TRANSFER_WINDOW_IN_BYTES;
+        TransferScheduler scheduler = TransferScheduler.create(TransferSchedulerConfiguration.builder()
+                                                                                             .maxBytesInFlight(window + 10)
+                                                                                             .build());
+        List<String> started = new ArrayList<>();
+        List<LongConsumer> sizeCallbacks = new ArrayList<>();
+        scheduler.scheduleWithUnknownSize(null, sizeKnown -> {
+            sizeCallbacks.add(sizeKnown);
+            return new CompletableFuture<String>();
+        });
+        scheduler.schedule(20L, null, recording(started, "queued", new CompletableFuture<>()));
+
+        assertThat(started).isEmpty();
+        assertThat(scheduler.bytesInFlight()).isEqualTo(window);
+
+        sizeCallbacks.get(0).accept(5L);
+
+        assertThat(started).containsExactly("queued");
+        assertThat(scheduler.bytesInFlight()).isEqualTo(25L);
+
+        sizeCallbacks.get(0).accept(window);
+
+        assertThat(scheduler.bytesInFlight()).isEqualTo(25L);
+    }
+
+    @Test
+    void smallestFirst_largeTransferOvertakenByMaxOvertakes_isAdmittedNext() {
+        TransferScheduler scheduler = TransferScheduler.create(
+            TransferSchedulerConfiguration.builder()
+                                          .maxTransfersInFlight(1)
+                                          .schedulingPolicy(TransferSchedulingPolicy.SMALLEST_FIRST)
+                                          .build());
+        List<String> started = new ArrayList<>();
+        List<CompletableFuture<String>> running = new ArrayList<>();
+        scheduler.schedule(1L, null, tracking(started, running, "blocker"));
+        scheduler.schedule(100L, null, tracking(started, running, "large"));
+
+        for (int i = 0; i < TransferScheduler.MAX_OVERTAKES + 4; i++) {
+            scheduler.schedule(1L, null, tracking(started, running, "small" + i));
+            running.get(running.size() - 1).complete("done");
+        }
+
+        assertThat(started.indexOf("large")).isEqualTo(TransferScheduler.MAX_OVERTAKES + 1);
+        assertThat(started.subList(1, TransferScheduler.MAX_OVERTAKES + 1)).allMatch(name -> name.startsWith("small"));
+    }
+
+    @Test
+    void smallestFirst_admitsSmallestQueuedTransferFirst() {
+        TransferScheduler scheduler = TransferScheduler.create(
+            TransferSchedulerConfiguration.builder()
+                                          .maxTransfersInFlight(1)
+                                          .schedulingPolicy(TransferSchedulingPolicy.SMALLEST_FIRST)
+                                          .build());
+        List<String> started = new ArrayList<>();
+        List<CompletableFuture<String>> transfers = new ArrayList<>();
+        long[] sizes = {50, 30, 10, 20};
+        for (long size : sizes) {
+            CompletableFuture<String> transfer = new CompletableFuture<>();
+            transfers.add(transfer);
+            scheduler.schedule(size, null, recording(started, String.valueOf(size), transfer));
+        }
+
+        transfers.forEach(t -> t.complete("done"));
+
+        assertThat(started).containsExactly("50", "10", "20", "30");
+    }
+
+    @Test
+    void priority_admitsHigherPriorityFirstRegardlessOfPolicy() {
+        TransferScheduler scheduler = TransferScheduler.create(
+            TransferSchedulerConfiguration.builder()
+                                          .maxTransfersInFlight(1)
+                                          .schedulingPolicy(TransferSchedulingPolicy.SMALLEST_FIRST)
+                                          .build());
+        List<String> started = new ArrayList<>();
+        List<CompletableFuture<String>> transfers = new ArrayList<>();
+        Object[][] scheduled = {{"blocker", 1L, null}, {"small", 1L, null}, {"large", 100L, 5}, {"low", 1L, -1}};
+        for (Object[] s : scheduled) {
+            CompletableFuture<String> transfer = new CompletableFuture<>();
+            transfers.add(transfer);
+            scheduler.schedule((Long) s[1], (Integer) s[2], recording(started, (String) s[0], transfer));
+        }
+
+        transfers.forEach(t -> t.complete("done"));
+
+        assertThat(started).containsExactly("blocker", "large", "small", "low");
+    }
+
+    @Test
+    void cancelQueuedTransfer_removesItFromQueueWithoutStartingIt() {
+        TransferScheduler scheduler = TransferScheduler.create(TransferSchedulerConfiguration.builder()
+                                                                                             .maxTransfersInFlight(1)
+                                                                                             .build());
+        List<String> started = new ArrayList<>();
+        CompletableFuture<String> first = new CompletableFuture<>();
+        scheduler.schedule(1L, null, recording(started, "first", first));
+        CompletableFuture<String> queued = scheduler.schedule(1L, null, recording(started, "queued", new CompletableFuture<>()));
+
+        queued.cancel(true);
+        first.complete("done");
+
+        assertThat(started).containsExactly("first");
+        assertThat(scheduler.queuedTransfers()).isZero();
+        assertThat(scheduler.transfersInFlight()).isZero();
+    }
+
+    @Test
+    void cancelStartedTransfer_cancelsTransferAndReleasesIt() {
+        TransferScheduler scheduler = TransferScheduler.create(TransferSchedulerConfiguration.builder()
+                                                                                             .maxTransfersInFlight(1)
+                                                                                             .build());
+        CompletableFuture<String> transfer = new CompletableFuture<>();
+        CompletableFuture<String> result = scheduler.schedule(1L, null, () -> transfer);
+
+        result.cancel(true);
+
+        assertThat(transfer).isCancelled();
+        assertThat(scheduler.transfersInFlight()).isZero();
+    }
+
+    @Test
+    void transferFailsToStart_releasesTransferAndFailsResult() {
+        TransferScheduler scheduler = TransferScheduler.create(TransferSchedulerConfiguration.builder()
+                                                                                             .maxTransfersInFlight(1)
+                                                                                             .build());
+        RuntimeException exception = new RuntimeException("boom");
+        CompletableFuture<String> result = scheduler.schedule(1L, null, () -> {
+            throw exception;
+        });
+
+        assertThatThrownBy(result::join).isInstanceOf(CompletionException.class).hasCause(exception);
+        assertThat(scheduler.transfersInFlight()).isZero();
+        assertThat(scheduler.bytesInFlight()).isZero();
+    }
+
+    @Test
+    void metricPublishers_receiveMetricsOnAdmission() {
+        List<MetricCollection> published = new ArrayList<>();
+        TransferScheduler scheduler = TransferScheduler.create(TransferSchedulerConfiguration.builder()
+                                                                                             .maxTransfersInFlight(1)
+                                                                                             .addMetricPublisher(publisher(published))
+                                                                                             .build());
+        CompletableFuture<String> first = new CompletableFuture<>();
+        scheduler.schedule(5L, null, () -> first);
+        scheduler.schedule(7L, null, CompletableFuture::new);
+        scheduler.schedule(9L, null, CompletableFuture::new);
+
+        assertThat(published).hasSize(1);
+
+        first.complete("done");
+
+        assertThat(published).hasSize(2);
+        MetricCollection second = published.get(1);
+        assertThat(second.metricValues(TransferManagerMetric.SCHEDULED_BYTES)).containsExactly(7L);
+        assertThat(second.metricValues(TransferManagerMetric.BYTES_IN_FLIGHT)).containsExactly(7L);
+        assertThat(second.metricValues(TransferManagerMetric.TRANSFERS_IN_FLIGHT)).containsExactly(1);
+        assertThat(second.metricValues(TransferManagerMetric.QUEUED_TRANSFERS)).containsExactly(1);
+        assertThat(second.metricValues(TransferManagerMetric.SCHEDULER_QUEUE_DURATION))
+            .hasSize(1)
+            .allSatisfy(d -> assertThat(d).isGreaterThanOrEqualTo(Duration.ZERO));
+    }
+
+    @Test
+    void concurrentTransfers_neverExceedLimits() throws Exception {
+        int maxTransfers = 4;
+        TransferScheduler scheduler = TransferScheduler.create(TransferSchedulerConfiguration.builder()
+                                                                                             .maxTransfersInFlight(maxTransfers)
+                                                                                             .build());
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            results.add(scheduler.schedule(1L, null, () -> CompletableFuture.supplyAsync(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                running.decrementAndGet();
+                return 1;
+            })));
+        }
+
+        CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).get();
+
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(maxTransfers);
+        assertThat(scheduler.transfersInFlight()).isZero();
+    }
+
+    private static Supplier<CompletableFuture<String>> recording(List<String> started, String name,
+                                                                 CompletableFuture<String> transfer) {
+        return () -> {
+            started.add(name);
+            return transfer;
+        };
+    }
+
+    private static Supplier<CompletableFuture<String>> tracking(List<String> started, List<CompletableFuture<String>> running,
+                                                                String name) {
+        return () -> {
+            started.add(name);
+            CompletableFuture<String> transfer = new CompletableFuture<>();
+            running.add(transfer);
+            return transfer;
+        };
+    }
+
+    private static MetricPublisher publisher(List<MetricCollection> published) {
+        return new MetricPublisher() {
+            @Override
+            public void publish(MetricCollection metricCollection) {
+                published.add(metricCollection);
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+}
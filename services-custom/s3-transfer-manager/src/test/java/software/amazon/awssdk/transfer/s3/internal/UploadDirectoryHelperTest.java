@@ -318,6 +318,77 @@ public class UploadDirectoryHelperTest {
         assertThat(keys).containsOnly("bar.txt", "foo/1.txt", "foo/2.txt", "symlink/2.txt", "symlink2");
     }
 
+    @ParameterizedTest
+    @MethodSource("fileSystems")
+    void uploadDirectory_parallelFileTreeWalk_shouldRecursivelyUpload(FileSystem fileSystem) {
+        directory = createJimFsTestDirectory(fileSystem);
+        ArgumentCaptor<UploadFileRequest> requestArgumentCaptor = ArgumentCaptor.forClass(UploadFileRequest.class);
+
+        when(singleUploadFunction.apply(requestArgumentCaptor.capture()))
+            .thenReturn(completedUpload());
+        DirectoryUpload uploadDirectory =
+            uploadDirectoryHelper.uploadDirectory(UploadDirectoryRequest.builder()
+                                                                        .source(directory)
+                                                                        .bucket("bucket")
+                                                                        .fileTreeWalkParallelism(4)
+                                                                        .build());
+        uploadDirectory.completionFuture().join();
+
+        List<String> keys =
+            requestArgumentCaptor.getAllValues().stream().map(u -> u.putObjectRequest().key())
+                                 .collect(Collectors.toList());
+
+        assertThat(keys).containsExactlyInAnyOrder("bar.txt", "foo/1.txt", "foo/2.txt");
+    }
+
+    @Test
+    void uploadDirectory_parallelFileTreeWalkFollowSymlinkTrue_shouldIncludeLinkedFiles() {
+        ArgumentCaptor<UploadFileRequest> requestArgumentCaptor = ArgumentCaptor.forClass(UploadFileRequest.class);
+
+        when(singleUploadFunction.apply(requestArgumentCaptor.capture())).thenReturn(completedUpload());
+        DirectoryUpload uploadDirectory =
+            uploadDirectoryHelper.uploadDirectory(UploadDirectoryRequest.builder()
+                                                                        .source(localDirectory)
+                                                                        .bucket("bucket")
+                                                                        .followSymbolicLinks(true)
+                                                                        .fileTreeWalkParallelism(4)
+                                                                        .build());
+        uploadDirectory.completionFuture().join();
+
+        List<String> keys =
+            requestArgumentCaptor.getAllValues().stream().map(u -> u.putObjectRequest().key())
+                                 .collect(Collectors.toList());
+
+        assertThat(keys).containsExactlyInAnyOrder("bar.txt", "foo/1.txt", "foo/2.txt", "symlink/2.txt", "symlink2");
+    }
+
+    @ParameterizedTest
+    @MethodSource("fileSystems")
+    void uploadDirectory_smallFilesFirst_shouldUploadSmallerFilesFirst(FileSystem fileSystem) throws IOException {
+        directory = fileSystem.getPath("sized");
+        Files.createDirectories(directory.resolve("nested"));
+        Files.write(directory.resolve("large"), new byte[300]);
+        Files.write(directory.resolve("nested").resolve("small"), new byte[1]);
+        Files.write(directory.resolve("medium"), new byte[20]);
+        Files.write(directory.resolve("empty"), new byte[0]);
+        ArgumentCaptor<UploadFileRequest> requestArgumentCaptor = ArgumentCaptor.forClass(UploadFileRequest.class);
+
+        when(singleUploadFunction.apply(requestArgumentCaptor.capture())).thenReturn(completedUpload());
+        DirectoryUpload uploadDirectory =
+            uploadDirectoryHelper.uploadDirectory(UploadDirectoryRequest.builder()
+                                                                        .source(directory)
+                                                                        .bucket("bucket")
+                                                                        .smallFilesFirst(true)
+                                                                        .build());
+        uploadDirectory.completionFuture().join();
+
+        List<String> keys =
+            requestArgumentCaptor.getAllValues().stream().map(u -> u.putObjectRequest().key())
+                                 .collect(Collectors.toList());
+
+        assertThat(keys).containsExactly("empty", "nested/small", "medium", "large");
+    }
+
     @ParameterizedTest
     @MethodSource("fileSystems")
     void uploadDirectory_withPrefix_keysShouldHavePrefix(FileSystem fileSystem) {
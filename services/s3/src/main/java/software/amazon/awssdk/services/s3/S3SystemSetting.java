@@ -25,7 +25,24 @@ import software.amazon.awssdk.utils.SystemSetting;
 public enum S3SystemSetting implements SystemSetting {
 
     AWS_S3_USE_ARN_REGION("aws.s3UseArnRegion", null),
-    AWS_S3_DISABLE_MULTIREGION_ACCESS_POINTS("aws.s3DisableMultiRegionAccessPoints", null);
+    AWS_S3_DISABLE_MULTIREGION_ACCESS_POINTS("aws.s3DisableMultiRegionAccessPoints", null),
+
+    /**
+     * The maximum number of buckets whose region is cached by a client with cross-region access enabled.
+     */
+    AWS_S3_CROSS_REGION_BUCKET_CACHE_SIZE("aws.s3CrossRegionBucketCacheSize", null),
+
+    /**
+     * How long, in seconds, the region of a bucket is cached by a client with cross-region access enabled. By default, the
+     * region is cached until the bucket is evicted or a request to it is redirected.
+     */
+    AWS_S3_CROSS_REGION_BUCKET_CACHE_TTL_SECONDS("aws.s3CrossRegionBucketCacheTtlSeconds", null),
+
+    /**
+     * A file that a client with cross-region access enabled restores its bucket region cache from when created, and saves
+     * its bucket region cache to when closed. Not set by default.
+     */
+    AWS_S3_CROSS_REGION_BUCKET_CACHE_FILE("aws.s3CrossRegionBucketCacheFile", null);
 
     private final String systemProperty;
     private final String defaultValue;
@@ -0,0 +1,312 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.s3.internal.crossregion;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3SystemSetting;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * The region of each bucket accessed by a cross-region client, as discovered from redirects.
+ * <p>
+ * The cache holds about {@link Builder#maxSize(Integer)} buckets, evicting the buckets that were cached first when full, and
+ * optionally forgets the region of a bucket after {@link Builder#timeToLive(Duration)}. Lookups don't take any lock, since
+ * they are made by every request of the client; the bound is only enforced when a bucket is added, and may briefly be exceeded
+ * by concurrent updates. Concurrent lookups of the region of
+ * the same bucket through {@link #getOrLoad(String, Function)} share a single load.
+ * <p>
+ * If a {@link Builder#snapshotFile(Path)} is configured, the cache is restored from it when created, and {@link #snapshot()}
+ * writes the cache back to it, so that short-lived processes don't need to rediscover the region of every bucket. Failing to
+ * read or write the file never fails a request.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class BucketRegionCache {
+    private static final Logger log = Logger.loggerFor(BucketRegionCache.class);
+
+    private static final int DEFAULT_MAX_SIZE = 10_000;
+
+    private final int maxSize;
+    private final Duration timeToLive;
+    private final Path snapshotFile;
+    private final Clock clock;
+    private final Map<String, CacheEntry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * The cached buckets, in the order they were added, to evict the oldest ones first.
+     */
+    private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final Map<String, CompletableFuture<Region>> inFlightLoads = new ConcurrentHashMap<>();
+
+    private BucketRegionCache(Builder builder) {
+        Integer configuredMaxSize = Validate.isPositiveOrNull(builder.maxSize, "maxSize");
+        this.maxSize = configuredMaxSize != null ? configuredMaxSize : DEFAULT_MAX_SIZE;
+        this.timeToLive = Validate.isPositiveOrNull(builder.timeToLive, "timeToLive");
+        this.snapshotFile = builder.snapshotFile;
+        this.clock = builder.clock != null ? builder.clock : Clock.systemUTC();
+        restore();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a cache configured from {@link S3SystemSetting#AWS_S3_CROSS_REGION_BUCKET_CACHE_SIZE},
+     * {@link S3SystemSetting#AWS_S3_CROSS_REGION_BUCKET_CACHE_TTL_SECONDS} and
+     * {@link S3SystemSetting#AWS_S3_CROSS_REGION_BUCKET_CACHE_FILE}.
+     */
+    public static BucketRegionCache create() {
+        Builder builder = builder();
+        S3SystemSetting.AWS_S3_CROSS_REGION_BUCKET_CACHE_SIZE.getIntegerValue().ifPresent(builder::maxSize);
+        S3SystemSetting.AWS_S3_CROSS_REGION_BUCKET_CACHE_TTL_SECONDS.getIntegerValue()
+                                                                   .ifPresent(s -> builder.timeToLive(Duration.ofSeconds(s)));
+        S3SystemSetting.AWS_S3_CROSS_REGION_BUCKET_CACHE_FILE.getStringValue()
+                                                             .ifPresent(f -> builder.snapshotFile(Paths.get(f)));
+        return builder.build();
+    }
+
+    /**
+     * The cached region of the bucket, or null if it is not cached or has expired.
+     */
+    public Region get(String bucket) {
+        CacheEntry entry = entries.get(bucket);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(clock.instant())) {
+            if (entries.remove(bucket, entry)) {
+                insertionOrder.remove(bucket);
+            }
+            return null;
+        }
+        return entry.region;
+    }
+
+    public void put(String bucket, Region region) {
+        Instant expiration = timeToLive == null ? null : clock.instant().plus(timeToLive);
+        if (entries.put(bucket, new CacheEntry(region, expiration)) == null) {
+            insertionOrder.add(bucket);
+            evictOldestEntries();
+        }
+    }
+
+    public void remove(String bucket) {
+        if (entries.remove(bucket) != null) {
+            insertionOrder.remove(bucket);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictOldestEntries() {
+        while (entries.size() > maxSize) {
+            String oldest = insertionOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            entries.remove(oldest);
+        }
+    }
+
+    /**
+     * Return the cached region of the bucket, or load it with the provided function if it is not cached. Only one load per
+     * bucket is in flight at any time: concurrent callers for the same bucket wait for the result of the same load. A
+     * non-null loaded region is cached.
+     */
+    public CompletableFuture<Region> getOrLoad(String bucket, Function<String, CompletableFuture<Region>> loader) {
+        Region cached = get(bucket);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        CompletableFuture<Region> load = new CompletableFuture<>();
+        CompletableFuture<Region> inFlight = inFlightLoads.putIfAbsent(bucket, load);
+        if (inFlight != null) {
+            return inFlight;
+        }
+
+        CompletableFuture<Region> loaded;
+        try {
+            loaded = loader.apply(bucket);
+        } catch (Throwable t) {
+            loaded = CompletableFutureUtils.failedFuture(t);
+        }
+        loaded.whenComplete((region, t) -> {
+            if (region != null) {
+                put(bucket, region);
+            }
+            inFlightLoads.remove(bucket, load);
+            if (t != null) {
+                load.completeExceptionally(t);
+            } else {
+                load.complete(region);
+            }
+        });
+        return load;
+    }
+
+    /**
+     * Write the cache to the configured snapshot file, if any.
+     */
+    public void snapshot() {
+        if (snapshotFile == null) {
+            return;
+        }
+
+        Properties regions = new Properties();
+        Instant now = clock.instant();
+        entries.forEach((bucket, entry) -> {
+            if (!entry.isExpired(now)) {
+                regions.setProperty(bucket, entry.region.id());
+            }
+        });
+
+        try {
+            Path directory = snapshotFile.toAbsolutePath().getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+            Path temporaryFile = Files.createTempFile(directory, snapshotFile.getFileName().toString(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(temporaryFile)) {
+                regions.store(out, "S3 bucket regions");
+            }
+            moveIntoPlace(temporaryFile);
+        } catch (IOException | RuntimeException e) {
+            log.warn(() -> "Unable to save the S3 bucket region cache to " + snapshotFile, e);
+        }
+    }
+
+    private void moveIntoPlace(Path temporaryFile) throws IOException {
+        try {
+            Files.move(temporaryFile, snapshotFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private void restore() {
+        if (snapshotFile == null) {
+            return;
+        }
+
+        Properties regions = new Properties();
+        try (InputStream in = Files.newInputStream(snapshotFile)) {
+            regions.load(in);
+        } catch (NoSuchFileException e) {
+            log.debug(() -> "No S3 bucket region cache to restore at " + snapshotFile);
+            return;
+        } catch (IOException | RuntimeException e) {
+            log.warn(() -> "Unable to restore the S3 bucket region cache from " + snapshotFile, e);
+            return;
+        }
+
+        regions.stringPropertyNames().forEach(bucket -> put(bucket, Region.of(regions.getProperty(bucket))));
+        log.debug(() -> "Restored the region of " + regions.size() + " S3 buckets from " + snapshotFile);
+    }
+
+    @SdkTestInternalApi
+    Map<String, CompletableFuture<Region>> inFlightLoads() {
+        return inFlightLoads;
+    }
+
+    private static final class CacheEntry {
+        private final Region region;
+        private final Instant expiration;
+
+        private CacheEntry(Region region, Instant expiration) {
+            this.region = region;
+            this.expiration = expiration;
+        }
+
+        private boolean isExpired(Instant now) {
+            return expiration != null && !now.isBefore(expiration);
+        }
+    }
+
+    public static final class Builder {
+        private Integer maxSize;
+        private Duration timeToLive;
+        private Path snapshotFile;
+        private Clock clock;
+
+        private Builder() {
+        }
+
+        /**
+         * The maximum number of buckets to cache the region of. Defaults to 10,000.
+         */
+        public Builder maxSize(Integer maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * How long to cache the region of a bucket for. By default, entries do not expire.
+         */
+        public Builder timeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        /**
+         * The file to restore the cache from and to save it to.
+         */
+        public Builder snapshotFile(Path snapshotFile) {
+            this.snapshotFile = snapshotFile;
+            return this;
+        }
+
+        @SdkTestInternalApi
+        Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public BucketRegionCache build() {
+            return new BucketRegionCache(this);
+        }
+    }
+}
@@ -20,13 +20,12 @@ import static software.amazon.awssdk.services.s3.internal.crossregion.utils.Cros
 import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.requestWithDecoratedEndpointProvider;
 import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.updateUserAgentInConfig;
 
-import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.DelegatingS3AsyncClient;
@@ -38,10 +37,16 @@ import software.amazon.awssdk.utils.CompletableFutureUtils;
 @SdkInternalApi
 public final class S3CrossRegionAsyncClient extends DelegatingS3AsyncClient {
 
-    private final Map<String, Region> bucketToRegionCache = new ConcurrentHashMap<>();
+    private final BucketRegionCache bucketToRegionCache;
 
     public S3CrossRegionAsyncClient(S3AsyncClient s3Client) {
+        this(s3Client, BucketRegionCache.create());
+    }
+
+    @SdkTestInternalApi
+    S3CrossRegionAsyncClient(S3AsyncClient s3Client, BucketRegionCache bucketToRegionCache) {
         super(s3Client);
+        this.bucketToRegionCache = bucketToRegionCache;
     }
 
     @Override
@@ -99,30 +104,39 @@ public final class S3CrossRegionAsyncClient extends DelegatingS3AsyncClient {
         if (bucketRegionFromException.isPresent()) {
             sendRequestWithRightRegion(request, operation, bucketName, returnFuture, bucketRegionFromException.get());
         } else {
-            fetchRegionAndSendRequest(request, operation, bucketName, returnFuture);
+            fetchRegionAndSendRequest(request, operation, bucketName, returnFuture, throwable);
         }
     }
 
     private <T extends S3Request, ReturnT> void fetchRegionAndSendRequest(T request,
                                                                           Function<T, CompletableFuture<ReturnT>> operation,
                                                                           String bucketName,
-                                                                          CompletableFuture<ReturnT> returnFuture) {
-        // // TODO: Need to change codegen of Delegating Client to avoid the cast, have taken a backlog item to fix this.
-        ((S3AsyncClient) delegate()).headBucket(b -> b.bucket(bucketName)).whenComplete((response,
-                                                                                         throwable) -> {
+                                                                          CompletableFuture<ReturnT> returnFuture,
+                                                                          Throwable redirectException) {
+        bucketToRegionCache.getOrLoad(bucketName, this::fetchBucketRegion).whenComplete((region, throwable) -> {
             if (throwable != null) {
-                if (isS3RedirectException(throwable)) {
-                    bucketToRegionCache.remove(bucketName);
-                    Optional<String> bucketRegion = getBucketRegionFromException((S3Exception) throwable.getCause());
-                    if (bucketRegion.isPresent()) {
-                        sendRequestWithRightRegion(request, operation, bucketName, returnFuture, bucketRegion.get());
-                    } else {
-                        returnFuture.completeExceptionally(throwable);
-                    }
-                } else {
-                    returnFuture.completeExceptionally(throwable);
+                returnFuture.completeExceptionally(throwable);
+            } else if (region == null) {
+                returnFuture.completeExceptionally(redirectException);
+            } else {
+                sendRequestWithRightRegion(request, operation, bucketName, returnFuture, region.id());
+            }
+        });
+    }
+
+    private CompletableFuture<Region> fetchBucketRegion(String bucketName) {
+        // // TODO: Need to change codegen of Delegating Client to avoid the cast, have taken a backlog item to fix this.
+        return ((S3AsyncClient) delegate()).headBucket(b -> b.bucket(bucketName)).handle((response, throwable) -> {
+            if (throwable == null) {
+                return null;
+            }
+            if (isS3RedirectException(throwable)) {
+                Optional<String> bucketRegion = getBucketRegionFromException((S3Exception) throwable.getCause());
+                if (bucketRegion.isPresent()) {
+                    return Region.of(bucketRegion.get());
                 }
             }
+            throw CompletableFutureUtils.errorAsCompletionException(throwable);
         });
     }
 
@@ -139,4 +153,10 @@ public final class S3CrossRegionAsyncClient extends DelegatingS3AsyncClient {
         CompletableFutureUtils.forwardResultTo(newFuture, returnFuture);
         CompletableFutureUtils.forwardExceptionTo(returnFuture, newFuture);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void close() {
+        bucketToRegionCache.snapshot();
+        super.close();
+    }
+}
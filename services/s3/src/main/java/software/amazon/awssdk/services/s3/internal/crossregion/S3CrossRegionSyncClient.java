@@ -20,11 +20,11 @@ import static software.amazon.awssdk.services.s3.internal.crossregion.utils.Cros
 import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.requestWithDecoratedEndpointProvider;
 import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.updateUserAgentInConfig;
 
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.DelegatingS3Client;
@@ -32,6 +32,7 @@ import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.model.S3Request;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
 
 /**
  * Decorator S3 Sync client that will fetch the region name whenever there is Redirect 301 error due to cross region bucket
@@ -40,10 +41,16 @@ import software.amazon.awssdk.services.s3.model.S3Request;
 @SdkInternalApi
 public final class S3CrossRegionSyncClient extends DelegatingS3Client {
 
-    private final Map<String, Region> bucketToRegionCache = new ConcurrentHashMap<>();
+    private final BucketRegionCache bucketToRegionCache;
 
     public S3CrossRegionSyncClient(S3Client s3Client) {
+        this(s3Client, BucketRegionCache.create());
+    }
+
+    @SdkTestInternalApi
+    S3CrossRegionSyncClient(S3Client s3Client, BucketRegionCache bucketToRegionCache) {
         super(s3Client);
+        this.bucketToRegionCache = bucketToRegionCache;
     }
 
     private static <T extends S3Request> Optional<String> bucketNameFromRequest(T request) {
@@ -74,7 +81,8 @@ public final class S3CrossRegionSyncClient extends DelegatingS3Client {
                 return operation.apply(
                     requestWithDecoratedEndpointProvider(
                         userAgentUpdatedRequest,
-                        () -> bucketToRegionCache.computeIfAbsent(bucketName, this::fetchBucketRegion),
+                        () -> CompletableFutureUtils.joinLikeSync(bucketToRegionCache.getOrLoad(bucketName,
+                                                                                                this::fetchBucketRegion)),
                         serviceClientConfiguration().endpointProvider().get()));
             }
             throw exception;
@@ -88,17 +96,22 @@ public final class S3CrossRegionSyncClient extends DelegatingS3Client {
         regionStr.ifPresent(region -> bucketToRegionCache.put(bucketName, Region.of(region)));
     }
 
-    private Region fetchBucketRegion(String bucketName) {
+    private CompletableFuture<Region> fetchBucketRegion(String bucketName) {
         try {
             ((S3Client) delegate()).headBucket(HeadBucketRequest.builder().bucket(bucketName).build());
         } catch (S3Exception exception) {
             if (isS3RedirectException(exception)) {
-                return Region.of(getBucketRegionFromException(exception).orElseThrow(() -> exception));
+                Region region = Region.of(getBucketRegionFromException(exception).orElseThrow(() -> exception));
+                return CompletableFuture.completedFuture(region);
             }
             throw exception;
         }
-        return null;
+        return CompletableFuture.completedFuture(null);
     }
 
-
+    @Override
+    public void close() {
+        bucketToRegionCache.snapshot();
+        super.close();
+    }
 }
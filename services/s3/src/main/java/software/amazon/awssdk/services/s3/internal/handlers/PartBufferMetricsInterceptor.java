@@ -0,0 +1,49 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.s3.internal.handlers;
+
+import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionAttribute.PART_BUFFER_LEASE;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.services.s3.internal.multipart.PartBufferArena;
+import software.amazon.awssdk.services.s3.multipart.MultipartMetric;
+
+/**
+ * Reports the {@link MultipartMetric}s of the part buffer pool for {@code UploadPart} requests whose content is buffered in it.
+ */
+@SdkInternalApi
+public final class PartBufferMetricsInterceptor implements ExecutionInterceptor {
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        PartBufferArena.Lease lease = executionAttributes.getAttribute(PART_BUFFER_LEASE);
+        MetricCollector metricCollector = executionAttributes.getAttribute(SdkExecutionAttribute.API_CALL_METRIC_COLLECTOR);
+        if (lease == null || metricCollector == null) {
+            return;
+        }
+
+        PartBufferArena arena = lease.arena();
+        metricCollector.reportMetric(MultipartMetric.PART_BUFFER_POOL_CAPACITY, arena.capacityInBytes());
+        metricCollector.reportMetric(MultipartMetric.PART_BUFFER_POOL_LEASED_BYTES, arena.leasedBytes());
+        metricCollector.reportMetric(MultipartMetric.PART_BUFFER_POOL_PENDING_RESERVATIONS, arena.pendingReservations());
+        metricCollector.reportMetric(MultipartMetric.PART_BUFFER_ACQUIRE_DURATION, lease.waitTime());
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.s3.internal.handlers;
+
+import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionAttribute.PART_TRANSFER_CONTROLLER;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.services.s3.internal.multipart.PartTransferController;
+import software.amazon.awssdk.services.s3.multipart.MultipartMetric;
+
+/**
+ * Reports the part size and the number of parts in flight chosen for adaptively tuned transfers with the
+ * {@link MultipartMetric}s of their part requests.
+ */
+@SdkInternalApi
+public final class PartTransferMetricsInterceptor implements ExecutionInterceptor {
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        PartTransferController controller = executionAttributes.getAttribute(PART_TRANSFER_CONTROLLER);
+        MetricCollector metricCollector = executionAttributes.getAttribute(SdkExecutionAttribute.API_CALL_METRIC_COLLECTOR);
+        if (controller == null || metricCollector == null) {
+            return;
+        }
+
+        metricCollector.reportMetric(MultipartMetric.PART_SIZE, controller.partSizeInBytes());
+        metricCollector.reportMetric(MultipartMetric.MAX_IN_FLIGHT_PARTS, controller.maxInFlightParts());
+    }
+}
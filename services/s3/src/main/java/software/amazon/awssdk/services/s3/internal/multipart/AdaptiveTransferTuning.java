@@ -0,0 +1,83 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Creates the {@link PartTransferController} of each transfer of a client when adaptive tuning is enabled. The part size of a
+ * transfer is picked from the size of the object: objects of up to {@value #TARGET_PART_COUNT} parts of the minimum part size
+ * use the minimum part size, to be transferred with as many concurrent requests as possible, while larger objects use larger
+ * parts, to keep the number of requests, and their overhead, bounded. The part size never exceeds the largest part a request
+ * body can be split into, which is smaller than the maximum part size of S3, and is always large enough for the object to fit in
+ * the maximum number of parts of a multipart upload.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class AdaptiveTransferTuning {
+    static final long TARGET_PART_COUNT = 1_000;
+    static final long MAX_PART_COUNT = 10_000;
+    static final long MAX_PART_SIZE = 5L * 1024 * 1024 * 1024;
+
+    private static final long PART_SIZE_ALIGNMENT = 1024 * 1024;
+
+    /**
+     * The largest aligned part size that fits in an int, since {@code AsyncRequestBody#split} tracks the length of each part as
+     * an int.
+     */
+    static final long MAX_TUNED_PART_SIZE =
+        Math.min(MAX_PART_SIZE, Integer.MAX_VALUE / PART_SIZE_ALIGNMENT * PART_SIZE_ALIGNMENT);
+
+    private final long minPartSizeInBytes;
+    private final int maxInFlightParts;
+
+    public AdaptiveTransferTuning(long minPartSizeInBytes, int maxInFlightParts) {
+        this.minPartSizeInBytes = minPartSizeInBytes;
+        this.maxInFlightParts = maxInFlightParts;
+    }
+
+    /**
+     * Creates the controller of a transfer whose part size is picked from the size of the object.
+     */
+    public PartTransferController controllerFor(long contentLength) {
+        return new PartTransferController(partSizeFor(contentLength), maxInFlightParts);
+    }
+
+    /**
+     * Creates the controller of a transfer whose part size is already known, for example when resuming an upload.
+     */
+    public PartTransferController controllerWithPartSize(long partSizeInBytes) {
+        return new PartTransferController(partSizeInBytes, maxInFlightParts);
+    }
+
+    long partSizeFor(long contentLength) {
+        long targetPartSize = ceilDiv(contentLength, TARGET_PART_COUNT);
+        long partSize = targetPartSize <= minPartSizeInBytes
+                        ? minPartSizeInBytes
+                        : Math.min(alignUp(targetPartSize), MAX_TUNED_PART_SIZE);
+        return Math.max(partSize, ceilDiv(contentLength, MAX_PART_COUNT));
+    }
+
+    private static long alignUp(long size) {
+        return ceilDiv(size, PART_SIZE_ALIGNMENT) * PART_SIZE_ALIGNMENT;
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+}
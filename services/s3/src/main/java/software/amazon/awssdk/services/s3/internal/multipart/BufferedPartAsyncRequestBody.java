@@ -0,0 +1,72 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+
+/**
+ * The content of a part buffered in blocks leased from a {@link PartBufferArena}. The content can be subscribed to more than
+ * once, so that the part can be retried, until the lease is {@link #release() released}.
+ */
+@SdkInternalApi
+public final class BufferedPartAsyncRequestBody implements AsyncRequestBody {
+    private final PartBufferArena.Lease lease;
+    private final AsyncRequestBody content;
+    private final long contentLength;
+    private final boolean hasNextPart;
+
+    BufferedPartAsyncRequestBody(PartBufferArena.Lease lease, ByteBuffer[] buffers, long contentLength, boolean hasNextPart) {
+        this.lease = lease;
+        this.content = AsyncRequestBody.fromByteBuffersUnsafe(buffers);
+        this.contentLength = contentLength;
+        this.hasNextPart = hasNextPart;
+    }
+
+    @Override
+    public Optional<Long> contentLength() {
+        return Optional.of(contentLength);
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ByteBuffer> s) {
+        content.subscribe(s);
+    }
+
+    /**
+     * Whether more content follows this part. This is known when the part is published, because a full part is only published
+     * once more content has been received or the content is complete.
+     */
+    public boolean hasNextPart() {
+        return hasNextPart;
+    }
+
+    public PartBufferArena.Lease lease() {
+        return lease;
+    }
+
+    /**
+     * Returns the blocks holding the content of this part to the arena. Must only be called once the part is no longer being
+     * uploaded.
+     */
+    public void release() {
+        lease.release();
+    }
+}
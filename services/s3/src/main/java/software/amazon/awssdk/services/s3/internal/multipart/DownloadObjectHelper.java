@@ -31,10 +31,30 @@ public class DownloadObjectHelper {
 
     private final S3AsyncClient s3AsyncClient;
     private final long bufferSizeInBytes;
+    private final Long rangeSizeInBytes;
+    private final int maxConcurrentRanges;
+    private final AdaptiveTransferTuning adaptiveTuning;
 
     public DownloadObjectHelper(S3AsyncClient s3AsyncClient, long bufferSizeInBytes) {
+        this(s3AsyncClient, bufferSizeInBytes, null, 1);
+    }
+
+    public DownloadObjectHelper(S3AsyncClient s3AsyncClient, long bufferSizeInBytes, Long rangeSizeInBytes,
+                                int maxConcurrentRanges) {
+        this(s3AsyncClient, bufferSizeInBytes, rangeSizeInBytes, maxConcurrentRanges, null);
+    }
+
+    /**
+     * @param adaptiveTuning the tuning of the range size and number of ranges in flight of each download to a file, or null to
+     * only use range downloads if {@code rangeSizeInBytes} is set, with {@code maxConcurrentRanges} ranges in flight.
+     */
+    public DownloadObjectHelper(S3AsyncClient s3AsyncClient, long bufferSizeInBytes, Long rangeSizeInBytes,
+                                int maxConcurrentRanges, AdaptiveTransferTuning adaptiveTuning) {
         this.s3AsyncClient = s3AsyncClient;
         this.bufferSizeInBytes = bufferSizeInBytes;
+        this.rangeSizeInBytes = rangeSizeInBytes;
+        this.maxConcurrentRanges = maxConcurrentRanges;
+        this.adaptiveTuning = adaptiveTuning;
     }
 
     public <T> CompletableFuture<T> downloadObject(
@@ -43,15 +63,31 @@ public class DownloadObjectHelper {
             logSinglePartMessage(getObjectRequest);
             return s3AsyncClient.getObject(getObjectRequest, asyncResponseTransformer);
         }
+        boolean rangeDownload = (rangeSizeInBytes != null || adaptiveTuning != null) && !isResumable(getObjectRequest);
         AsyncResponseTransformer.SplitResult<GetObjectResponse, T> split =
             asyncResponseTransformer.split(SplittingTransformerConfiguration.builder()
                                                                             .bufferSizeInBytes(bufferSizeInBytes)
+                                                                            .parallelSplitEnabled(rangeDownload)
                                                                             .build());
+        if (rangeDownload && split.parallelSplitSupported()) {
+            log.debug(() -> "Using range download with range size "
+                            + (rangeSizeInBytes != null ? rangeSizeInBytes : "picked from the object size"));
+            split.publisher().subscribe(new RangeDownloaderSubscriber(s3AsyncClient, getObjectRequest, rangeSizeInBytes,
+                                                                      maxConcurrentRanges, adaptiveTuning));
+            return split.resultFuture();
+        }
         MultipartDownloaderSubscriber subscriber = subscriber(getObjectRequest);
         split.publisher().subscribe(subscriber);
         return split.resultFuture();
     }
 
+    /**
+     * Downloads tracked for pause and resume are tracked part by part, so they always use the part download.
+     */
+    private static boolean isResumable(GetObjectRequest getObjectRequest) {
+        return MultipartDownloadUtils.multipartDownloadResumeContext(getObjectRequest).isPresent();
+    }
+
     private MultipartDownloaderSubscriber subscriber(GetObjectRequest getObjectRequest) {
         Optional<MultipartDownloadResumeContext> multipartDownloadContext =
             MultipartDownloadUtils.multipartDownloadResumeContext(getObjectRequest);
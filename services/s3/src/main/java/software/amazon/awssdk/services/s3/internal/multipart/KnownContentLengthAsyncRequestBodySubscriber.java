@@ -16,10 +16,12 @@
 package software.amazon.awssdk.services.s3.internal.multipart;
 
 import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionAttribute.JAVA_PROGRESS_LISTENER;
+import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionAttribute.PART_TRANSFER_CONTROLLER;
 
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -32,6 +34,9 @@ import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.listener.PublisherListener;
+import software.amazon.awssdk.core.internal.async.FileAsyncRequestBody;
+import software.amazon.awssdk.core.internal.async.FileAsyncRequestBodySplitHelper;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
@@ -65,6 +70,24 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
     private final AtomicReferenceArray<CompletedPart> completedParts;
     private final Map<Integer, CompletedPart> existingParts;
     private final PublisherListener<Long> progressListener;
+
+    /**
+     * Computes the checksum of the parts and of the whole object when the upload completes with a full object checksum, null
+     * otherwise.
+     */
+    private final PartChecksumCalculator partChecksumCalculator;
+
+    /**
+     * Limits the number of parts in flight when the upload is adaptively tuned, null if parts are requested as soon as the
+     * previous part is sent.
+     */
+    private final PartTransferController transferController;
+
+    /**
+     * The number of parts requested from the subscription but not yet received, when the upload is adaptively tuned. Guarded
+     * by this.
+     */
+    private int outstandingDemand;
     private Subscription subscription;
     private volatile boolean isDone;
     private volatile boolean isPaused;
@@ -77,6 +100,21 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
     KnownContentLengthAsyncRequestBodySubscriber(MpuRequestContext mpuRequestContext,
                                                  CompletableFuture<PutObjectResponse> returnFuture,
                                                  MultipartUploadHelper multipartUploadHelper) {
+        this(mpuRequestContext, returnFuture, multipartUploadHelper, null);
+    }
+
+    KnownContentLengthAsyncRequestBodySubscriber(MpuRequestContext mpuRequestContext,
+                                                 CompletableFuture<PutObjectResponse> returnFuture,
+                                                 MultipartUploadHelper multipartUploadHelper,
+                                                 PartChecksumCalculator partChecksumCalculator) {
+        this(mpuRequestContext, returnFuture, multipartUploadHelper, partChecksumCalculator, null);
+    }
+
+    KnownContentLengthAsyncRequestBodySubscriber(MpuRequestContext mpuRequestContext,
+                                                 CompletableFuture<PutObjectResponse> returnFuture,
+                                                 MultipartUploadHelper multipartUploadHelper,
+                                                 PartChecksumCalculator partChecksumCalculator,
+                                                 PartTransferController transferController) {
         this.contentLength = mpuRequestContext.contentLength();
         this.partSize = mpuRequestContext.partSize();
         this.partCount = determinePartCount(contentLength, partSize);
@@ -90,6 +128,8 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
         this.progressListener = putObjectRequest.overrideConfiguration().map(c -> c.executionAttributes()
                                                                                    .getAttribute(JAVA_PROGRESS_LISTENER))
                                                 .orElseGet(PublisherListener::noOp);
+        this.partChecksumCalculator = partChecksumCalculator;
+        this.transferController = transferController;
     }
 
     private int determinePartCount(long contentLength, long partSize) {
@@ -132,7 +172,7 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
             return;
         }
         this.subscription = s;
-        s.request(1);
+        requestMoreParts();
         returnFuture.whenComplete((r, t) -> {
             if (t != null) {
                 s.cancel();
@@ -149,34 +189,102 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
             return;
         }
 
-        if (existingParts.containsKey(partNumber.get())) {
+        boolean existingPart = existingParts.containsKey(partNumber.get());
+        synchronized (this) {
+            outstandingDemand--;
+            if (!existingPart) {
+                asyncRequestBodyInFlight.incrementAndGet();
+            }
+        }
+
+        if (existingPart) {
             partNumber.getAndIncrement();
             asyncRequestBody.subscribe(new CancelledSubscriber<>());
-            subscription.request(1);
+            requestMoreParts();
             asyncRequestBody.contentLength().ifPresent(progressListener::subscriberOnNext);
             return;
         }
 
-        asyncRequestBodyInFlight.incrementAndGet();
         UploadPartRequest uploadRequest = SdkPojoConversionUtils.toUploadPartRequest(putObjectRequest,
                                                                                      partNumber.getAndIncrement(),
                                                                                      uploadId);
+        if (transferController != null) {
+            uploadRequest = uploadRequest.toBuilder()
+                                         .overrideConfiguration(o -> o.putExecutionAttribute(PART_TRANSFER_CONTROLLER,
+                                                                                             transferController))
+                                         .build();
+        }
 
         Consumer<CompletedPart> completedPartConsumer = completedPart -> completedParts.set(completedPart.partNumber() - 1,
                                                                                             completedPart);
-        multipartUploadHelper.sendIndividualUploadPartRequest(uploadId, completedPartConsumer, futures,
-                                                              Pair.of(uploadRequest, asyncRequestBody), progressListener)
-                             .whenComplete((r, t) -> {
-                                 if (t != null) {
-                                     if (shouldFailRequest()) {
-                                         multipartUploadHelper.failRequestsElegantly(futures, t, uploadId, returnFuture,
-                                                                                     putObjectRequest);
-                                     }
-                                 } else {
-                                     completeMultipartUploadIfFinished(asyncRequestBodyInFlight.decrementAndGet());
-                                 }
-                             });
-        subscription.request(1);
+        long partBytes = asyncRequestBody.contentLength().orElse(partSize);
+        long startNanos = transferController == null ? 0 : transferController.nanoTime();
+        sendUploadPartRequest(uploadRequest, asyncRequestBody, completedPartConsumer).whenComplete((r, t) -> {
+            if (t != null) {
+                if (shouldFailRequest()) {
+                    multipartUploadHelper.failRequestsElegantly(futures, t, uploadId, returnFuture, putObjectRequest);
+                }
+            } else {
+                if (transferController != null) {
+                    transferController.onPartCompleted(partBytes, transferController.nanoTime() - startNanos);
+                }
+                completeMultipartUploadIfFinished(asyncRequestBodyInFlight.decrementAndGet());
+                if (transferController != null) {
+                    requestMoreParts();
+                }
+            }
+        });
+        if (transferController == null) {
+            subscription.request(1);
+        }
+    }
+
+    /**
+     * Requests the next part as soon as the previous one is sent, or, when the upload is adaptively tuned, as many parts as
+     * the parts in flight and the parts already requested leave room for.
+     */
+    private void requestMoreParts() {
+        if (transferController == null) {
+            subscription.request(1);
+            return;
+        }
+        synchronized (this) {
+            int partsToRequest = transferController.maxInFlightParts() - asyncRequestBodyInFlight.get() - outstandingDemand;
+            if (partsToRequest > 0 && !isDone && !isPaused) {
+                outstandingDemand += partsToRequest;
+                subscription.request(partsToRequest);
+            }
+        }
+    }
+
+    private CompletableFuture<CompletedPart> sendUploadPartRequest(UploadPartRequest uploadRequest,
+                                                                   AsyncRequestBody asyncRequestBody,
+                                                                   Consumer<CompletedPart> completedPartConsumer) {
+        Optional<FileAsyncRequestBody> fileRegion = partChecksumCalculator == null
+                                                    ? Optional.empty()
+                                                    : FileAsyncRequestBodySplitHelper.fileRegion(asyncRequestBody);
+        if (!fileRegion.isPresent()) {
+            return multipartUploadHelper.sendIndividualUploadPartRequest(uploadId, completedPartConsumer, futures,
+                                                                         Pair.of(uploadRequest, asyncRequestBody),
+                                                                         progressListener);
+        }
+
+        // Parts read from a file can be checksummed on the calculator's pool ahead of being sent, instead of on the I/O
+        // threads while they are being sent.
+        FileAsyncRequestBody filePart = fileRegion.get();
+        ChecksumAlgorithm algorithm = putObjectRequest.checksumAlgorithm();
+        CompletableFuture<String> checksumFuture =
+            partChecksumCalculator.calculate(algorithm, filePart.path(), filePart.position(), filePart.numBytesToRead());
+        CompletableFuture<UploadPartRequest> checksummedRequest =
+            checksumFuture.thenApply(checksum -> algorithm == ChecksumAlgorithm.CRC32
+                                                 ? uploadRequest.toBuilder().checksumCRC32(checksum).build()
+                                                 : uploadRequest.toBuilder().checksumCRC32C(checksum).build());
+        Consumer<CompletedPart> checksummedPartConsumer =
+            completedPart -> completedPartConsumer.accept(
+                PartChecksumCalculator.withPartChecksum(algorithm, completedPart, checksumFuture.join()));
+        return multipartUploadHelper.sendIndividualUploadPartRequest(uploadId, checksummedPartConsumer, futures,
+                                                                     Pair.of(uploadRequest, asyncRequestBody),
+                                                                     progressListener, checksummedRequest);
     }
 
     private boolean shouldFailRequest() {
@@ -212,9 +320,29 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
                 // List of CompletedParts needs to be in ascending order
                 parts = mergeCompletedParts();
             }
-            completeMpuFuture = multipartUploadHelper.completeMultipartUpload(returnFuture, uploadId, parts, putObjectRequest,
-                                                                              contentLength);
+            completeMpuFuture = multipartUploadHelper.completeMultipartUpload(returnFuture, uploadId, parts,
+                                                                              withFullObjectChecksum(parts), contentLength);
+        }
+    }
+
+    /**
+     * Sets the checksum of the whole object, combined from the checksums of its parts, on the request so that it is sent with
+     * the {@code CompleteMultipartUpload} request.
+     */
+    private PutObjectRequest withFullObjectChecksum(CompletedPart[] parts) {
+        if (partChecksumCalculator == null) {
+            return putObjectRequest;
+        }
+        ChecksumAlgorithm algorithm = putObjectRequest.checksumAlgorithm();
+        Optional<String> checksum = PartChecksumCalculator.combine(algorithm, parts, partSize, contentLength);
+        if (!checksum.isPresent()) {
+            log.debug(() -> "Not all parts have a " + algorithm + " checksum, completing the upload without the full object "
+                            + "checksum. uploadId: " + uploadId);
+            return putObjectRequest;
         }
+        return algorithm == ChecksumAlgorithm.CRC32
+               ? putObjectRequest.toBuilder().checksumCRC32(checksum.get()).build()
+               : putObjectRequest.toBuilder().checksumCRC32C(checksum.get()).build();
     }
 
     private CompletedPart[] mergeCompletedParts() {
@@ -26,9 +26,17 @@ import software.amazon.awssdk.utils.Validate;
 public final class MultipartConfigurationResolver {
 
     private static final long DEFAULT_MIN_PART_SIZE = 8L * 1024 * 1024;
+    private static final int DEFAULT_MAX_CONCURRENT_DOWNLOAD_RANGES = 8;
+    private static final int DEFAULT_ADAPTIVE_MAX_IN_FLIGHT_PARTS = 32;
     private final long minimalPartSizeInBytes;
     private final long apiCallBufferSize;
     private final long thresholdInBytes;
+    private final Long downloadRangeSizeInBytes;
+    private final int maxConcurrentDownloadRanges;
+    private final boolean fullObjectChecksumEnabled;
+    private final Long partBufferPoolSizeInBytes;
+    private final AdaptiveTransferTuning uploadTuning;
+    private final AdaptiveTransferTuning downloadTuning;
 
     public MultipartConfigurationResolver(MultipartConfiguration multipartConfiguration) {
         Validate.notNull(multipartConfiguration, "multipartConfiguration");
@@ -37,6 +45,24 @@ public final class MultipartConfigurationResolver {
         this.apiCallBufferSize = Validate.getOrDefault(multipartConfiguration.apiCallBufferSizeInBytes(),
                                                        () -> minimalPartSizeInBytes * 4);
         this.thresholdInBytes = Validate.getOrDefault(multipartConfiguration.thresholdInBytes(), () -> minimalPartSizeInBytes);
+        this.downloadRangeSizeInBytes = Validate.isPositiveOrNull(multipartConfiguration.downloadRangeSizeInBytes(),
+                                                                  "downloadRangeSizeInBytes");
+        this.maxConcurrentDownloadRanges = Validate.isPositive(
+            Validate.getOrDefault(multipartConfiguration.maxConcurrentDownloadRanges(),
+                                  () -> DEFAULT_MAX_CONCURRENT_DOWNLOAD_RANGES),
+            "maxConcurrentDownloadRanges");
+        this.fullObjectChecksumEnabled = Boolean.TRUE.equals(multipartConfiguration.fullObjectChecksumEnabled());
+        this.partBufferPoolSizeInBytes = Validate.isPositiveOrNull(multipartConfiguration.partBufferPoolSizeInBytes(),
+                                                                   "partBufferPoolSizeInBytes");
+        if (Boolean.TRUE.equals(multipartConfiguration.adaptiveTuningEnabled())) {
+            this.uploadTuning = new AdaptiveTransferTuning(minimalPartSizeInBytes, DEFAULT_ADAPTIVE_MAX_IN_FLIGHT_PARTS);
+            int maxInFlightRanges = Validate.getOrDefault(multipartConfiguration.maxConcurrentDownloadRanges(),
+                                                          () -> DEFAULT_ADAPTIVE_MAX_IN_FLIGHT_PARTS);
+            this.downloadTuning = new AdaptiveTransferTuning(minimalPartSizeInBytes, maxInFlightRanges);
+        } else {
+            this.uploadTuning = null;
+            this.downloadTuning = null;
+        }
     }
 
     public long minimalPartSizeInBytes() {
@@ -50,4 +76,42 @@ public final class MultipartConfigurationResolver {
     public long apiCallBufferSize() {
         return apiCallBufferSize;
     }
+
+    /**
+     * @return the size of the byte ranges to download, or null if objects should be downloaded part by part.
+     */
+    public Long downloadRangeSizeInBytes() {
+        return downloadRangeSizeInBytes;
+    }
+
+    public int maxConcurrentDownloadRanges() {
+        return maxConcurrentDownloadRanges;
+    }
+
+    public boolean fullObjectChecksumEnabled() {
+        return fullObjectChecksumEnabled;
+    }
+
+    /**
+     * @return the size of the pool of direct buffers shared by uploads of unknown content length, or null if parts should be
+     * buffered on the heap.
+     */
+    public Long partBufferPoolSizeInBytes() {
+        return partBufferPoolSizeInBytes;
+    }
+
+    /**
+     * @return the tuning of the part size and concurrency of uploads of a known content length, or null if adaptive tuning is
+     * disabled.
+     */
+    public AdaptiveTransferTuning uploadTuning() {
+        return uploadTuning;
+    }
+
+    /**
+     * @return the tuning of the range size and concurrency of downloads to a file, or null if adaptive tuning is disabled.
+     */
+    public AdaptiveTransferTuning downloadTuning() {
+        return downloadTuning;
+    }
 }
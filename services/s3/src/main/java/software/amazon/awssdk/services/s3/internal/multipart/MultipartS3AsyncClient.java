@@ -53,6 +53,7 @@ public final class MultipartS3AsyncClient extends DelegatingS3AsyncClient {
     private final CopyObjectHelper copyObjectHelper;
     private final DownloadObjectHelper downloadObjectHelper;
     private final boolean checksumEnabled;
+    private final PartChecksumCalculator partChecksumCalculator;
 
     private MultipartS3AsyncClient(S3AsyncClient delegate, MultipartConfiguration multipartConfiguration,
                                    boolean checksumEnabled) {
@@ -63,12 +64,26 @@ public final class MultipartS3AsyncClient extends DelegatingS3AsyncClient {
         long minPartSizeInBytes = resolver.minimalPartSizeInBytes();
         long threshold = resolver.thresholdInBytes();
         long apiCallBufferSize = resolver.apiCallBufferSize();
-        mpuHelper = new UploadObjectHelper(delegate, resolver);
+        partChecksumCalculator = resolver.fullObjectChecksumEnabled() ? PartChecksumCalculator.create() : null;
+        mpuHelper = new UploadObjectHelper(delegate, resolver, partChecksumCalculator, partBufferArena(resolver));
         copyObjectHelper = new CopyObjectHelper(delegate, minPartSizeInBytes, threshold);
-        downloadObjectHelper = new DownloadObjectHelper(delegate, apiCallBufferSize);
+        downloadObjectHelper = new DownloadObjectHelper(delegate, apiCallBufferSize, resolver.downloadRangeSizeInBytes(),
+                                                        resolver.maxConcurrentDownloadRanges(), resolver.downloadTuning());
         this.checksumEnabled = checksumEnabled;
     }
 
+    private static PartBufferArena partBufferArena(MultipartConfigurationResolver resolver) {
+        Long poolSize = resolver.partBufferPoolSizeInBytes();
+        if (poolSize == null) {
+            return null;
+        }
+        PartBufferArena arena = PartBufferArena.create(poolSize);
+        Validate.isTrue(arena.canHold(resolver.minimalPartSizeInBytes()),
+                        "partBufferPoolSizeInBytes (%d) must be able to hold a part of minimumPartSizeInBytes (%d)",
+                        poolSize, resolver.minimalPartSizeInBytes());
+        return arena;
+    }
+
     @Override
     public CompletableFuture<PutObjectResponse> putObject(PutObjectRequest putObjectRequest, AsyncRequestBody requestBody) {
 
@@ -96,6 +111,9 @@ public final class MultipartS3AsyncClient extends DelegatingS3AsyncClient {
 
     @Override
     public void close() {
+        if (partChecksumCalculator != null) {
+            partChecksumCalculator.close();
+        }
         delegate().close();
     }
 
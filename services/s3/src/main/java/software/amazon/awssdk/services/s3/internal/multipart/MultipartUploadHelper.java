@@ -18,6 +18,7 @@ package software.amazon.awssdk.services.s3.internal.multipart;
 
 import static software.amazon.awssdk.services.s3.internal.multipart.SdkPojoConversionUtils.toAbortMultipartUploadRequest;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -26,6 +27,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.listener.PublisherListener;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.ChecksumType;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
@@ -68,7 +70,16 @@ public final class MultipartUploadHelper {
 
     CompletableFuture<CreateMultipartUploadResponse> createMultipartUpload(PutObjectRequest putObjectRequest,
                                                                            CompletableFuture<PutObjectResponse> returnFuture) {
+        return createMultipartUpload(putObjectRequest, null, returnFuture);
+    }
+
+    CompletableFuture<CreateMultipartUploadResponse> createMultipartUpload(PutObjectRequest putObjectRequest,
+                                                                           ChecksumType checksumType,
+                                                                           CompletableFuture<PutObjectResponse> returnFuture) {
         CreateMultipartUploadRequest request = SdkPojoConversionUtils.toCreateMultipartUploadRequest(putObjectRequest);
+        if (checksumType != null) {
+            request = request.toBuilder().checksumType(checksumType).build();
+        }
         CompletableFuture<CreateMultipartUploadResponse> createMultipartUploadFuture =
             s3AsyncClient.createMultipartUpload(request);
 
@@ -118,6 +129,39 @@ public final class MultipartUploadHelper {
         return convertFuture;
     }
 
+    /**
+     * Sends the upload part request once the checksum of the part has been computed, so that the checksum is sent as a header
+     * instead of being computed while the part is being sent.
+     */
+    CompletableFuture<CompletedPart> sendIndividualUploadPartRequest(String uploadId,
+                                                                     Consumer<CompletedPart> completedPartsConsumer,
+                                                                     Collection<CompletableFuture<CompletedPart>> futures,
+                                                                     Pair<UploadPartRequest, AsyncRequestBody> requestPair,
+                                                                     PublisherListener<Long> progressListener,
+                                                                     CompletableFuture<UploadPartRequest> checksummedRequest) {
+        CompletableFuture<CompletedPart> partFuture = new CompletableFuture<>();
+        futures.add(partFuture);
+        CompletableFutureUtils.forwardExceptionTo(partFuture, checksummedRequest);
+
+        checksummedRequest.whenComplete((uploadPartRequest, throwable) -> {
+            if (throwable != null) {
+                partFuture.completeExceptionally(throwable);
+                return;
+            }
+            if (partFuture.isDone()) {
+                return;
+            }
+            // The returned future is tracked instead of the one of the upload part request
+            Collection<CompletableFuture<CompletedPart>> untracked = new ArrayList<>(1);
+            CompletableFuture<CompletedPart> uploadFuture =
+                sendIndividualUploadPartRequest(uploadId, completedPartsConsumer, untracked,
+                                                Pair.of(uploadPartRequest, requestPair.right()), progressListener);
+            CompletableFutureUtils.forwardExceptionTo(partFuture, uploadFuture);
+            CompletableFutureUtils.forwardResultTo(uploadFuture, partFuture);
+        });
+        return partFuture;
+    }
+
     void failRequestsElegantly(Collection<CompletableFuture<CompletedPart>> futures,
                                Throwable t,
                                String uploadId,
@@ -0,0 +1,199 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A fixed-size pool of direct buffers shared by all the uploads of unknown content length of a client. The content of each part
+ * is buffered in blocks {@link #reserve(long) reserved} from the arena, and the blocks are returned to the arena once the part
+ * has been uploaded.
+ * <p>
+ * Blocks are allocated lazily, up to the capacity of the arena, and recycled afterwards. A reservation is all-or-nothing: a part
+ * reserves all the blocks it could need before buffering any content, so that parts which have started buffering can always
+ * complete without holding part of the arena while waiting for the rest. Reservations that cannot be satisfied wait, in order,
+ * until enough blocks are released.
+ * <p>
+ * A lease is only released once its part has been uploaded, so an upload must never need a second reservation to be satisfied
+ * before the part it already holds can be uploaded. {@link PartBufferingPublisher} guarantees this by publishing each part
+ * before reserving the blocks of the next one, which lets an arena holding a single part serve any number of uploads.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class PartBufferArena {
+    static final int DEFAULT_BLOCK_SIZE = 1024 * 1024;
+
+    private final int blockSizeInBytes;
+    private final int totalBlocks;
+    private final Queue<ByteBuffer> freeBlocks = new ArrayDeque<>();
+    private final Queue<PendingReservation> pendingReservations = new ArrayDeque<>();
+    private int leasedBlocks;
+
+    private PartBufferArena(long capacityInBytes, int blockSizeInBytes) {
+        this.blockSizeInBytes = Validate.isPositive(blockSizeInBytes, "blockSizeInBytes");
+        this.totalBlocks = Math.toIntExact(Validate.isPositive(capacityInBytes, "capacityInBytes") / blockSizeInBytes);
+        Validate.isTrue(totalBlocks > 0, "The capacity of the arena must be at least %d bytes", blockSizeInBytes);
+    }
+
+    public static PartBufferArena create(long capacityInBytes) {
+        return new PartBufferArena(capacityInBytes, DEFAULT_BLOCK_SIZE);
+    }
+
+    @SdkTestInternalApi
+    static PartBufferArena create(long capacityInBytes, int blockSizeInBytes) {
+        return new PartBufferArena(capacityInBytes, blockSizeInBytes);
+    }
+
+    /**
+     * Whether a part of the given size can be buffered in this arena.
+     */
+    public boolean canHold(long partSizeInBytes) {
+        return blocksFor(partSizeInBytes) <= totalBlocks;
+    }
+
+    /**
+     * Reserves enough blocks to buffer {@code sizeInBytes} bytes. The returned future completes once the blocks are available.
+     */
+    public CompletableFuture<Lease> reserve(long sizeInBytes) {
+        int blocks = blocksFor(sizeInBytes);
+        Validate.isTrue(blocks <= totalBlocks, "Cannot reserve %d bytes from an arena of %d bytes", sizeInBytes,
+                        capacityInBytes());
+        PendingReservation reservation;
+        synchronized (this) {
+            if (pendingReservations.isEmpty() && leasedBlocks + blocks <= totalBlocks) {
+                return CompletableFuture.completedFuture(new Lease(takeBlocks(blocks), Duration.ZERO));
+            }
+            reservation = new PendingReservation(blocks);
+            pendingReservations.add(reservation);
+        }
+        return reservation.future;
+    }
+
+    public long capacityInBytes() {
+        return (long) totalBlocks * blockSizeInBytes;
+    }
+
+    public synchronized long leasedBytes() {
+        return (long) leasedBlocks * blockSizeInBytes;
+    }
+
+    public synchronized int pendingReservations() {
+        return pendingReservations.size();
+    }
+
+    private int blocksFor(long sizeInBytes) {
+        return Math.toIntExact(Math.max(1, (sizeInBytes + blockSizeInBytes - 1) / blockSizeInBytes));
+    }
+
+    private List<ByteBuffer> takeBlocks(int blocks) {
+        leasedBlocks += blocks;
+        List<ByteBuffer> taken = new ArrayList<>(blocks);
+        for (int i = 0; i < blocks; i++) {
+            ByteBuffer block = freeBlocks.poll();
+            if (block == null) {
+                block = ByteBuffer.allocateDirect(blockSizeInBytes);
+            }
+            block.clear();
+            taken.add(block);
+        }
+        return taken;
+    }
+
+    private void release(List<ByteBuffer> blocks) {
+        List<PendingReservation> satisfied = new ArrayList<>();
+        synchronized (this) {
+            freeBlocks.addAll(blocks);
+            leasedBlocks -= blocks.size();
+            PendingReservation next;
+            while ((next = pendingReservations.peek()) != null && leasedBlocks + next.blocks <= totalBlocks) {
+                pendingReservations.poll();
+                next.blocksTaken = takeBlocks(next.blocks);
+                satisfied.add(next);
+            }
+        }
+        // Complete the reservations outside of the lock, their callbacks resume buffering the content of the next parts
+        satisfied.forEach(PendingReservation::complete);
+    }
+
+    /**
+     * Blocks reserved from the arena to buffer the content of a part.
+     */
+    public final class Lease {
+        private final List<ByteBuffer> blocks;
+        private final Duration waitTime;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private Lease(List<ByteBuffer> blocks, Duration waitTime) {
+            this.blocks = blocks;
+            this.waitTime = waitTime;
+        }
+
+        public List<ByteBuffer> blocks() {
+            return blocks;
+        }
+
+        public PartBufferArena arena() {
+            return PartBufferArena.this;
+        }
+
+        /**
+         * How long the reservation waited for blocks to be released by other parts.
+         */
+        public Duration waitTime() {
+            return waitTime;
+        }
+
+        /**
+         * Returns the blocks to the arena. Releasing a lease more than once has no effect.
+         */
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                PartBufferArena.this.release(blocks);
+            }
+        }
+    }
+
+    private final class PendingReservation {
+        private final int blocks;
+        private final long startNanos = System.nanoTime();
+        private final CompletableFuture<Lease> future = new CompletableFuture<>();
+        private List<ByteBuffer> blocksTaken;
+
+        private PendingReservation(int blocks) {
+            this.blocks = blocks;
+        }
+
+        private void complete() {
+            Lease lease = new Lease(blocksTaken, Duration.ofNanos(System.nanoTime() - startNanos));
+            if (!future.complete(lease)) {
+                // The reservation was cancelled while the blocks were being released
+                lease.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.async.SimplePublisher;
+
+/**
+ * Splits an {@link AsyncRequestBody} of unknown content length into parts buffered in blocks of a {@link PartBufferArena}, in
+ * place of {@link AsyncRequestBody#split}.
+ * <p>
+ * Each part is only published once it is full or the content is complete, because its content length has to be known. A full
+ * part is held until more content is received or the content completes, so that whether it is the last part is known when it
+ * is published, and the blocks of the next part are only reserved after it has been published. This lets the upload of a part
+ * start, and its blocks be released, without waiting for the next part to be buffered, which could otherwise wait forever for
+ * blocks held by the parts waiting on it.
+ * <p>
+ * More content is only requested from upstream once the content received so far has been copied into the arena, so uploads are
+ * backpressured while the arena is exhausted.
+ */
+@SdkInternalApi
+public final class PartBufferingPublisher implements SdkPublisher<AsyncRequestBody> {
+    private static final Logger log = Logger.loggerFor(PartBufferingPublisher.class);
+
+    private final AsyncRequestBody upstreamPublisher;
+    private final PartBufferArena arena;
+    private final long partSizeInBytes;
+    private final SimplePublisher<AsyncRequestBody> downstreamPublisher = new SimplePublisher<>();
+
+    public PartBufferingPublisher(AsyncRequestBody asyncRequestBody, PartBufferArena arena, long partSizeInBytes) {
+        this.upstreamPublisher = asyncRequestBody;
+        this.arena = arena;
+        this.partSizeInBytes = partSizeInBytes;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super AsyncRequestBody> downstreamSubscriber) {
+        downstreamPublisher.subscribe(downstreamSubscriber);
+        upstreamPublisher.subscribe(new BufferingSubscriber());
+    }
+
+    private final class BufferingSubscriber implements Subscriber<ByteBuffer> {
+        private final AtomicBoolean finished = new AtomicBoolean(false);
+        private Subscription upstreamSubscription;
+        private volatile PartBuffer currentPart;
+        private volatile boolean waitingForArena;
+        private volatile boolean upstreamComplete;
+        private volatile boolean partSent;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            this.upstreamSubscription = s;
+            s.request(1);
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            copyToArena(byteBuffer);
+        }
+
+        private void copyToArena(ByteBuffer byteBuffer) {
+            while (byteBuffer.hasRemaining()) {
+                if (currentPart != null && currentPart.length == partSizeInBytes) {
+                    sendCurrentPart(true);
+                }
+                if (currentPart == null) {
+                    waitingForArena = true;
+                    arena.reserve(partSizeInBytes).whenComplete((lease, t) -> {
+                        if (t != null) {
+                            upstreamSubscription.cancel();
+                            downstreamPublisher.error(t);
+                            return;
+                        }
+                        currentPart = new PartBuffer(lease);
+                        copyToArena(byteBuffer);
+                    });
+                    return;
+                }
+
+                currentPart.write(byteBuffer);
+            }
+
+            waitingForArena = false;
+            if (upstreamComplete) {
+                finish();
+            } else {
+                upstreamSubscription.request(1);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            log.trace(() -> "Received onComplete()");
+            upstreamComplete = true;
+            if (!waitingForArena) {
+                finish();
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            log.trace(() -> "Received onError()", t);
+            PartBuffer part = currentPart;
+            if (part != null) {
+                part.lease.release();
+            }
+            downstreamPublisher.error(t);
+        }
+
+        private void finish() {
+            if (!finished.compareAndSet(false, true)) {
+                return;
+            }
+            PartBuffer part = currentPart;
+            if (part != null && part.length > 0) {
+                sendCurrentPart(false);
+            } else if (part != null) {
+                part.lease.release();
+            }
+            if (!partSent) {
+                // An empty upstream is still uploaded, as a single empty object
+                send(AsyncRequestBody.empty());
+            }
+            downstreamPublisher.complete();
+        }
+
+        private void sendCurrentPart(boolean hasNextPart) {
+            BufferedPartAsyncRequestBody part = currentPart.toRequestBody(hasNextPart);
+            currentPart = null;
+            send(part);
+        }
+
+        private void send(AsyncRequestBody part) {
+            partSent = true;
+            downstreamPublisher.send(part).exceptionally(t -> {
+                if (part instanceof BufferedPartAsyncRequestBody) {
+                    ((BufferedPartAsyncRequestBody) part).release();
+                }
+                downstreamPublisher.error(t);
+                upstreamSubscription.cancel();
+                return null;
+            });
+        }
+    }
+
+    /**
+     * The blocks of a lease being filled with the content of a part.
+     */
+    private final class PartBuffer {
+        private final PartBufferArena.Lease lease;
+        private final List<ByteBuffer> blocks;
+        private int blockIndex;
+        private long length;
+
+        private PartBuffer(PartBufferArena.Lease lease) {
+            this.lease = lease;
+            this.blocks = lease.blocks();
+        }
+
+        private void write(ByteBuffer source) {
+            while (source.hasRemaining() && length < partSizeInBytes) {
+                ByteBuffer block = blocks.get(blockIndex);
+                if (!block.hasRemaining()) {
+                    block = blocks.get(++blockIndex);
+                }
+                int toCopy = (int) Math.min(Math.min(source.remaining(), block.remaining()), partSizeInBytes - length);
+                ByteBuffer slice = source.duplicate();
+                slice.limit(slice.position() + toCopy);
+                block.put(slice);
+                source.position(source.position() + toCopy);
+                length += toCopy;
+            }
+        }
+
+        private BufferedPartAsyncRequestBody toRequestBody(boolean hasNextPart) {
+            ByteBuffer[] content = new ByteBuffer[blockIndex + 1];
+            for (int i = 0; i <= blockIndex; i++) {
+                ByteBuffer block = blocks.get(i).duplicate();
+                block.flip();
+                content[i] = block;
+            }
+            return new BufferedPartAsyncRequestBody(lease, content, length, hasNextPart);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.checksums.DefaultChecksumAlgorithm;
+import software.amazon.awssdk.checksums.SdkChecksum;
+import software.amazon.awssdk.checksums.internal.SdkCrc32CChecksum;
+import software.amazon.awssdk.checksums.internal.SdkCrc32Checksum;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Computes the CRC checksums of multipart upload parts on a bounded pool, and combines the checksums of all the parts into the
+ * checksum of the whole object.
+ * <p>
+ * Only CRC32 and CRC32C are supported, because they are the only algorithms for which the checksum of two consecutive blocks
+ * of data can be combined without reading the data again.
+ */
+@SdkInternalApi
+public final class PartChecksumCalculator implements SdkAutoCloseable {
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The largest length the combine matrices can shift a CRC by in one step. Longer parts are combined in several steps.
+     */
+    private static final long MAX_COMBINE_LENGTH = 1L << 28;
+
+    private static final ThreadLocal<ByteBuffer> READ_BUFFER =
+        ThreadLocal.withInitial(() -> ByteBuffer.allocate(READ_BUFFER_SIZE));
+
+    private final ExecutorService executor;
+
+    @SdkTestInternalApi
+    PartChecksumCalculator(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    public static PartChecksumCalculator create() {
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors());
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                                                             new LinkedBlockingQueue<>(),
+                                                             new ThreadFactoryBuilder()
+                                                                 .threadNamePrefix("s3-multipart-checksum")
+                                                                 .daemonThreads(true)
+                                                                 .build());
+        executor.allowCoreThreadTimeOut(true);
+        return new PartChecksumCalculator(executor);
+    }
+
+    public static boolean isSupported(ChecksumAlgorithm algorithm) {
+        return algorithm == ChecksumAlgorithm.CRC32 || algorithm == ChecksumAlgorithm.CRC32_C;
+    }
+
+    /**
+     * Asynchronously computes the base64 encoded checksum of {@code length} bytes of the file, starting at {@code position}.
+     */
+    public CompletableFuture<String> calculate(ChecksumAlgorithm algorithm, Path path, long position, long length) {
+        return CompletableFuture.supplyAsync(() -> BinaryUtils.toBase64(checksumOf(algorithm, path, position, length)),
+                                             executor);
+    }
+
+    /**
+     * Combines the checksums of all the parts of an object into the base64 encoded checksum of the whole object. Returns an
+     * empty result if any of the parts has no checksum for the algorithm.
+     */
+    public static Optional<String> combine(ChecksumAlgorithm algorithm, CompletedPart[] parts, long partSize,
+                                           long contentLength) {
+        long combined = 0;
+        for (int i = 0; i < parts.length; i++) {
+            String partChecksum = parts[i] == null ? null : partChecksum(algorithm, parts[i]);
+            if (partChecksum == null) {
+                return Optional.empty();
+            }
+            long partCrc = toCrc(BinaryUtils.fromBase64(partChecksum));
+            long partLength = Math.min(partSize, contentLength - i * partSize);
+            combined = i == 0 ? partCrc : combine(algorithm, combined, partCrc, partLength);
+        }
+        return Optional.of(BinaryUtils.toBase64(fromCrc(combined)));
+    }
+
+    static String partChecksum(ChecksumAlgorithm algorithm, CompletedPart part) {
+        return algorithm == ChecksumAlgorithm.CRC32 ? part.checksumCRC32() : part.checksumCRC32C();
+    }
+
+    static CompletedPart withPartChecksum(ChecksumAlgorithm algorithm, CompletedPart part, String checksum) {
+        if (partChecksum(algorithm, part) != null) {
+            return part;
+        }
+        return algorithm == ChecksumAlgorithm.CRC32 ? part.toBuilder().checksumCRC32(checksum).build()
+                                                    : part.toBuilder().checksumCRC32C(checksum).build();
+    }
+
+    private static long combine(ChecksumAlgorithm algorithm, long crc1, long crc2, long lengthOfCrc2) {
+        while (lengthOfCrc2 > MAX_COMBINE_LENGTH) {
+            // Combining with a CRC of 0 only shifts the first CRC by the length of the data that follows it
+            crc1 = combineOnce(algorithm, crc1, 0, MAX_COMBINE_LENGTH);
+            lengthOfCrc2 -= MAX_COMBINE_LENGTH;
+        }
+        return combineOnce(algorithm, crc1, crc2, lengthOfCrc2);
+    }
+
+    private static long combineOnce(ChecksumAlgorithm algorithm, long crc1, long crc2, long lengthOfCrc2) {
+        return algorithm == ChecksumAlgorithm.CRC32 ? SdkCrc32Checksum.combine(crc1, crc2, lengthOfCrc2)
+                                                    : SdkCrc32CChecksum.combine(crc1, crc2, lengthOfCrc2);
+    }
+
+    private static byte[] checksumOf(ChecksumAlgorithm algorithm, Path path, long position, long length) {
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(algorithm == ChecksumAlgorithm.CRC32 ? DefaultChecksumAlgorithm.CRC32
+                                                                                             : DefaultChecksumAlgorithm.CRC32C);
+        ByteBuffer buffer = READ_BUFFER.get();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long remaining = length;
+            long offset = position;
+            while (remaining > 0) {
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), remaining));
+                int read = channel.read(buffer, offset);
+                if (read < 0) {
+                    throw new IOException("Reached the end of " + path + " before reading " + length + " bytes from position "
+                                          + position);
+                }
+                checksum.update(buffer.array(), 0, read);
+                offset += read;
+                remaining -= read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return checksum.getChecksumBytes();
+    }
+
+    private static long toCrc(byte[] bytes) {
+        long crc = 0;
+        for (byte b : bytes) {
+            crc = (crc << 8) | (b & 0xFF);
+        }
+        return crc;
+    }
+
+    private static byte[] fromCrc(long crc) {
+        return new byte[] {(byte) (crc >>> 24), (byte) (crc >>> 16), (byte) (crc >>> 8), (byte) crc};
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Controls the part size and the number of parts in flight of a single multipart transfer, when adaptive tuning is enabled
+ * with {@link software.amazon.awssdk.services.s3.multipart.MultipartConfiguration.Builder#adaptiveTuningEnabled(Boolean)}.
+ * <p>
+ * The part size is fixed for the lifetime of the transfer. The number of parts in flight starts low and is adjusted each time
+ * as many parts as are allowed in flight have completed: it is increased while doing so increases the throughput of the
+ * transfer, and decreased when the throughput drops, or when the time it takes to transfer each byte of a part grows well
+ * beyond the best observed so far, which indicates that parts are queueing rather than being transferred concurrently.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class PartTransferController {
+    static final int INITIAL_IN_FLIGHT_PARTS = 4;
+
+    private static final Logger log = Logger.loggerFor(PartTransferController.class);
+
+    private static final double THROUGHPUT_GAIN_RATIO = 1.05;
+    private static final double THROUGHPUT_LOSS_RATIO = 0.9;
+    private static final double LATENCY_TOLERANCE_RATIO = 2.0;
+
+    private final long partSizeInBytes;
+    private final int maxInFlightParts;
+    private final LongSupplier nanoClock;
+
+    private volatile int inFlightParts;
+
+    // The following are guarded by this
+    private long windowStartNanos;
+    private long windowBytes;
+    private long windowPartNanos;
+    private int windowParts;
+    private double bestThroughput;
+    private double bestNanosPerByte = Double.MAX_VALUE;
+
+    PartTransferController(long partSizeInBytes, int maxInFlightParts) {
+        this(partSizeInBytes, maxInFlightParts, System::nanoTime);
+    }
+
+    @SdkTestInternalApi
+    PartTransferController(long partSizeInBytes, int maxInFlightParts, LongSupplier nanoClock) {
+        this.partSizeInBytes = partSizeInBytes;
+        this.maxInFlightParts = maxInFlightParts;
+        this.nanoClock = nanoClock;
+        this.inFlightParts = Math.min(INITIAL_IN_FLIGHT_PARTS, maxInFlightParts);
+        this.windowStartNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * @return the size, in bytes, of the parts of the transfer.
+     */
+    public long partSizeInBytes() {
+        return partSizeInBytes;
+    }
+
+    /**
+     * @return the number of parts currently allowed to be in flight at the same time.
+     */
+    public int maxInFlightParts() {
+        return inFlightParts;
+    }
+
+    /**
+     * @return the current time of the clock used to measure the duration of parts, in nanoseconds.
+     */
+    long nanoTime() {
+        return nanoClock.getAsLong();
+    }
+
+    /**
+     * Records a part of the transfer that completed successfully.
+     *
+     * @param bytes the number of bytes of the part.
+     * @param durationNanos how long it took to transfer the part.
+     */
+    synchronized void onPartCompleted(long bytes, long durationNanos) {
+        windowBytes += bytes;
+        windowPartNanos += durationNanos;
+        windowParts++;
+        if (windowParts < inFlightParts) {
+            return;
+        }
+
+        long now = nanoClock.getAsLong();
+        double throughput = windowBytes / (double) Math.max(1, now - windowStartNanos);
+        double nanosPerByte = windowPartNanos / (double) Math.max(1, windowBytes);
+        bestNanosPerByte = Math.min(bestNanosPerByte, nanosPerByte);
+
+        int previous = inFlightParts;
+        if (throughput > bestThroughput * THROUGHPUT_GAIN_RATIO) {
+            bestThroughput = throughput;
+            inFlightParts = Math.min(maxInFlightParts, previous + 1);
+        } else if (throughput < bestThroughput * THROUGHPUT_LOSS_RATIO
+                   || nanosPerByte > bestNanosPerByte * LATENCY_TOLERANCE_RATIO) {
+            bestThroughput = throughput;
+            inFlightParts = Math.max(1, previous - 1);
+        }
+
+        if (inFlightParts != previous) {
+            log.debug(() -> String.format("Adjusted the number of parts in flight from %d to %d, throughput: %.0f bytes/s",
+                                          previous, inFlightParts, throughput * 1_000_000_000));
+        }
+
+        windowStartNanos = now;
+        windowBytes = 0;
+        windowPartNanos = 0;
+        windowParts = 0;
+    }
+}
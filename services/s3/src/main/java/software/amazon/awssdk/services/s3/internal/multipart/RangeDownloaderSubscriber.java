@@ -0,0 +1,296 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionAttribute.PART_TRANSFER_CONTROLLER;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A subscriber implementation that downloads an object using concurrent byte range requests. It must only be subscribed to a
+ * publisher of individual {@link AsyncResponseTransformer}s that
+ * {@link AsyncResponseTransformer.SplitResult#parallelSplitSupported() support} being used concurrently, since the ranges
+ * complete in no particular order.
+ * <p>
+ * The size and ETag of the object are first retrieved with a HeadObject request. The object is then split into ranges of
+ * {@code rangeSizeInBytes}, at most {@code maxConcurrentRanges} of them being downloaded at the same time. Every range request
+ * is conditioned on the ETag, so that a concurrent modification of the object fails the download instead of corrupting it.
+ * <p>
+ * When adaptive tuning is enabled, the range size is instead picked from the size of the object, unless {@code rangeSizeInBytes}
+ * is set, and the number of ranges in flight is adjusted by a {@link PartTransferController} as ranges complete.
+ * This is a 'one-shot' class, it should <em>NOT</em> be reused for more than one download.
+ */
+@SdkInternalApi
+public class RangeDownloaderSubscriber implements Subscriber<AsyncResponseTransformer<GetObjectResponse, GetObjectResponse>> {
+    private static final Logger log = Logger.loggerFor(RangeDownloaderSubscriber.class);
+
+    /**
+     * The s3 client used to make the individual range requests
+     */
+    private final S3AsyncClient s3;
+
+    /**
+     * The GetObjectRequest that was provided when calling s3.getObject(...). It is copied for each individual request, with the
+     * range of the request set.
+     */
+    private final GetObjectRequest getObjectRequest;
+
+    private final Long configuredRangeSizeInBytes;
+    private final int maxConcurrentRanges;
+    private final AdaptiveTransferTuning adaptiveTuning;
+
+    /**
+     * The index of the next range to request.
+     */
+    private final AtomicInteger nextRange = new AtomicInteger();
+
+    /**
+     * The total number of completed ranges.
+     */
+    private final AtomicInteger completedRanges = new AtomicInteger();
+
+    /**
+     * This future will be completed once this subscriber reaches a terminal state, failed or successfully, and will be completed
+     * accordingly.
+     */
+    private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+    /**
+     * The subscription received from the publisher this subscriber subscribes to.
+     */
+    private Subscription subscription;
+
+    /**
+     * Size and ETag of the object, known once the HeadObject request completes.
+     */
+    private volatile long contentLength = -1;
+    private volatile int totalRanges;
+    private volatile String eTag;
+    private volatile long rangeSizeInBytes;
+
+    /**
+     * Limits the number of ranges in flight when the download is adaptively tuned, known once the HeadObject request
+     * completes. Null if the download is not adaptively tuned.
+     */
+    private volatile PartTransferController transferController;
+
+    /**
+     * The number of ranges requested from the subscription so far, when the download is adaptively tuned. Guarded by this.
+     */
+    private int requestedRanges;
+
+    public RangeDownloaderSubscriber(S3AsyncClient s3, GetObjectRequest getObjectRequest, long rangeSizeInBytes,
+                                     int maxConcurrentRanges) {
+        this(s3, getObjectRequest, rangeSizeInBytes, maxConcurrentRanges, null);
+    }
+
+    /**
+     * @param rangeSizeInBytes the size of the ranges, or null to pick it from the size of the object with the
+     * {@code adaptiveTuning}.
+     * @param adaptiveTuning the tuning of the range size and the number of ranges in flight, or null to download
+     * {@code maxConcurrentRanges} ranges of {@code rangeSizeInBytes} at a time.
+     */
+    public RangeDownloaderSubscriber(S3AsyncClient s3, GetObjectRequest getObjectRequest, Long rangeSizeInBytes,
+                                     int maxConcurrentRanges, AdaptiveTransferTuning adaptiveTuning) {
+        this.s3 = s3;
+        this.getObjectRequest = getObjectRequest;
+        this.configuredRangeSizeInBytes = rangeSizeInBytes;
+        this.maxConcurrentRanges = maxConcurrentRanges;
+        this.adaptiveTuning = adaptiveTuning;
+        Validate.isTrue(rangeSizeInBytes != null || adaptiveTuning != null,
+                        "Either rangeSizeInBytes or adaptiveTuning must be set");
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        if (this.subscription != null) {
+            s.cancel();
+            return;
+        }
+        this.subscription = s;
+        this.subscription.request(1);
+    }
+
+    @Override
+    public void onNext(AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> asyncResponseTransformer) {
+        if (asyncResponseTransformer == null) {
+            subscription.cancel();
+            throw new NullPointerException("onNext must not be called with null asyncResponseTransformer");
+        }
+
+        if (contentLength < 0) {
+            // The first transformer is only used once the size of the object is known
+            headObject(asyncResponseTransformer);
+            return;
+        }
+
+        int range = nextRange.getAndIncrement();
+        if (range >= totalRanges) {
+            return;
+        }
+        getRange(range, asyncResponseTransformer);
+    }
+
+    private void headObject(AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> asyncResponseTransformer) {
+        log.debug(() -> "Sending HeadObjectRequest to determine the size of the object to download");
+        CompletableFuture<HeadObjectResponse> headFuture =
+            s3.headObject(SdkPojoConversionUtils.toHeadObjectRequest(getObjectRequest));
+        headFuture.whenComplete((response, error) -> {
+            if (error != null) {
+                log.debug(() -> "Error encountered during HeadObjectRequest");
+                asyncResponseTransformer.exceptionOccurred(error);
+                onError(error);
+                return;
+            }
+            startDownload(response, asyncResponseTransformer);
+        });
+    }
+
+    private void startDownload(HeadObjectResponse response,
+                               AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> asyncResponseTransformer) {
+        this.eTag = response.eTag();
+        long size = response.contentLength();
+        if (adaptiveTuning != null) {
+            this.transferController = configuredRangeSizeInBytes != null
+                                      ? adaptiveTuning.controllerWithPartSize(configuredRangeSizeInBytes)
+                                      : adaptiveTuning.controllerFor(size);
+            this.rangeSizeInBytes = transferController.partSizeInBytes();
+        } else {
+            this.rangeSizeInBytes = configuredRangeSizeInBytes;
+        }
+        this.totalRanges = size == 0 ? 1 : (int) Math.min(Integer.MAX_VALUE, (size - 1) / rangeSizeInBytes + 1);
+        this.contentLength = size;
+        log.debug(() -> String.format("Downloading object of %d bytes in %d range(s)", size, totalRanges));
+
+        nextRange.incrementAndGet();
+        if (totalRanges == 1) {
+            // No need for a range, download the whole object in a single request
+            sendRequest(0, size, withTransferController(getObjectRequest.copy(req -> req.ifMatch(eTag))),
+                        asyncResponseTransformer);
+            return;
+        }
+        if (transferController != null) {
+            synchronized (this) {
+                requestedRanges = 1;
+            }
+            getRange(0, asyncResponseTransformer);
+            requestRangesUpToLimit();
+            return;
+        }
+        getRange(0, asyncResponseTransformer);
+        int additionalRanges = Math.min(maxConcurrentRanges, totalRanges) - 1;
+        if (additionalRanges > 0) {
+            subscription.request(additionalRanges);
+        }
+    }
+
+    private void getRange(int range, AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> asyncResponseTransformer) {
+        long start = range * rangeSizeInBytes;
+        long end = Math.min(start + rangeSizeInBytes, contentLength) - 1;
+        GetObjectRequest rangeRequest = getObjectRequest.copy(req -> req.range("bytes=" + start + "-" + end)
+                                                                        .ifMatch(eTag));
+        sendRequest(range, end - start + 1, withTransferController(rangeRequest), asyncResponseTransformer);
+    }
+
+    private GetObjectRequest withTransferController(GetObjectRequest request) {
+        PartTransferController controller = transferController;
+        if (controller == null) {
+            return request;
+        }
+        AwsRequestOverrideConfiguration overrideConfiguration =
+            request.overrideConfiguration()
+                   .map(AwsRequestOverrideConfiguration::toBuilder)
+                   .orElseGet(AwsRequestOverrideConfiguration::builder)
+                   .putExecutionAttribute(PART_TRANSFER_CONTROLLER, controller)
+                   .build();
+        return request.copy(req -> req.overrideConfiguration(overrideConfiguration));
+    }
+
+    private void sendRequest(int range, long rangeBytes, GetObjectRequest request,
+                             AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> asyncResponseTransformer) {
+        log.debug(() -> "Sending GetObjectRequest for range " + range + ", range=" + request.range());
+        PartTransferController controller = transferController;
+        long startNanos = controller == null ? 0 : controller.nanoTime();
+        s3.getObject(request, asyncResponseTransformer).whenComplete((response, error) -> {
+            if (error != null) {
+                log.debug(() -> "Error encountered during GetObjectRequest for range " + range);
+                // Make sure the failure reaches the publisher, even if the request failed before the transformer was used
+                asyncResponseTransformer.exceptionOccurred(error);
+                onError(error);
+                return;
+            }
+            if (controller != null) {
+                controller.onPartCompleted(rangeBytes, controller.nanoTime() - startNanos);
+            }
+            requestMoreIfNeeded();
+        });
+    }
+
+    private void requestMoreIfNeeded() {
+        int totalComplete = completedRanges.incrementAndGet();
+        log.debug(() -> String.format("Completed range %d of %d", totalComplete, totalRanges));
+        if (totalComplete >= totalRanges) {
+            log.debug(() -> String.format("Completing range download after a total of %d ranges downloaded.", totalRanges));
+            subscription.cancel();
+            return;
+        }
+        if (transferController != null) {
+            requestRangesUpToLimit();
+            return;
+        }
+        if (nextRange.get() < totalRanges) {
+            subscription.request(1);
+        }
+    }
+
+    /**
+     * Requests as many ranges as the ranges in flight, which are the ranges requested but not yet completed, leave room for.
+     */
+    private synchronized void requestRangesUpToLimit() {
+        int inFlightRanges = requestedRanges - completedRanges.get();
+        int rangesToRequest = Math.min(transferController.maxInFlightParts() - inFlightRanges, totalRanges - requestedRanges);
+        if (rangesToRequest > 0) {
+            requestedRanges += rangesToRequest;
+            subscription.request(rangesToRequest);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        future.completeExceptionally(t);
+    }
+
+    @Override
+    public void onComplete() {
+        future.complete(null);
+    }
+
+    public CompletableFuture<Void> future() {
+        return this.future;
+    }
+}
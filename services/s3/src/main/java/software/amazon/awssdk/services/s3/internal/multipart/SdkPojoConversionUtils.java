@@ -34,6 +34,7 @@ import software.amazon.awssdk.services.s3.model.CopyObjectResponse;
 import software.amazon.awssdk.services.s3.model.CopyObjectResult;
 import software.amazon.awssdk.services.s3.model.CopyPartResult;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.ListPartsRequest;
 import software.amazon.awssdk.services.s3.model.Part;
@@ -109,6 +110,13 @@ public final class SdkPojoConversionUtils {
                                 .build();
     }
 
+    public static HeadObjectRequest toHeadObjectRequest(GetObjectRequest getObjectRequest) {
+        HeadObjectRequest.Builder builder = HeadObjectRequest.builder();
+        setSdkFields(builder, getObjectRequest);
+        getObjectRequest.overrideConfiguration().ifPresent(builder::overrideConfiguration);
+        return builder.build();
+    }
+
     public static CompletedPart toCompletedPart(CopyPartResult copyPartResult, int partNumber) {
         CompletedPart.Builder builder = CompletedPart.builder();
 
@@ -41,6 +41,13 @@ public final class UploadObjectHelper {
 
     public UploadObjectHelper(S3AsyncClient s3AsyncClient,
                               MultipartConfigurationResolver resolver) {
+        this(s3AsyncClient, resolver, null, null);
+    }
+
+    public UploadObjectHelper(S3AsyncClient s3AsyncClient,
+                              MultipartConfigurationResolver resolver,
+                              PartChecksumCalculator partChecksumCalculator,
+                              PartBufferArena partBufferArena) {
         this.s3AsyncClient = s3AsyncClient;
         this.partSizeInBytes = resolver.minimalPartSizeInBytes();
         this.genericMultipartHelper = new GenericMultipartHelper<>(s3AsyncClient,
@@ -51,11 +58,14 @@ public final class UploadObjectHelper {
         this.uploadWithKnownContentLength = new UploadWithKnownContentLengthHelper(s3AsyncClient,
                                                                                    partSizeInBytes,
                                                                                    multipartUploadThresholdInBytes,
-                                                                                   apiCallBufferSize);
+                                                                                   apiCallBufferSize,
+                                                                                   partChecksumCalculator,
+                                                                                   resolver.uploadTuning());
         this.uploadWithUnknownContentLength = new UploadWithUnknownContentLengthHelper(s3AsyncClient,
                                                                                        partSizeInBytes,
                                                                                        multipartUploadThresholdInBytes,
-                                                                                       apiCallBufferSize);
+                                                                                       apiCallBufferSize,
+                                                                                       partBufferArena);
     }
 
     public CompletableFuture<PutObjectResponse> uploadObject(PutObjectRequest putObjectRequest,
@@ -25,6 +25,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.ChecksumType;
 import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.ListPartsRequest;
@@ -50,11 +51,41 @@ public final class UploadWithKnownContentLengthHelper {
     private final long maxMemoryUsageInBytes;
     private final long multipartUploadThresholdInBytes;
     private final MultipartUploadHelper multipartUploadHelper;
+    private final PartChecksumCalculator partChecksumCalculator;
+    private final AdaptiveTransferTuning adaptiveTuning;
 
     public UploadWithKnownContentLengthHelper(S3AsyncClient s3AsyncClient,
                                               long partSizeInBytes,
                                               long multipartUploadThresholdInBytes,
                                               long maxMemoryUsageInBytes) {
+        this(s3AsyncClient, partSizeInBytes, multipartUploadThresholdInBytes, maxMemoryUsageInBytes, null);
+    }
+
+    /**
+     * @param partChecksumCalculator the calculator used to complete new uploads with a full object checksum, or null to use
+     * the checksum type of the request.
+     */
+    public UploadWithKnownContentLengthHelper(S3AsyncClient s3AsyncClient,
+                                              long partSizeInBytes,
+                                              long multipartUploadThresholdInBytes,
+                                              long maxMemoryUsageInBytes,
+                                              PartChecksumCalculator partChecksumCalculator) {
+        this(s3AsyncClient, partSizeInBytes, multipartUploadThresholdInBytes, maxMemoryUsageInBytes, partChecksumCalculator,
+             null);
+    }
+
+    /**
+     * @param partChecksumCalculator the calculator used to complete new uploads with a full object checksum, or null to use
+     * the checksum type of the request.
+     * @param adaptiveTuning the tuning of the part size and number of parts in flight of each upload, or null to use
+     * {@code partSizeInBytes} and send parts as soon as they are available.
+     */
+    public UploadWithKnownContentLengthHelper(S3AsyncClient s3AsyncClient,
+                                              long partSizeInBytes,
+                                              long multipartUploadThresholdInBytes,
+                                              long maxMemoryUsageInBytes,
+                                              PartChecksumCalculator partChecksumCalculator,
+                                              AdaptiveTransferTuning adaptiveTuning) {
         this.s3AsyncClient = s3AsyncClient;
         this.partSizeInBytes = partSizeInBytes;
         this.genericMultipartHelper = new GenericMultipartHelper<>(s3AsyncClient,
@@ -64,6 +95,8 @@ public final class UploadWithKnownContentLengthHelper {
         this.multipartUploadThresholdInBytes = multipartUploadThresholdInBytes;
         this.multipartUploadHelper = new MultipartUploadHelper(s3AsyncClient, partSizeInBytes, multipartUploadThresholdInBytes,
                                                                maxMemoryUsageInBytes);
+        this.partChecksumCalculator = partChecksumCalculator;
+        this.adaptiveTuning = adaptiveTuning;
     }
 
     public CompletableFuture<PutObjectResponse> uploadObject(PutObjectRequest putObjectRequest,
@@ -102,8 +135,10 @@ public final class UploadWithKnownContentLengthHelper {
 
     private void initiateNewUpload(PutObjectRequest putObjectRequest, long contentLength, AsyncRequestBody asyncRequestBody,
                                    CompletableFuture<PutObjectResponse> returnFuture) {
+        boolean fullObjectChecksum = fullObjectChecksumApplicable(putObjectRequest);
         CompletableFuture<CreateMultipartUploadResponse> createMultipartUploadFuture =
-            multipartUploadHelper.createMultipartUpload(putObjectRequest, returnFuture);
+            multipartUploadHelper.createMultipartUpload(putObjectRequest, fullObjectChecksum ? ChecksumType.FULL_OBJECT : null,
+                                                        returnFuture);
 
         createMultipartUploadFuture.whenComplete((createMultipartUploadResponse, throwable) -> {
             if (throwable != null) {
@@ -111,19 +146,34 @@ public final class UploadWithKnownContentLengthHelper {
             } else {
                 log.debug(() -> "Initiated a new multipart upload, uploadId: " + createMultipartUploadResponse.uploadId());
                 uploadFromBeginning(Pair.of(putObjectRequest, asyncRequestBody), contentLength, returnFuture,
-                                    createMultipartUploadResponse.uploadId());
+                                    createMultipartUploadResponse.uploadId(), fullObjectChecksum);
             }
         });
     }
 
+    /**
+     * Full object checksums are only used for new uploads whose checksum can be combined from the checksums of the parts, and
+     * for which the user did not provide a checksum value. The default CRC32 checksum is already set on the request by
+     * {@link MultipartS3AsyncClient} at this point, so a null algorithm means that no checksum is calculated for the upload.
+     */
+    private boolean fullObjectChecksumApplicable(PutObjectRequest putObjectRequest) {
+        return partChecksumCalculator != null
+               && PartChecksumCalculator.isSupported(putObjectRequest.checksumAlgorithm())
+               && !S3ChecksumUtils.checksumValueSpecified(putObjectRequest);
+    }
+
     private void uploadFromBeginning(Pair<PutObjectRequest, AsyncRequestBody> request, long contentLength,
-                                     CompletableFuture<PutObjectResponse> returnFuture, String uploadId) {
+                                     CompletableFuture<PutObjectResponse> returnFuture, String uploadId,
+                                     boolean fullObjectChecksum) {
 
         long numPartsCompleted = 0;
-        long partSize = genericMultipartHelper.calculateOptimalPartSizeFor(contentLength, partSizeInBytes);
+        PartTransferController transferController = adaptiveTuning == null ? null : adaptiveTuning.controllerFor(contentLength);
+        long partSize = transferController != null
+                        ? transferController.partSizeInBytes()
+                        : genericMultipartHelper.calculateOptimalPartSizeFor(contentLength, partSizeInBytes);
         int partCount = genericMultipartHelper.determinePartCount(contentLength, partSize);
 
-        if (partSize > partSizeInBytes) {
+        if (transferController == null && partSize > partSizeInBytes) {
             log.debug(() -> String.format("Configured partSize is %d, but using %d to prevent reaching maximum number of "
                                           + "parts allowed", partSizeInBytes, partSize));
         }
@@ -139,7 +189,8 @@ public final class UploadWithKnownContentLengthHelper {
                                                                .numPartsCompleted(numPartsCompleted)
                                                                .build();
 
-        splitAndSubscribe(mpuRequestContext, returnFuture);
+        splitAndSubscribe(mpuRequestContext, returnFuture, fullObjectChecksum ? partChecksumCalculator : null,
+                          transferController);
     }
 
     private void resumePausedUpload(ResumeRequestContext resumeContext) {
@@ -173,13 +224,18 @@ public final class UploadWithKnownContentLengthHelper {
                                                                    .numPartsCompleted(resumeToken.numPartsCompleted())
                                                                    .build();
 
-            splitAndSubscribe(mpuRequestContext, resumeContext.returnFuture);
+            PartTransferController transferController =
+                adaptiveTuning == null ? null : adaptiveTuning.controllerWithPartSize(resumeToken.partSize());
+            splitAndSubscribe(mpuRequestContext, resumeContext.returnFuture, null, transferController);
         });
     }
 
-    private void splitAndSubscribe(MpuRequestContext mpuRequestContext, CompletableFuture<PutObjectResponse> returnFuture) {
+    private void splitAndSubscribe(MpuRequestContext mpuRequestContext, CompletableFuture<PutObjectResponse> returnFuture,
+                                   PartChecksumCalculator partChecksumCalculator,
+                                   PartTransferController transferController) {
         KnownContentLengthAsyncRequestBodySubscriber subscriber =
-            new KnownContentLengthAsyncRequestBodySubscriber(mpuRequestContext, returnFuture, multipartUploadHelper);
+            new KnownContentLengthAsyncRequestBodySubscriber(mpuRequestContext, returnFuture, multipartUploadHelper,
+                                                             partChecksumCalculator, transferController);
 
         attachSubscriberToObservable(subscriber, mpuRequestContext.request().left());
 
@@ -17,6 +17,7 @@ package software.amazon.awssdk.services.s3.internal.multipart;
 
 
 import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionAttribute.JAVA_PROGRESS_LISTENER;
+import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionAttribute.PART_BUFFER_LEASE;
 
 import java.util.Collection;
 import java.util.Comparator;
@@ -59,11 +60,23 @@ public final class UploadWithUnknownContentLengthHelper {
     private final long multipartUploadThresholdInBytes;
 
     private final MultipartUploadHelper multipartUploadHelper;
+    private final PartBufferArena partBufferArena;
 
     public UploadWithUnknownContentLengthHelper(S3AsyncClient s3AsyncClient,
                                                 long partSizeInBytes,
                                                 long multipartUploadThresholdInBytes,
                                                 long maxMemoryUsageInBytes) {
+        this(s3AsyncClient, partSizeInBytes, multipartUploadThresholdInBytes, maxMemoryUsageInBytes, null);
+    }
+
+    /**
+     * @param partBufferArena the arena shared by all uploads to buffer their parts in, or null to buffer parts on the heap.
+     */
+    public UploadWithUnknownContentLengthHelper(S3AsyncClient s3AsyncClient,
+                                                long partSizeInBytes,
+                                                long multipartUploadThresholdInBytes,
+                                                long maxMemoryUsageInBytes,
+                                                PartBufferArena partBufferArena) {
         this.s3AsyncClient = s3AsyncClient;
         this.partSizeInBytes = partSizeInBytes;
         this.genericMultipartHelper = new GenericMultipartHelper<>(s3AsyncClient,
@@ -73,6 +86,7 @@ public final class UploadWithUnknownContentLengthHelper {
         this.multipartUploadThresholdInBytes = multipartUploadThresholdInBytes;
         this.multipartUploadHelper = new MultipartUploadHelper(s3AsyncClient, partSizeInBytes, multipartUploadThresholdInBytes,
                                                                maxMemoryUsageInBytes);
+        this.partBufferArena = partBufferArena;
     }
 
     public CompletableFuture<PutObjectResponse> uploadObject(PutObjectRequest putObjectRequest,
@@ -80,8 +94,10 @@ public final class UploadWithUnknownContentLengthHelper {
         CompletableFuture<PutObjectResponse> returnFuture = new CompletableFuture<>();
 
         SdkPublisher<AsyncRequestBody> splitAsyncRequestBodyResponse =
-            asyncRequestBody.split(b -> b.chunkSizeInBytes(partSizeInBytes)
-                                         .bufferSizeInBytes(maxMemoryUsageInBytes));
+            partBufferArena != null
+            ? new PartBufferingPublisher(asyncRequestBody, partBufferArena, partSizeInBytes)
+            : asyncRequestBody.split(b -> b.chunkSizeInBytes(partSizeInBytes)
+                                           .bufferSizeInBytes(maxMemoryUsageInBytes));
 
         splitAsyncRequestBodyResponse.subscribe(new UnknownContentLengthAsyncRequestBodySubscriber(partSizeInBytes,
                                                                                                    putObjectRequest,
@@ -118,6 +134,11 @@ public final class UploadWithUnknownContentLengthHelper {
         private final Queue<CompletedPart> completedParts = new ConcurrentLinkedQueue<>();
         private final Collection<CompletableFuture<CompletedPart>> futures = new ConcurrentLinkedQueue<>();
 
+        /**
+         * The parts buffered in the part buffer arena, released once they have been uploaded or the upload has completed.
+         */
+        private final Collection<BufferedPartAsyncRequestBody> bufferedParts = new ConcurrentLinkedQueue<>();
+
         private final CompletableFuture<String> uploadIdFuture = new CompletableFuture<>();
 
         private final long maximumChunkSizeInByte;
@@ -155,6 +176,7 @@ public final class UploadWithUnknownContentLengthHelper {
                     s.cancel();
                     multipartUploadHelper.cancelingOtherOngoingRequests(futures, t);
                 }
+                bufferedParts.forEach(BufferedPartAsyncRequestBody::release);
             });
         }
 
@@ -163,39 +185,29 @@ public final class UploadWithUnknownContentLengthHelper {
             int currentPartNum = partNumber.incrementAndGet();
             log.trace(() -> "Received asyncRequestBody " + asyncRequestBody.contentLength());
             asyncRequestBodyInFlight.incrementAndGet();
+            if (asyncRequestBody instanceof BufferedPartAsyncRequestBody) {
+                bufferedParts.add((BufferedPartAsyncRequestBody) asyncRequestBody);
+            }
 
             if (isFirstAsyncRequestBody.compareAndSet(true, false)) {
                 log.trace(() -> "Received first async request body");
                 // If this is the first AsyncRequestBody received, request another one because we don't know if there is more
                 firstRequestBody = asyncRequestBody;
                 subscription.request(1);
+                // A part buffered in the arena can only be released once it is uploaded, and the next part may be waiting
+                // for its blocks, so the upload is started as soon as more parts are known to follow
+                if (asyncRequestBody instanceof BufferedPartAsyncRequestBody
+                    && ((BufferedPartAsyncRequestBody) asyncRequestBody).hasNextPart()
+                    && createMultipartUploadInitiated.compareAndSet(false, true)) {
+                    startMultipartUpload(null);
+                }
                 return;
             }
 
             // If there are more than 1 AsyncRequestBodies, then we know we need to upload this
             // object using MPU
             if (createMultipartUploadInitiated.compareAndSet(false, true)) {
-                log.debug(() -> "Starting the upload as multipart upload request");
-                CompletableFuture<CreateMultipartUploadResponse> createMultipartUploadFuture =
-                    multipartUploadHelper.createMultipartUpload(putObjectRequest, returnFuture);
-
-                createMultipartUploadFuture.whenComplete((createMultipartUploadResponse, throwable) -> {
-                    if (throwable != null) {
-                        genericMultipartHelper.handleException(returnFuture, () -> "Failed to initiate multipart upload",
-                                                               throwable);
-                        subscription.cancel();
-                    } else {
-                        uploadId = createMultipartUploadResponse.uploadId();
-                        log.debug(() -> "Initiated a new multipart upload, uploadId: " + uploadId);
-
-                        sendUploadPartRequest(uploadId, firstRequestBody, 1);
-                        sendUploadPartRequest(uploadId, asyncRequestBody, 2);
-
-                        // We need to complete the uploadIdFuture *after* the first two requests have been sent
-                        uploadIdFuture.complete(uploadId);
-                    }
-                });
-                CompletableFutureUtils.forwardExceptionTo(returnFuture, createMultipartUploadFuture);
+                startMultipartUpload(asyncRequestBody);
             } else {
                 uploadIdFuture.whenComplete((r, t) -> {
                     sendUploadPartRequest(uploadId, asyncRequestBody, currentPartNum);
@@ -203,6 +215,35 @@ public final class UploadWithUnknownContentLengthHelper {
             }
         }
 
+        /**
+         * Creates the multipart upload and uploads the first part, and the second part if it has already been received.
+         */
+        private void startMultipartUpload(AsyncRequestBody secondRequestBody) {
+            log.debug(() -> "Starting the upload as multipart upload request");
+            CompletableFuture<CreateMultipartUploadResponse> createMultipartUploadFuture =
+                multipartUploadHelper.createMultipartUpload(putObjectRequest, returnFuture);
+
+            createMultipartUploadFuture.whenComplete((createMultipartUploadResponse, throwable) -> {
+                if (throwable != null) {
+                    genericMultipartHelper.handleException(returnFuture, () -> "Failed to initiate multipart upload",
+                                                           throwable);
+                    subscription.cancel();
+                } else {
+                    uploadId = createMultipartUploadResponse.uploadId();
+                    log.debug(() -> "Initiated a new multipart upload, uploadId: " + uploadId);
+
+                    sendUploadPartRequest(uploadId, firstRequestBody, 1);
+                    if (secondRequestBody != null) {
+                        sendUploadPartRequest(uploadId, secondRequestBody, 2);
+                    }
+
+                    // We need to complete the uploadIdFuture *after* the first two requests have been sent
+                    uploadIdFuture.complete(uploadId);
+                }
+            });
+            CompletableFutureUtils.forwardExceptionTo(returnFuture, createMultipartUploadFuture);
+        }
+
         private void sendUploadPartRequest(String uploadId,
                                            AsyncRequestBody asyncRequestBody,
                                            int currentPartNum) {
@@ -217,6 +258,9 @@ public final class UploadWithUnknownContentLengthHelper {
                 .sendIndividualUploadPartRequest(uploadId, completedParts::add, futures,
                                                  uploadPart(asyncRequestBody, currentPartNum), progressListener)
                 .whenComplete((r, t) -> {
+                    if (asyncRequestBody instanceof BufferedPartAsyncRequestBody) {
+                        ((BufferedPartAsyncRequestBody) asyncRequestBody).release();
+                    }
                     if (t != null) {
                         if (failureActionInitiated.compareAndSet(false, true)) {
                             multipartUploadHelper.failRequestsElegantly(futures, t, uploadId, returnFuture, putObjectRequest);
@@ -235,6 +279,12 @@ public final class UploadWithUnknownContentLengthHelper {
                 SdkPojoConversionUtils.toUploadPartRequest(putObjectRequest,
                                                            partNum,
                                                            uploadId);
+            if (asyncRequestBody instanceof BufferedPartAsyncRequestBody) {
+                PartBufferArena.Lease lease = ((BufferedPartAsyncRequestBody) asyncRequestBody).lease();
+                uploadRequest = uploadRequest.toBuilder()
+                                             .overrideConfiguration(o -> o.putExecutionAttribute(PART_BUFFER_LEASE, lease))
+                                             .build();
+            }
             return Pair.of(uploadRequest, asyncRequestBody);
         }
 
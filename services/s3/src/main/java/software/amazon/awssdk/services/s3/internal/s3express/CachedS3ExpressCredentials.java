@@ -13,28 +13,41 @@
  * permissions and limitations under the License.
  */
 
+
 package software.amazon.awssdk.services.s3.internal.s3express;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.services.s3.model.SessionCredentials;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
-import software.amazon.awssdk.utils.cache.CachedSupplier;
-import software.amazon.awssdk.utils.cache.NonBlocking;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 import software.amazon.awssdk.utils.cache.RefreshResult;
 
 /**
- * This class represents a single cached S3Express credential. It utilizes the existing class {@link CachedSupplier}
- * to wrap the credential value and provide refresh capabilities, set with the {@link NonBlocking} prefetch strategy
- * in order to get asynchronous refresh with a common thread pool.
+ * This class represents a single cached S3Express credential.
+ * <p>
+ * Each time the value is requested through the {@link #get()} or {@link #getAsync()} methods, the cached value is returned
+ * if it is not stale. A value that is stale (or was never loaded) is loaded by the caller, while a value that is within the
+ * prefetch window is refreshed in the background and returned as-is. Regardless of the number of concurrent callers, at most
+ * one load per instance is in flight at any time; every caller that needs a value while it runs waits for the same result.
  * <p>
- * Each time the value is requested through the {@link #get()} method, the class delegates to the cached supplier to get
- * the value. The cached supplier uses the {@link #refreshResult(Function, S3ExpressIdentityKey)} function to retrieve the
- * value.
+ * After each successful load, a refresh is scheduled for the start of the prefetch window of the new value, so that a
+ * frequently used session is replaced before any request has to wait for it. Background loads are run on a common, bounded
+ * thread pool, because the credentials supplier of a synchronous client blocks.
  * <p>
  * Stale time - the time before, and relative to, the expiration time that the credentials are considered stale (invalid)
  * Prefetch time - the time before, and relative, the expiration time that the credentials are eligible for refresh
@@ -49,46 +62,223 @@ import software.amazon.awssdk.utils.cache.RefreshResult;
  */
 @SdkInternalApi
 public final class CachedS3ExpressCredentials implements SdkAutoCloseable {
+    private static final Logger log = Logger.loggerFor(CachedS3ExpressCredentials.class);
 
     //Credentials currently have a max expiration time of 5 minutes
     private static final Duration DEFAULT_EXPIRATION_TIME = Duration.ofMinutes(5);
     private static final Duration DEFAULT_STALE_TIME = Duration.ofSeconds(15);
     private static final Duration DEFAULT_PREFETCH_TIME = Duration.ofSeconds(60);
+
+    /**
+     * Thread used to kick off refreshes at the start of the prefetch window. This does not do the actual refreshing. That's
+     * left for the {@link #EXECUTOR}.
+     */
+    private static final ScheduledThreadPoolExecutor SCHEDULER =
+        new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder().threadNamePrefix("s3-express-credentials-scheduler")
+                                                                     .daemonThreads(true)
+                                                                     .build());
+
+    /**
+     * The maximum number of threads doing background refreshes at the same time, across all instances.
+     */
+    private static final int MAX_REFRESH_THREADS = 8;
+
+    /**
+     * The maximum number of background refreshes waiting for a thread. Refreshes submitted past this limit are skipped: the
+     * cached value is still valid until it is stale, and is then loaded by the caller that needs it.
+     */
+    private static final int MAX_QUEUED_REFRESHES = 1_000;
+
+    /**
+     * Threads used to do the actual work of background refreshes, which block for synchronous clients. The pool is bounded,
+     * so that a burst of sessions entering their prefetch window at once does not start a thread per session.
+     */
+    private static final ThreadPoolExecutor EXECUTOR =
+        new ThreadPoolExecutor(MAX_REFRESH_THREADS, MAX_REFRESH_THREADS,
+                               60L, TimeUnit.SECONDS,
+                               new LinkedBlockingQueue<>(MAX_QUEUED_REFRESHES),
+                               new ThreadFactoryBuilder().threadNamePrefix("s3-express-credentials")
+                                                         .daemonThreads(true)
+                                                         .build());
+
+    static {
+        // Ensure that cancelling a task actually removes it from the queue.
+        SCHEDULER.setRemoveOnCancelPolicy(true);
+        // Don't keep idle refresh threads around for clients that no longer use S3 Express.
+        EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
     private final Duration staleTime;
     private final Duration prefetchTime;
-    private final Function<S3ExpressIdentityKey, SessionCredentials> credentialsSupplier;
+    private final Function<S3ExpressIdentityKey, CompletableFuture<SessionCredentials>> credentialsSupplier;
     private final S3ExpressIdentityKey key;
-    private final CachedSupplier<SessionCredentials> sessionCache;
-    private final NonBlocking prefetchStrategy;
+    private final Object lock = new Object();
+
+    private volatile RefreshResult<SessionCredentials> cachedValue;
+
+    /**
+     * The load currently in flight, if any. Guarded by {@link #lock}.
+     */
+    private CompletableFuture<RefreshResult<SessionCredentials>> inFlightRefresh;
+
+    /**
+     * The background refresh currently scheduled, if any. Guarded by {@link #lock}.
+     */
+    private ScheduledFuture<?> scheduledRefresh;
+
+    /**
+     * Whether this instance has been closed (and should stop doing background refreshes). Guarded by {@link #lock}.
+     */
+    private boolean closed;
 
     private CachedS3ExpressCredentials(Builder builder) {
         this.credentialsSupplier = builder.supplier;
         this.key = builder.key;
         this.staleTime = Optional.ofNullable(builder.staleTime).orElse(DEFAULT_STALE_TIME);
         this.prefetchTime = Optional.ofNullable(builder.prefetchTime).orElse(DEFAULT_PREFETCH_TIME);
-        this.prefetchStrategy = new NonBlocking("s3-express-credentials");
-        this.sessionCache = CachedSupplier.builder(() -> refreshResult(credentialsSupplier, key))
-                                          .prefetchStrategy(prefetchStrategy)
-                                          .build();
     }
 
+    /**
+     * Create a builder for a cached credential that is loaded by a blocking supplier.
+     */
     public static Builder builder(Function<S3ExpressIdentityKey, SessionCredentials> supplier) {
+        return new Builder(k -> CompletableFuture.completedFuture(supplier.apply(k)));
+    }
+
+    /**
+     * Create a builder for a cached credential that is loaded by a non-blocking supplier.
+     */
+    public static Builder asyncBuilder(Function<S3ExpressIdentityKey, CompletableFuture<SessionCredentials>> supplier) {
         return new Builder(supplier);
     }
 
     @SdkTestInternalApi
-    NonBlocking prefetchStrategy() {
-        return prefetchStrategy;
+    static ThreadPoolExecutor executor() {
+        return EXECUTOR;
+    }
+
+    @SdkTestInternalApi
+    boolean isTaskScheduled() {
+        synchronized (lock) {
+            return inFlightRefresh != null || (scheduledRefresh != null && !scheduledRefresh.isDone());
+        }
     }
 
     public SessionCredentials get() {
-        return sessionCache.get();
+        return CompletableFutureUtils.joinLikeSync(getAsync());
+    }
+
+    /**
+     * Return the cached value if it is not stale, or the result of loading a new value otherwise. A value within the prefetch
+     * window is returned immediately while a refresh is started in the background.
+     */
+    public CompletableFuture<SessionCredentials> getAsync() {
+        RefreshResult<SessionCredentials> current = cachedValue;
+        Instant now = Instant.now();
+        if (current == null || !now.isBefore(current.staleTime())) {
+            return refresh(false).thenApply(RefreshResult::value);
+        }
+        if (!now.isBefore(current.prefetchTime())) {
+            refreshInBackground();
+        }
+        return CompletableFuture.completedFuture(current.value());
+    }
+
+    private void refreshInBackground() {
+        refresh(true).whenComplete((r, t) -> {
+            if (t != null) {
+                log.debug(() -> "Background refresh of S3 Express session credentials failed.", t);
+            }
+        });
     }
 
-    private RefreshResult<SessionCredentials> refreshResult(
-        Function<S3ExpressIdentityKey, SessionCredentials> identitySupplier, S3ExpressIdentityKey key) {
+    private CompletableFuture<RefreshResult<SessionCredentials>> refresh(boolean background) {
+        CompletableFuture<RefreshResult<SessionCredentials>> result;
+        synchronized (lock) {
+            if (inFlightRefresh != null) {
+                return inFlightRefresh;
+            }
+            result = new CompletableFuture<>();
+            inFlightRefresh = result;
+        }
+
+        if (!background) {
+            load(result);
+            return result;
+        }
 
-        SessionCredentials newCredentials = identitySupplier.apply(key);
+        try {
+            EXECUTOR.execute(() -> load(result));
+        } catch (RejectedExecutionException e) {
+            completeLoad(result, null, e);
+        }
+        return result;
+    }
+
+    private void load(CompletableFuture<RefreshResult<SessionCredentials>> result) {
+        CompletableFuture<SessionCredentials> credentials;
+        try {
+            credentials = credentialsSupplier.apply(key);
+        } catch (Throwable t) {
+            credentials = CompletableFutureUtils.failedFuture(t);
+        }
+        credentials.whenComplete((r, t) -> {
+            if (t != null) {
+                completeLoad(result, null, t);
+                return;
+            }
+            try {
+                completeLoad(result, refreshResult(r), null);
+            } catch (Throwable e) {
+                completeLoad(result, null, e);
+            }
+        });
+    }
+
+    private void completeLoad(CompletableFuture<RefreshResult<SessionCredentials>> result,
+                              RefreshResult<SessionCredentials> refreshed,
+                              Throwable error) {
+        synchronized (lock) {
+            inFlightRefresh = null;
+            if (refreshed != null) {
+                cachedValue = refreshed;
+                schedulePrefetch(refreshed);
+            }
+        }
+
+        if (error != null) {
+            result.completeExceptionally(unwrap(error));
+        } else {
+            result.complete(refreshed);
+        }
+    }
+
+    private static Throwable unwrap(Throwable t) {
+        if (t instanceof CompletionException && t.getCause() != null) {
+            return t.getCause();
+        }
+        return t;
+    }
+
+    private void schedulePrefetch(RefreshResult<SessionCredentials> result) {
+        if (scheduledRefresh != null) {
+            scheduledRefresh.cancel(false);
+            scheduledRefresh = null;
+        }
+
+        Duration timeUntilPrefetch = Duration.between(Instant.now(), result.prefetchTime());
+        if (closed || timeUntilPrefetch.isNegative()) {
+            return;
+        }
+
+        try {
+            scheduledRefresh = SCHEDULER.schedule(this::refreshInBackground, timeUntilPrefetch.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.debug(() -> "Could not schedule a background refresh of S3 Express session credentials.", e);
+        }
+    }
+
+    private RefreshResult<SessionCredentials> refreshResult(SessionCredentials newCredentials) {
         Instant expirationTime = newCredentials.expiration();
         if (expirationTime == null) {
             expirationTime = Instant.now().plus(DEFAULT_EXPIRATION_TIME);
@@ -120,17 +310,23 @@ public final class CachedS3ExpressCredentials implements SdkAutoCloseable {
 
     @Override
     public void close() {
-        sessionCache.close();
+        synchronized (lock) {
+            closed = true;
+            if (scheduledRefresh != null) {
+                scheduledRefresh.cancel(false);
+                scheduledRefresh = null;
+            }
+        }
     }
 
     public static final class Builder {
 
-        private final Function<S3ExpressIdentityKey, SessionCredentials> supplier;
+        private final Function<S3ExpressIdentityKey, CompletableFuture<SessionCredentials>> supplier;
         private Duration staleTime;
         private Duration prefetchTime;
         private S3ExpressIdentityKey key;
 
-        private Builder(Function<S3ExpressIdentityKey, SessionCredentials> supplier) {
+        private Builder(Function<S3ExpressIdentityKey, CompletableFuture<SessionCredentials>> supplier) {
             this.supplier = supplier;
         }
 
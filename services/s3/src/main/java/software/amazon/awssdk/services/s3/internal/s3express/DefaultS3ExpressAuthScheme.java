@@ -15,13 +15,19 @@
 
 package software.amazon.awssdk.services.s3.internal.s3express;
 
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.AwsServiceClientConfiguration;
+import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.core.SdkServiceClientConfiguration;
 import software.amazon.awssdk.http.auth.spi.signer.HttpSigner;
 import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
 import software.amazon.awssdk.identity.spi.IdentityProvider;
 import software.amazon.awssdk.identity.spi.IdentityProviders;
 import software.amazon.awssdk.services.s3.s3express.S3ExpressAuthScheme;
 import software.amazon.awssdk.services.s3.s3express.S3ExpressSessionCredentials;
+import software.amazon.awssdk.utils.Validate;
 
 @SdkInternalApi
 public final class DefaultS3ExpressAuthScheme implements S3ExpressAuthScheme {
@@ -54,6 +60,42 @@ public final class DefaultS3ExpressAuthScheme implements S3ExpressAuthScheme {
         return DefaultS3ExpressHttpSigner.create();
     }
 
+    @Override
+    public CompletableFuture<Void> prefetchSessions(SdkClient client, Collection<String> buckets) {
+        Validate.paramNotNull(client, "client");
+        Validate.paramNotNull(buckets, "buckets");
+        SdkServiceClientConfiguration clientConfiguration = client.serviceClientConfiguration();
+        if (!(clientConfiguration instanceof AwsServiceClientConfiguration)) {
+            throw new IllegalArgumentException("SdkClient must be either an S3Client or an S3AsyncClient, but was " +
+                                               client.getClass());
+        }
+        IdentityProvider<? extends AwsCredentialsIdentity> credentialsProvider =
+            ((AwsServiceClientConfiguration) clientConfiguration).credentialsProvider();
+        if (credentialsProvider == null) {
+            throw new IllegalStateException("Could not find a provider for AwsCredentialsIdentity");
+        }
+
+        S3ExpressIdentityCache identityCache = getOrCreateCache();
+        return credentialsProvider.resolveIdentity()
+                                  .thenCompose(identity -> prefetchSessions(identityCache, client, identity, buckets));
+    }
+
+    private static CompletableFuture<Void> prefetchSessions(S3ExpressIdentityCache identityCache,
+                                                            SdkClient client,
+                                                            AwsCredentialsIdentity identity,
+                                                            Collection<String> buckets) {
+        CompletableFuture<?>[] sessions =
+            buckets.stream()
+                   .map(bucket -> S3ExpressIdentityKey.builder()
+                                                      .bucket(bucket)
+                                                      .client(client)
+                                                      .identity(identity)
+                                                      .build())
+                   .map(identityCache::getAsync)
+                   .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(sessions);
+    }
+
     private S3ExpressIdentityCache getOrCreateCache() {
         if (cache == null) {
             synchronized (cacheLock) {
@@ -46,14 +46,13 @@ public final class DefaultS3ExpressIdentityProvider implements IdentityProvider<
         String bucket = request.property(S3ExpressAuthSchemeProvider.BUCKET);
         SdkClient client = request.property(SdkIdentityProperty.SDK_CLIENT);
 
-        return baseIdentityProvider.resolveIdentity(request).thenApply(identity -> {
+        return baseIdentityProvider.resolveIdentity(request).thenCompose(identity -> {
             S3ExpressIdentityKey key = S3ExpressIdentityKey.builder()
                                                            .bucket(bucket)
                                                            .client(client)
                                                            .identity(identity)
                                                            .build();
-            // TODO unwrap any exception
-            return identityCache.get(key);
+            return identityCache.getAsync(key);
         });
     }
 }
@@ -16,7 +16,10 @@
 package software.amazon.awssdk.services.s3.internal.s3express;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.credentials.CredentialUtils;
@@ -25,15 +28,23 @@ import software.amazon.awssdk.core.SdkClient;
 import software.amazon.awssdk.core.SdkServiceClientConfiguration;
 import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
 import software.amazon.awssdk.identity.spi.IdentityProvider;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricPublisher;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.CreateSessionRequest;
+import software.amazon.awssdk.services.s3.model.CreateSessionResponse;
 import software.amazon.awssdk.services.s3.model.SessionCredentials;
+import software.amazon.awssdk.services.s3.s3express.S3ExpressMetric;
 import software.amazon.awssdk.services.s3.s3express.S3ExpressSessionCredentials;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.cache.lru.LruCache;
 
 @SdkInternalApi
 public class S3ExpressIdentityCache {
+    private static final Logger log = Logger.loggerFor(S3ExpressIdentityCache.class);
 
     /**
      * Original specification calls for 100. We'll use 25 for now, pending testing.
@@ -55,10 +66,25 @@ public class S3ExpressIdentityCache {
         return new S3ExpressIdentityCache();
     }
 
-    //TODO (s3express) add test to make sure the right exception type is returned and not CompletionException
     public S3ExpressSessionCredentials get(S3ExpressIdentityKey key) {
+        return CompletableFutureUtils.joinLikeSync(getAsync(key));
+    }
+
+    /**
+     * Retrieve the session credentials for the key without blocking. The returned future is already completed when a
+     * non-stale session is cached; otherwise it completes when the single in-flight load of the session for this key
+     * completes.
+     */
+    public CompletableFuture<S3ExpressSessionCredentials> getAsync(S3ExpressIdentityKey key) {
         CachedS3ExpressCredentials cachedCredentials = cache.get(key);
-        return S3ExpressSessionCredentials.fromSessionResponse(cachedCredentials.get());
+        return cachedCredentials.getAsync().thenApply(S3ExpressSessionCredentials::fromSessionResponse);
+    }
+
+    /**
+     * The number of sessions currently cached.
+     */
+    public int size() {
+        return cache.size();
     }
 
     private LruCache<S3ExpressIdentityKey, CachedS3ExpressCredentials> initCache() {
@@ -70,28 +96,68 @@ public class S3ExpressIdentityCache {
     private CachedS3ExpressCredentials getCachedCredentials(S3ExpressIdentityKey key) {
         AwsCredentials credentialsIdentity = CredentialUtils.toCredentials(key.identity());
         StaticCredentialsProvider resolvedCredentialsProvider = StaticCredentialsProvider.create(credentialsIdentity);
-        return CachedS3ExpressCredentials.builder(k -> getCredentials(k, resolvedCredentialsProvider))
+        return CachedS3ExpressCredentials.asyncBuilder(k -> getCredentials(k, resolvedCredentialsProvider))
                                          .key(key)
                                          .build();
     }
 
-    SessionCredentials getCredentials(S3ExpressIdentityKey key, IdentityProvider<AwsCredentialsIdentity> provider) {
+    CompletableFuture<SessionCredentials> getCredentials(S3ExpressIdentityKey key,
+                                                         IdentityProvider<AwsCredentialsIdentity> provider) {
+        long start = System.nanoTime();
+        CompletableFuture<SessionCredentials> credentials = createSession(key, provider);
+        credentials.whenComplete((r, t) -> publishMetrics(key.client(), Duration.ofNanos(System.nanoTime() - start), t == null));
+        return credentials;
+    }
+
+    private static CompletableFuture<SessionCredentials> createSession(S3ExpressIdentityKey key,
+                                                                       IdentityProvider<AwsCredentialsIdentity> provider) {
         SdkClient client = key.client();
         String bucket = key.bucket();
         SdkServiceClientConfiguration serviceClientConfiguration = client.serviceClientConfiguration();
 
         if (client instanceof S3AsyncClient) {
-            // TODO (s3express) don't join here
             return ((S3AsyncClient) client).createSession(createSessionRequest(bucket, provider, serviceClientConfiguration))
-                                           .join()
-                                           .credentials();
+                                           .thenApply(CreateSessionResponse::credentials);
         }
         if (client instanceof S3Client) {
-            return ((S3Client) client).createSession(createSessionRequest(bucket, provider, serviceClientConfiguration))
-                                      .credentials();
+            try {
+                return CompletableFuture.completedFuture(
+                    ((S3Client) client).createSession(createSessionRequest(bucket, provider, serviceClientConfiguration))
+                                       .credentials());
+            } catch (Throwable t) {
+                return CompletableFutureUtils.failedFuture(t);
+            }
+        }
+        return CompletableFutureUtils.failedFuture(
+            new UnsupportedOperationException("SdkClient must be either an S3Client or an S3AsyncClient, but was " +
+                                              client.getClass()));
+    }
+
+    private void publishMetrics(SdkClient client, Duration refreshDuration, boolean successful) {
+        List<MetricPublisher> publishers = metricPublishers(client.serviceClientConfiguration());
+        if (publishers.isEmpty()) {
+            return;
+        }
+
+        MetricCollector collector = MetricCollector.create(S3ExpressMetric.SESSION_REFRESH_COLLECTION_NAME);
+        collector.reportMetric(S3ExpressMetric.SESSION_REFRESH_DURATION, refreshDuration);
+        collector.reportMetric(S3ExpressMetric.SESSION_REFRESH_SUCCESSFUL, successful);
+        collector.reportMetric(S3ExpressMetric.CACHED_SESSION_COUNT, cache.size());
+        MetricCollection metrics = collector.collect();
+        publishers.forEach(p -> {
+            try {
+                p.publish(metrics);
+            } catch (RuntimeException e) {
+                log.warn(() -> "Failed to publish S3 express session metrics.", e);
+            }
+        });
+    }
+
+    private static List<MetricPublisher> metricPublishers(SdkServiceClientConfiguration serviceClientConfiguration) {
+        if (serviceClientConfiguration != null && serviceClientConfiguration.overrideConfiguration() != null) {
+            return serviceClientConfiguration.overrideConfiguration().metricPublishers();
         }
-        throw new UnsupportedOperationException("SdkClient must be either an S3Client or an S3AsyncClient, but was " +
-                                                client.getClass());
+        return Collections.emptyList();
     }
 
     private static CreateSessionRequest
@@ -36,7 +36,9 @@ import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
  * <p>
  * Note that multipart download fetch individual part of the object using {@link GetObjectRequest#partNumber() part number}, this
  * means it will only download multiple parts if the
- * object itself was uploaded as a {@link S3AsyncClient#createMultipartUpload(CreateMultipartUploadRequest) multipart object}
+ * object itself was uploaded as a {@link S3AsyncClient#createMultipartUpload(CreateMultipartUploadRequest) multipart object},
+ * unless a {@link Builder#downloadRangeSizeInBytes(Long) download range size} is configured and the object is downloaded to a
+ * file.
  */
 @SdkPublicApi
 public final class MultipartConfiguration implements ToCopyableBuilder<MultipartConfiguration.Builder, MultipartConfiguration> {
@@ -44,11 +46,21 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
     private final Long thresholdInBytes;
     private final Long minimumPartSizeInBytes;
     private final Long apiCallBufferSizeInBytes;
+    private final Long downloadRangeSizeInBytes;
+    private final Integer maxConcurrentDownloadRanges;
+    private final Boolean fullObjectChecksumEnabled;
+    private final Long partBufferPoolSizeInBytes;
+    private final Boolean adaptiveTuningEnabled;
 
     private MultipartConfiguration(DefaultMultipartConfigBuilder builder) {
         this.thresholdInBytes = builder.thresholdInBytes;
         this.minimumPartSizeInBytes = builder.minimumPartSizeInBytes;
         this.apiCallBufferSizeInBytes = builder.apiCallBufferSizeInBytes;
+        this.downloadRangeSizeInBytes = builder.downloadRangeSizeInBytes;
+        this.maxConcurrentDownloadRanges = builder.maxConcurrentDownloadRanges;
+        this.fullObjectChecksumEnabled = builder.fullObjectChecksumEnabled;
+        this.partBufferPoolSizeInBytes = builder.partBufferPoolSizeInBytes;
+        this.adaptiveTuningEnabled = builder.adaptiveTuningEnabled;
     }
 
     public static Builder builder() {
@@ -60,7 +72,12 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
         return builder()
             .apiCallBufferSizeInBytes(apiCallBufferSizeInBytes)
             .minimumPartSizeInBytes(minimumPartSizeInBytes)
-            .thresholdInBytes(thresholdInBytes);
+            .thresholdInBytes(thresholdInBytes)
+            .downloadRangeSizeInBytes(downloadRangeSizeInBytes)
+            .maxConcurrentDownloadRanges(maxConcurrentDownloadRanges)
+            .fullObjectChecksumEnabled(fullObjectChecksumEnabled)
+            .partBufferPoolSizeInBytes(partBufferPoolSizeInBytes)
+            .adaptiveTuningEnabled(adaptiveTuningEnabled);
     }
 
     /**
@@ -89,6 +106,47 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
         return this.apiCallBufferSizeInBytes;
     }
 
+    /**
+     * The size, in bytes, of each byte range requested when downloading an object to a file. If not set, objects are downloaded
+     * part by part instead.
+     * @return the value of the configured download range size.
+     */
+    public Long downloadRangeSizeInBytes() {
+        return this.downloadRangeSizeInBytes;
+    }
+
+    /**
+     * The maximum number of byte ranges downloaded concurrently when downloading an object to a file.
+     * @return the value of the configured maximum number of concurrent download ranges.
+     */
+    public Integer maxConcurrentDownloadRanges() {
+        return this.maxConcurrentDownloadRanges;
+    }
+
+    /**
+     * Whether multipart uploads compute the checksum of their parts in parallel and complete with a full object checksum.
+     * @return the value of the configured full object checksum option.
+     */
+    public Boolean fullObjectChecksumEnabled() {
+        return this.fullObjectChecksumEnabled;
+    }
+
+    /**
+     * The size, in bytes, of the pool of direct buffers shared by the uploads of unknown content length of the client.
+     * @return the value of the configured part buffer pool size.
+     */
+    public Long partBufferPoolSizeInBytes() {
+        return this.partBufferPoolSizeInBytes;
+    }
+
+    /**
+     * Whether the part size and the number of concurrent part requests are tuned for each transfer.
+     * @return the value of the configured adaptive tuning option.
+     */
+    public Boolean adaptiveTuningEnabled() {
+        return this.adaptiveTuningEnabled;
+    }
+
     /**
      * Builder for a {@link MultipartConfiguration}.
      */
@@ -163,12 +221,145 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
          * @return the value of the maximum memory usage.
          */
         Long apiCallBufferSizeInBytes();
+
+        /**
+         * Configures the size, in bytes, of each byte range requested when downloading an object to a file, for example
+         * using {@link AsyncResponseTransformer#toFile(java.nio.file.Path)}.
+         * <p>
+         * When set, the object is downloaded using concurrent {@link GetObjectRequest#range() ranged} requests, whose content
+         * is written directly at its offset in the file. This works regardless of how the object was uploaded, and allows the
+         * throughput to scale with the number of connections. The number of concurrent requests is limited by
+         * {@link #maxConcurrentDownloadRanges(Integer)}. Downloads to other destinations, which need the content to be received
+         * in order, still fetch the object part by part.
+         * <p>
+         * Default value: not set, objects are downloaded part by part.
+         *
+         * @param downloadRangeSizeInBytes the value of the download range size.
+         * @return an instance of this builder.
+         */
+        Builder downloadRangeSizeInBytes(Long downloadRangeSizeInBytes);
+
+        /**
+         * Indicates the value of the configured download range size.
+         * @return the value of the download range size.
+         */
+        Long downloadRangeSizeInBytes();
+
+        /**
+         * Configures the maximum number of byte ranges downloaded concurrently when a
+         * {@link #downloadRangeSizeInBytes(Long) download range size} is configured.
+         * <p>
+         * Default value: 8
+         *
+         * @param maxConcurrentDownloadRanges the maximum number of concurrent download ranges.
+         * @return an instance of this builder.
+         */
+        Builder maxConcurrentDownloadRanges(Integer maxConcurrentDownloadRanges);
+
+        /**
+         * Indicates the value of the configured maximum number of concurrent download ranges.
+         * @return the value of the maximum number of concurrent download ranges.
+         */
+        Integer maxConcurrentDownloadRanges();
+
+        /**
+         * Configures whether multipart uploads of a known content length should complete with a
+         * {@link software.amazon.awssdk.services.s3.model.ChecksumType#FULL_OBJECT full object} checksum.
+         * <p>
+         * When enabled, and the upload uses the CRC32 or CRC32C checksum algorithm, the checksum of each part read from a file
+         * is computed on a pool bounded to the number of available processors, in parallel with the upload of the other parts,
+         * instead of on the I/O threads while the part is being sent. The part checksums are then combined into the checksum of
+         * the whole object, which is sent with the {@code CompleteMultipartUpload} request and validated by S3.
+         * <p>
+         * The upload uses CRC32 when {@link PutObjectRequest#checksumAlgorithm()} is CRC32, or when it is not set and the
+         * client calculates request checksums by default, which is the case unless {@code requestChecksumCalculation} is
+         * {@code WHEN_REQUIRED}. The option has no effect for other checksum algorithms, for requests that already carry a
+         * checksum value, for uploads without a checksum, and for resumed uploads.
+         * <p>
+         * Each part read from a file is read twice: once on the pool to compute its checksum, and once when it is sent. This
+         * trades additional disk reads, usually served from the page cache, for keeping checksum computation off the I/O threads.
+         * <p>
+         * Default value: false
+         *
+         * @param fullObjectChecksumEnabled whether full object checksums are enabled.
+         * @return an instance of this builder.
+         */
+        Builder fullObjectChecksumEnabled(Boolean fullObjectChecksumEnabled);
+
+        /**
+         * Indicates whether full object checksums are enabled.
+         * @return the value of the full object checksum option.
+         */
+        Boolean fullObjectChecksumEnabled();
+
+        /**
+         * Configures the size, in bytes, of a pool of direct buffers shared by all the uploads of unknown content length of the
+         * client, for example uploads using {@link AsyncRequestBody#fromInputStream}.
+         * <p>
+         * The content length of each part of such uploads has to be known before it is sent, so each part is buffered in memory
+         * first. When this is set, the parts of all the uploads are buffered off-heap in this pool instead of on the heap, and
+         * the memory used by the client no longer grows with the number of concurrent uploads: uploads wait for the buffers of
+         * other parts to be released once their {@code UploadPart} request completes. The pool must be able to hold at least one
+         * part of {@link #minimumPartSizeInBytes(Long)} bytes, and should be a multiple of it. Buffers are allocated as they are
+         * first needed, and are then reused for the lifetime of the client.
+         * <p>
+         * The occupancy of the pool is reported with the {@link MultipartMetric}s of each {@code UploadPart} request.
+         * <p>
+         * Default value: not set, parts are buffered on the heap, up to {@link #apiCallBufferSizeInBytes(Long)} per upload.
+         *
+         * @param partBufferPoolSizeInBytes the size of the part buffer pool.
+         * @return an instance of this builder.
+         */
+        Builder partBufferPoolSizeInBytes(Long partBufferPoolSizeInBytes);
+
+        /**
+         * Indicates the value of the configured part buffer pool size.
+         * @return the value of the part buffer pool size.
+         */
+        Long partBufferPoolSizeInBytes();
+
+        /**
+         * Configures whether the part size and the number of concurrent part requests are tuned for each transfer, instead of
+         * being the same for all the transfers of the client.
+         * <p>
+         * When enabled, the part size of uploads of a known content length, and the size of the byte ranges of downloads to a
+         * file, are picked from the size of the object: small objects use {@link #minimumPartSizeInBytes(Long)} to be
+         * transferred with as many concurrent requests as possible, while very large objects use larger parts to bound the
+         * number of requests, always within the 10,000 part limit of multipart uploads. Downloads to a file use concurrent
+         * byte range requests even if no {@link #downloadRangeSizeInBytes(Long) download range size} is configured; a configured
+         * download range size is used as is.
+         * <p>
+         * The number of parts in flight then starts low and is adjusted from the observed throughput and latency of the parts:
+         * it grows while more concurrent requests increase the throughput of the transfer, and shrinks when they don't. It never
+         * exceeds {@link #maxConcurrentDownloadRanges(Integer)} for downloads, if configured. Uploads remain bounded by
+         * {@link #apiCallBufferSizeInBytes(Long)} when their content has to be buffered in memory.
+         * <p>
+         * The part size and the number of parts in flight of a transfer are reported with the {@link MultipartMetric}s of each
+         * of its part requests.
+         * <p>
+         * Default value: false
+         *
+         * @param adaptiveTuningEnabled whether adaptive tuning is enabled.
+         * @return an instance of this builder.
+         */
+        Builder adaptiveTuningEnabled(Boolean adaptiveTuningEnabled);
+
+        /**
+         * Indicates whether adaptive tuning is enabled.
+         * @return the value of the adaptive tuning option.
+         */
+        Boolean adaptiveTuningEnabled();
     }
 
     private static class DefaultMultipartConfigBuilder implements Builder {
         private Long thresholdInBytes;
         private Long minimumPartSizeInBytes;
         private Long apiCallBufferSizeInBytes;
+        private Long downloadRangeSizeInBytes;
+        private Integer maxConcurrentDownloadRanges;
+        private Boolean fullObjectChecksumEnabled;
+        private Long partBufferPoolSizeInBytes;
+        private Boolean adaptiveTuningEnabled;
 
         public Builder thresholdInBytes(Long thresholdInBytes) {
             this.thresholdInBytes = thresholdInBytes;
@@ -199,6 +390,61 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
             return apiCallBufferSizeInBytes;
         }
 
+        @Override
+        public Builder downloadRangeSizeInBytes(Long downloadRangeSizeInBytes) {
+            this.downloadRangeSizeInBytes = downloadRangeSizeInBytes;
+            return this;
+        }
+
+        @Override
+        public Long downloadRangeSizeInBytes() {
+            return downloadRangeSizeInBytes;
+        }
+
+        @Override
+        public Builder maxConcurrentDownloadRanges(Integer maxConcurrentDownloadRanges) {
+            this.maxConcurrentDownloadRanges = maxConcurrentDownloadRanges;
+            return this;
+        }
+
+        @Override
+        public Integer maxConcurrentDownloadRanges() {
+            return maxConcurrentDownloadRanges;
+        }
+
+        @Override
+        public Builder fullObjectChecksumEnabled(Boolean fullObjectChecksumEnabled) {
+            this.fullObjectChecksumEnabled = fullObjectChecksumEnabled;
+            return this;
+        }
+
+        @Override
+        public Boolean fullObjectChecksumEnabled() {
+            return fullObjectChecksumEnabled;
+        }
+
+        @Override
+        public Builder partBufferPoolSizeInBytes(Long partBufferPoolSizeInBytes) {
+            this.partBufferPoolSizeInBytes = partBufferPoolSizeInBytes;
+            return this;
+        }
+
+        @Override
+        public Long partBufferPoolSizeInBytes() {
+            return partBufferPoolSizeInBytes;
+        }
+
+        @Override
+        public Builder adaptiveTuningEnabled(Boolean adaptiveTuningEnabled) {
+            this.adaptiveTuningEnabled = adaptiveTuningEnabled;
+            return this;
+        }
+
+        @Override
+        public Boolean adaptiveTuningEnabled() {
+            return adaptiveTuningEnabled;
+        }
+
         @Override
         public MultipartConfiguration build() {
             return new MultipartConfiguration(this);
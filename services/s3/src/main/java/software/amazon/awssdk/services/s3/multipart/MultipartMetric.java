@@ -0,0 +1,77 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.s3.multipart;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * Metrics collected for the part requests of multipart transfers: the {@code UploadPart} requests of multipart uploads whose
+ * parts are buffered in the pool configured with {@link MultipartConfiguration.Builder#partBufferPoolSizeInBytes(Long)}, and
+ * the {@code UploadPart} and ranged {@code GetObject} requests of transfers tuned with
+ * {@link MultipartConfiguration.Builder#adaptiveTuningEnabled(Boolean)}.
+ */
+@SdkPublicApi
+public final class MultipartMetric {
+
+    /**
+     * The total size, in bytes, of the part buffer pool of the client.
+     */
+    public static final SdkMetric<Long> PART_BUFFER_POOL_CAPACITY =
+        metric("PartBufferPoolCapacity", Long.class, MetricLevel.INFO);
+
+    /**
+     * The number of bytes of the part buffer pool currently holding the content of parts being buffered or uploaded.
+     */
+    public static final SdkMetric<Long> PART_BUFFER_POOL_LEASED_BYTES =
+        metric("PartBufferPoolLeasedBytes", Long.class, MetricLevel.INFO);
+
+    /**
+     * The number of parts waiting for bytes of the part buffer pool to be released before they can be buffered.
+     */
+    public static final SdkMetric<Integer> PART_BUFFER_POOL_PENDING_RESERVATIONS =
+        metric("PartBufferPoolPendingReservations", Integer.class, MetricLevel.INFO);
+
+    /**
+     * How long the part waited for bytes of the part buffer pool to be released before it could be buffered.
+     */
+    public static final SdkMetric<Duration> PART_BUFFER_ACQUIRE_DURATION =
+        metric("PartBufferAcquireDuration", Duration.class, MetricLevel.INFO);
+
+    /**
+     * The size, in bytes, of the parts of the transfer, picked from the size of the object when adaptive tuning is enabled.
+     */
+    public static final SdkMetric<Long> PART_SIZE =
+        metric("PartSize", Long.class, MetricLevel.INFO);
+
+    /**
+     * The number of parts of the transfer allowed to be in flight when the part request was sent, adjusted from the observed
+     * throughput and latency of the parts when adaptive tuning is enabled.
+     */
+    public static final SdkMetric<Integer> MAX_IN_FLIGHT_PARTS =
+        metric("MaxInFlightParts", Integer.class, MetricLevel.INFO);
+
+    private MultipartMetric() {
+    }
+
+    private static <T> SdkMetric<T> metric(String name, Class<T> clzz, MetricLevel level) {
+        return SdkMetric.create(name, clzz, level, MetricCategory.CORE);
+    }
+}
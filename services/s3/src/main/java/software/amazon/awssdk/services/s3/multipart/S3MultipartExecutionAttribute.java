@@ -20,6 +20,8 @@ import software.amazon.awssdk.core.async.listener.PublisherListener;
 import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.services.s3.internal.multipart.MultipartDownloadResumeContext;
+import software.amazon.awssdk.services.s3.internal.multipart.PartBufferArena;
+import software.amazon.awssdk.services.s3.internal.multipart.PartTransferController;
 
 @SdkProtectedApi
 public final class S3MultipartExecutionAttribute extends SdkExecutionAttribute {
@@ -29,4 +31,8 @@ public final class S3MultipartExecutionAttribute extends SdkExecutionAttribute {
         new ExecutionAttribute<>("JavaProgressListener");
     public static final ExecutionAttribute<MultipartDownloadResumeContext> MULTIPART_DOWNLOAD_RESUME_CONTEXT =
         new ExecutionAttribute<>("MultipartDownloadResumeContext");
+    public static final ExecutionAttribute<PartBufferArena.Lease> PART_BUFFER_LEASE =
+        new ExecutionAttribute<>("PartBufferLease");
+    public static final ExecutionAttribute<PartTransferController> PART_TRANSFER_CONTROLLER =
+        new ExecutionAttribute<>("PartTransferController");
 }
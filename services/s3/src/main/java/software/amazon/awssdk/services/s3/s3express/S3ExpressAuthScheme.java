@@ -15,7 +15,10 @@
 
 package software.amazon.awssdk.services.s3.s3express;
 
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.SdkClient;
 import software.amazon.awssdk.http.auth.aws.signer.AwsV4HttpSigner;
 import software.amazon.awssdk.http.auth.spi.scheme.AuthScheme;
 import software.amazon.awssdk.http.auth.spi.signer.HttpSigner;
@@ -64,4 +67,28 @@ public interface S3ExpressAuthScheme extends AuthScheme<S3ExpressSessionCredenti
      */
     @Override
     HttpSigner<S3ExpressSessionCredentials> signer();
+
+    /**
+     * Create and cache S3 express sessions for the given buckets ahead of the first request to them, using the credentials
+     * provider configured on the client. This can be used at application startup so that the first requests to each bucket
+     * do not have to wait for {@link S3Client#createSession} to complete.
+     *
+     * <p>The sessions are only used by clients that were configured with this auth scheme instance:
+     * {@snippet :
+     * S3ExpressAuthScheme authScheme = S3ExpressAuthScheme.create();
+     * S3Client s3 = S3Client.builder().putAuthScheme(authScheme).build();
+     * authScheme.prefetchSessions(s3, Arrays.asList("bucket--usw2-az1--x-s3")).join();
+     * }
+     *
+     * <p>Sessions that are already cached are not created again. Once cached, a session is refreshed in the background
+     * before it expires.
+     *
+     * @param client the {@link S3Client} or {@code S3AsyncClient} to create the sessions with
+     * @param buckets the names of the directory buckets to create sessions for
+     * @return a future that completes when the sessions for all buckets are cached, or completes exceptionally if any of
+     * them could not be created
+     */
+    default CompletableFuture<Void> prefetchSessions(SdkClient client, Collection<String> buckets) {
+        throw new UnsupportedOperationException();
+    }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.s3.s3express;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * Metrics collected each time the {@link S3ExpressAuthScheme} creates a new S3 express session for a bucket.
+ *
+ * <p>These metrics are published to the metric publishers configured on the client with
+ * {@link ClientOverrideConfiguration.Builder#addMetricPublisher}, in a metric collection named
+ * {@code S3ExpressSessionRefresh}. Unlike the per-request metrics, they are not tied to any API call: a session is usually
+ * refreshed in the background before it expires.
+ */
+@SdkPublicApi
+public final class S3ExpressMetric {
+
+    /**
+     * The name of the metric collection containing the metrics of a single session refresh.
+     */
+    public static final String SESSION_REFRESH_COLLECTION_NAME = "S3ExpressSessionRefresh";
+
+    /**
+     * The time taken to create the S3 express session, including any retries of the {@code CreateSession} call.
+     */
+    public static final SdkMetric<Duration> SESSION_REFRESH_DURATION =
+        metric("S3ExpressSessionRefreshDuration", Duration.class, MetricLevel.INFO);
+
+    /**
+     * True if the S3 express session was successfully created.
+     */
+    public static final SdkMetric<Boolean> SESSION_REFRESH_SUCCESSFUL =
+        metric("S3ExpressSessionRefreshSuccessful", Boolean.class, MetricLevel.INFO);
+
+    /**
+     * The number of sessions, one per bucket and credential identity, that the auth scheme currently caches.
+     */
+    public static final SdkMetric<Integer> CACHED_SESSION_COUNT =
+        metric("S3ExpressCachedSessionCount", Integer.class, MetricLevel.INFO);
+
+    private S3ExpressMetric() {
+    }
+
+    private static <T> SdkMetric<T> metric(String name, Class<T> clzz, MetricLevel level) {
+        return SdkMetric.create(name, clzz, level, MetricCategory.CORE);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.functionaltests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.endpoints.S3EndpointProvider;
+import software.amazon.awssdk.testutils.service.http.MockSyncHttpClient;
+
+/**
+ * Functional tests for the endpoint resolution cache of the S3 client.
+ */
+public class EndpointResolutionCacheTest {
+    private MockSyncHttpClient mockHttpClient;
+    private List<MetricCollection> publishedMetrics;
+
+    @BeforeEach
+    public void setup() {
+        mockHttpClient = new MockSyncHttpClient();
+        HttpExecuteResponse response = HttpExecuteResponse.builder()
+                                                          .response(SdkHttpResponse.builder().statusCode(200).build())
+                                                          .build();
+        mockHttpClient.stubResponses(response, response, response);
+        publishedMetrics = new ArrayList<>();
+    }
+
+    @Test
+    public void objectOperations_differentKeysOnSameBucket_hitCache() {
+        S3Client s3 = client(S3EndpointProvider.defaultProvider());
+
+        s3.headObject(r -> r.bucket("example-bucket").key("object-1"));
+        s3.headObject(r -> r.bucket("example-bucket").key("object-2"));
+        s3.headObject(r -> r.bucket("other-bucket").key("object-1"));
+
+        assertThat(cacheHits()).containsExactly(false, true, false);
+        assertThat(mockHttpClient.getRequests().stream().map(SdkHttpRequest::getUri).collect(Collectors.toList()))
+            .containsExactly(URI.create("https://example-bucket.s3.us-west-2.amazonaws.com/object-1"),
+                             URI.create("https://example-bucket.s3.us-west-2.amazonaws.com/object-2"),
+                             URI.create("https://other-bucket.s3.us-west-2.amazonaws.com/object-1"));
+    }
+
+    @Test
+    public void objectOperations_customProvider_differentKeysMissCache() {
+        S3EndpointProvider defaultProvider = S3EndpointProvider.defaultProvider();
+        S3Client s3 = client(defaultProvider::resolveEndpoint);
+
+        s3.headObject(r -> r.bucket("example-bucket").key("object-1"));
+        s3.headObject(r -> r.bucket("example-bucket").key("object-2"));
+        s3.headObject(r -> r.bucket("example-bucket").key("object-1"));
+
+        assertThat(cacheHits()).containsExactly(false, false, true);
+    }
+
+    private S3Client client(S3EndpointProvider endpointProvider) {
+        return S3Client.builder()
+                       .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("akid", "skid")))
+                       .region(Region.US_WEST_2)
+                       .httpClient(mockHttpClient)
+                       .endpointProvider(endpointProvider)
+                       .overrideConfiguration(o -> o.endpointResolutionCacheSize(16)
+                                                    .addMetricPublisher(new CollectingMetricPublisher()))
+                       .build();
+    }
+
+    private List<Boolean> cacheHits() {
+        return publishedMetrics.stream()
+                               .flatMap(m -> m.metricValues(CoreMetric.ENDPOINT_RESOLUTION_CACHE_HIT).stream())
+                               .collect(Collectors.toList());
+    }
+
+    private final class CollectingMetricPublisher implements MetricPublisher {
+        @Override
+        public void publish(MetricCollection metricCollection) {
+            publishedMetrics.add(metricCollection);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.s3.internal.crossregion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.regions.Region;
+
+class BucketRegionCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void put_moreBucketsThanMaxSize_evictsOldest() {
+        BucketRegionCache cache = BucketRegionCache.builder().maxSize(2).build();
+
+        cache.put("bucket-1", Region.US_WEST_2);
+        cache.put("bucket-2", Region.EU_WEST_1);
+        cache.put("bucket-1", Region.US_EAST_1);
+        cache.put("bucket-3", Region.AP_SOUTH_1);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("bucket-1")).isNull();
+        assertThat(cache.get("bucket-2")).isEqualTo(Region.EU_WEST_1);
+        assertThat(cache.get("bucket-3")).isEqualTo(Region.AP_SOUTH_1);
+    }
+
+    @Test
+    void put_bucketRemovedAndAddedAgain_isEvictedByItsNewPosition() {
+        BucketRegionCache cache = BucketRegionCache.builder().maxSize(2).build();
+
+        cache.put("bucket-1", Region.US_WEST_2);
+        cache.put("bucket-2", Region.EU_WEST_1);
+        cache.remove("bucket-1");
+        cache.put("bucket-1", Region.US_WEST_2);
+        cache.put("bucket-3", Region.AP_SOUTH_1);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("bucket-1")).isEqualTo(Region.US_WEST_2);
+        assertThat(cache.get("bucket-2")).isNull();
+    }
+
+    @Test
+    void get_entryOlderThanTimeToLive_returnsNull() {
+        MutableClock clock = new MutableClock();
+        BucketRegionCache cache = BucketRegionCache.builder().timeToLive(Duration.ofMinutes(1)).clock(clock).build();
+
+        cache.put("bucket", Region.US_WEST_2);
+        clock.advance(Duration.ofSeconds(59));
+        assertThat(cache.get("bucket")).isEqualTo(Region.US_WEST_2);
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(cache.get("bucket")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void getOrLoad_concurrentLookups_shareSingleLoad() {
+        BucketRegionCache cache = BucketRegionCache.builder().build();
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<Region> pendingLoad = new CompletableFuture<>();
+
+        CompletableFuture<Region> first = cache.getOrLoad("bucket", b -> {
+            loads.incrementAndGet();
+            return pendingLoad;
+        });
+        CompletableFuture<Region> second = cache.getOrLoad("bucket", b -> {
+            loads.incrementAndGet();
+            return pendingLoad;
+        });
+        assertThat(first).isNotDone();
+        assertThat(second).isNotDone();
+
+        pendingLoad.complete(Region.EU_CENTRAL_1);
+
+        assertThat(first.join()).isEqualTo(Region.EU_CENTRAL_1);
+        assertThat(second.join()).isEqualTo(Region.EU_CENTRAL_1);
+        assertThat(loads).hasValue(1);
+        assertThat(cache.get("bucket")).isEqualTo(Region.EU_CENTRAL_1);
+        assertThat(cache.inFlightLoads()).isEmpty();
+    }
+
+    @Test
+    void getOrLoad_cachedRegion_doesNotLoad() {
+        BucketRegionCache cache = BucketRegionCache.builder().build();
+        cache.put("bucket", Region.US_WEST_2);
+
+        CompletableFuture<Region> region = cache.getOrLoad("bucket", b -> {
+            throw new IllegalStateException("Should not be called");
+        });
+
+        assertThat(region).isCompletedWithValue(Region.US_WEST_2);
+    }
+
+    @Test
+    void getOrLoad_loadFails_failureIsNotCached() {
+        BucketRegionCache cache = BucketRegionCache.builder().build();
+        RuntimeException failure = new RuntimeException("HeadBucket failed");
+
+        CompletableFuture<Region> failed = cache.getOrLoad("bucket", b -> {
+            throw failure;
+        });
+        assertThatThrownBy(failed::join).isInstanceOf(CompletionException.class).hasCause(failure);
+        assertThat(cache.inFlightLoads()).isEmpty();
+
+        assertThat(cache.getOrLoad("bucket", b -> CompletableFuture.completedFuture(Region.US_EAST_2)).join())
+            .isEqualTo(Region.US_EAST_2);
+    }
+
+    @Test
+    void snapshot_restoredByNewCache() {
+        Path snapshotFile = tempDir.resolve("regions").resolve("bucket-regions.properties");
+        BucketRegionCache cache = BucketRegionCache.builder().snapshotFile(snapshotFile).build();
+        cache.put("bucket-1", Region.US_WEST_2);
+        cache.put("bucket-2", Region.EU_WEST_1);
+
+        cache.snapshot();
+
+        BucketRegionCache restored = BucketRegionCache.builder().snapshotFile(snapshotFile).build();
+        assertThat(restored.size()).isEqualTo(2);
+        assertThat(restored.get("bucket-1")).isEqualTo(Region.US_WEST_2);
+        assertThat(restored.get("bucket-2")).isEqualTo(Region.EU_WEST_1);
+    }
+
+    @Test
+    void snapshot_expiredEntries_areNotSaved() {
+        MutableClock clock = new MutableClock();
+        Path snapshotFile = tempDir.resolve("bucket-regions.properties");
+        BucketRegionCache cache = BucketRegionCache.builder()
+                                                   .snapshotFile(snapshotFile)
+                                                   .timeToLive(Duration.ofMinutes(1))
+                                                   .clock(clock)
+                                                   .build();
+        cache.put("expired", Region.US_WEST_2);
+        clock.advance(Duration.ofMinutes(2));
+        cache.put("current", Region.EU_WEST_1);
+
+        cache.snapshot();
+
+        BucketRegionCache restored = BucketRegionCache.builder().snapshotFile(snapshotFile).build();
+        assertThat(restored.size()).isEqualTo(1);
+        assertThat(restored.get("current")).isEqualTo(Region.EU_WEST_1);
+    }
+
+    @Test
+    void build_snapshotFileMissingOrUnreadable_startsEmpty() throws IOException {
+        assertThat(BucketRegionCache.builder().snapshotFile(tempDir.resolve("missing")).build().size()).isZero();
+
+        Path directory = Files.createDirectory(tempDir.resolve("directory"));
+        assertThat(BucketRegionCache.builder().snapshotFile(directory).build().size()).isZero();
+
+        Path malformed = Files.write(tempDir.resolve("malformed"), "\\u12".getBytes(StandardCharsets.UTF_8));
+        assertThat(BucketRegionCache.builder().snapshotFile(malformed).build().size()).isZero();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.now();
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
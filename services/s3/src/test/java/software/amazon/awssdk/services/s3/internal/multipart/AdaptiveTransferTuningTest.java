@@ -0,0 +1,101 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+
+class AdaptiveTransferTuningTest {
+    private static final long MIB = 1024 * 1024;
+    private static final long MIN_PART_SIZE = 8 * MIB;
+
+    private final AdaptiveTransferTuning tuning = new AdaptiveTransferTuning(MIN_PART_SIZE, 16);
+
+    @ParameterizedTest
+    @CsvSource({
+        // Small objects use the minimum part size
+        "1, 8388608",
+        "104857600, 8388608",
+        "8388608000, 8388608",
+        // Larger objects target 1,000 parts, rounded up to a MiB
+        "8388608001, 9437184",
+        "107374182400, 108003328",
+        // Parts never exceed 2047 MiB, the largest aligned part a request body can be split into
+        "3298534883328, 2146435072",
+        "5497558138880, 2146435072",
+    })
+    void partSizeFor_shouldPickPartSizeFromObjectSize(long contentLength, long expectedPartSize) {
+        assertThat(tuning.partSizeFor(contentLength)).isEqualTo(expectedPartSize);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1", "104857600", "1099511627776", "5497558138880", "53687091200000"})
+    void partSizeFor_shouldFitObjectInMaxPartCount(long contentLength) {
+        long partSize = tuning.partSizeFor(contentLength);
+
+        assertThat((contentLength + partSize - 1) / partSize).isLessThanOrEqualTo(AdaptiveTransferTuning.MAX_PART_COUNT);
+    }
+
+    @Test
+    void partSizeFor_3TiB_canBeSplitFromRequestBody() {
+        long contentLength = 3L * 1024 * 1024 * MIB;
+        long partSize = tuning.partSizeFor(contentLength);
+        byte[] content = new byte[1024];
+        AsyncRequestBody body = new AsyncRequestBody() {
+            @Override
+            public Optional<Long> contentLength() {
+                return Optional.of(contentLength);
+            }
+
+            @Override
+            public void subscribe(Subscriber<? super ByteBuffer> s) {
+                AsyncRequestBody.fromBytes(content).subscribe(s);
+            }
+        };
+
+        List<ByteBuffer> firstPart = new ArrayList<>();
+        body.split(b -> b.chunkSizeInBytes(partSize).bufferSizeInBytes(MIN_PART_SIZE))
+            .limit(1)
+            .subscribe(part -> {
+                assertThat(part.contentLength()).hasValue(partSize);
+                part.subscribe(firstPart::add);
+            })
+            .join();
+
+        assertThat(partSize).isLessThanOrEqualTo(Integer.MAX_VALUE);
+        assertThat(firstPart).isNotEmpty();
+        assertThat(firstPart.stream().mapToInt(ByteBuffer::remaining).sum()).isEqualTo(content.length);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1", "107374182400"})
+    void controllerFor_shouldUsePickedPartSize(long contentLength) {
+        PartTransferController controller = tuning.controllerFor(contentLength);
+
+        assertThat(controller.partSizeInBytes()).isEqualTo(tuning.partSizeFor(contentLength));
+        assertThat(controller.maxInFlightParts()).isEqualTo(PartTransferController.INITIAL_IN_FLIGHT_PARTS);
+    }
+}
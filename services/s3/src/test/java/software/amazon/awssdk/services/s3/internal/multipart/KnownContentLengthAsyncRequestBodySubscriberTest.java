@@ -18,16 +18,21 @@ package software.amazon.awssdk.services.s3.internal.multipart;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
@@ -98,6 +103,39 @@ public class KnownContentLengthAsyncRequestBodySubscriberTest {
         verifyResumeToken(resumeToken, numExistingParts);
     }
 
+    @Test
+    void onNext_withTransferController_shouldLimitPartsInFlight() {
+        PartTransferController controller = new PartTransferController(PART_SIZE, 2, new AtomicLong()::incrementAndGet);
+        List<CompletableFuture<CompletedPart>> partFutures = new ArrayList<>();
+        when(multipartUploadHelper.sendIndividualUploadPartRequest(any(String.class), any(), any(), any(), any()))
+            .thenAnswer(i -> {
+                CompletableFuture<CompletedPart> partFuture = new CompletableFuture<>();
+                partFutures.add(partFuture);
+                return partFuture;
+            });
+        MpuRequestContext mpuRequestContext = MpuRequestContext.builder()
+                                                               .request(Pair.of(putObjectRequest, asyncRequestBody))
+                                                               .contentLength(MPU_CONTENT_SIZE)
+                                                               .partSize(PART_SIZE)
+                                                               .uploadId(UPLOAD_ID)
+                                                               .numPartsCompleted(0L)
+                                                               .build();
+        KnownContentLengthAsyncRequestBodySubscriber subscriber =
+            new KnownContentLengthAsyncRequestBodySubscriber(mpuRequestContext, new CompletableFuture<>(),
+                                                             multipartUploadHelper, null, controller);
+        Subscription subscription = mock(Subscription.class);
+
+        subscriber.onSubscribe(subscription);
+        verify(subscription).request(2);
+
+        subscriber.onNext(AsyncRequestBody.fromBytes(new byte[(int) PART_SIZE]));
+        subscriber.onNext(AsyncRequestBody.fromBytes(new byte[(int) PART_SIZE]));
+        assertThat(partFutures).hasSize(2);
+
+        partFutures.get(0).complete(CompletedPart.builder().partNumber(1).build());
+        verify(subscription).request(1);
+    }
+
     private S3ResumeToken configureSubscriberAndPause(int numExistingParts,
                                                       CompletableFuture<CompleteMultipartUploadResponse> completeMpuFuture) {
         Map<Integer, CompletedPart> existingParts = existingParts(numExistingParts);
@@ -39,15 +39,18 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.checksums.RequestChecksumCalculation;
 import software.amazon.awssdk.core.interceptor.Context;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
 import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
 import software.amazon.awssdk.services.s3.model.ChecksumType;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
@@ -78,15 +81,7 @@ class MultipartClientChecksumTest {
     @BeforeEach
     void init() {
         this.checksumCapturingInterceptor = new ChecksumCapturingInterceptor();
-        multipartS3 = S3AsyncClient.builder()
-                                   .credentialsProvider(StaticCredentialsProvider.create(
-                                       AwsBasicCredentials.create("akid", "skid")))
-                                   .endpointOverride(URI.create("http://localhost:" + wireMock.port()))
-                                   .overrideConfiguration(c -> c.addExecutionInterceptor(checksumCapturingInterceptor))
-                                   .region(Region.US_EAST_1)
-                                   .multipartEnabled(true)
-                                   .forcePathStyle(true)
-                                   .build();
+        multipartS3 = clientBuilder().build();
     }
 
     @AfterEach
@@ -158,6 +153,45 @@ class MultipartClientChecksumTest {
         assertThat(checksumCapturingInterceptor.completeMpuMpObjectSize).isEqualTo(FILE_SIZE);
     }
 
+    @Test
+    public void multipartUpload_fullObjectChecksumEnabledAndDefaultChecksum_shouldCompleteWithFullObjectCrc32() {
+        stubSuccessfulResponses();
+        try (S3AsyncClient fullObjectChecksumS3 = clientBuilder().multipartConfiguration(c -> c.fullObjectChecksumEnabled(true))
+                                                                 .build()) {
+            fullObjectChecksumS3.putObject(putObjectRequestBuilder().build(), testFile).join();
+        }
+
+        assertThat(checksumCapturingInterceptor.createMpuChecksumAlgorithm).isEqualTo("CRC32");
+        assertThat(checksumCapturingInterceptor.createMpuChecksumType).isEqualTo(ChecksumType.FULL_OBJECT.toString());
+        assertThat(checksumCapturingInterceptor.completeMpuChecksumType).isEqualTo(ChecksumType.FULL_OBJECT.toString());
+        assertThat(checksumCapturingInterceptor.completeMpuHeaders).containsKey("x-amz-checksum-crc32");
+    }
+
+    @Test
+    public void multipartUpload_fullObjectChecksumEnabledAndChecksumWhenRequired_shouldNotAddChecksumType() {
+        stubSuccessfulResponses();
+        try (S3AsyncClient fullObjectChecksumS3 =
+                 clientBuilder().multipartConfiguration(c -> c.fullObjectChecksumEnabled(true))
+                                .requestChecksumCalculation(RequestChecksumCalculation.WHEN_REQUIRED)
+                                .build()) {
+            fullObjectChecksumS3.putObject(putObjectRequestBuilder().build(), testFile).join();
+        }
+
+        assertThat(checksumCapturingInterceptor.createMpuChecksumAlgorithm).isNull();
+        assertThat(checksumCapturingInterceptor.createMpuChecksumType).isNull();
+        assertThat(checksumCapturingInterceptor.completeMpuChecksumType).isNull();
+    }
+
+    private S3AsyncClientBuilder clientBuilder() {
+        return S3AsyncClient.builder()
+                            .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("akid", "skid")))
+                            .endpointOverride(URI.create("http://localhost:" + wireMock.port()))
+                            .overrideConfiguration(c -> c.addExecutionInterceptor(checksumCapturingInterceptor))
+                            .region(Region.US_EAST_1)
+                            .multipartEnabled(true)
+                            .forcePathStyle(true);
+    }
+
     private PutObjectRequest.Builder putObjectRequestBuilder() {
         return PutObjectRequest.builder().bucket("bucket").key("key");
     }
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.services.s3.internal.multipart;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
@@ -59,6 +60,32 @@ public class MultipartConfigurationResolverTest {
         assertThat(resolver.apiCallBufferSize()).isEqualTo(40L);
     }
 
+    @Test
+    void resolvePartBufferPoolSize_valueNotProvided_shouldBeNull() {
+        MultipartConfigurationResolver resolver = new MultipartConfigurationResolver(MultipartConfiguration.builder()
+                                                                                                           .build());
+        assertThat(resolver.partBufferPoolSizeInBytes()).isNull();
+    }
+
+    @Test
+    void resolvePartBufferPoolSize_valueProvided_shouldHonor() {
+        MultipartConfiguration configuration = MultipartConfiguration.builder()
+                                                                     .partBufferPoolSizeInBytes(64L)
+                                                                     .build();
+        MultipartConfigurationResolver resolver = new MultipartConfigurationResolver(configuration);
+        assertThat(resolver.partBufferPoolSizeInBytes()).isEqualTo(64L);
+    }
+
+    @Test
+    void resolvePartBufferPoolSize_notPositive_shouldThrow() {
+        MultipartConfiguration configuration = MultipartConfiguration.builder()
+                                                                     .partBufferPoolSizeInBytes(0L)
+                                                                     .build();
+        assertThatThrownBy(() -> new MultipartConfigurationResolver(configuration))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("partBufferPoolSizeInBytes");
+    }
+
     @Test
     void valueProvidedForAllFields_shouldHonor() {
         MultipartConfiguration configuration = MultipartConfiguration.builder()
@@ -79,5 +106,50 @@ public class MultipartConfigurationResolverTest {
         assertThat(resolver.minimalPartSizeInBytes()).isEqualTo(8L * 1024 * 1024);
         assertThat(resolver.thresholdInBytes()).isEqualTo(8L * 1024 * 1024);
         assertThat(resolver.apiCallBufferSize()).isEqualTo(8L * 1024 * 1024 * 4);
+        assertThat(resolver.downloadRangeSizeInBytes()).isNull();
+        assertThat(resolver.maxConcurrentDownloadRanges()).isEqualTo(8);
+    }
+
+    @Test
+    void resolveDownloadRanges_valueProvided_shouldHonor() {
+        MultipartConfiguration configuration = MultipartConfiguration.builder()
+                                                                     .downloadRangeSizeInBytes(1024L)
+                                                                     .maxConcurrentDownloadRanges(16)
+                                                                     .build();
+        MultipartConfigurationResolver resolver = new MultipartConfigurationResolver(configuration);
+        assertThat(resolver.downloadRangeSizeInBytes()).isEqualTo(1024L);
+        assertThat(resolver.maxConcurrentDownloadRanges()).isEqualTo(16);
+    }
+
+    @Test
+    void resolveDownloadRanges_invalidValue_shouldThrow() {
+        assertThatThrownBy(() -> new MultipartConfigurationResolver(MultipartConfiguration.builder()
+                                                                                          .downloadRangeSizeInBytes(0L)
+                                                                                          .build()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("downloadRangeSizeInBytes");
+        assertThatThrownBy(() -> new MultipartConfigurationResolver(MultipartConfiguration.builder()
+                                                                                          .maxConcurrentDownloadRanges(0)
+                                                                                          .build()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxConcurrentDownloadRanges");
+    }
+
+    @Test
+    void resolveAdaptiveTuning_valueNotProvided_shouldBeDisabled() {
+        MultipartConfigurationResolver resolver = new MultipartConfigurationResolver(MultipartConfiguration.builder().build());
+        assertThat(resolver.uploadTuning()).isNull();
+        assertThat(resolver.downloadTuning()).isNull();
+    }
+
+    @Test
+    void resolveAdaptiveTuning_enabled_shouldUseMinimumPartSize() {
+        MultipartConfiguration configuration = MultipartConfiguration.builder()
+                                                                     .minimumPartSizeInBytes(10L)
+                                                                     .adaptiveTuningEnabled(true)
+                                                                     .build();
+        MultipartConfigurationResolver resolver = new MultipartConfigurationResolver(configuration);
+        assertThat(resolver.uploadTuning().partSizeFor(5L)).isEqualTo(10L);
+        assertThat(resolver.downloadTuning().partSizeFor(5L)).isEqualTo(10L);
     }
 }
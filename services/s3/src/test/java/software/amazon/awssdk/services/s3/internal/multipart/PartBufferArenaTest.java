@@ -0,0 +1,126 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+class PartBufferArenaTest {
+    private static final int BLOCK_SIZE = 1024;
+
+    @Test
+    void create_capacitySmallerThanBlock_throws() {
+        assertThatThrownBy(() -> PartBufferArena.create(BLOCK_SIZE - 1, BLOCK_SIZE))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void canHold_partLargerThanCapacity_returnsFalse() {
+        PartBufferArena arena = PartBufferArena.create(4 * BLOCK_SIZE, BLOCK_SIZE);
+
+        assertThat(arena.canHold(4 * BLOCK_SIZE)).isTrue();
+        assertThat(arena.canHold(4 * BLOCK_SIZE + 1)).isFalse();
+        assertThatThrownBy(() -> arena.reserve(4 * BLOCK_SIZE + 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void reserve_enoughCapacity_completesImmediatelyWithWholeBlocks() {
+        PartBufferArena arena = PartBufferArena.create(4 * BLOCK_SIZE, BLOCK_SIZE);
+
+        PartBufferArena.Lease lease = arena.reserve(BLOCK_SIZE + 1).join();
+
+        assertThat(lease.blocks()).hasSize(2).allSatisfy(b -> {
+            assertThat(b.isDirect()).isTrue();
+            assertThat(b.remaining()).isEqualTo(BLOCK_SIZE);
+        });
+        assertThat(lease.waitTime()).isZero();
+        assertThat(arena.leasedBytes()).isEqualTo(2 * BLOCK_SIZE);
+    }
+
+    @Test
+    void release_calledTwice_returnsBlocksOnce() {
+        PartBufferArena arena = PartBufferArena.create(4 * BLOCK_SIZE, BLOCK_SIZE);
+        PartBufferArena.Lease first = arena.reserve(2 * BLOCK_SIZE).join();
+        arena.reserve(2 * BLOCK_SIZE).join();
+
+        first.release();
+        first.release();
+
+        assertThat(arena.leasedBytes()).isEqualTo(2 * BLOCK_SIZE);
+    }
+
+    @Test
+    void reserve_arenaExhausted_waitsUntilBlocksAreReleased() {
+        PartBufferArena arena = PartBufferArena.create(4 * BLOCK_SIZE, BLOCK_SIZE);
+        PartBufferArena.Lease first = arena.reserve(3 * BLOCK_SIZE).join();
+
+        CompletableFuture<PartBufferArena.Lease> second = arena.reserve(2 * BLOCK_SIZE);
+        assertThat(second).isNotDone();
+        assertThat(arena.pendingReservations()).isEqualTo(1);
+
+        first.release();
+
+        assertThat(second).isCompleted();
+        assertThat(second.join().waitTime()).isPositive();
+        assertThat(arena.pendingReservations()).isZero();
+        assertThat(arena.leasedBytes()).isEqualTo(2 * BLOCK_SIZE);
+    }
+
+    @Test
+    void reserve_pendingReservation_laterReservationsWaitInOrder() {
+        PartBufferArena arena = PartBufferArena.create(4 * BLOCK_SIZE, BLOCK_SIZE);
+        PartBufferArena.Lease first = arena.reserve(3 * BLOCK_SIZE).join();
+
+        CompletableFuture<PartBufferArena.Lease> large = arena.reserve(4 * BLOCK_SIZE);
+        CompletableFuture<PartBufferArena.Lease> small = arena.reserve(BLOCK_SIZE);
+        assertThat(small).isNotDone();
+
+        first.release();
+        assertThat(large).isCompleted();
+        assertThat(small).isNotDone();
+
+        large.join().release();
+        assertThat(small).isCompleted();
+    }
+
+    @Test
+    void release_reservationCancelled_returnsBlocksToArena() {
+        PartBufferArena arena = PartBufferArena.create(2 * BLOCK_SIZE, BLOCK_SIZE);
+        PartBufferArena.Lease first = arena.reserve(2 * BLOCK_SIZE).join();
+        CompletableFuture<PartBufferArena.Lease> second = arena.reserve(2 * BLOCK_SIZE);
+
+        second.cancel(true);
+        first.release();
+
+        assertThat(arena.leasedBytes()).isZero();
+    }
+
+    @Test
+    void reserve_releasedBlocks_areRecycledAndCleared() {
+        PartBufferArena arena = PartBufferArena.create(BLOCK_SIZE, BLOCK_SIZE);
+        PartBufferArena.Lease first = arena.reserve(BLOCK_SIZE).join();
+        first.blocks().get(0).put(new byte[10]);
+        first.release();
+
+        PartBufferArena.Lease second = arena.reserve(BLOCK_SIZE).join();
+
+        assertThat(second.blocks().get(0)).isSameAs(first.blocks().get(0));
+        assertThat(second.blocks().get(0).position()).isZero();
+    }
+}
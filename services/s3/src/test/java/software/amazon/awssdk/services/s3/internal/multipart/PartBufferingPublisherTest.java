@@ -0,0 +1,147 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.utils.async.SimplePublisher;
+
+class PartBufferingPublisherTest {
+    private static final int BLOCK_SIZE = 1024;
+    private static final int PART_SIZE = 4 * BLOCK_SIZE;
+
+    @Test
+    void subscribe_contentOfSeveralParts_publishesFullPartsAndRemainder() {
+        byte[] content = randomBytes(3 * PART_SIZE + 100);
+        PartBufferArena arena = PartBufferArena.create(4 * PART_SIZE, BLOCK_SIZE);
+
+        List<AsyncRequestBody> parts = collect(new PartBufferingPublisher(AsyncRequestBody.fromBytes(content), arena,
+                                                                          PART_SIZE));
+
+        assertThat(parts).hasSize(4);
+        assertThat(parts).allSatisfy(p -> assertThat(p).isInstanceOf(BufferedPartAsyncRequestBody.class));
+        assertThat(parts.get(3).contentLength()).hasValue(100L);
+        assertThat(concat(parts)).isEqualTo(content);
+    }
+
+    @Test
+    void subscribe_arenaHoldingOnePart_publishesEachPartBeforeReservingTheNext() {
+        byte[] content = randomBytes(2 * PART_SIZE);
+        PartBufferArena arena = PartBufferArena.create(PART_SIZE, BLOCK_SIZE);
+        List<AsyncRequestBody> parts = new ArrayList<>();
+        CompletableFuture<Void> done = new PartBufferingPublisher(AsyncRequestBody.fromBytes(content), arena, PART_SIZE)
+            .subscribe(parts::add);
+
+        assertThat(parts).hasSize(1);
+        assertThat(((BufferedPartAsyncRequestBody) parts.get(0)).hasNextPart()).isTrue();
+
+        ((BufferedPartAsyncRequestBody) parts.get(0)).release();
+        assertThat(done).isCompleted();
+        assertThat(parts).hasSize(2);
+        assertThat(((BufferedPartAsyncRequestBody) parts.get(1)).hasNextPart()).isFalse();
+    }
+
+    @Test
+    void subscribe_partRetried_replaysSameContent() {
+        byte[] content = randomBytes(PART_SIZE);
+        PartBufferArena arena = PartBufferArena.create(PART_SIZE, BLOCK_SIZE);
+
+        AsyncRequestBody part = collect(new PartBufferingPublisher(AsyncRequestBody.fromBytes(content), arena, PART_SIZE))
+            .get(0);
+
+        assertThat(read(part)).isEqualTo(content);
+        assertThat(read(part)).isEqualTo(content);
+    }
+
+    @Test
+    void subscribe_emptyUpstream_publishesSingleEmptyPart() {
+        PartBufferArena arena = PartBufferArena.create(PART_SIZE, BLOCK_SIZE);
+
+        List<AsyncRequestBody> parts = collect(new PartBufferingPublisher(AsyncRequestBody.empty(), arena, PART_SIZE));
+
+        assertThat(parts).hasSize(1);
+        assertThat(parts.get(0).contentLength()).hasValue(0L);
+        assertThat(arena.leasedBytes()).isZero();
+    }
+
+    @Test
+    void subscribe_arenaExhausted_waitsForPartsToBeReleased() throws Exception {
+        byte[] content = randomBytes(3 * PART_SIZE);
+        PartBufferArena arena = PartBufferArena.create(PART_SIZE, BLOCK_SIZE);
+        List<AsyncRequestBody> parts = new ArrayList<>();
+        CompletableFuture<Void> done = new PartBufferingPublisher(AsyncRequestBody.fromBytes(content), arena, PART_SIZE)
+            .subscribe(parts::add);
+
+        assertThat(parts).hasSize(1);
+        assertThat(arena.pendingReservations()).isEqualTo(1);
+
+        ((BufferedPartAsyncRequestBody) parts.get(0)).release();
+        assertThat(parts).hasSize(2);
+
+        ((BufferedPartAsyncRequestBody) parts.get(1)).release();
+        done.get(5, TimeUnit.SECONDS);
+        assertThat(parts).hasSize(3);
+    }
+
+    @Test
+    void subscribe_upstreamFails_releasesBufferedContentAndFails() {
+        PartBufferArena arena = PartBufferArena.create(PART_SIZE, BLOCK_SIZE);
+        SimplePublisher<ByteBuffer> upstream = new SimplePublisher<>();
+        AsyncRequestBody body = AsyncRequestBody.fromPublisher(upstream);
+        CompletableFuture<Void> done = new PartBufferingPublisher(body, arena, PART_SIZE).subscribe(p -> { });
+
+        upstream.send(ByteBuffer.wrap(randomBytes(100)));
+        upstream.error(new IllegalStateException("boom"));
+
+        assertThat(done).isCompletedExceptionally();
+        assertThat(arena.leasedBytes()).isZero();
+    }
+
+    private static List<AsyncRequestBody> collect(SdkPublisher<AsyncRequestBody> publisher) {
+        List<AsyncRequestBody> parts = new ArrayList<>();
+        publisher.subscribe(parts::add).join();
+        return parts;
+    }
+
+    private static byte[] concat(List<AsyncRequestBody> parts) {
+        ByteBuffer result = ByteBuffer.allocate(parts.stream().mapToInt(p -> p.contentLength().get().intValue()).sum());
+        parts.forEach(p -> result.put(read(p)));
+        return result.array();
+    }
+
+    private static byte[] read(AsyncRequestBody body) {
+        List<ByteBuffer> buffers = new ArrayList<>();
+        SdkPublisher.adapt(body).subscribe(buffers::add).join();
+        ByteBuffer result = ByteBuffer.allocate(buffers.stream().mapToInt(ByteBuffer::remaining).sum());
+        buffers.forEach(result::put);
+        return result.array();
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random().nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import software.amazon.awssdk.checksums.DefaultChecksumAlgorithm;
+import software.amazon.awssdk.checksums.SdkChecksum;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.testutils.RandomTempFile;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+class PartChecksumCalculatorTest {
+    private static final int CONTENT_SIZE = 100 * 1024 + 17;
+    private static final int PART_SIZE = 16 * 1024;
+
+    private static ExecutorService executor;
+    private static RandomTempFile testFile;
+    private static byte[] content;
+
+    @BeforeAll
+    static void setup() throws IOException {
+        executor = Executors.newFixedThreadPool(4);
+        testFile = new RandomTempFile("part-checksum.dat", CONTENT_SIZE);
+        content = Files.readAllBytes(testFile.toPath());
+    }
+
+    @AfterAll
+    static void teardown() {
+        executor.shutdown();
+        testFile.delete();
+    }
+
+    @Test
+    void isSupported_onlyCombinableCrcs() {
+        assertThat(PartChecksumCalculator.isSupported(ChecksumAlgorithm.CRC32)).isTrue();
+        assertThat(PartChecksumCalculator.isSupported(ChecksumAlgorithm.CRC32_C)).isTrue();
+        assertThat(PartChecksumCalculator.isSupported(ChecksumAlgorithm.CRC64_NVME)).isFalse();
+        assertThat(PartChecksumCalculator.isSupported(ChecksumAlgorithm.SHA256)).isFalse();
+        assertThat(PartChecksumCalculator.isSupported(null)).isFalse();
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ChecksumAlgorithm.class, names = {"CRC32", "CRC32_C"})
+    void calculate_matchesChecksumOfFileRange(ChecksumAlgorithm algorithm) {
+        PartChecksumCalculator calculator = new PartChecksumCalculator(executor);
+
+        assertThat(calculator.calculate(algorithm, testFile.toPath(), 1000, 70_000).join())
+            .isEqualTo(checksum(algorithm, content, 1000, 70_000));
+    }
+
+    @Test
+    void calculate_rangePastEndOfFile_fails() {
+        PartChecksumCalculator calculator = new PartChecksumCalculator(executor);
+
+        assertThatThrownBy(() -> calculator.calculate(ChecksumAlgorithm.CRC32, testFile.toPath(), CONTENT_SIZE - 10, 20).join())
+            .isInstanceOf(CompletionException.class)
+            .hasMessageContaining("Reached the end of");
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ChecksumAlgorithm.class, names = {"CRC32", "CRC32_C"})
+    void combine_partChecksums_matchesChecksumOfWholeObject(ChecksumAlgorithm algorithm) {
+        PartChecksumCalculator calculator = new PartChecksumCalculator(executor);
+        int partCount = (CONTENT_SIZE + PART_SIZE - 1) / PART_SIZE;
+        CompletedPart[] parts = new CompletedPart[partCount];
+        for (int i = 0; i < partCount; i++) {
+            long position = (long) i * PART_SIZE;
+            long length = Math.min(PART_SIZE, CONTENT_SIZE - position);
+            String partChecksum = calculator.calculate(algorithm, testFile.toPath(), position, length).join();
+            parts[i] = PartChecksumCalculator.withPartChecksum(algorithm, CompletedPart.builder().partNumber(i + 1).build(),
+                                                               partChecksum);
+        }
+
+        assertThat(PartChecksumCalculator.combine(algorithm, parts, PART_SIZE, CONTENT_SIZE))
+            .hasValue(checksum(algorithm, content, 0, CONTENT_SIZE));
+    }
+
+    @Test
+    void combine_partLargerThanSingleCombineStep_matchesChecksumOfWholeObject() {
+        // Two parts of 300 MiB exceed the length the combine matrices can shift a CRC by in one step
+        byte[] block = new byte[1024 * 1024];
+        int blocksPerPart = 300;
+        long partSize = (long) blocksPerPart * block.length;
+        new Random(42).nextBytes(block);
+
+        SdkChecksum whole = crc32();
+        SdkChecksum first = crc32();
+        SdkChecksum second = crc32();
+        for (int i = 0; i < blocksPerPart; i++) {
+            whole.update(block, 0, block.length);
+            first.update(block, 0, block.length);
+        }
+        for (int i = 0; i < blocksPerPart; i++) {
+            whole.update(block, 0, block.length);
+            second.update(block, 0, block.length);
+        }
+
+        CompletedPart[] parts = {
+            CompletedPart.builder().partNumber(1).checksumCRC32(BinaryUtils.toBase64(first.getChecksumBytes())).build(),
+            CompletedPart.builder().partNumber(2).checksumCRC32(BinaryUtils.toBase64(second.getChecksumBytes())).build()
+        };
+
+        assertThat(PartChecksumCalculator.combine(ChecksumAlgorithm.CRC32, parts, partSize, partSize * 2))
+            .hasValue(BinaryUtils.toBase64(whole.getChecksumBytes()));
+    }
+
+    @Test
+    void combine_partWithoutChecksum_returnsEmpty() {
+        CompletedPart[] parts = {
+            CompletedPart.builder().partNumber(1).checksumCRC32("AAAAAA==").build(),
+            CompletedPart.builder().partNumber(2).build()
+        };
+
+        assertThat(PartChecksumCalculator.combine(ChecksumAlgorithm.CRC32, parts, PART_SIZE, PART_SIZE * 2)).isEmpty();
+    }
+
+    @Test
+    void withPartChecksum_keepsChecksumReturnedByService() {
+        CompletedPart part = CompletedPart.builder().partNumber(1).checksumCRC32C("returned").build();
+
+        assertThat(PartChecksumCalculator.withPartChecksum(ChecksumAlgorithm.CRC32_C, part, "computed").checksumCRC32C())
+            .isEqualTo("returned");
+    }
+
+    private static SdkChecksum crc32() {
+        return SdkChecksum.forAlgorithm(DefaultChecksumAlgorithm.CRC32);
+    }
+
+    private static String checksum(ChecksumAlgorithm algorithm, byte[] data, int offset, int length) {
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(algorithm == ChecksumAlgorithm.CRC32 ? DefaultChecksumAlgorithm.CRC32
+                                                                                             : DefaultChecksumAlgorithm.CRC32C);
+        checksum.update(data, offset, length);
+        return BinaryUtils.toBase64(checksum.getChecksumBytes());
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PartTransferControllerTest {
+    private static final long PART_SIZE = 1024;
+    private static final long PART_DURATION_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private AtomicLong nanoTime;
+    private PartTransferController controller;
+
+    @BeforeEach
+    void setup() {
+        nanoTime = new AtomicLong();
+        controller = new PartTransferController(PART_SIZE, 8, nanoTime::get);
+    }
+
+    @Test
+    void newController_shouldStartWithInitialInFlightParts() {
+        assertThat(controller.partSizeInBytes()).isEqualTo(PART_SIZE);
+        assertThat(controller.maxInFlightParts()).isEqualTo(PartTransferController.INITIAL_IN_FLIGHT_PARTS);
+    }
+
+    @Test
+    void newController_maxLowerThanInitial_shouldStartWithMax() {
+        assertThat(new PartTransferController(PART_SIZE, 2).maxInFlightParts()).isEqualTo(2);
+    }
+
+    @Test
+    void onPartCompleted_throughputIncreases_shouldIncreaseInFlightPartsUpToMax() {
+        for (int i = 0; i < 20; i++) {
+            // Parts take the same time regardless of how many are in flight, so more parts in flight is more throughput
+            completeWindow(PART_DURATION_NANOS, PART_DURATION_NANOS);
+        }
+
+        assertThat(controller.maxInFlightParts()).isEqualTo(8);
+    }
+
+    @Test
+    void onPartCompleted_partsQueueWithoutThroughputGain_shouldDecreaseInFlightParts() {
+        completeWindow(PART_DURATION_NANOS, PART_DURATION_NANOS);
+        int inFlightParts = controller.maxInFlightParts();
+
+        // The window takes as long as a part, so the throughput doesn't increase, while each part takes 4 times longer
+        completeWindow(PART_DURATION_NANOS * inFlightParts / 4, PART_DURATION_NANOS * 4);
+
+        assertThat(controller.maxInFlightParts()).isEqualTo(inFlightParts - 1);
+    }
+
+    @Test
+    void onPartCompleted_throughputDrops_shouldDecreaseInFlightParts() {
+        completeWindow(PART_DURATION_NANOS, PART_DURATION_NANOS);
+        int inFlightParts = controller.maxInFlightParts();
+
+        completeWindow(PART_DURATION_NANOS * 2 * inFlightParts, PART_DURATION_NANOS);
+
+        assertThat(controller.maxInFlightParts()).isEqualTo(inFlightParts - 1);
+    }
+
+    @Test
+    void onPartCompleted_throughputDropsRepeatedly_shouldNotGoBelowOnePart() {
+        completeWindow(PART_DURATION_NANOS, PART_DURATION_NANOS);
+        long windowNanos = PART_DURATION_NANOS;
+        for (int i = 0; i < 20; i++) {
+            windowNanos *= 2;
+            completeWindow(windowNanos, PART_DURATION_NANOS);
+        }
+
+        assertThat(controller.maxInFlightParts()).isEqualTo(1);
+    }
+
+    private void completeWindow(long windowNanos, long partDurationNanos) {
+        int parts = controller.maxInFlightParts();
+        nanoTime.addAndGet(windowNanos);
+        for (int i = 0; i < parts; i++) {
+            controller.onPartCompleted(PART_SIZE, partDurationNanos);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.head;
+import static com.github.tomakehurst.wiremock.client.WireMock.headRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.multipart.MultipartMetric;
+
+@WireMockTest
+class RangeDownloaderSubscriberWiremockTest {
+    private static final String BUCKET = "test-bucket";
+    private static final String KEY = "test-key";
+    private static final String ETAG = "\"etag\"";
+    private static final String OBJECT_PATH = "/" + BUCKET + "/" + KEY;
+    private static final long RANGE_SIZE = 100;
+
+    @TempDir
+    private Path tempDir;
+
+    private S3AsyncClient s3AsyncClient;
+    private S3AsyncClient adaptiveS3AsyncClient;
+    private final List<MetricCollection> publishedMetrics = new CopyOnWriteArrayList<>();
+    private final Random random = new Random();
+
+    @BeforeEach
+    public void init(WireMockRuntimeInfo wiremock) {
+        s3AsyncClient = S3AsyncClient.builder()
+                                     .credentialsProvider(StaticCredentialsProvider.create(
+                                         AwsBasicCredentials.create("key", "secret")))
+                                     .region(Region.US_WEST_2)
+                                     .endpointOverride(URI.create("http://localhost:" + wiremock.getHttpPort()))
+                                     .forcePathStyle(true)
+                                     .multipartEnabled(true)
+                                     .multipartConfiguration(c -> c.downloadRangeSizeInBytes(RANGE_SIZE)
+                                                                   .maxConcurrentDownloadRanges(3))
+                                     .build();
+        adaptiveS3AsyncClient =
+            S3AsyncClient.builder()
+                         .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("key", "secret")))
+                         .region(Region.US_WEST_2)
+                         .endpointOverride(URI.create("http://localhost:" + wiremock.getHttpPort()))
+                         .forcePathStyle(true)
+                         .multipartEnabled(true)
+                         .multipartConfiguration(c -> c.minimumPartSizeInBytes(RANGE_SIZE)
+                                                       .adaptiveTuningEnabled(true))
+                         .overrideConfiguration(o -> o.addMetricPublisher(new CapturingMetricPublisher()))
+                         .build();
+    }
+
+    @AfterEach
+    public void teardown() {
+        s3AsyncClient.close();
+        adaptiveS3AsyncClient.close();
+    }
+
+    @Test
+    void downloadToFile_adaptiveTuning_shouldDownloadRangesOfPickedSizeAndReportMetrics() throws Exception {
+        byte[] expectedBody = stubObject(1050);
+        Path file = tempDir.resolve("file");
+
+        adaptiveS3AsyncClient.getObject(r -> r.bucket(BUCKET).key(KEY), AsyncResponseTransformer.toFile(file)).join();
+
+        assertThat(Files.readAllBytes(file)).isEqualTo(expectedBody);
+        for (int start = 0; start < 1050; start += RANGE_SIZE) {
+            verify(1, getRequestedFor(urlEqualTo(OBJECT_PATH))
+                .withHeader("Range", equalTo(range(start, Math.min(start + RANGE_SIZE, 1050) - 1)))
+                .withHeader("If-Match", equalTo(ETAG)));
+        }
+        List<MetricCollection> rangeMetrics =
+            publishedMetrics.stream()
+                            .filter(m -> !m.metricValues(MultipartMetric.PART_SIZE).isEmpty())
+                            .collect(Collectors.toList());
+        assertThat(rangeMetrics).hasSize(11);
+        assertThat(rangeMetrics).allSatisfy(m -> {
+            assertThat(m.metricValues(MultipartMetric.PART_SIZE)).containsExactly(RANGE_SIZE);
+            assertThat(m.metricValues(MultipartMetric.MAX_IN_FLIGHT_PARTS).get(0)).isPositive();
+        });
+    }
+
+    @Test
+    void downloadToFile_objectLargerThanRange_shouldDownloadRangesConcurrently() throws Exception {
+        byte[] expectedBody = stubObject(1050);
+        Path file = tempDir.resolve("file");
+
+        GetObjectResponse response = s3AsyncClient.getObject(r -> r.bucket(BUCKET).key(KEY),
+                                                             AsyncResponseTransformer.toFile(file))
+                                                  .join();
+
+        assertThat(Files.readAllBytes(file)).isEqualTo(expectedBody);
+        assertThat(response.contentRange()).isEqualTo("bytes 0-99/1050");
+        verify(1, headRequestedFor(urlEqualTo(OBJECT_PATH)));
+        for (int start = 0; start < 1050; start += RANGE_SIZE) {
+            verify(1, getRequestedFor(urlEqualTo(OBJECT_PATH))
+                .withHeader("Range", equalTo(range(start, Math.min(start + RANGE_SIZE, 1050) - 1)))
+                .withHeader("If-Match", equalTo(ETAG)));
+        }
+    }
+
+    @Test
+    void downloadToFile_objectSmallerThanRange_shouldDownloadWholeObject() throws Exception {
+        byte[] expectedBody = stubObject(50);
+        Path file = tempDir.resolve("file");
+
+        s3AsyncClient.getObject(r -> r.bucket(BUCKET).key(KEY), AsyncResponseTransformer.toFile(file)).join();
+
+        assertThat(Files.readAllBytes(file)).isEqualTo(expectedBody);
+        verify(1, getRequestedFor(urlEqualTo(OBJECT_PATH)).withHeader("Range", absent()));
+    }
+
+    @Test
+    void downloadToFile_emptyObject_shouldCreateEmptyFile() throws Exception {
+        stubObject(0);
+        Path file = tempDir.resolve("file");
+
+        s3AsyncClient.getObject(r -> r.bucket(BUCKET).key(KEY), AsyncResponseTransformer.toFile(file)).join();
+
+        assertThat(file).exists();
+        assertThat(Files.size(file)).isZero();
+    }
+
+    @Test
+    void downloadToFile_rangeFails_shouldFailAndDeleteFile() {
+        stubObject(450);
+        stubFor(get(urlEqualTo(OBJECT_PATH)).withHeader("Range", equalTo(range(200, 299)))
+                                            .willReturn(aResponse().withStatus(412).withBody(
+                                                "<Error><Code>PreconditionFailed</Code><Message>test error message</Message>"
+                                                + "</Error>")));
+        Path file = tempDir.resolve("file");
+
+        assertThatThrownBy(() -> s3AsyncClient.getObject(r -> r.bucket(BUCKET).key(KEY),
+                                                         AsyncResponseTransformer.toFile(file))
+                                              .join())
+            .hasMessageContaining("test error message");
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    void downloadToBytes_shouldUsePartDownload() {
+        MultipartDownloadTestUtil util = new MultipartDownloadTestUtil(BUCKET, KEY, ETAG);
+        byte[] expectedBody = util.stubAllParts(BUCKET, KEY, 2, 64);
+
+        ResponseBytes<GetObjectResponse> response = s3AsyncClient.getObject(r -> r.bucket(BUCKET).key(KEY),
+                                                                            AsyncResponseTransformer.toBytes())
+                                                                 .join();
+
+        assertThat(response.asByteArray()).isEqualTo(expectedBody);
+        util.verifyCorrectAmountOfRequestsMade(2);
+        verify(0, headRequestedFor(urlEqualTo(OBJECT_PATH)));
+    }
+
+    private byte[] stubObject(int size) {
+        byte[] body = new byte[size];
+        random.nextBytes(body);
+        stubFor(head(urlEqualTo(OBJECT_PATH)).willReturn(aResponse().withHeader("Content-Length", String.valueOf(size))
+                                                                     .withHeader("ETag", ETAG)));
+        stubFor(get(urlEqualTo(OBJECT_PATH)).withHeader("Range", absent())
+                                            .willReturn(aResponse().withHeader("ETag", ETAG).withBody(body)));
+        for (int start = 0; start < size; start += RANGE_SIZE) {
+            int end = (int) Math.min(start + RANGE_SIZE, size) - 1;
+            stubFor(get(urlEqualTo(OBJECT_PATH)).withHeader("Range", equalTo(range(start, end)))
+                                                .willReturn(aResponse().withStatus(206)
+                                                                       .withHeader("ETag", ETAG)
+                                                                       .withHeader("Content-Range",
+                                                                                   "bytes " + start + "-" + end + "/" + size)
+                                                                       .withBody(Arrays.copyOfRange(body, start, end + 1))));
+        }
+        return body;
+    }
+
+    private static String range(long start, long end) {
+        return "bytes=" + start + "-" + end;
+    }
+
+    private class CapturingMetricPublisher implements MetricPublisher {
+        @Override
+        public void publish(MetricCollection metricCollection) {
+            publishedMetrics.add(metricCollection);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -34,6 +34,7 @@ import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionA
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -56,12 +57,16 @@ import org.mockito.stubbing.Answer;
 import org.mockito.stubbing.OngoingStubbing;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
+import software.amazon.awssdk.checksums.DefaultChecksumAlgorithm;
+import software.amazon.awssdk.checksums.SdkChecksum;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.ChecksumType;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.CompletedPart;
@@ -78,6 +83,7 @@ import software.amazon.awssdk.services.s3.multipart.PauseObservable;
 import software.amazon.awssdk.services.s3.multipart.S3ResumeToken;
 import software.amazon.awssdk.services.s3.paginators.ListPartsPublisher;
 import software.amazon.awssdk.testutils.RandomTempFile;
+import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 
 public class UploadObjectHelperTest {
@@ -191,6 +197,54 @@ public class UploadObjectHelperTest {
         assertThat(actualRequest.multipartUpload().parts()).isEqualTo(completedParts(numTotalParts));
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"CRC32", "CRC32C"})
+    void uploadObject_fullObjectChecksumEnabled_shouldSendPartChecksumsAndCombinedChecksum(String algorithm) throws IOException {
+        ChecksumAlgorithm checksumAlgorithm = ChecksumAlgorithm.fromValue(algorithm);
+        PartChecksumCalculator calculator = PartChecksumCalculator.create();
+        uploadHelper = new UploadObjectHelper(s3AsyncClient,
+                                              new MultipartConfigurationResolver(MultipartConfiguration.builder()
+                                                                                                       .minimumPartSizeInBytes(PART_SIZE)
+                                                                                                       .thresholdInBytes(PART_SIZE * 2)
+                                                                                                       .build()),
+                                              calculator,
+                                              null);
+        PutObjectRequest putObjectRequest = putObjectRequest(null).toBuilder().checksumAlgorithm(checksumAlgorithm).build();
+
+        stubSuccessfulCreateMultipartCall(UPLOAD_ID, s3AsyncClient);
+        stubSuccessfulUploadPartCalls(s3AsyncClient);
+        stubSuccessfulCompleteMultipartCall(BUCKET, KEY, s3AsyncClient);
+
+        try {
+            uploadHelper.uploadObject(putObjectRequest, AsyncRequestBody.fromFile(testFile)).join();
+        } finally {
+            calculator.close();
+        }
+
+        ArgumentCaptor<CreateMultipartUploadRequest> createMpuArgumentCaptor =
+            ArgumentCaptor.forClass(CreateMultipartUploadRequest.class);
+        verify(s3AsyncClient).createMultipartUpload(createMpuArgumentCaptor.capture());
+        assertThat(createMpuArgumentCaptor.getValue().checksumType()).isEqualTo(ChecksumType.FULL_OBJECT);
+
+        byte[] content = Files.readAllBytes(testFile.toPath());
+        ArgumentCaptor<UploadPartRequest> uploadPartArgumentCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(s3AsyncClient, times(4)).uploadPart(uploadPartArgumentCaptor.capture(), any(AsyncRequestBody.class));
+        for (UploadPartRequest request : uploadPartArgumentCaptor.getAllValues()) {
+            int offset = (int) ((request.partNumber() - 1) * PART_SIZE);
+            int length = (int) Math.min(PART_SIZE, MPU_CONTENT_SIZE - offset);
+            String expected = checksum(checksumAlgorithm, content, offset, length);
+            assertThat(request.getValueForField("Checksum" + algorithm, String.class)).hasValue(expected);
+        }
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> completeMpuArgumentCaptor =
+            ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3AsyncClient).completeMultipartUpload(completeMpuArgumentCaptor.capture());
+        CompleteMultipartUploadRequest completeRequest = completeMpuArgumentCaptor.getValue();
+        assertThat(completeRequest.checksumType()).isEqualTo(ChecksumType.FULL_OBJECT);
+        assertThat(completeRequest.getValueForField("Checksum" + algorithm, String.class))
+            .hasValue(checksum(checksumAlgorithm, content, 0, content.length));
+    }
+
     /**
      * The second part failed, it should cancel ongoing part(first part).
      */
@@ -414,6 +468,13 @@ public class UploadObjectHelperTest {
         assertThat(actualRequest.multipartUpload().parts()).isEqualTo(completedParts(numTotalParts));
     }
 
+    private static String checksum(ChecksumAlgorithm algorithm, byte[] content, int offset, int length) {
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(algorithm == ChecksumAlgorithm.CRC32 ? DefaultChecksumAlgorithm.CRC32
+                                                                                             : DefaultChecksumAlgorithm.CRC32C);
+        checksum.update(content, offset, length);
+        return BinaryUtils.toBase64(checksum.getChecksumBytes());
+    }
+
     private List<CompletedPart> completedParts(int totalNumParts) {
         return IntStream.range(1, totalNumParts + 1).mapToObj(i -> CompletedPart.builder().partNumber(i).build()).collect(Collectors.toList());
     }
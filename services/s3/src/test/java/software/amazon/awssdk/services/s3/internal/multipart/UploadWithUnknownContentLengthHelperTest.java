@@ -16,17 +16,21 @@
 package software.amazon.awssdk.services.s3.internal.multipart;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static software.amazon.awssdk.services.s3.internal.multipart.MpuTestUtils.stubSuccessfulCompleteMultipartCall;
 import static software.amazon.awssdk.services.s3.internal.multipart.MpuTestUtils.stubSuccessfulCreateMultipartCall;
 import static software.amazon.awssdk.services.s3.internal.multipart.MpuTestUtils.stubSuccessfulUploadPartCalls;
+import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionAttribute.PART_BUFFER_LEASE;
 
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.AfterAll;
@@ -44,6 +48,7 @@ import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
 import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 import software.amazon.awssdk.testutils.RandomTempFile;
+import software.amazon.awssdk.utils.async.SimplePublisher;
 
 public class UploadWithUnknownContentLengthHelperTest {
     private static final String BUCKET = "bucket";
@@ -121,6 +126,79 @@ public class UploadWithUnknownContentLengthHelperTest {
 
     }
 
+    @Test
+    void upload_withPartBufferArena_shouldBufferPartsInArenaAndReleaseThem() throws FileNotFoundException {
+        stubSuccessfulCreateMultipartCall(UPLOAD_ID, s3AsyncClient);
+        stubSuccessfulUploadPartCalls(s3AsyncClient);
+        stubSuccessfulCompleteMultipartCall(BUCKET, KEY, s3AsyncClient);
+        PartBufferArena arena = PartBufferArena.create(PART_SIZE * 4, 1024);
+        helper = new UploadWithUnknownContentLengthHelper(s3AsyncClient, PART_SIZE, PART_SIZE, PART_SIZE * 4, arena);
+
+        BlockingInputStreamAsyncRequestBody body = AsyncRequestBody.forBlockingInputStream(null);
+        CompletableFuture<PutObjectResponse> future = helper.uploadObject(putObjectRequest(), body);
+        body.writeInputStream(new FileInputStream(testFile));
+        future.join();
+
+        ArgumentCaptor<UploadPartRequest> requestArgumentCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+        ArgumentCaptor<AsyncRequestBody> requestBodyArgumentCaptor = ArgumentCaptor.forClass(AsyncRequestBody.class);
+        int numTotalParts = 126;
+        verify(s3AsyncClient, times(numTotalParts)).uploadPart(requestArgumentCaptor.capture(),
+                                                               requestBodyArgumentCaptor.capture());
+
+        assertThat(requestBodyArgumentCaptor.getAllValues()).allSatisfy(
+            b -> assertThat(b).isInstanceOf(BufferedPartAsyncRequestBody.class));
+        assertThat(requestArgumentCaptor.getAllValues()).allSatisfy(
+            r -> assertThat(r.overrideConfiguration().get().executionAttributes().getAttribute(PART_BUFFER_LEASE))
+                .isNotNull());
+        assertThat(requestBodyArgumentCaptor.getAllValues().get(numTotalParts - 1).contentLength()).hasValue(5120L);
+        assertThat(arena.leasedBytes()).isZero();
+    }
+
+    @Test
+    void upload_withPartBufferArenaHoldingOnePart_contentLargerThanPart_shouldComplete() throws Exception {
+        stubSuccessfulCreateMultipartCall(UPLOAD_ID, s3AsyncClient);
+        stubSuccessfulUploadPartCalls(s3AsyncClient);
+        stubSuccessfulCompleteMultipartCall(BUCKET, KEY, s3AsyncClient);
+        PartBufferArena arena = PartBufferArena.create(PART_SIZE, 1024);
+        helper = new UploadWithUnknownContentLengthHelper(s3AsyncClient, PART_SIZE, PART_SIZE, PART_SIZE, arena);
+
+        AsyncRequestBody body = AsyncRequestBody.fromPublisher(AsyncRequestBody.fromBytes(new byte[(int) PART_SIZE * 3 + 100]));
+        helper.uploadObject(putObjectRequest(), body).get(5, TimeUnit.SECONDS);
+
+        verify(s3AsyncClient, times(4)).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+        assertThat(arena.leasedBytes()).isZero();
+    }
+
+    @Test
+    void upload_concurrentUploadsSharingPartBufferArenaOfTwoParts_shouldComplete() throws Exception {
+        stubSuccessfulCreateMultipartCall(UPLOAD_ID, s3AsyncClient);
+        stubSuccessfulUploadPartCalls(s3AsyncClient);
+        stubSuccessfulCompleteMultipartCall(BUCKET, KEY, s3AsyncClient);
+        PartBufferArena arena = PartBufferArena.create(PART_SIZE * 2, 1024);
+        helper = new UploadWithUnknownContentLengthHelper(s3AsyncClient, PART_SIZE, PART_SIZE, PART_SIZE * 2, arena);
+
+        SimplePublisher<ByteBuffer> firstUpstream = new SimplePublisher<>();
+        SimplePublisher<ByteBuffer> secondUpstream = new SimplePublisher<>();
+        CompletableFuture<PutObjectResponse> firstUpload =
+            helper.uploadObject(putObjectRequest(), AsyncRequestBody.fromPublisher(firstUpstream));
+        CompletableFuture<PutObjectResponse> secondUpload =
+            helper.uploadObject(putObjectRequest(), AsyncRequestBody.fromPublisher(secondUpstream));
+
+        // Each upload fills a part, so that the two parts held by the uploads take the whole arena
+        firstUpstream.send(ByteBuffer.wrap(new byte[(int) PART_SIZE]));
+        secondUpstream.send(ByteBuffer.wrap(new byte[(int) PART_SIZE]));
+        for (int i = 0; i < 2; i++) {
+            firstUpstream.send(ByteBuffer.wrap(new byte[(int) PART_SIZE]));
+            secondUpstream.send(ByteBuffer.wrap(new byte[(int) PART_SIZE]));
+        }
+        firstUpstream.complete();
+        secondUpstream.complete();
+
+        CompletableFuture.allOf(firstUpload, secondUpload).get(5, TimeUnit.SECONDS);
+        verify(s3AsyncClient, times(6)).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+        assertThat(arena.leasedBytes()).isZero();
+    }
+
     private static PutObjectRequest putObjectRequest() {
         return PutObjectRequest.builder()
                                .bucket(BUCKET)
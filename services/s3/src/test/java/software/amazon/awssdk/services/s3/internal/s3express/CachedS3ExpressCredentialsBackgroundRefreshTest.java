@@ -16,6 +16,7 @@
 package software.amazon.awssdk.services.s3.internal.s3express;
 
 import static java.time.temporal.ChronoUnit.HOURS;
+import static java.time.temporal.ChronoUnit.MINUTES;
 import static java.time.temporal.ChronoUnit.SECONDS;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -24,6 +25,9 @@ import static org.mockito.Mockito.times;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -84,7 +88,7 @@ class CachedS3ExpressCredentialsBackgroundRefreshTest {
         cachedCredentials.get();
 
         waitAndVerifySupplierCalled(atLeast(2));
-        assertThat(cachedCredentials.prefetchStrategy().isTaskScheduled()).isTrue();
+        assertThat(cachedCredentials.isTaskScheduled()).isTrue();
     }
 
     @Test
@@ -96,7 +100,85 @@ class CachedS3ExpressCredentialsBackgroundRefreshTest {
         Mockito.when(mockCredentialsSupplier.apply(any())).thenThrow(S3Exception.builder().build());
 
         waitAndVerifySupplierCalled(times(2));
-        assertThat(cachedCredentials.prefetchStrategy().isTaskScheduled()).isFalse();
+        assertThat(cachedCredentials.isTaskScheduled()).isFalse();
+    }
+
+    @Test
+    void cachedCredentials_concurrentCallersShareSingleLoad() {
+        Function<S3ExpressIdentityKey, CompletableFuture<SessionCredentials>> asyncSupplier = Mockito.mock(Function.class);
+        CompletableFuture<SessionCredentials> pendingSession = new CompletableFuture<>();
+        Mockito.when(asyncSupplier.apply(any())).thenReturn(pendingSession);
+        CachedS3ExpressCredentials asyncCachedCredentials = asyncCachedCredentials(asyncSupplier, Duration.ZERO);
+
+        try {
+            List<CompletableFuture<SessionCredentials>> results = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                results.add(asyncCachedCredentials.getAsync());
+            }
+            assertThat(results.stream().anyMatch(CompletableFuture::isDone)).isFalse();
+
+            SessionCredentials credentials = createSessionCredentials(Instant.now().plus(10, HOURS));
+            pendingSession.complete(credentials);
+
+            results.forEach(r -> assertThat(r.join()).isSameAs(credentials));
+            Mockito.verify(asyncSupplier, times(1)).apply(any());
+        } finally {
+            asyncCachedCredentials.close();
+        }
+    }
+
+    @Test
+    void cachedCredentials_withinPrefetchWindow_returnsCachedValueWhileRefreshing() {
+        Function<S3ExpressIdentityKey, CompletableFuture<SessionCredentials>> asyncSupplier = Mockito.mock(Function.class);
+        SessionCredentials first = createSessionCredentials(Instant.now().plus(10, MINUTES));
+        CompletableFuture<SessionCredentials> pendingRefresh = new CompletableFuture<>();
+        Mockito.when(asyncSupplier.apply(any())).thenReturn(CompletableFuture.completedFuture(first), pendingRefresh);
+        CachedS3ExpressCredentials asyncCachedCredentials = asyncCachedCredentials(asyncSupplier, Duration.ofHours(1));
+
+        try {
+            assertThat(asyncCachedCredentials.getAsync().join()).isSameAs(first);
+
+            CompletableFuture<SessionCredentials> duringRefresh = asyncCachedCredentials.getAsync();
+            assertThat(duringRefresh).isCompletedWithValue(first);
+            Mockito.verify(asyncSupplier, Mockito.timeout(5_000).times(2)).apply(any());
+
+            SessionCredentials second = createSessionCredentials(Instant.now().plus(10, MINUTES));
+            pendingRefresh.complete(second);
+            assertThat(asyncCachedCredentials.getAsync().join()).isSameAs(second);
+        } finally {
+            asyncCachedCredentials.close();
+        }
+    }
+
+    @Test
+    void backgroundRefreshExecutor_isBounded() {
+        assertThat(CachedS3ExpressCredentials.executor().getMaximumPoolSize()).isLessThanOrEqualTo(8);
+        assertThat(CachedS3ExpressCredentials.executor().getQueue().remainingCapacity()).isLessThan(Integer.MAX_VALUE);
+    }
+
+    @Test
+    void cachedCredentials_closed_doesNotAsyncRefresh() {
+        Mockito.when(mockCredentialsSupplier.apply(any()))
+               .thenAnswer(i -> createSessionCredentials(Instant.now().plusSeconds(1).plusMillis(100)));
+
+        cachedCredentials.get();
+        cachedCredentials.close();
+
+        assertThat(cachedCredentials.isTaskScheduled()).isFalse();
+    }
+
+    private CachedS3ExpressCredentials asyncCachedCredentials(
+        Function<S3ExpressIdentityKey, CompletableFuture<SessionCredentials>> supplier, Duration prefetchTime) {
+
+        return CachedS3ExpressCredentials.asyncBuilder(supplier)
+                                         .key(S3ExpressIdentityKey.builder()
+                                                                  .bucket("bucket")
+                                                                  .client(mockS3)
+                                                                  .identity(mockIdentity)
+                                                                  .build())
+                                         .staleTime(Duration.ZERO)
+                                         .prefetchTime(prefetchTime)
+                                         .build();
     }
 
     private void waitAndVerifySupplierCalled(VerificationMode mode) throws InterruptedException {
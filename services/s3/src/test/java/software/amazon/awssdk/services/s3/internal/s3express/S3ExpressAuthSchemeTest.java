@@ -17,11 +17,30 @@ package software.amazon.awssdk.services.s3.internal.s3express;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.core.identity.SdkIdentityProperty;
 import software.amazon.awssdk.identity.spi.IdentityProvider;
 import software.amazon.awssdk.identity.spi.IdentityProviders;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ServiceClientConfiguration;
+import software.amazon.awssdk.services.s3.model.CreateSessionRequest;
+import software.amazon.awssdk.services.s3.model.CreateSessionResponse;
+import software.amazon.awssdk.services.s3.model.SessionCredentials;
 import software.amazon.awssdk.services.s3.s3express.S3ExpressSessionCredentials;
 
 public class S3ExpressAuthSchemeTest {
@@ -46,4 +65,43 @@ public class S3ExpressAuthSchemeTest {
             defaultS3ExpressAuthScheme.identityProvider(eligibleIdentityProviders);
         assertThat(s3ExpressIdentityProvider).isInstanceOf(DefaultS3ExpressIdentityProvider.class);
     }
+
+    @Test
+    void prefetchSessions_createsSessionsOnceAndServesRequestsFromCache() {
+        StaticCredentialsProvider credentialsProvider = StaticCredentialsProvider.create(AwsBasicCredentials.create("akid", "skid"));
+        S3Client s3Client = mock(S3Client.class);
+        when(s3Client.serviceClientConfiguration())
+            .thenReturn(S3ServiceClientConfiguration.builder().credentialsProvider(credentialsProvider).build());
+        when(s3Client.createSession(any(CreateSessionRequest.class)))
+            .thenReturn(CreateSessionResponse.builder()
+                                             .credentials(SessionCredentials.builder()
+                                                                            .accessKeyId("sessionAkid")
+                                                                            .secretAccessKey("sessionSkid")
+                                                                            .sessionToken("sessionToken")
+                                                                            .expiration(Instant.now().plus(Duration.ofMinutes(5)))
+                                                                            .build())
+                                             .build());
+        DefaultS3ExpressAuthScheme authScheme = DefaultS3ExpressAuthScheme.create();
+
+        authScheme.prefetchSessions(s3Client, Arrays.asList("bucket-1", "bucket-2")).join();
+        authScheme.prefetchSessions(s3Client, Arrays.asList("bucket-1", "bucket-2")).join();
+        verify(s3Client, times(2)).createSession(any(CreateSessionRequest.class));
+
+        IdentityProvider<S3ExpressSessionCredentials> identityProvider =
+            authScheme.identityProvider(IdentityProviders.builder().putIdentityProvider(credentialsProvider).build());
+        ResolveIdentityRequest request = ResolveIdentityRequest.builder()
+                                                               .putProperty(S3ExpressAuthSchemeProvider.BUCKET, "bucket-1")
+                                                               .putProperty(SdkIdentityProperty.SDK_CLIENT, s3Client)
+                                                               .build();
+        assertThat(identityProvider.resolveIdentity(request).join().sessionToken()).isEqualTo("sessionToken");
+        verify(s3Client, times(2)).createSession(any(CreateSessionRequest.class));
+    }
+
+    @Test
+    void prefetchSessions_notAnS3Client_throwsException() {
+        DefaultS3ExpressAuthScheme authScheme = DefaultS3ExpressAuthScheme.create();
+
+        assertThatThrownBy(() -> authScheme.prefetchSessions(mock(SdkClient.class), Collections.singletonList("bucket")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
 }
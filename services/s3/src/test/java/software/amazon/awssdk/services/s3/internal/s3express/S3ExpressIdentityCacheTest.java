@@ -0,0 +1,132 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.s3.internal.s3express;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ServiceClientConfiguration;
+import software.amazon.awssdk.services.s3.model.CreateSessionRequest;
+import software.amazon.awssdk.services.s3.model.CreateSessionResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.SessionCredentials;
+import software.amazon.awssdk.services.s3.s3express.S3ExpressMetric;
+import software.amazon.awssdk.services.s3.s3express.S3ExpressSessionCredentials;
+
+class S3ExpressIdentityCacheTest {
+    private static final AwsCredentialsIdentity IDENTITY = AwsCredentialsIdentity.create("akid", "skid");
+    private static final CreateSessionResponse RESPONSE =
+        CreateSessionResponse.builder()
+                             .credentials(SessionCredentials.builder()
+                                                            .accessKeyId("sessionAkid")
+                                                            .secretAccessKey("sessionSkid")
+                                                            .sessionToken("sessionToken")
+                                                            .expiration(Instant.now().plus(Duration.ofMinutes(5)))
+                                                            .build())
+                             .build();
+
+    private S3ExpressIdentityCache identityCache;
+    private MetricPublisher metricPublisher;
+
+    @BeforeEach
+    public void methodSetup() {
+        identityCache = S3ExpressIdentityCache.create();
+        metricPublisher = mock(MetricPublisher.class);
+    }
+
+    @Test
+    void getAsync_asyncClient_doesNotBlockOnCreateSession() {
+        S3AsyncClient s3AsyncClient = mock(S3AsyncClient.class);
+        CompletableFuture<CreateSessionResponse> pendingResponse = new CompletableFuture<>();
+        when(s3AsyncClient.createSession(any(CreateSessionRequest.class))).thenReturn(pendingResponse);
+
+        CompletableFuture<S3ExpressSessionCredentials> first = identityCache.getAsync(key(s3AsyncClient, "bucket"));
+        CompletableFuture<S3ExpressSessionCredentials> second = identityCache.getAsync(key(s3AsyncClient, "bucket"));
+        assertThat(first).isNotDone();
+        assertThat(second).isNotDone();
+
+        pendingResponse.complete(RESPONSE);
+
+        assertThat(first.join().accessKeyId()).isEqualTo("sessionAkid");
+        assertThat(second.join().sessionToken()).isEqualTo("sessionToken");
+        verify(s3AsyncClient, times(1)).createSession(any(CreateSessionRequest.class));
+    }
+
+    @Test
+    void get_sessionCreated_publishesRefreshMetrics() {
+        S3Client s3Client = mock(S3Client.class);
+        when(s3Client.serviceClientConfiguration()).thenReturn(serviceClientConfiguration());
+        when(s3Client.createSession(any(CreateSessionRequest.class))).thenReturn(RESPONSE);
+
+        identityCache.get(key(s3Client, "bucket-1"));
+        identityCache.get(key(s3Client, "bucket-2"));
+
+        ArgumentCaptor<MetricCollection> metricsCaptor = ArgumentCaptor.forClass(MetricCollection.class);
+        verify(metricPublisher, times(2)).publish(metricsCaptor.capture());
+        MetricCollection metrics = metricsCaptor.getAllValues().get(1);
+        assertThat(metrics.name()).isEqualTo(S3ExpressMetric.SESSION_REFRESH_COLLECTION_NAME);
+        assertThat(metrics.metricValues(S3ExpressMetric.SESSION_REFRESH_SUCCESSFUL)).containsExactly(true);
+        assertThat(metrics.metricValues(S3ExpressMetric.SESSION_REFRESH_DURATION)).hasSize(1);
+        assertThat(metrics.metricValues(S3ExpressMetric.CACHED_SESSION_COUNT)).containsExactly(2);
+    }
+
+    @Test
+    void get_sessionCreationFails_publishesUnsuccessfulRefresh() {
+        S3Client s3Client = mock(S3Client.class);
+        when(s3Client.serviceClientConfiguration()).thenReturn(serviceClientConfiguration());
+        when(s3Client.createSession(any(CreateSessionRequest.class))).thenThrow(S3Exception.builder().build());
+
+        assertThat(identityCache.getAsync(key(s3Client, "bucket"))).isCompletedExceptionally();
+
+        ArgumentCaptor<MetricCollection> metricsCaptor = ArgumentCaptor.forClass(MetricCollection.class);
+        verify(metricPublisher).publish(metricsCaptor.capture());
+        assertThat(metricsCaptor.getValue().metricValues(S3ExpressMetric.SESSION_REFRESH_SUCCESSFUL)).containsExactly(false);
+    }
+
+    private S3ServiceClientConfiguration serviceClientConfiguration() {
+        return S3ServiceClientConfiguration.builder()
+                                           .overrideConfiguration(ClientOverrideConfiguration.builder()
+                                                                                             .addMetricPublisher(metricPublisher)
+                                                                                             .build())
+                                           .build();
+    }
+
+    private static S3ExpressIdentityKey key(SdkClient client, String bucket) {
+        return S3ExpressIdentityKey.builder()
+                                   .bucket(bucket)
+                                   .client(client)
+                                   .identity(IDENTITY)
+                                   .build();
+    }
+}
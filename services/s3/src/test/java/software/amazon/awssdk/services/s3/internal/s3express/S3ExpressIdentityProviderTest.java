@@ -51,6 +51,8 @@ class S3ExpressIdentityProviderTest {
     void identityprovider_delegatesToCache() {
         when(mockProvider.resolveIdentity(any(ResolveIdentityRequest.class)))
             .thenAnswer(i -> CompletableFuture.completedFuture(IDENTITY));
+        when(mockS3ExpressCache.getAsync(any(S3ExpressIdentityKey.class)))
+            .thenReturn(CompletableFuture.completedFuture(S3ExpressSessionCredentials.create("akid", "skid", "token")));
 
         IdentityProvider<S3ExpressSessionCredentials> identityProvider =
             new DefaultS3ExpressIdentityProvider(mockS3ExpressCache, mockProvider);
@@ -64,13 +66,36 @@ class S3ExpressIdentityProviderTest {
 
         ArgumentCaptor<S3ExpressIdentityKey> keyCaptor = ArgumentCaptor.forClass(S3ExpressIdentityKey.class);
 
-        Mockito.verify(mockS3ExpressCache).get(keyCaptor.capture());
+        Mockito.verify(mockS3ExpressCache).getAsync(keyCaptor.capture());
         S3ExpressIdentityKey key = keyCaptor.getValue();
         assertThat(key.bucket()).isEqualTo("foo");
         assertThat(key.client()).isEqualTo(mockS3SyncClient);
         assertThat(key.identity()).isEqualTo(IDENTITY);
     }
 
+    @Test
+    void identityprovider_sessionNotCached_doesNotBlockOnCache() {
+        when(mockProvider.resolveIdentity(any(ResolveIdentityRequest.class)))
+            .thenAnswer(i -> CompletableFuture.completedFuture(IDENTITY));
+        CompletableFuture<S3ExpressSessionCredentials> pendingSession = new CompletableFuture<>();
+        when(mockS3ExpressCache.getAsync(any(S3ExpressIdentityKey.class))).thenReturn(pendingSession);
+
+        IdentityProvider<S3ExpressSessionCredentials> identityProvider =
+            new DefaultS3ExpressIdentityProvider(mockS3ExpressCache, mockProvider);
+
+        ResolveIdentityRequest request = ResolveIdentityRequest.builder()
+                                                               .putProperty(S3ExpressAuthSchemeProvider.BUCKET, "foo")
+                                                               .putProperty(SdkIdentityProperty.SDK_CLIENT, mockS3SyncClient)
+                                                               .build();
+
+        CompletableFuture<? extends S3ExpressSessionCredentials> result = identityProvider.resolveIdentity(request);
+        assertThat(result).isNotDone();
+
+        S3ExpressSessionCredentials credentials = S3ExpressSessionCredentials.create("akid", "skid", "token");
+        pendingSession.complete(credentials);
+        assertThat(result.join()).isSameAs(credentials);
+    }
+
     @Test
     void identityprovider_propagatesIdentityProviderFailures() {
         RuntimeException e = new RuntimeException();
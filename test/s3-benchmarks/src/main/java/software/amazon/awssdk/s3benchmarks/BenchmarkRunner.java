@@ -51,6 +51,8 @@ public final class BenchmarkRunner {
 
     private static final String FORCE_CRT_HTTP_CLIENT = "crtHttp";
     private static final String MAX_CONCURRENCY = "maxConcurrency";
+    private static final String FILE_TREE_WALK_PARALLELISM = "fileTreeWalkParallelism";
+    private static final String SMALL_FILES_FIRST = "smallFilesFirst";
 
     private static final Map<TransferManagerOperation, Function<TransferManagerBenchmarkConfig, TransferManagerBenchmark>>
         OPERATION_TO_BENCHMARK_V1 = new EnumMap<>(TransferManagerOperation.class);
@@ -110,6 +112,9 @@ public final class BenchmarkRunner {
                           "Force the CRT http client to be used in JavaBased benchmarks");
         options.addOption(null, MAX_CONCURRENCY, true,
                           "The Maximum number of allowed concurrent requests. For HTTP/1.1 this is the same as max connections.");
+        options.addOption(null, FILE_TREE_WALK_PARALLELISM, true,
+                          "The number of threads used to traverse the source directory in upload_directory");
+        options.addOption(null, SMALL_FILES_FIRST, true, "Whether to upload smaller files first in upload_directory");
 
         CommandLine cmd = parser.parse(options, args);
         TransferManagerBenchmarkConfig config = parseConfig(cmd);
@@ -204,6 +209,12 @@ public final class BenchmarkRunner {
         Integer maxConcurrency = cmd.getOptionValue(MAX_CONCURRENCY) == null ? null :
                                  Integer.parseInt(cmd.getOptionValue(MAX_CONCURRENCY));
 
+        Integer fileTreeWalkParallelism = cmd.getOptionValue(FILE_TREE_WALK_PARALLELISM) == null ? null :
+                                          Integer.parseInt(cmd.getOptionValue(FILE_TREE_WALK_PARALLELISM));
+
+        Boolean smallFilesFirst = cmd.getOptionValue(SMALL_FILES_FIRST) == null ? null :
+                                  Boolean.parseBoolean(cmd.getOptionValue(SMALL_FILES_FIRST));
+
         return TransferManagerBenchmarkConfig.builder()
                                              .key(key)
                                              .bucket(bucket)
@@ -220,6 +231,8 @@ public final class BenchmarkRunner {
                                              .connectionAcquisitionTimeoutInSec(connAcqTimeoutInSec)
                                              .forceCrtHttpClient(forceCrtHttpClient)
                                              .maxConcurrency(maxConcurrency)
+                                             .fileTreeWalkParallelism(fileTreeWalkParallelism)
+                                             .smallFilesFirst(smallFilesFirst)
                                              .s3Client(s3Client)
                                              .build();
     }
@@ -64,6 +64,8 @@ public class TransferManagerUploadDirectoryBenchmark extends BaseTransferManager
         DirectoryUpload upload =
             transferManager.uploadDirectory(b -> b.bucket(bucket)
                                                   .s3Prefix(config.prefix())
+                                                  .fileTreeWalkParallelism(config.fileTreeWalkParallelism())
+                                                  .smallFilesFirst(config.smallFilesFirst())
                                                   .source(uploadPath));
         CompletedDirectoryUpload completedDirectoryUpload = upload.completionFuture().get(timeout.getSeconds(), TimeUnit.SECONDS);
         if (completedDirectoryUpload.failedTransfers().isEmpty()) {
@@ -19,6 +19,7 @@ import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -34,6 +35,7 @@ import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.http.apache.ApacheHttpClient;
 import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollectorFactory;
 import software.amazon.awssdk.metrics.MetricPublisher;
 import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonAsyncClient;
 import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonAsyncClientBuilder;
@@ -48,6 +50,9 @@ import software.amazon.awssdk.services.protocolrestjson.model.StreamingOutputOpe
 @State(Scope.Benchmark)
 @BenchmarkMode(Mode.Throughput)
 public class MetricsEnabledBenchmark {
+    @Param({"default", "lockFree"})
+    private String metricCollectorFactory;
+
     private MockServer mockServer;
     private ProtocolRestJsonClient enabledMetricsSyncClient;
     private ProtocolRestJsonAsyncClient enabledMetricsAsyncClient;
@@ -61,7 +66,10 @@ public class MetricsEnabledBenchmark {
     }
 
     protected <T extends SdkClientBuilder<T, ?>> T enableMetrics(T syncClientBuilder) {
-        return syncClientBuilder.overrideConfiguration(c -> c.addMetricPublisher(new EnabledPublisher()));
+        MetricCollectorFactory factory = "lockFree".equals(metricCollectorFactory) ? MetricCollectorFactory.lockFree()
+                                                                                   : MetricCollectorFactory.defaultFactory();
+        return syncClientBuilder.overrideConfiguration(c -> c.addMetricPublisher(new EnabledPublisher())
+                                                             .metricCollectorFactory(factory));
     }
 
     private ProtocolRestJsonClientBuilder syncClientBuilder() {
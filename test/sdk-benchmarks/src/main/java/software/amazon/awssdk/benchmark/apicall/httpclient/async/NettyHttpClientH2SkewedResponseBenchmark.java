@@ -0,0 +1,104 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.apicall.httpclient.async;
+
+import static software.amazon.awssdk.benchmark.utils.BenchmarkUtils.trustAllTlsAttributeMapBuilder;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.benchmark.utils.MockH2Server;
+import software.amazon.awssdk.benchmark.utils.SkewedResponseServlet;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.Http2StreamSchedulingStrategy;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonAsyncClient;
+
+/**
+ * Same as {@link NettyHttpClientH2Benchmark}, but with a small number of streams per connection and responses of skewed sizes,
+ * to compare the HTTP/2 stream scheduling strategies when several connections are open and some streams are much slower than
+ * others.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2) // To reduce difference between each run
+@BenchmarkMode(Mode.Throughput)
+public class NettyHttpClientH2SkewedResponseBenchmark extends BaseNettyBenchmark {
+    private static final int LARGE_RESPONSE_SIZE_IN_BYTES = 1024 * 1024;
+    private static final double LARGE_RESPONSE_RATIO = 0.05;
+    private static final long MAX_STREAMS_PER_CONNECTION = 10;
+
+    private MockH2Server mockServer;
+    private SdkAsyncHttpClient sdkHttpClient;
+
+    @Param({"FIRST_AVAILABLE", "LEAST_OUTSTANDING_STREAMS"})
+    private String streamSchedulingStrategy;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        boolean usingAlpn = false;
+        mockServer = new MockH2Server(usingAlpn, new SkewedResponseServlet(LARGE_RESPONSE_SIZE_IN_BYTES,
+                                                                           LARGE_RESPONSE_RATIO));
+        mockServer.start();
+
+        sdkHttpClient = NettyNioAsyncHttpClient.builder()
+                                               .protocol(Protocol.HTTP2)
+                                               .http2Configuration(c -> c.maxStreams(MAX_STREAMS_PER_CONNECTION)
+                                                                         .streamSchedulingStrategy(
+                                                                             Http2StreamSchedulingStrategy.valueOf(
+                                                                                 streamSchedulingStrategy)))
+                                               .buildWithDefaults(trustAllTlsAttributeMapBuilder().build());
+        client = ProtocolRestJsonAsyncClient.builder()
+                                            .endpointOverride(mockServer.getHttpsUri())
+                                            .httpClient(sdkHttpClient)
+                                            .region(Region.US_EAST_1)
+                                            .build();
+
+        // Making sure the request actually succeeds
+        client.allTypes().join();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        mockServer.stop();
+        sdkHttpClient.close();
+        client.close();
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(NettyHttpClientH2SkewedResponseBenchmark.class.getSimpleName())
+            .build();
+        Collection<RunResult> run = new Runner(opt).run();
+    }
+}
@@ -26,6 +26,7 @@ import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -35,6 +36,7 @@ import org.openjdk.jmh.profile.StackProfiler;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.awscore.client.config.AwsAdvancedClientOption;
 import software.amazon.awssdk.benchmark.utils.MockHttpClient;
 import software.amazon.awssdk.services.protocolquery.ProtocolQueryClient;
 
@@ -48,12 +50,17 @@ import software.amazon.awssdk.services.protocolquery.ProtocolQueryClient;
 @BenchmarkMode(Mode.Throughput)
 public class QueryProtocolBenchmark implements SdkProtocolBenchmark {
 
+    @Param({"false", "true"})
+    private boolean streamingUnmarshalling;
+
     private ProtocolQueryClient client;
 
     @Setup(Level.Trial)
     public void setup() {
         client = ProtocolQueryClient.builder()
                                     .httpClient(new MockHttpClient(XML_BODY, ERROR_XML_BODY))
+                                    .overrideConfiguration(o -> o.putAdvancedOption(
+                                        AwsAdvancedClientOption.ENABLE_STREAMING_XML_UNMARSHALLING, streamingUnmarshalling))
                                     .build();
     }
 
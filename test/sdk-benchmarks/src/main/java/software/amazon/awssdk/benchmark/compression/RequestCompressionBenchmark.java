@@ -0,0 +1,115 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.benchmark.compression;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.core.compression.Compressor;
+import software.amazon.awssdk.core.internal.compression.CompressorType;
+
+/**
+ * Compares the pooled-{@code Deflater} gzip compressor used for request compression against compressing with a new
+ * {@link GZIPOutputStream} per payload, which is how payloads were previously compressed.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RequestCompressionBenchmark {
+
+    @State(Scope.Thread)
+    public static class CompressionState {
+
+        @Param({"10KB", "128KB", "1MB"})
+        public String size;
+
+        private byte[] payload;
+        private Compressor compressor;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            switch (size) {
+                case "10KB":
+                    payload = generatePayload(10 * 1024);
+                    break;
+                case "128KB":
+                    payload = generatePayload(128 * 1024);
+                    break;
+                case "1MB":
+                    payload = generatePayload(1024 * 1024);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Invalid size: " + size);
+            }
+            compressor = CompressorType.GZIP.newCompressor();
+        }
+    }
+
+    @Benchmark
+    public void gzipOutputStream(CompressionState state, Blackhole blackhole) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(state.payload);
+        }
+        blackhole.consume(out.toByteArray());
+    }
+
+    @Benchmark
+    public void pooledGzipCompressor(CompressionState state, Blackhole blackhole) {
+        blackhole.consume(state.compressor.compress(state.payload));
+    }
+
+    @Benchmark
+    public void pooledGzipCompressorStreaming(CompressionState state, Blackhole blackhole) {
+        blackhole.consume(state.compressor.compress(new ByteArrayInputStream(state.payload)));
+    }
+
+    /**
+     * Generates a JSON-like payload, which compresses similarly to the request bodies of operations that support request
+     * compression.
+     */
+    private static byte[] generatePayload(int size) {
+        Random random = new Random(size);
+        StringBuilder builder = new StringBuilder(size);
+        while (builder.length() < size) {
+            builder.append("{\"MetricName\":\"Metric").append(random.nextInt(100))
+                   .append("\",\"Value\":").append(random.nextDouble()).append('}');
+        }
+        builder.setLength(size);
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.endpoint;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.core.internal.endpoint.EndpointResolutionCache;
+import software.amazon.awssdk.endpoints.Endpoint;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.endpoints.S3EndpointParams;
+import software.amazon.awssdk.services.s3.endpoints.S3EndpointProvider;
+
+/**
+ * Compares resolving an S3 virtual-hosted-style endpoint by evaluating the endpoint rules on every call with resolving it
+ * through an {@link EndpointResolutionCache}, the way a client does when its endpoint resolution cache is enabled.
+ * <p>
+ * The bucket-only variants model bucket operations. The per-request key variants model object operations, which carry a
+ * different {@code Key} parameter on nearly every request. The S3 endpoint rules never read {@code Key}, so the client
+ * leaves it out of the cache key and those requests hit the cache as well.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class S3EndpointResolutionBenchmark {
+    private S3EndpointProvider provider;
+    private EndpointResolutionCache cache;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        provider = S3EndpointProvider.defaultProvider();
+        cache = EndpointResolutionCache.create(256);
+    }
+
+    @Benchmark
+    public Endpoint uncached() {
+        return provider.resolveEndpoint(virtualHostParams()).join();
+    }
+
+    @Benchmark
+    public Endpoint cached() {
+        return cache.resolve(provider, virtualHostParams(), p -> provider.resolveEndpoint(p).join(),
+                             NoOpMetricCollector.create());
+    }
+
+    @Benchmark
+    public Endpoint uncachedPerRequestKey(KeyState keys) {
+        return provider.resolveEndpoint(objectParams(keys.nextKey())).join();
+    }
+
+    @Benchmark
+    public Endpoint cachedPerRequestKey(KeyState keys) {
+        S3EndpointParams params = objectParams(keys.nextKey());
+        return cache.resolve(provider, cacheKey(params), params, p -> provider.resolveEndpoint(p).join(),
+                             NoOpMetricCollector.create());
+    }
+
+    /**
+     * Generates a distinct object key for every request made by a benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class KeyState {
+        private long counter;
+
+        private String nextKey() {
+            return "prefix/object-" + Thread.currentThread().getId() + "-" + counter++;
+        }
+    }
+
+    /**
+     * Parameters are built for every call, as the endpoint resolution interceptor does for every request.
+     */
+    private static S3EndpointParams virtualHostParams() {
+        return virtualHostParamsBuilder().build();
+    }
+
+    private static S3EndpointParams objectParams(String key) {
+        return virtualHostParamsBuilder().key(key).build();
+    }
+
+    /**
+     * Keys the cache on the parameters the way the client does for the default provider, without the parameters that the
+     * endpoint rules never read.
+     */
+    private static Object cacheKey(S3EndpointParams params) {
+        return params.toBuilder().key(null).build();
+    }
+
+    private static S3EndpointParams.Builder virtualHostParamsBuilder() {
+        return S3EndpointParams.builder()
+                               .bucket("example-bucket")
+                               .region(Region.US_WEST_2)
+                               .useFips(false)
+                               .useDualStack(false)
+                               .forcePathStyle(false)
+                               .accelerate(false)
+                               .useGlobalEndpoint(false);
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(S3EndpointResolutionBenchmark.class.getSimpleName())
+            .build();
+        Collection<RunResult> run = new Runner(opt).run();
+    }
+}
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.benchmark.utils;
 
 import java.io.IOException;
+import javax.servlet.http.HttpServlet;
 import org.eclipse.jetty.alpn.server.ALPNServerConnectionFactory;
 import org.eclipse.jetty.http2.HTTP2Cipher;
 import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
@@ -41,6 +42,10 @@ public class MockH2Server extends BaseMockServer {
     private final Server server;
 
     public MockH2Server(boolean usingAlpn) throws IOException {
+        this(usingAlpn, new AlwaysSuccessServlet());
+    }
+
+    public MockH2Server(boolean usingAlpn, HttpServlet servlet) throws IOException {
         super();
         server = new Server();
         ServerConnector connector = new ServerConnector(server);
@@ -98,7 +103,7 @@ public class MockH2Server extends BaseMockServer {
         server.addConnector(http2Connector);
 
         ServletContextHandler context = new ServletContextHandler(server, "/", ServletContextHandler.SESSIONS);
-        context.addServlet(new ServletHolder(new AlwaysSuccessServlet()), "/*");
+        context.addServlet(new ServletHolder(servlet), "/*");
         server.setHandler(context);
     }
 
@@ -0,0 +1,57 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.http.HttpStatus;
+
+/**
+ * Succeeds with a 200 response, with a large body for a fraction of the requests and a small body for the others, so that
+ * some streams take much longer to complete than others.
+ */
+public class SkewedResponseServlet extends HttpServlet {
+    private static final byte[] SMALL_BODY = jsonBody(16);
+
+    private final byte[] largeBody;
+    private final double largeResponseRatio;
+
+    public SkewedResponseServlet(int largeResponseSizeInBytes, double largeResponseRatio) {
+        this.largeBody = jsonBody(largeResponseSizeInBytes);
+        this.largeResponseRatio = largeResponseRatio;
+    }
+
+    @Override
+    public void doPost(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        byte[] body = ThreadLocalRandom.current().nextDouble() < largeResponseRatio ? largeBody : SMALL_BODY;
+        response.setStatus(HttpStatus.OK_200);
+        response.setContentType("application/json");
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static byte[] jsonBody(int stringMemberLength) {
+        StringBuilder body = new StringBuilder(stringMemberLength + 32).append("{\"StringMember\":\"");
+        for (int i = 0; i < stringMemberLength; i++) {
+            body.append('a');
+        }
+        return body.append("\"}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
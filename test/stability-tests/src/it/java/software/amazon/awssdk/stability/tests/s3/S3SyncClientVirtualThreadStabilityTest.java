@@ -0,0 +1,189 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.stability.tests.s3;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.client.WireMock.head;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.stability.tests.utils.StabilityTestRunner;
+
+/**
+ * Runs concurrent synchronous S3 calls, each on its own virtual thread. The calls have API call and attempt timeouts, so each
+ * one is timed by the SDK's timeout tracking.
+ * <p>
+ * The first run makes 50,000 calls against an HTTP client that simulates server latency by blocking, which isolates the SDK's
+ * own request path. The second run makes 5,000 calls through {@link ApacheHttpClient} against a local WireMock server that
+ * delays its responses, so connection pooling and socket I/O on virtual threads are covered too.
+ * <p>
+ * Virtual threads are not counted as live threads, so a run fails if the SDK needs a platform thread per call, or if its
+ * locks pin the carrier threads the virtual threads run on. Requires Java 21 or later, and is skipped otherwise.
+ */
+public class S3SyncClientVirtualThreadStabilityTest {
+    private static final int CONCURRENCY = 50_000;
+    private static final int APACHE_CONCURRENCY = 5_000;
+    private static final int APACHE_MAX_CONNECTIONS = 200;
+    private static final int TOTAL_RUNS = 3;
+    private static final Duration SIMULATED_LATENCY = Duration.ofMillis(200);
+    private static final Duration SERVER_LATENCY = Duration.ofMillis(50);
+
+    private ExecutorService virtualThreadExecutor;
+    private WireMockServer wireMockServer;
+    private S3Client s3Client;
+
+    @BeforeEach
+    void setup() throws Exception {
+        virtualThreadExecutor = newVirtualThreadPerTaskExecutor();
+        assumeTrue(virtualThreadExecutor != null, "Virtual threads are not supported by this runtime");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (s3Client != null) {
+            s3Client.close();
+        }
+        if (wireMockServer != null) {
+            wireMockServer.stop();
+        }
+        if (virtualThreadExecutor != null) {
+            virtualThreadExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void headObject_50kConcurrentCallsOnVirtualThreads() {
+        s3Client = clientBuilder().httpClient(new LatencySimulatingHttpClient(SIMULATED_LATENCY))
+                                  .build();
+
+        runHeadObject("S3SyncClientVirtualThreadStabilityTest.headObject_50kConcurrentCallsOnVirtualThreads", CONCURRENCY);
+    }
+
+    @Test
+    public void headObject_apacheClient_concurrentCallsOnVirtualThreads() {
+        wireMockServer = new WireMockServer(wireMockConfig().dynamicPort()
+                                                            .containerThreads(APACHE_MAX_CONNECTIONS + 50));
+        wireMockServer.start();
+        wireMockServer.stubFor(head(anyUrl()).willReturn(aResponse().withStatus(200)
+                                                                    .withHeader("Content-Length", "0")
+                                                                    .withFixedDelay((int) SERVER_LATENCY.toMillis())));
+
+        s3Client = clientBuilder().endpointOverride(URI.create("http://localhost:" + wireMockServer.port()))
+                                  .forcePathStyle(true)
+                                  .httpClientBuilder(ApacheHttpClient.builder()
+                                                                     .maxConnections(APACHE_MAX_CONNECTIONS)
+                                                                     .connectionAcquisitionTimeout(Duration.ofSeconds(30)))
+                                  .build();
+
+        runHeadObject("S3SyncClientVirtualThreadStabilityTest.headObject_apacheClient_concurrentCallsOnVirtualThreads",
+                      APACHE_CONCURRENCY);
+    }
+
+    private void runHeadObject(String testName, int concurrency) {
+        IntFunction<CompletableFuture<?>> future =
+            i -> CompletableFuture.runAsync(() -> s3Client.headObject(r -> r.bucket("stability-test-bucket").key("key_" + i)),
+                                            virtualThreadExecutor);
+
+        StabilityTestRunner.newRunner()
+                           .testName(testName)
+                           .futureFactory(future)
+                           .requestCountPerRun(concurrency)
+                           .totalRuns(TOTAL_RUNS)
+                           .delaysBetweenEachRun(Duration.ofSeconds(1))
+                           .run();
+    }
+
+    private static S3ClientBuilder clientBuilder() {
+        return S3Client.builder()
+                       .region(Region.US_WEST_2)
+                       .credentialsProvider(AnonymousCredentialsProvider.create())
+                       .overrideConfiguration(o -> o.apiCallTimeout(Duration.ofSeconds(60))
+                                                    .apiCallAttemptTimeout(Duration.ofSeconds(30)));
+    }
+
+    /**
+     * {@code Executors.newVirtualThreadPerTaskExecutor()}, looked up reflectively because this module is compiled for Java 8.
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() throws Exception {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * An HTTP client that blocks the calling thread for a fixed latency and then returns an empty 200 response.
+     */
+    private static final class LatencySimulatingHttpClient implements SdkHttpClient {
+        private final Duration latency;
+
+        private LatencySimulatingHttpClient(Duration latency) {
+            this.latency = latency;
+        }
+
+        @Override
+        public ExecutableHttpRequest prepareRequest(HttpExecuteRequest request) {
+            return new ExecutableHttpRequest() {
+                @Override
+                public HttpExecuteResponse call() {
+                    try {
+                        Thread.sleep(latency.toMillis());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return HttpExecuteResponse.builder()
+                                              .response(SdkHttpResponse.builder()
+                                                                       .statusCode(200)
+                                                                       .putHeader("Content-Length", "0")
+                                                                       .build())
+                                              .responseBody(AbortableInputStream.createEmpty())
+                                              .build();
+                }
+
+                @Override
+                public void abort() {
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.utils.async;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+/**
+ * Allows a publisher to lend a {@link ByteBuffer} it owns, such as a view of a pooled direct buffer, to a subscriber without
+ * copying it first.
+ * <p>
+ * A lent buffer is only valid until the {@code onNext} call that received it returns. A subscriber that needs the buffer for
+ * longer, for example to write it asynchronously, must call {@link #retain()} from within {@code onNext}, and run the returned
+ * callback once it no longer uses the buffer. A subscriber that stores buffers for later consumption without knowing when they
+ * will be consumed should instead store the result of {@link #copyIfBorrowed(ByteBuffer)}.
+ * <p>
+ * Buffers are only lent by publishers that were explicitly configured to do so, such as the Netty HTTP client with
+ * zero-copy response bodies enabled. In all other cases, {@link #retain()} returns a callback that does nothing and
+ * {@link #copyIfBorrowed(ByteBuffer)} returns the buffer as is.
+ */
+@SdkProtectedApi
+public final class BorrowedByteBuffers {
+    private static final Runnable NO_OP = () -> {
+    };
+
+    private static final ThreadLocal<Loan> CURRENT_LOAN = new ThreadLocal<>();
+
+    private BorrowedByteBuffers() {
+    }
+
+    /**
+     * Lend a buffer to the given consumer, usually a subscriber's {@code onNext}. The {@code release} callback is run exactly
+     * once: when the consumer returns, or once all the retentions made by the consumer are released.
+     */
+    public static void lend(ByteBuffer buffer, Runnable release, Consumer<? super ByteBuffer> consumer) {
+        Loan loan = new Loan(release);
+        Loan previousLoan = CURRENT_LOAN.get();
+        CURRENT_LOAN.set(loan);
+        try {
+            consumer.accept(buffer);
+        } finally {
+            if (previousLoan == null) {
+                CURRENT_LOAN.remove();
+            } else {
+                CURRENT_LOAN.set(previousLoan);
+            }
+            loan.release();
+        }
+    }
+
+    /**
+     * @return True if the buffer being delivered on the current thread is borrowed, and must not be used once the
+     * {@code onNext} call that received it returns unless it is {@link #retain() retained}.
+     */
+    public static boolean isBorrowed() {
+        return CURRENT_LOAN.get() != null;
+    }
+
+    /**
+     * Retain the buffer being delivered on the current thread, so that it remains valid after {@code onNext} returns.
+     *
+     * @return The callback to run once the buffer is no longer used. Running it more than once has no effect.
+     */
+    public static Runnable retain() {
+        Loan loan = CURRENT_LOAN.get();
+        return loan == null ? NO_OP : loan.retain();
+    }
+
+    /**
+     * @return A copy of the given buffer if the buffer being delivered on the current thread is borrowed, or the given buffer
+     * otherwise.
+     */
+    public static ByteBuffer copyIfBorrowed(ByteBuffer buffer) {
+        if (!isBorrowed()) {
+            return buffer;
+        }
+        return ByteBuffer.wrap(BinaryUtils.copyBytesFrom(buffer));
+    }
+
+    private static final class Loan {
+        private final AtomicInteger references = new AtomicInteger(1);
+        private final Runnable release;
+
+        private Loan(Runnable release) {
+            this.release = release;
+        }
+
+        private Runnable retain() {
+            references.incrementAndGet();
+            AtomicBoolean released = new AtomicBoolean();
+            return () -> {
+                if (released.compareAndSet(false, true)) {
+                    release();
+                }
+            };
+        }
+
+        private void release() {
+            if (references.decrementAndGet() == 0) {
+                release.run();
+            }
+        }
+    }
+}
@@ -181,7 +181,7 @@ public class ByteBufferStoringSubscriber implements Subscriber<ByteBuffer> {
     @Override
     public void onNext(ByteBuffer byteBuffer) {
         int remaining = byteBuffer.remaining();
-        storingSubscriber.onNext(byteBuffer.duplicate());
+        storingSubscriber.onNext(BorrowedByteBuffers.copyIfBorrowed(byteBuffer.duplicate()));
         addBufferedDataAmount(remaining);
         phaser.arrive();
     }
@@ -59,7 +59,7 @@ public class DelegatingBufferingSubscriber extends BaseSubscriberAdapter<ByteBuf
 
     @Override
     void doWithItem(ByteBuffer buffer) {
-        storage.onNext(buffer.duplicate());
+        storage.onNext(BorrowedByteBuffers.copyIfBorrowed(buffer.duplicate()));
         currentlyBuffered.addAndGet(buffer.remaining());
     }
 
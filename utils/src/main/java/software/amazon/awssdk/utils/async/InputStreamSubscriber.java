@@ -78,7 +78,8 @@ public final class InputStreamSubscriber extends InputStream implements Subscrib
 
     @Override
     public void onNext(ByteBuffer byteBuffer) {
-        callQueue.add(new QueueEntry(false, () -> delegate.onNext(byteBuffer)));
+        ByteBuffer buffer = BorrowedByteBuffers.copyIfBorrowed(byteBuffer);
+        callQueue.add(new QueueEntry(false, () -> delegate.onNext(buffer)));
         drainQueue();
     }
 
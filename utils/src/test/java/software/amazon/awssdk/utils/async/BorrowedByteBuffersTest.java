@@ -0,0 +1,106 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+public class BorrowedByteBuffersTest {
+    @Test
+    public void lend_releasesWhenConsumerReturns() {
+        AtomicInteger releases = new AtomicInteger();
+        BorrowedByteBuffers.lend(ByteBuffer.allocate(1), releases::incrementAndGet, b -> {
+            assertThat(BorrowedByteBuffers.isBorrowed()).isTrue();
+            assertThat(releases).hasValue(0);
+        });
+        assertThat(releases).hasValue(1);
+        assertThat(BorrowedByteBuffers.isBorrowed()).isFalse();
+    }
+
+    @Test
+    public void lend_consumerThrows_stillReleases() {
+        AtomicInteger releases = new AtomicInteger();
+        assertThatThrownBy(() -> BorrowedByteBuffers.lend(ByteBuffer.allocate(1), releases::incrementAndGet, b -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(releases).hasValue(1);
+        assertThat(BorrowedByteBuffers.isBorrowed()).isFalse();
+    }
+
+    @Test
+    public void retain_delaysReleaseUntilAllRetentionsAreReleased() {
+        AtomicInteger releases = new AtomicInteger();
+        AtomicReference<Runnable> first = new AtomicReference<>();
+        AtomicReference<Runnable> second = new AtomicReference<>();
+        BorrowedByteBuffers.lend(ByteBuffer.allocate(1), releases::incrementAndGet, b -> {
+            first.set(BorrowedByteBuffers.retain());
+            second.set(BorrowedByteBuffers.retain());
+        });
+        assertThat(releases).hasValue(0);
+
+        first.get().run();
+        first.get().run();
+        assertThat(releases).hasValue(0);
+
+        second.get().run();
+        assertThat(releases).hasValue(1);
+    }
+
+    @Test
+    public void retain_notBorrowed_returnsNoOp() {
+        assertThat(BorrowedByteBuffers.isBorrowed()).isFalse();
+        BorrowedByteBuffers.retain().run();
+    }
+
+    @Test
+    public void copyIfBorrowed_borrowed_returnsIndependentCopy() {
+        ByteBuffer lent = ByteBuffer.wrap("hello".getBytes(StandardCharsets.UTF_8));
+        AtomicReference<ByteBuffer> copy = new AtomicReference<>();
+        BorrowedByteBuffers.lend(lent, () -> { }, b -> copy.set(BorrowedByteBuffers.copyIfBorrowed(b)));
+
+        lent.put(0, (byte) 'j');
+        assertThat(copy.get()).isNotSameAs(lent);
+        assertThat(StandardCharsets.UTF_8.decode(copy.get()).toString()).isEqualTo("hello");
+        assertThat(lent.position()).isZero();
+    }
+
+    @Test
+    public void copyIfBorrowed_notBorrowed_returnsSameBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(1);
+        assertThat(BorrowedByteBuffers.copyIfBorrowed(buffer)).isSameAs(buffer);
+    }
+
+    @Test
+    public void lend_nested_restoresOuterLoan() {
+        AtomicInteger outerReleases = new AtomicInteger();
+        AtomicInteger innerReleases = new AtomicInteger();
+        AtomicReference<Runnable> outerRetention = new AtomicReference<>();
+        BorrowedByteBuffers.lend(ByteBuffer.allocate(1), outerReleases::incrementAndGet, outer -> {
+            BorrowedByteBuffers.lend(ByteBuffer.allocate(1), innerReleases::incrementAndGet, inner -> { });
+            outerRetention.set(BorrowedByteBuffers.retain());
+        });
+        assertThat(innerReleases).hasValue(1);
+        assertThat(outerReleases).hasValue(0);
+        outerRetention.get().run();
+        assertThat(outerReleases).hasValue(1);
+    }
+}